@@ -0,0 +1,38 @@
+package com.example.memberlist.benchmark;
+
+import com.example.memberlist.MemberListApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application without a web server for benchmarks that need the real
+ * service and repository wiring. Each caller gets its own in-memory H2 database.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Starts an application context backed by a fresh in-memory database.
+     *
+     * @param databaseName name of the H2 database, unique per benchmark state
+     * @return the started context; the caller closes it in its tear-down
+     */
+    static ConfigurableApplicationContext start(String databaseName) {
+        // Passed as arguments so that they override application.yml (SQL logging in particular)
+        return new SpringApplicationBuilder(MemberListApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        // Flyway creates the schema; validation would also expect a table for the
+                        // benchmark-only IdentityMember, which is picked up by the entity scan
+                        "--spring.jpa.hibernate.ddl-auto=none",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+    }
+}
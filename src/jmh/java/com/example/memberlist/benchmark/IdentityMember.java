@@ -0,0 +1,68 @@
+package com.example.memberlist.benchmark;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Copy of the {@code members} mapping that keeps the previous IDENTITY key generation.
+ * Only used as the baseline in {@link MemberInsertBenchmark}.
+ */
+@Entity
+@Table(name = "members_identity")
+public class IdentityMember {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "name_kana", nullable = false, length = 100)
+    private String nameKana;
+
+    @Column(name = "email", nullable = false, unique = true, length = 255)
+    private String email;
+
+    @Column(name = "position", length = 100)
+    private String position;
+
+    @Column(name = "location", length = 200)
+    private String location;
+
+    @Column(name = "profile_image_url", columnDefinition = "TEXT")
+    private String profileImageUrl;
+
+    @Column(name = "self_introduction", columnDefinition = "TEXT")
+    private String selfIntroduction;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "is_deleted", nullable = false)
+    private Boolean isDeleted = false;
+
+    protected IdentityMember() {
+    }
+
+    public IdentityMember(String name, String nameKana, String email) {
+        this.name = name;
+        this.nameKana = nameKana;
+        this.email = email;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.memberlist.benchmark;
+
+import com.example.memberlist.application.service.MemberService;
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberRepository;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares deleting and relocating {@value #MEMBERS} members with the set-based bulk statements
+ * against the per-entity path of loading, changing and saving each member in one transaction.
+ * Fresh members are registered before every invocation against embedded H2. Scores are
+ * milliseconds per {@value #MEMBERS} members.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberBulkUpdateBenchmark {
+
+    private static final int MEMBERS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private MemberService memberService;
+    private MemberRepository memberRepository;
+    private TransactionTemplate transactionTemplate;
+    private List<Long> ids;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("bulk-update-benchmark");
+        memberService = context.getBean(MemberService.class);
+        memberRepository = context.getBean(MemberRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void registerMembers() {
+        List<Member> members = IntStream.range(0, MEMBERS)
+                .mapToObj(i -> new Member("山田太郎", "やまだたろう", "member" + (sequence++) + "@example.com"))
+                .toList();
+        ids = transactionTemplate.execute(status -> memberRepository.saveAll(members)).stream()
+                .map(Member::getId)
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int deleteBulk() {
+        return memberService.deleteMembers(ids);
+    }
+
+    @Benchmark
+    public void deletePerEntity() {
+        transactionTemplate.executeWithoutResult(status -> ids.forEach(id ->
+                memberRepository.findById(id).ifPresent(memberRepository::delete)));
+    }
+
+    @Benchmark
+    public int relocateBulk() {
+        return memberService.updateMembers(ids, null, "大阪府");
+    }
+
+    @Benchmark
+    public void relocatePerEntity() {
+        transactionTemplate.executeWithoutResult(status -> ids.forEach(id ->
+                memberRepository.findById(id).ifPresent(member -> {
+                    member.updateInfo(member.getName(), member.getNameKana(), member.getEmail(),
+                            member.getPosition(), "大阪府", member.getProfileImageUrl(),
+                            member.getSelfIntroduction());
+                    memberRepository.save(member);
+                })));
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.memberlist.benchmark;
+
+import com.example.memberlist.application.service.MemberService;
+import com.example.memberlist.domain.model.Member;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures {@link MemberService#createMember} end to end through the Spring proxies:
+ * validation, the transactional insert, the email filter and the after-commit index updates.
+ * Every call registers a new email address against embedded H2.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberCreateBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private MemberService memberService;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("create-benchmark");
+        memberService = context.getBean(MemberService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Member createMember() {
+        return memberService.createMember("山田太郎", "やまだたろう", "member" + (sequence++) + "@example.com",
+                "エンジニア", "東京都", null, "フルスタックエンジニアです。");
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.memberlist.benchmark;
+
+import com.example.memberlist.presentation.dto.ApiResponse;
+import com.example.memberlist.presentation.dto.MemberResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures Jackson serialization of the member list response, configured like the
+ * application's message converter. The body is written to a discarding stream, as
+ * Spring MVC writes straight into the response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberListSerializationBenchmark {
+
+    @Param({"20", "1000", "10000"})
+    public int members;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<MemberResponse>> response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<MemberResponse> list = LongStream.rangeClosed(1, members)
+                .mapToObj(id -> new MemberResponse(id, "山田太郎" + id, "やまだたろう", "member" + id + "@example.com",
+                        "エンジニア", "東京都", "https://example.com/" + id + ".jpg",
+                        "フルスタックエンジニアです。よろしくお願いします。",
+                        createdAt.plusSeconds(id), createdAt.plusSeconds(id)))
+                .toList();
+        response = ApiResponse.success("メンバー一覧の取得が完了しました", list);
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), response);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.memberlist.benchmark;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.infrastructure.repository.MemberJpaRepository;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Measures the repository queries behind the full member list and the email duplicate check
+ * against embedded H2 at growing table sizes. Rows are generated with one set-based INSERT;
+ * every tenth row is soft-deleted so the {@code is_deleted} predicate has work to do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MemberQueryBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private MemberJpaRepository memberJpaRepository;
+    private String existingEmail;
+    private String missingEmail;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("query-benchmark-" + rows);
+        memberJpaRepository = context.getBean(MemberJpaRepository.class);
+        context.getBean(JdbcTemplate.class).update("""
+                INSERT INTO members (id, name, name_kana, email, active_email, position, location,
+                                     is_deleted, created_at, updated_at)
+                SELECT X, '会員' || X, 'かいいん', 'member' || X || '@example.com',
+                       CASE WHEN MOD(X, 10) = 0 THEN NULL ELSE 'member' || X || '@example.com' END,
+                       'エンジニア', '東京都', MOD(X, 10) = 0,
+                       DATEADD('SECOND', X, TIMESTAMP '2025-01-01 00:00:00'),
+                       DATEADD('SECOND', X, TIMESTAMP '2025-01-01 00:00:00')
+                FROM SYSTEM_RANGE(1, ?)
+                """, rows);
+        // Near the end of the table, so a scan has to read almost every row
+        existingEmail = "member" + (rows - 1) + "@example.com";
+        missingEmail = "nobody@example.com";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Member> findAllActive() {
+        return memberJpaRepository.findAllActive();
+    }
+
+    @Benchmark
+    public boolean existsByEmailHit() {
+        return memberJpaRepository.existsByEmailAndNotDeleted(existingEmail);
+    }
+
+    @Benchmark
+    public boolean existsByEmailMiss() {
+        return memberJpaRepository.existsByEmailAndNotDeleted(missingEmail);
+    }
+}
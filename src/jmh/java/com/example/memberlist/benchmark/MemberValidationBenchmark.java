@@ -0,0 +1,94 @@
+package com.example.memberlist.benchmark;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building a {@link Member} and validating it, the CPU-bound part of every registration
+ * and import row, with Bean Validation and with the hand-written {@link MemberValidator}.
+ * Invalid members also pay for message interpolation under Bean Validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private MemberValidator memberValidator;
+    private Member validMember;
+    private Member invalidMember;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        memberValidator = new MemberValidator(validator);
+        validMember = newMember("やまだたろう", "yamada@example.com");
+        invalidMember = newMember("ヤマダタロウ", "not-an-email");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Member construct() {
+        return newMember("やまだたろう", "yamada@example.com");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Member>> validateValid() {
+        return validator.validate(validMember);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Member>> validateInvalid() {
+        return validator.validate(invalidMember);
+    }
+
+    @Benchmark
+    public List<String> memberValidatorValid() {
+        return memberValidator.validate(validMember);
+    }
+
+    @Benchmark
+    public List<String> memberValidatorInvalid() {
+        return memberValidator.validate(invalidMember);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Member>> constructAndValidate() {
+        return validator.validate(newMember("やまだたろう", "yamada@example.com"));
+    }
+
+    private static Member newMember(String nameKana, String email) {
+        Member member = new Member("山田太郎", nameKana, email);
+        member.updateInfo("山田太郎", nameKana, email, "エンジニア", "東京都",
+                "https://example.com/yamada.jpg", "フルスタックエンジニアです。よろしくお願いします。");
+        return member;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.memberlist.application.dto;
+
+/**
+ * A record that could not be imported.
+ *
+ * @param lineNumber line of the record in the source file
+ * @param email email address of the record, if any
+ * @param message reason the record was rejected
+ */
+public record MemberImportError(long lineNumber, String email, String message) {
+}
@@ -0,0 +1,11 @@
+package com.example.memberlist.application.dto;
+
+/**
+ * Progress of a running import, reported after each chunk.
+ *
+ * @param processedRows number of records read so far
+ * @param importedRows number of records stored so far
+ * @param failedRows number of records rejected so far
+ */
+public record MemberImportProgress(long processedRows, long importedRows, long failedRows) {
+}
@@ -0,0 +1,19 @@
+package com.example.memberlist.application.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a completed import.
+ *
+ * @param totalRows number of records read
+ * @param importedRows number of records stored
+ * @param failedRows number of records rejected
+ * @param errors the first rejected records, in file order; at most a fixed number are reported
+ *        however many were rejected
+ */
+public record MemberImportResult(long totalRows, long importedRows, long failedRows, List<MemberImportError> errors) {
+
+    public MemberImportResult {
+        errors = List.copyOf(errors);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.memberlist.application.dto;
+
+/**
+ * One member record read from an import file.
+ *
+ * @param lineNumber line of the record in the source file, used for error reports
+ * @param name member's name
+ * @param nameKana member's name in hiragana
+ * @param email member's email address
+ * @param position member's position (optional)
+ * @param location member's location (optional)
+ * @param profileImageUrl member's profile image URL (optional)
+ * @param selfIntroduction member's self introduction (optional)
+ */
+public record MemberImportRow(
+        long lineNumber,
+        String name,
+        String nameKana,
+        String email,
+        String position,
+        String location,
+        String profileImageUrl,
+        String selfIntroduction) {
+}
@@ -0,0 +1,16 @@
+package com.example.memberlist.application.exception;
+
+/**
+ * Exception thrown when a member was changed by another request in the meantime,
+ * so the requested change would overwrite an update the caller has not seen.
+ */
+public class MemberConflictException extends RuntimeException {
+
+    public MemberConflictException(Long id) {
+        super("メンバーが他の操作で更新されています。最新の内容を取得してやり直してください: " + id);
+    }
+
+    public MemberConflictException(Long id, Throwable cause) {
+        super("メンバーが他の操作で更新されています。最新の内容を取得してやり直してください: " + id, cause);
+    }
+}
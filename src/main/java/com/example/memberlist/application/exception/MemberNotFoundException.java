@@ -0,0 +1,11 @@
+package com.example.memberlist.application.exception;
+
+/**
+ * Exception thrown when a member does not exist or has been deleted.
+ */
+public class MemberNotFoundException extends RuntimeException {
+
+    public MemberNotFoundException(Long id) {
+        super("メンバーが見つかりません: " + id);
+    }
+}
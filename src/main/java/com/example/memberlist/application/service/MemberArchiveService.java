@@ -0,0 +1,120 @@
+package com.example.memberlist.application.service;
+
+import com.example.memberlist.domain.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background job moving members deleted longer than the retention period into the archive.
+ * Members are moved in batches, each in its own short transaction, with a pause in between
+ * so the job never holds locks or the connection pool for long while the API is serving.
+ */
+@Service
+@ConditionalOnProperty(name = "member.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class MemberArchiveService {
+
+    /**
+     * Name of the counter of members moved to the archive.
+     */
+    public static final String ARCHIVED_COUNTER = "member.archive.archived";
+
+    /**
+     * Name of the timer recorded for every batch.
+     */
+    public static final String BATCH_TIMER = "member.archive.batch";
+
+    /**
+     * Name of the gauge of members still waiting to be moved by the current run, 0 when idle.
+     */
+    public static final String BACKLOG_GAUGE = "member.archive.backlog";
+
+    private static final Logger log = LoggerFactory.getLogger(MemberArchiveService.class);
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration pause;
+    private final Counter archived;
+    private final Timer batches;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public MemberArchiveService(
+            MemberRepository memberRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${member.archive.retention:P30D}") Duration retention,
+            @Value("${member.archive.batch-size:500}") int batchSize,
+            @Value("${member.archive.pause:200ms}") Duration pause) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("member.archive.batch-size must be positive: " + batchSize);
+        }
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.archived = Counter.builder(ARCHIVED_COUNTER)
+                .description("Deleted members moved to the archive")
+                .register(meterRegistry);
+        this.batches = Timer.builder(BATCH_TIMER)
+                .description("Latency of one archive batch")
+                .register(meterRegistry);
+        Gauge.builder(BACKLOG_GAUGE, backlog, AtomicLong::get)
+                .description("Deleted members still to be archived by the running job")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Moves every member deleted before the retention period into the archive.
+     * Stops early, keeping the batches already committed, if the thread is interrupted.
+     *
+     * @return number of members moved
+     */
+    @Scheduled(cron = "${member.archive.cron:0 30 3 * * *}")
+    public long archiveDeletedMembers() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(retention);
+        backlog.set(memberRepository.countDeletedBefore(deletedBefore));
+        long total = 0;
+        try {
+            while (true) {
+                Integer moved = batches.record(() -> transactionTemplate.execute(
+                        status -> memberRepository.archiveDeleted(deletedBefore, batchSize)));
+                total += moved;
+                archived.increment(moved);
+                backlog.updateAndGet(remaining -> Math.max(0, remaining - moved));
+                if (moved < batchSize || !pauseBetweenBatches()) {
+                    break;
+                }
+            }
+        } finally {
+            backlog.set(0);
+        }
+        log.info("Archived {} members deleted before {}", total, deletedBefore);
+        return total;
+    }
+
+    private boolean pauseBetweenBatches() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Member archiving interrupted; remaining members are moved by the next run");
+            return false;
+        }
+    }
+}
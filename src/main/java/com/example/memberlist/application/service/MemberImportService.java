@@ -0,0 +1,239 @@
+package com.example.memberlist.application.service;
+
+import com.example.memberlist.application.dto.MemberImportError;
+import com.example.memberlist.application.dto.MemberImportProgress;
+import com.example.memberlist.application.dto.MemberImportResult;
+import com.example.memberlist.application.dto.MemberImportRow;
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberValidator;
+import com.example.memberlist.domain.repository.DuplicateMemberEmailException;
+import com.example.memberlist.domain.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service for importing members in bulk.
+ * Records are processed in chunks: each chunk is validated, checked against existing email
+ * addresses with one query, and inserted in its own transaction.
+ * A rejected record never rolls back records from other chunks or other records of its chunk.
+ * Nothing is kept across chunks except counters and the first rejected records, so memory use
+ * does not depend on the size of the file.
+ */
+@Service
+public class MemberImportService {
+
+    /**
+     * Number of records validated and inserted per transaction.
+     */
+    static final int CHUNK_SIZE = 500;
+
+    /**
+     * Number of rejected records reported in detail; further ones are only counted.
+     */
+    static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private static final Logger log = LoggerFactory.getLogger(MemberImportService.class);
+
+    private final MemberRepository memberRepository;
+    private final MemberValidator memberValidator;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter duplicateEmails;
+    private final Counter validationFailures;
+
+    public MemberImportService(
+            MemberRepository memberRepository,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.memberValidator = new MemberValidator(validator);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.duplicateEmails = Counter.builder(MemberService.DUPLICATE_EMAIL_COUNTER)
+                .description("Registrations rejected because the email address is already registered")
+                .tag("source", "import")
+                .register(meterRegistry);
+        this.validationFailures = Counter.builder(MemberService.VALIDATION_FAILURE_COUNTER)
+                .description("Members rejected by validation")
+                .tag("source", "import")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Imports members from a stream of records.
+     * Records are pulled from {@code rows} one chunk at a time, so the source may be
+     * arbitrarily large. An address repeated within a chunk is rejected as a duplicate in the
+     * file; a repetition in a later chunk finds the address registered by the earlier one.
+     *
+     * @param rows records to import, in file order
+     * @param progressListener receiver of progress after each chunk
+     * @return summary of imported and rejected records
+     */
+    public MemberImportResult importMembers(
+            Iterator<MemberImportRow> rows, Consumer<MemberImportProgress> progressListener) {
+        ImportState state = new ImportState();
+        List<MemberImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(chunk, state, progressListener);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, state, progressListener);
+        }
+        return new MemberImportResult(state.processed, state.imported, state.failed, state.errors);
+    }
+
+    private void importChunk(
+            List<MemberImportRow> chunk, ImportState state, Consumer<MemberImportProgress> progressListener) {
+        List<MemberImportError> errors = new ArrayList<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<Candidate> accepted = new ArrayList<>(chunk.size());
+        for (MemberImportRow row : chunk) {
+            Candidate candidate = validate(row);
+            if (candidate.error() != null) {
+                validationFailures.increment();
+                errors.add(toError(row, candidate.error()));
+            } else if (!seenEmails.add(row.email())) {
+                errors.add(toError(row, "ファイル内でメールアドレスが重複しています"));
+            } else {
+                accepted.add(candidate);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            try {
+                ChunkOutcome outcome = transactionTemplate.execute(status -> insertNew(accepted));
+                state.imported += outcome.imported();
+                errors.addAll(outcome.duplicates());
+                duplicateEmails.increment(outcome.duplicates().size());
+            } catch (DataAccessException | DuplicateMemberEmailException e) {
+                // Another writer registered one of the addresses meanwhile; isolate the offending rows
+                log.debug("Chunk insert failed, retrying records one by one", e);
+                insertOneByOne(accepted, state, errors);
+            }
+        }
+
+        state.processed += chunk.size();
+        state.reject(errors);
+        MemberImportProgress progress = new MemberImportProgress(state.processed, state.imported, state.failed);
+        log.info("Member import progress: {}", progress);
+        progressListener.accept(progress);
+    }
+
+    private ChunkOutcome insertNew(List<Candidate> accepted) {
+        Set<String> existing = memberRepository.findExistingEmails(
+                accepted.stream().map(candidate -> candidate.row().email()).toList());
+
+        List<Member> members = new ArrayList<>(accepted.size());
+        List<MemberImportError> duplicates = new ArrayList<>();
+        for (Candidate candidate : accepted) {
+            if (existing.contains(candidate.row().email())) {
+                duplicates.add(toError(candidate.row(), "メールアドレスが既に登録されています"));
+            } else {
+                members.add(candidate.member());
+            }
+        }
+        memberRepository.saveAll(members);
+        return new ChunkOutcome(members.size(), duplicates);
+    }
+
+    private void insertOneByOne(List<Candidate> accepted, ImportState state, List<MemberImportError> errors) {
+        for (Candidate candidate : accepted) {
+            MemberImportRow row = candidate.row();
+            try {
+                boolean inserted = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                    if (!memberRepository.findExistingEmails(List.of(row.email())).isEmpty()) {
+                        return false;
+                    }
+                    // The chunk's entities were part of a rolled-back persistence context
+                    memberRepository.save(toMember(row));
+                    return true;
+                }));
+                if (inserted) {
+                    state.imported++;
+                } else {
+                    duplicateEmails.increment();
+                    errors.add(toError(row, "メールアドレスが既に登録されています"));
+                }
+            } catch (DataIntegrityViolationException | DuplicateMemberEmailException e) {
+                duplicateEmails.increment();
+                errors.add(toError(row, "メールアドレスが既に登録されています"));
+            } catch (DataAccessException e) {
+                log.warn("Failed to import member at line {}", row.lineNumber(), e);
+                errors.add(toError(row, "登録に失敗しました"));
+            }
+        }
+    }
+
+    private Candidate validate(MemberImportRow row) {
+        Member member = toMember(row);
+        List<String> errors = memberValidator.validate(member);
+        if (errors.isEmpty()) {
+            return new Candidate(row, member, null);
+        }
+        return new Candidate(row, null, String.join(", ", errors));
+    }
+
+    private static Member toMember(MemberImportRow row) {
+        Member member = new Member(row.name(), row.nameKana(), row.email());
+        member.updateInfo(row.name(), row.nameKana(), row.email(), row.position(), row.location(),
+                row.profileImageUrl(), row.selfIntroduction());
+        return member;
+    }
+
+    private static MemberImportError toError(MemberImportRow row, String message) {
+        return new MemberImportError(row.lineNumber(), row.email(), message);
+    }
+
+    /**
+     * A record after validation: either a member ready to insert or an error message.
+     */
+    private record Candidate(MemberImportRow row, Member member, String error) {
+    }
+
+    /**
+     * Result of inserting one chunk; duplicates are only reported once the chunk has committed.
+     */
+    private record ChunkOutcome(int imported, List<MemberImportError> duplicates) {
+    }
+
+    /**
+     * Mutable bookkeeping for one import run.
+     */
+    private static final class ImportState {
+
+        private final List<MemberImportError> errors = new ArrayList<>();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        /**
+         * Counts the rejected records of a chunk and keeps them until the report is full.
+         * Chunks arrive in file order, so the kept records are the first ones of the file.
+         */
+        private void reject(List<MemberImportError> chunkErrors) {
+            failed += chunkErrors.size();
+            chunkErrors.stream()
+                    .sorted(Comparator.comparingLong(MemberImportError::lineNumber))
+                    .limit(Math.max(0, MAX_REPORTED_ERRORS - errors.size()))
+                    .forEach(errors::add);
+        }
+    }
+}
@@ -1,15 +1,46 @@
 package com.example.memberlist.application.service;
 
 import com.example.memberlist.application.exception.DuplicateEmailException;
+import com.example.memberlist.application.exception.MemberConflictException;
+import com.example.memberlist.application.exception.MemberNotFoundException;
+import com.example.memberlist.domain.model.Kana;
 import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.domain.model.MemberValidator;
+import com.example.memberlist.domain.repository.DuplicateMemberEmailException;
+import com.example.memberlist.domain.repository.MemberChanges;
+import com.example.memberlist.domain.repository.MemberCursor;
+import com.example.memberlist.domain.repository.MemberFilter;
+import com.example.memberlist.domain.repository.MemberPage;
 import com.example.memberlist.domain.repository.MemberRepository;
-import jakarta.validation.ConstraintViolation;
+import com.example.memberlist.domain.repository.MemberSearchHit;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.Validator;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Service layer for member management.
@@ -17,29 +48,324 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @Transactional
+@Timed(value = MemberService.TIMER, description = "Latency of member service calls")
 public class MemberService {
 
+    /**
+     * Name of the timer recorded for every public method, tagged with {@code method}.
+     */
+    public static final String TIMER = "member.service";
+
+    /**
+     * Name of the counter of registrations rejected because the email address is taken.
+     */
+    public static final String DUPLICATE_EMAIL_COUNTER = "member.duplicate.emails";
+
+    /**
+     * Name of the counter of members rejected by validation.
+     */
+    public static final String VALIDATION_FAILURE_COUNTER = "member.validation.failures";
+
+    /**
+     * Name of the counter of updates that found the member changed by another request,
+     * tagged with {@code outcome} ({@code retried} or {@code rejected}).
+     */
+    public static final String UPDATE_CONFLICT_COUNTER = "member.update.conflicts";
+
+    /**
+     * Upper bound for the page size of {@link #listMembers(MemberFilter, MemberCursor, int)}.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Upper bound for the number of suggestions of {@link #suggestMembers(String, int)}.
+     */
+    public static final int MAX_SUGGESTIONS = 50;
+
+    /**
+     * Upper bound for the number of results of {@link #searchMembers(String, int)}.
+     */
+    public static final int MAX_SEARCH_RESULTS = 50;
+
+    /**
+     * Shortest search word that can be looked up in the full-text index.
+     */
+    public static final int MIN_SEARCH_WORD_LENGTH = 2;
+
+    /**
+     * Upper bound for the number of changes of {@link #getChanges(LocalDateTime, Long, int)}.
+     */
+    public static final int MAX_CHANGES = 1_000;
+
+    /**
+     * Upper bound for the number of IDs of {@link #deleteMembers(List)} and
+     * {@link #updateMembers(List, String, String)}.
+     */
+    public static final int MAX_BULK_SIZE = 10_000;
+
     private final MemberRepository memberRepository;
-    private final Validator validator;
+    private final MemberValidator memberValidator;
+    private final Counter duplicateEmails;
+    private final Counter validationFailures;
+    private final Counter retriedConflicts;
+    private final Counter rejectedConflicts;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxUpdateAttempts;
+    private final Duration updateRetryBackoff;
 
-    public MemberService(MemberRepository memberRepository, Validator validator) {
+    public MemberService(
+            MemberRepository memberRepository,
+            Validator validator,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${member.update.max-attempts:3}") int maxUpdateAttempts,
+            @Value("${member.update.retry-backoff:10ms}") Duration updateRetryBackoff) {
+        if (maxUpdateAttempts < 1) {
+            throw new IllegalArgumentException("member.update.max-attempts must be positive: " + maxUpdateAttempts);
+        }
         this.memberRepository = memberRepository;
-        this.validator = validator;
+        this.memberValidator = new MemberValidator(validator);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxUpdateAttempts = maxUpdateAttempts;
+        this.updateRetryBackoff = updateRetryBackoff;
+        this.duplicateEmails = Counter.builder(DUPLICATE_EMAIL_COUNTER)
+                .description("Registrations rejected because the email address is already registered")
+                .tag("source", "api")
+                .register(meterRegistry);
+        this.validationFailures = Counter.builder(VALIDATION_FAILURE_COUNTER)
+                .description("Members rejected by validation")
+                .tag("source", "api")
+                .register(meterRegistry);
+        this.retriedConflicts = Counter.builder(UPDATE_CONFLICT_COUNTER)
+                .description("Member updates that lost an optimistic lock race")
+                .tag("outcome", "retried")
+                .register(meterRegistry);
+        this.rejectedConflicts = Counter.builder(UPDATE_CONFLICT_COUNTER)
+                .description("Member updates that lost an optimistic lock race")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
     }
 
     /**
-     * Retrieves all active members.
+     * Returns the version of the member directory, which increases whenever a member is saved or deleted.
      *
-     * @return list of all active members
+     * @return current directory version
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long getDirectoryVersion() {
+        return memberRepository.getDirectoryVersion();
+    }
+
+    /**
+     * Reads the directory version and, unless the caller already holds that version, members
+     * with the given read, in one read-only transaction. Both come from the same snapshot of the
+     * same database, so a replica that lags behind labels its list with its own older version
+     * instead of a newer one.
+     *
+     * @param notModified tells whether the caller already holds the version
+     * @param read reads the members, typically through the list methods of this service
+     * @param <T> type of the result
+     * @return the result of the read, or empty when not modified
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public <T> Optional<T> readDirectory(LongPredicate notModified, Supplier<T> read) {
+        if (notModified.test(memberRepository.getDirectoryVersion())) {
+            return Optional.empty();
+        }
+        return Optional.of(read.get());
+    }
+
+    /**
+     * Retrieves an active member by ID.
+     *
+     * @param id the member ID
+     * @return the member
+     * @throws MemberNotFoundException if no active member has the ID
+     */
+    @Transactional(readOnly = true)
+    public Member getMember(Long id) {
+        return memberRepository.findById(id)
+                .filter(member -> !member.isDeleted())
+                .orElseThrow(() -> new MemberNotFoundException(id));
+    }
+
+    /**
+     * Retrieves all active members matching the filter.
+     *
+     * @param filter conditions the members must match
+     * @return list of matching active members
+     */
+    @Transactional(readOnly = true)
+    public List<Member> listMembers(MemberFilter filter) {
+        return memberRepository.findAll(filter);
+    }
+
+    /**
+     * Retrieves one page of active members matching the filter, newest first.
+     * Fetches one extra row to find out whether a next page exists.
+     *
+     * @param filter conditions the members must match
+     * @param after cursor returned with the previous page, or {@code null} for the first page
+     * @param limit maximum number of members on the page
+     * @return the requested page with the cursor for the next one
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    @Transactional(readOnly = true)
+    public MemberPage<Member> listMembers(MemberFilter filter, MemberCursor after, int limit) {
+        validatePageSize(limit);
+        return toPage(memberRepository.findPage(filter, after, limit + 1), limit, MemberCursor::of);
+    }
+
+    /**
+     * Retrieves only the selected fields of all active members matching the filter.
+     *
+     * @param fields fields to return
+     * @param filter conditions the members must match
+     * @return one map per member, keyed by property name
+     * @throws IllegalArgumentException if no field is selected
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> listMembers(Set<MemberField> fields, MemberFilter filter) {
+        validateFields(fields);
+        return memberRepository.findAllFields(fields, filter);
+    }
+
+    /**
+     * Retrieves only the selected fields of one page of active members matching the filter.
+     * The sort key is always read to build the next cursor and dropped again
+     * unless it was selected.
+     *
+     * @param fields fields to return
+     * @param filter conditions the members must match
+     * @param after cursor returned with the previous page, or {@code null} for the first page
+     * @param limit maximum number of members on the page
+     * @return the requested page with the cursor for the next one
+     * @throws IllegalArgumentException if no field is selected or the limit is out of range
+     */
+    @Transactional(readOnly = true)
+    public MemberPage<Map<String, Object>> listMembers(
+            Set<MemberField> fields, MemberFilter filter, MemberCursor after, int limit) {
+        validateFields(fields);
+        validatePageSize(limit);
+
+        Set<MemberField> selected = EnumSet.copyOf(fields);
+        selected.add(MemberField.ID);
+        selected.add(MemberField.CREATED_AT);
+        MemberPage<Map<String, Object>> page = toPage(
+                memberRepository.findFieldsPage(selected, filter, after, limit + 1), limit,
+                row -> new MemberCursor(
+                        (LocalDateTime) row.get(MemberField.CREATED_AT.getPropertyName()),
+                        (Long) row.get(MemberField.ID.getPropertyName())));
+
+        if (!fields.contains(MemberField.ID) || !fields.contains(MemberField.CREATED_AT)) {
+            Set<String> requested = fields.stream().map(MemberField::getPropertyName).collect(Collectors.toSet());
+            page.members().forEach(row -> row.keySet().retainAll(requested));
+        }
+        return page;
+    }
+
+    /**
+     * Retrieves up to {@code limit} members created, updated or deleted since the given time,
+     * so clients keeping a copy of the directory can refresh it without downloading all members.
+     * When more changes are left, the result carries the position to continue from.
+     *
+     * @param since watermark returned by the previous call
+     * @param afterId ID returned with the watermark by the previous call, or {@code null}
+     * @param limit maximum number of changes
+     * @return changed members and the position for the next call
+     * @throws IllegalArgumentException if {@code since} is missing or the limit is out of range
      */
     @Transactional(readOnly = true)
-    public List<Member> listMembers() {
-        return memberRepository.findAll();
+    public MemberChanges getChanges(LocalDateTime since, Long afterId, int limit) {
+        if (since == null) {
+            throw new IllegalArgumentException("取得開始日時は必須です");
+        }
+        if (limit < 1 || limit > MAX_CHANGES) {
+            throw new IllegalArgumentException("取得件数は1から" + MAX_CHANGES + "の範囲で指定してください");
+        }
+        return memberRepository.findChangesSince(since, afterId, limit);
+    }
+
+    /**
+     * Passes every active member to the given consumer, newest first.
+     * Members are streamed from the database one at a time, so memory use
+     * does not depend on the number of members.
+     *
+     * @param consumer receiver of each active member
+     */
+    @Transactional(readOnly = true)
+    public void exportMembers(Consumer<Member> consumer) {
+        try (Stream<Member> members = memberRepository.streamAll()) {
+            members.forEach(consumer);
+        }
+    }
+
+    /**
+     * Checks whether an email address can be used for a new registration.
+     * Runs without a transaction so that addresses known to be unused are answered
+     * without borrowing a database connection.
+     *
+     * @param email the email address to check
+     * @return true if no active member uses the address
+     * @throws IllegalArgumentException if the address is blank
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public boolean isEmailAvailable(String email) {
+        if (email == null || email.isBlank()) {
+            throw new IllegalArgumentException("メールアドレスは必須です");
+        }
+        return !memberRepository.existsByEmail(email);
+    }
+
+    /**
+     * Suggests members whose reading starts with the given input, for type-ahead search.
+     * Katakana in the input is treated as the corresponding hiragana.
+     * Runs without a transaction since suggestions are normally answered from memory.
+     *
+     * @param kana reading prefix typed by the user
+     * @param limit maximum number of suggestions
+     * @return matching members ordered by reading
+     * @throws IllegalArgumentException if the input is blank or the limit is out of range
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<MemberSuggestion> suggestMembers(String kana, int limit) {
+        if (kana == null || kana.isBlank()) {
+            throw new IllegalArgumentException("読み仮名を入力してください");
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("取得件数は1から" + MAX_SUGGESTIONS + "の範囲で指定してください");
+        }
+        return memberRepository.findByKanaPrefix(Kana.toHiragana(kana.strip()), limit);
+    }
+
+    /**
+     * Searches members by words contained in their name, position or self introduction.
+     *
+     * @param query search words separated by white space
+     * @param limit maximum number of results
+     * @return matching members, most relevant first
+     * @throws IllegalArgumentException if the query is blank, a word is too short or the limit is out of range
+     */
+    @Transactional(readOnly = true)
+    public List<MemberSearchHit> searchMembers(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("検索語を入力してください");
+        }
+        for (String word : query.strip().split("\\s+")) {
+            if (word.length() < MIN_SEARCH_WORD_LENGTH) {
+                throw new IllegalArgumentException("検索語は" + MIN_SEARCH_WORD_LENGTH + "文字以上で入力してください");
+            }
+        }
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("取得件数は1から" + MAX_SEARCH_RESULTS + "の範囲で指定してください");
+        }
+        return memberRepository.search(query, limit);
     }
 
     /**
      * Creates a new member with the provided information.
-     * Validates that the email address is not already registered.
+     * The member is inserted without a prior existence check; an email address already used by
+     * an active member is detected by the database's unique constraint.
      *
      * @param name member's name
      * @param nameKana member's name in hiragana
@@ -61,11 +387,6 @@ public class MemberService {
             String profileImageUrl,
             String selfIntroduction) {
 
-        // Check for duplicate email
-        if (memberRepository.existsByEmail(email)) {
-            throw new DuplicateEmailException("メールアドレスが既に登録されています: " + email);
-        }
-
         // Create new member
         Member member = new Member(name, nameKana, email);
         
@@ -75,15 +396,190 @@ public class MemberService {
         }
 
         // Validate member
-        Set<ConstraintViolation<Member>> violations = validator.validate(member);
-        if (!violations.isEmpty()) {
-            String errorMessage = violations.stream()
-                    .map(ConstraintViolation::getMessage)
-                    .collect(Collectors.joining(", "));
-            throw new IllegalArgumentException(errorMessage);
+        List<String> errors = memberValidator.validate(member);
+        if (!errors.isEmpty()) {
+            validationFailures.increment();
+            throw new IllegalArgumentException(String.join(", ", errors));
+        }
+
+        // Insert in one round trip; the unique constraint on active emails rejects duplicates,
+        // including ones registered concurrently
+        try {
+            return memberRepository.insert(member);
+        } catch (DuplicateMemberEmailException e) {
+            duplicateEmails.increment();
+            throw new DuplicateEmailException(email, e);
+        }
+    }
+
+    /**
+     * Changes only the given fields of an active member, whatever its current state.
+     * Equivalent to {@link #updateMember(Long, Map, Long)} without an expected version.
+     *
+     * @param id the member ID
+     * @param changes new values by field; {@code null} clears an optional field
+     * @return the member after the update
+     * @throws MemberNotFoundException if no active member has the ID
+     * @throws DuplicateEmailException if the new email is already registered
+     * @throws MemberConflictException if the member kept being updated concurrently
+     * @throws IllegalArgumentException if no field is given, a field cannot be changed, or validation fails
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Member updateMember(Long id, Map<MemberField, String> changes) {
+        return updateMember(id, changes, null);
+    }
+
+    /**
+     * Changes only the given fields of an active member.
+     * The result is validated before the member is touched, and only the columns whose value
+     * actually changes are written; a request that changes nothing writes nothing.
+     * <p>
+     * No row is locked: the update only succeeds if the member's version is still the one that
+     * was read. With an expected version the caller has based the change on a state it has
+     * seen, so a newer version is reported as a conflict. Without one the change only sets
+     * values and can be applied again safely, so when another request wins the race it is
+     * retried on the new state, each attempt in its own transaction, up to
+     * {@code member.update.max-attempts} times.
+     *
+     * @param id the member ID
+     * @param changes new values by field; {@code null} clears an optional field
+     * @param expectedVersion version the change is based on, or {@code null} to apply it to the current state
+     * @return the member after the update
+     * @throws MemberNotFoundException if no active member has the ID
+     * @throws DuplicateEmailException if the new email is already registered
+     * @throws MemberConflictException if the member is no longer at the expected version,
+     *         or kept being updated concurrently
+     * @throws IllegalArgumentException if no field is given, a field cannot be changed, or validation fails
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Member updateMember(Long id, Map<MemberField, String> changes, Long expectedVersion) {
+        if (changes == null || changes.isEmpty()) {
+            throw new IllegalArgumentException("更新する項目を1つ以上指定してください");
         }
+        for (MemberField field : changes.keySet()) {
+            if (!field.isUpdatable()) {
+                throw new IllegalArgumentException("変更できない項目です: " + field.getPropertyName());
+            }
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> applyChanges(id, changes, expectedVersion));
+            } catch (OptimisticLockingFailureException e) {
+                if (expectedVersion != null || attempt >= maxUpdateAttempts || !backOff(attempt)) {
+                    rejectedConflicts.increment();
+                    throw new MemberConflictException(id, e);
+                }
+                retriedConflicts.increment();
+            }
+        }
+    }
+
+    private Member applyChanges(Long id, Map<MemberField, String> changes, Long expectedVersion) {
+        // Change a copy: the cached instance is shared with concurrent requests
+        Member member = getMember(id).copy();
+        if (expectedVersion != null && !expectedVersion.equals(member.getVersion())) {
+            rejectedConflicts.increment();
+            throw new MemberConflictException(id);
+        }
+        List<String> errors = memberValidator.validate(member, changes);
+        if (!errors.isEmpty()) {
+            validationFailures.increment();
+            throw new IllegalArgumentException(String.join(", ", errors));
+        }
+        if (!member.applyChanges(changes)) {
+            return member;
+        }
+        try {
+            return memberRepository.update(member);
+        } catch (DuplicateMemberEmailException e) {
+            duplicateEmails.increment();
+            throw new DuplicateEmailException(member.getEmail(), e);
+        }
+    }
+
+    /**
+     * Waits a random time growing with the attempt before retrying, so that the requests
+     * that collided do not collide again right away.
+     *
+     * @return false if the thread was interrupted
+     */
+    private boolean backOff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(updateRetryBackoff.toMillis() * attempt + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Logically deletes the active members with the given IDs in one transaction.
+     * The members are updated with set-based statements without being loaded one by one.
+     *
+     * @param ids IDs of the members to delete
+     * @return number of members deleted; unknown and already deleted IDs are not counted
+     * @throws IllegalArgumentException if no ID or too many IDs are given
+     */
+    public int deleteMembers(List<Long> ids) {
+        validateBulkIds(ids);
+        return memberRepository.deleteAllByIds(ids);
+    }
 
-        // Save and return
-        return memberRepository.save(member);
+    /**
+     * Sets the position and/or location of the active members with the given IDs in one
+     * transaction, for example when a department moves.
+     * The members are updated with set-based statements without being loaded one by one.
+     *
+     * @param ids IDs of the members to update
+     * @param position new position, or {@code null} to keep the current one
+     * @param location new location, or {@code null} to keep the current one
+     * @return number of members updated; unknown and deleted IDs are not counted
+     * @throws IllegalArgumentException if the IDs are out of range, neither field is given,
+     *         or a value is too long
+     */
+    public int updateMembers(List<Long> ids, String position, String location) {
+        validateBulkIds(ids);
+        if (position == null && location == null) {
+            throw new IllegalArgumentException("更新する項目を1つ以上指定してください");
+        }
+        List<String> errors = memberValidator.validatePositionAndLocation(position, location);
+        if (!errors.isEmpty()) {
+            validationFailures.increment();
+            throw new IllegalArgumentException(String.join(", ", errors));
+        }
+        return memberRepository.updateAllByIds(ids, position, location);
+    }
+
+    private static void validateBulkIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("対象のメンバーIDを1つ以上指定してください");
+        }
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("一度に指定できるメンバーIDは" + MAX_BULK_SIZE + "件までです");
+        }
+    }
+
+    private static void validatePageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("取得件数は1から" + MAX_PAGE_SIZE + "の範囲で指定してください");
+        }
+    }
+
+    private static void validateFields(Set<MemberField> fields) {
+        if (fields == null || fields.isEmpty()) {
+            throw new IllegalArgumentException("取得する項目を1つ以上指定してください");
+        }
+    }
+
+    /**
+     * Cuts the extra look-ahead row off a query result and derives the next cursor from it.
+     */
+    private static <T> MemberPage<T> toPage(List<T> rows, int limit, Function<T, MemberCursor> cursorOf) {
+        if (rows.size() <= limit) {
+            return new MemberPage<>(rows, null);
+        }
+        List<T> page = rows.subList(0, limit);
+        return new MemberPage<>(page, cursorOf.apply(page.get(limit - 1)));
     }
 }
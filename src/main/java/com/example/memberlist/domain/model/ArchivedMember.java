@@ -0,0 +1,152 @@
+package com.example.memberlist.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Copy of a deleted member moved out of the {@code members} table once its retention period is over.
+ * Keeps the hot table and its indexes limited to rows that can still be read by the API,
+ * while the history and the deletion time remain available.
+ */
+@Entity
+@Table(name = "members_archive", indexes = {
+    @Index(name = "idx_members_archive_deleted_at", columnList = "deleted_at, id")
+})
+public class ArchivedMember {
+
+    /**
+     * ID the member had in the {@code members} table.
+     */
+    @Id
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "name_kana", nullable = false, length = 100)
+    private String nameKana;
+
+    @Column(name = "email", nullable = false, length = 255)
+    private String email;
+
+    @Column(name = "position", length = 100)
+    private String position;
+
+    @Column(name = "location", length = 200)
+    private String location;
+
+    @Column(name = "profile_image_url", columnDefinition = "TEXT")
+    private String profileImageUrl;
+
+    @Column(name = "self_introduction", columnDefinition = "TEXT")
+    private String selfIntroduction;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Time of the logical deletion, taken from the member's last update.
+     */
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    protected ArchivedMember() {
+    }
+
+    /**
+     * Creates the archive copy of a deleted member.
+     *
+     * @param member the deleted member
+     * @param archivedAt time the member is moved to the archive
+     * @throws IllegalArgumentException if the member is not deleted
+     */
+    public ArchivedMember(Member member, LocalDateTime archivedAt) {
+        if (!member.isDeleted()) {
+            throw new IllegalArgumentException("Only deleted members can be archived: " + member.getId());
+        }
+        this.id = member.getId();
+        this.name = member.getName();
+        this.nameKana = member.getNameKana();
+        this.email = member.getEmail();
+        this.position = member.getPosition();
+        this.location = member.getLocation();
+        this.profileImageUrl = member.getProfileImageUrl();
+        this.selfIntroduction = member.getSelfIntroduction();
+        this.createdAt = member.getCreatedAt();
+        this.deletedAt = member.getUpdatedAt();
+        this.archivedAt = archivedAt;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getNameKana() {
+        return nameKana;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPosition() {
+        return position;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getProfileImageUrl() {
+        return profileImageUrl;
+    }
+
+    public String getSelfIntroduction() {
+        return selfIntroduction;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ArchivedMember that = (ArchivedMember) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
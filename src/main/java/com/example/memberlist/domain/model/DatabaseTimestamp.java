@@ -0,0 +1,17 @@
+package com.example.memberlist.domain.model;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.ValueGenerationType;
+
+/**
+ * Stamps a {@code LocalDateTime} attribute with the time of the database whenever the entity is
+ * inserted or updated, instead of the time of the application instance writing it.
+ */
+@ValueGenerationType(generatedBy = DatabaseTimestampGeneration.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface DatabaseTimestamp {
+}
@@ -0,0 +1,55 @@
+package com.example.memberlist.domain.model;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * Generator of {@link DatabaseTimestamp} attributes.
+ * The time is read with a query once per transaction and reused for every entity the transaction
+ * writes: H2 and PostgreSQL return the start of the transaction for {@code LOCALTIMESTAMP} anyway.
+ * Unlike a timestamp generated within the INSERT, it is known before the statement runs, so the
+ * inserts of a transaction stay in one JDBC batch.
+ */
+public class DatabaseTimestampGeneration implements BeforeExecutionGenerator {
+
+    static final String CURRENT_TIME_QUERY = "SELECT LOCALTIMESTAMP";
+
+    private final Map<SharedSessionContractImplementor, LocalDateTime> transactionTimes = new ConcurrentHashMap<>();
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_AND_UPDATE;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        if (!(session instanceof EventSource eventSource) || !session.isTransactionInProgress()) {
+            return currentTime(session);
+        }
+        return transactionTimes.computeIfAbsent(session, key -> {
+            eventSource.getActionQueue().registerProcess(
+                    (success, completed) -> transactionTimes.remove(completed));
+            return currentTime(key);
+        });
+    }
+
+    private static LocalDateTime currentTime(SharedSessionContractImplementor session) {
+        return session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(CURRENT_TIME_QUERY);
+                    ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getObject(1, LocalDateTime.class);
+            }
+        });
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.memberlist.domain.model;
+
+/**
+ * Helpers for Japanese kana readings.
+ */
+public final class Kana {
+
+    private static final char KATAKANA_SMALL_A = 'ァ';
+    private static final char KATAKANA_SMALL_KE = 'ヶ';
+    private static final int KATAKANA_TO_HIRAGANA = 'ァ' - 'ぁ';
+
+    private Kana() {
+    }
+
+    /**
+     * Converts full-width katakana to the corresponding hiragana, leaving other characters as they are.
+     * Readings are stored in hiragana, so user input typed in katakana can be matched against them.
+     *
+     * @param text text to convert
+     * @return the text with katakana replaced by hiragana
+     */
+    public static String toHiragana(String text) {
+        char[] chars = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= KATAKANA_SMALL_A && c <= KATAKANA_SMALL_KE) {
+                if (chars == null) {
+                    chars = text.toCharArray();
+                }
+                chars[i] = (char) (c - KATAKANA_TO_HIRAGANA);
+            }
+        }
+        return chars == null ? text : new String(chars);
+    }
+}
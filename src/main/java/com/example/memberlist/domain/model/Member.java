@@ -5,26 +5,66 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
-import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * Member entity representing a member in the system.
  * Aggregate root in DDD context.
+ * Updates write only the columns that changed, so a small edit does not rewrite the large
+ * text columns. The fields changed since the member was restored or copied are recorded for
+ * repositories that write without JPA.
  */
 @Entity
-@Table(name = "members")
+@DynamicUpdate
+@Table(name = "members", indexes = {
+    @Index(name = "idx_members_is_deleted_created_at", columnList = "is_deleted, created_at DESC, id DESC"),
+    @Index(name = "idx_members_is_deleted_position_created_at",
+            columnList = "is_deleted, position, created_at DESC, id DESC"),
+    @Index(name = "idx_members_is_deleted_location_created_at",
+            columnList = "is_deleted, location, created_at DESC, id DESC"),
+    @Index(name = "idx_members_is_deleted_name_kana", columnList = "is_deleted, name_kana, id"),
+    @Index(name = "idx_members_updated_at", columnList = "updated_at, id")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = Member.ACTIVE_EMAIL_CONSTRAINT, columnNames = "active_email")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "members")
+@NaturalIdCache(region = "members-by-active-email")
 public class Member {
 
+    /**
+     * Name of the unique constraint that allows each email address on at most one active member.
+     */
+    public static final String ACTIVE_EMAIL_CONSTRAINT = "uk_members_active_email";
+
+    /**
+     * Drawn from a pooled sequence so that Hibernate can assign IDs without a round trip
+     * per insert and group inserts into JDBC batches.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "members_id_seq")
+    @SequenceGenerator(name = "members_id_seq", sequenceName = "members_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "名前は必須です")
@@ -41,9 +81,20 @@ public class Member {
     @NotBlank(message = "メールアドレスは必須です")
     @Email(message = "有効なメールアドレスを入力してください")
     @Size(max = 255, message = "メールアドレスは255文字以内で入力してください")
-    @Column(name = "email", nullable = false, unique = true, length = 255)
+    @Column(name = "email", nullable = false, length = 255)
     private String email;
 
+    /**
+     * Copy of {@link #email} while the member is active, {@code null} once deleted.
+     * Unique across the table, so it acts as a unique index on {@code email WHERE is_deleted = FALSE}
+     * on databases without partial indexes (NULLs never collide).
+     * Also the natural id, so lookups of active members by email can be resolved from the
+     * second-level cache.
+     */
+    @NaturalId(mutable = true)
+    @Column(name = "active_email", length = 255)
+    private String activeEmail;
+
     @Size(max = 100, message = "役職は100文字以内で入力してください")
     @Column(name = "position", length = 100)
     private String position;
@@ -61,12 +112,29 @@ public class Member {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * Stamped by the database in the statement that writes the member, so every instance stamps
+     * changes from one clock, the one the change feed derives its watermark from.
+     */
+    @DatabaseTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted = false;
 
+    /**
+     * Incremented by every update and checked by it, so an update based on a state that
+     * another transaction has changed in the meantime fails instead of overwriting it.
+     * {@code null} until the member is first saved.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Transient
+    private final Set<MemberField> changedFields = EnumSet.noneOf(MemberField.class);
+
     /**
      * Default constructor for JPA.
      */
@@ -84,29 +152,68 @@ public class Member {
         this.name = name;
         this.nameKana = nameKana;
         this.email = email;
+        this.activeEmail = email;
         this.isDeleted = false;
     }
 
     /**
-     * Sets timestamps before persisting.
+     * Sets the creation timestamp before persisting.
      */
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
     }
 
     /**
-     * Updates timestamp before updating.
+     * Updates member information.
+     *
+     * @param name name of the member
+     * @param nameKana kana reading of the name
+     * @param email email address
+     * @param position position of the member
+     * @param location location of the member
+     * @param profileImageUrl profile image URL
+     * @param selfIntroduction self introduction
      */
-    @PreUpdate
-    protected void onUpdate() {
-        this.updatedAt = LocalDateTime.now();
+    public void updateInfo(String name, String nameKana, String email, String position,
+            String location, String profileImageUrl, String selfIntroduction) {
+        Map<MemberField, String> values = new EnumMap<>(MemberField.class);
+        values.put(MemberField.NAME, name);
+        values.put(MemberField.NAME_KANA, nameKana);
+        values.put(MemberField.EMAIL, email);
+        values.put(MemberField.POSITION, position);
+        values.put(MemberField.LOCATION, location);
+        values.put(MemberField.PROFILE_IMAGE_URL, profileImageUrl);
+        values.put(MemberField.SELF_INTRODUCTION, selfIntroduction);
+        applyChanges(values);
     }
 
     /**
-     * Updates member information.
+     * Returns a copy of this member with the same identity and version.
+     * Changes are prepared on a copy so that instances shared through caches stay untouched
+     * until the change is saved; saving the copy fails if the member was updated meanwhile.
      *
+     * @return a new instance with the same state
+     */
+    public Member copy() {
+        Member copy = new Member(name, nameKana, email);
+        copy.id = id;
+        copy.activeEmail = activeEmail;
+        copy.position = position;
+        copy.location = location;
+        copy.profileImageUrl = profileImageUrl;
+        copy.selfIntroduction = selfIntroduction;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.isDeleted = isDeleted;
+        copy.version = version;
+        return copy;
+    }
+
+    /**
+     * Recreates a member from its stored state, for repositories that read rows without JPA.
+     *
+     * @param id member ID
      * @param name name of the member
      * @param nameKana kana reading of the name
      * @param email email address
@@ -114,16 +221,94 @@ public class Member {
      * @param location location of the member
      * @param profileImageUrl profile image URL
      * @param selfIntroduction self introduction
+     * @param createdAt creation timestamp
+     * @param updatedAt last update timestamp
+     * @param deleted whether the member is logically deleted
+     * @param version version of the stored state
+     * @return the member
      */
-    public void updateInfo(String name, String nameKana, String email, String position,
-            String location, String profileImageUrl, String selfIntroduction) {
-        this.name = name;
-        this.nameKana = nameKana;
-        this.email = email;
-        this.position = position;
-        this.location = location;
-        this.profileImageUrl = profileImageUrl;
-        this.selfIntroduction = selfIntroduction;
+    public static Member restore(Long id, String name, String nameKana, String email, String position,
+            String location, String profileImageUrl, String selfIntroduction, LocalDateTime createdAt,
+            LocalDateTime updatedAt, boolean deleted, Long version) {
+        Member member = new Member(name, nameKana, email);
+        member.id = id;
+        member.activeEmail = deleted ? null : email;
+        member.position = position;
+        member.location = location;
+        member.profileImageUrl = profileImageUrl;
+        member.selfIntroduction = selfIntroduction;
+        member.createdAt = createdAt;
+        member.updatedAt = updatedAt;
+        member.isDeleted = deleted;
+        member.version = version;
+        return member;
+    }
+
+    /**
+     * Changes only the given fields and leaves all others as they are.
+     * A field set to its current value is not counted as a change.
+     *
+     * @param changes new values by field; {@code null} clears an optional field
+     * @return true if at least one field has a new value
+     * @throws IllegalArgumentException if one of the fields cannot be changed
+     */
+    public boolean applyChanges(Map<MemberField, String> changes) {
+        boolean changed = false;
+        for (Map.Entry<MemberField, String> change : changes.entrySet()) {
+            MemberField field = change.getKey();
+            String value = change.getValue();
+            if (!Objects.equals(valueOf(field), value)) {
+                setValue(field, value);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the current value of an updatable field.
+     *
+     * @param field the field to read
+     * @return the current value
+     * @throws IllegalArgumentException if the field cannot be changed
+     */
+    public String valueOf(MemberField field) {
+        return switch (field) {
+            case NAME -> name;
+            case NAME_KANA -> nameKana;
+            case EMAIL -> email;
+            case POSITION -> position;
+            case LOCATION -> location;
+            case PROFILE_IMAGE_URL -> profileImageUrl;
+            case SELF_INTRODUCTION -> selfIntroduction;
+            default -> throw new IllegalArgumentException("変更できない項目です: " + field.getPropertyName());
+        };
+    }
+
+    /**
+     * Returns the updatable fields given a new value since this instance was restored or copied.
+     *
+     * @return the changed fields
+     */
+    public Set<MemberField> getChangedFields() {
+        return Collections.unmodifiableSet(changedFields);
+    }
+
+    private void setValue(MemberField field, String value) {
+        changedFields.add(field);
+        switch (field) {
+            case NAME -> this.name = value;
+            case NAME_KANA -> this.nameKana = value;
+            case EMAIL -> {
+                this.email = value;
+                this.activeEmail = this.isDeleted ? null : value;
+            }
+            case POSITION -> this.position = value;
+            case LOCATION -> this.location = value;
+            case PROFILE_IMAGE_URL -> this.profileImageUrl = value;
+            case SELF_INTRODUCTION -> this.selfIntroduction = value;
+            default -> throw new IllegalArgumentException("変更できない項目です: " + field.getPropertyName());
+        }
     }
 
     /**
@@ -131,6 +316,7 @@ public class Member {
      */
     public void delete() {
         this.isDeleted = true;
+        this.activeEmail = null;
     }
 
     /**
@@ -183,6 +369,10 @@ public class Member {
         return updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,59 @@
+package com.example.memberlist.domain.model;
+
+/**
+ * Selectable attributes of {@link Member}.
+ * Used to read only the columns a caller needs instead of whole entities.
+ */
+public enum MemberField {
+    ID("id"),
+    NAME("name"),
+    NAME_KANA("nameKana"),
+    EMAIL("email"),
+    POSITION("position"),
+    LOCATION("location"),
+    PROFILE_IMAGE_URL("profileImageUrl"),
+    SELF_INTRODUCTION("selfIntroduction"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String propertyName;
+
+    MemberField(String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    /**
+     * Returns the property name shared by the entity attribute and the API field.
+     *
+     * @return property name
+     */
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    /**
+     * Tells whether the field can be changed by a partial update.
+     * The ID and the timestamps are assigned by the system.
+     *
+     * @return true for fields a client may change
+     */
+    public boolean isUpdatable() {
+        return this != ID && this != CREATED_AT && this != UPDATED_AT;
+    }
+
+    /**
+     * Resolves a field from its property name.
+     *
+     * @param propertyName property name such as {@code nameKana}
+     * @return the matching field
+     * @throws IllegalArgumentException if no field has the given name
+     */
+    public static MemberField fromPropertyName(String propertyName) {
+        for (MemberField field : values()) {
+            if (field.propertyName.equals(propertyName)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("指定できない項目です: " + propertyName);
+    }
+}
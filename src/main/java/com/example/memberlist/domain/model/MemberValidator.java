@@ -0,0 +1,246 @@
+package com.example.memberlist.domain.model;
+
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Email;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks the constraints declared on {@link Member} without going through the generic
+ * Bean Validation engine.
+ * Every constraint is a length check or a character scan over the field, so a valid member
+ * is accepted without reflection, regular expressions, message interpolation or allocation.
+ * Email addresses outside the plain {@code local@domain} shape (quoted local parts,
+ * non-ASCII or IP-literal domains) are rare enough to be handed to the generic
+ * {@link Email} validator, which keeps the result identical for them.
+ * The messages must be kept in sync with the annotations on {@link Member}.
+ */
+public final class MemberValidator {
+
+    static final String NAME_REQUIRED = "名前は必須です";
+    static final String NAME_TOO_LONG = "名前は100文字以内で入力してください";
+    static final String NAME_KANA_REQUIRED = "読み仮名は必須です";
+    static final String NAME_KANA_TOO_LONG = "読み仮名は100文字以内で入力してください";
+    static final String NAME_KANA_NOT_HIRAGANA = "読み仮名はひらがなで入力してください";
+    static final String EMAIL_REQUIRED = "メールアドレスは必須です";
+    static final String EMAIL_INVALID = "有効なメールアドレスを入力してください";
+    static final String EMAIL_TOO_LONG = "メールアドレスは255文字以内で入力してください";
+    static final String POSITION_TOO_LONG = "役職は100文字以内で入力してください";
+    static final String LOCATION_TOO_LONG = "所在地は200文字以内で入力してください";
+
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final int MAX_NAME_KANA_LENGTH = 100;
+    private static final int MAX_EMAIL_LENGTH = 255;
+    private static final int MAX_POSITION_LENGTH = 100;
+    private static final int MAX_LOCATION_LENGTH = 200;
+
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_DOMAIN_LENGTH = 253;
+    private static final int MAX_DOMAIN_LABEL_LENGTH = 63;
+    private static final String LOCAL_PART_SYMBOLS = "!#$%&'*+/=?^_`{|}~-";
+
+    private final Validator fallback;
+
+    /**
+     * Creates a validator.
+     *
+     * @param fallback generic validator used for email addresses the fast path cannot decide
+     */
+    public MemberValidator(Validator fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Validates a member against the constraints declared on {@link Member}.
+     *
+     * @param member the member to validate
+     * @return the messages of the violated constraints in field order, empty if the member is valid
+     */
+    public List<String> validate(Member member) {
+        return validate(member.getName(), member.getNameKana(), member.getEmail(),
+                member.getPosition(), member.getLocation());
+    }
+
+    /**
+     * Validates a member as it would be after applying the given changes, without changing it.
+     *
+     * @param member the member to change
+     * @param changes new values by field, as passed to {@link Member#applyChanges(Map)}
+     * @return the messages of the violated constraints in field order, empty if the result is valid
+     */
+    public List<String> validate(Member member, Map<MemberField, String> changes) {
+        return validate(
+                valueAfter(member, changes, MemberField.NAME),
+                valueAfter(member, changes, MemberField.NAME_KANA),
+                valueAfter(member, changes, MemberField.EMAIL),
+                valueAfter(member, changes, MemberField.POSITION),
+                valueAfter(member, changes, MemberField.LOCATION));
+    }
+
+    private List<String> validate(String name, String nameKana, String email, String position, String location) {
+        List<String> errors = null;
+
+        if (isBlank(name)) {
+            errors = add(errors, NAME_REQUIRED);
+        }
+        if (exceeds(name, MAX_NAME_LENGTH)) {
+            errors = add(errors, NAME_TOO_LONG);
+        }
+
+        if (isBlank(nameKana)) {
+            errors = add(errors, NAME_KANA_REQUIRED);
+        }
+        if (exceeds(nameKana, MAX_NAME_KANA_LENGTH)) {
+            errors = add(errors, NAME_KANA_TOO_LONG);
+        }
+        if (nameKana != null && !isHiragana(nameKana)) {
+            errors = add(errors, NAME_KANA_NOT_HIRAGANA);
+        }
+
+        if (isBlank(email)) {
+            errors = add(errors, EMAIL_REQUIRED);
+        }
+        if (email != null && !email.isEmpty() && !isEmail(email)) {
+            errors = add(errors, EMAIL_INVALID);
+        }
+        if (exceeds(email, MAX_EMAIL_LENGTH)) {
+            errors = add(errors, EMAIL_TOO_LONG);
+        }
+
+        if (exceeds(position, MAX_POSITION_LENGTH)) {
+            errors = add(errors, POSITION_TOO_LONG);
+        }
+        if (exceeds(location, MAX_LOCATION_LENGTH)) {
+            errors = add(errors, LOCATION_TOO_LONG);
+        }
+        return errors == null ? List.of() : errors;
+    }
+
+    private static String valueAfter(Member member, Map<MemberField, String> changes, MemberField field) {
+        return changes.containsKey(field) ? changes.get(field) : member.valueOf(field);
+    }
+
+    /**
+     * Validates a position and a location against the constraints declared on {@link Member},
+     * for updates that set them without loading the members.
+     *
+     * @param position the position, may be {@code null}
+     * @param location the location, may be {@code null}
+     * @return the messages of the violated constraints, empty if both are valid
+     */
+    public List<String> validatePositionAndLocation(String position, String location) {
+        List<String> errors = null;
+        if (exceeds(position, MAX_POSITION_LENGTH)) {
+            errors = add(errors, POSITION_TOO_LONG);
+        }
+        if (exceeds(location, MAX_LOCATION_LENGTH)) {
+            errors = add(errors, LOCATION_TOO_LONG);
+        }
+        return errors == null ? List.of() : errors;
+    }
+
+    private static List<String> add(List<String> errors, String message) {
+        List<String> result = errors != null ? errors : new ArrayList<>(4);
+        result.add(message);
+        return result;
+    }
+
+    /**
+     * Same rule as {@code @NotBlank}: {@code null}, or nothing left after {@link String#trim()}.
+     */
+    private static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same rule as {@code @Size(max = ...)}: {@code null} passes, length counts UTF-16 units.
+     */
+    private static boolean exceeds(String value, int max) {
+        return value != null && value.length() > max;
+    }
+
+    /**
+     * Same rule as {@code @Pattern(regexp = "^[ぁ-ん]+$")}.
+     */
+    private static boolean isHiragana(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 'ぁ' || c > 'ん') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isEmail(String email) {
+        if (isPlainEmail(email)) {
+            return true;
+        }
+        return fallback.validateValue(Member.class, "email", email).stream()
+                .noneMatch(violation -> violation.getConstraintDescriptor().getAnnotation() instanceof Email);
+    }
+
+    /**
+     * Accepts a dot-atom local part and an ASCII host name, a subset of what {@code @Email} accepts.
+     * A {@code false} result only means the address needs the full check.
+     */
+    private static boolean isPlainEmail(String email) {
+        int at = email.lastIndexOf('@');
+        if (at <= 0 || at > MAX_LOCAL_PART_LENGTH || email.length() - at - 1 > MAX_DOMAIN_LENGTH) {
+            return false;
+        }
+        return isDotAtom(email, 0, at) && isHostName(email, at + 1, email.length());
+    }
+
+    private static boolean isDotAtom(String value, int start, int end) {
+        boolean afterDot = true;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (afterDot) {
+                    return false;
+                }
+                afterDot = true;
+            } else if (isAsciiLetterOrDigit(c) || LOCAL_PART_SYMBOLS.indexOf(c) >= 0) {
+                afterDot = false;
+            } else {
+                return false;
+            }
+        }
+        return !afterDot;
+    }
+
+    private static boolean isHostName(String value, int start, int end) {
+        int labelStart = start;
+        for (int i = start; i <= end; i++) {
+            char c = i < end ? value.charAt(i) : '.';
+            if (c == '.') {
+                int labelLength = i - labelStart;
+                if (labelLength == 0 || labelLength > MAX_DOMAIN_LABEL_LENGTH
+                        || value.charAt(labelStart) == '-' || value.charAt(i - 1) == '-') {
+                    return false;
+                }
+                labelStart = i + 1;
+            } else if (!isAsciiLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.memberlist.domain.repository;
+
+/**
+ * Exception thrown by {@link MemberRepository} when a write would give an email address
+ * to a second active member.
+ */
+public class DuplicateMemberEmailException extends RuntimeException {
+
+    public DuplicateMemberEmailException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
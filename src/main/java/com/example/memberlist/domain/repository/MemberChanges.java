@@ -0,0 +1,89 @@
+package com.example.memberlist.domain.repository;
+
+import com.example.memberlist.domain.model.Member;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Members changed since a point in time, for clients that keep a copy of the directory.
+ * Members and tombstones together form one sequence ordered by change time and ID; a call
+ * returns a limited part of it, and {@code (watermark, afterId)} is the keyset position to
+ * continue from.
+ *
+ * @param members created, updated and deleted members, oldest change first
+ * @param archived members deleted and since moved to the archive, oldest deletion first
+ * @param watermark time to pass as {@code since} on the next call
+ * @param afterId ID to pass as {@code afterId} on the next call, or {@code null} once every
+ *        change up to the watermark has been returned
+ */
+public record MemberChanges(
+        List<Member> members, List<MemberTombstone> archived, LocalDateTime watermark, Long afterId) {
+
+    public MemberChanges {
+        members = List.copyOf(members);
+        archived = List.copyOf(archived);
+    }
+
+    /**
+     * Creates changes holding every change up to the watermark.
+     *
+     * @param members changed members, oldest change first
+     * @param archived tombstones, oldest deletion first
+     * @param watermark time to pass as {@code since} on the next call
+     */
+    public MemberChanges(List<Member> members, List<MemberTombstone> archived, LocalDateTime watermark) {
+        this(members, archived, watermark, null);
+    }
+
+    /**
+     * Takes the first {@code limit} changes of the merged sequence.
+     * When some are left over, the position of the last change taken becomes the continuation.
+     *
+     * @param members changed members before the watermark, oldest change first, at most {@code limit + 1}
+     * @param archived tombstones before the watermark, oldest deletion first, at most {@code limit + 1}
+     * @param watermark time up to which the changes were read
+     * @param limit maximum number of changes to return
+     * @return the changes with their continuation
+     */
+    public static MemberChanges page(
+            List<Member> members, List<MemberTombstone> archived, LocalDateTime watermark, int limit) {
+        int memberCount = 0;
+        int archivedCount = 0;
+        LocalDateTime lastTime = null;
+        Long lastId = null;
+        while (memberCount + archivedCount < limit
+                && (memberCount < members.size() || archivedCount < archived.size())) {
+            boolean memberFirst = archivedCount == archived.size()
+                    || memberCount < members.size()
+                    && compare(members.get(memberCount), archived.get(archivedCount)) <= 0;
+            if (memberFirst) {
+                Member member = members.get(memberCount++);
+                lastTime = member.getUpdatedAt();
+                lastId = member.getId();
+            } else {
+                MemberTombstone tombstone = archived.get(archivedCount++);
+                lastTime = tombstone.deletedAt();
+                lastId = tombstone.id();
+            }
+        }
+        if (memberCount == members.size() && archivedCount == archived.size()) {
+            return new MemberChanges(members, archived, watermark);
+        }
+        return new MemberChanges(members.subList(0, memberCount), archived.subList(0, archivedCount),
+                lastTime, lastId);
+    }
+
+    /**
+     * Tells whether more changes are waiting after this part.
+     *
+     * @return true if the next call should pass {@link #afterId()}
+     */
+    public boolean hasMore() {
+        return afterId != null;
+    }
+
+    private static int compare(Member member, MemberTombstone tombstone) {
+        int byTime = member.getUpdatedAt().compareTo(tombstone.deletedAt());
+        return byTime != 0 ? byTime : member.getId().compareTo(tombstone.id());
+    }
+}
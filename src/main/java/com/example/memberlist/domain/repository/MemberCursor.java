@@ -0,0 +1,66 @@
+package com.example.memberlist.domain.repository;
+
+import com.example.memberlist.domain.model.Member;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Keyset position in the active member list.
+ * Identifies the last member of a page by its sort key {@code (createdAt DESC, id DESC)}
+ * so that the next page can seek past it instead of skipping rows with an offset.
+ *
+ * @param createdAt creation timestamp of the last member on the previous page
+ * @param id ID of the last member on the previous page
+ */
+public record MemberCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public MemberCursor {
+        Objects.requireNonNull(createdAt, "createdAt must not be null");
+        Objects.requireNonNull(id, "id must not be null");
+    }
+
+    /**
+     * Creates a cursor positioned at the given member.
+     *
+     * @param member the last member of a page
+     * @return cursor pointing just after the member
+     */
+    public static MemberCursor of(Member member) {
+        return new MemberCursor(member.getCreatedAt(), member.getId());
+    }
+
+    /**
+     * Encodes this cursor into an opaque, URL-safe token.
+     *
+     * @return encoded cursor token
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token encoded cursor token
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static MemberCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new MemberCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("カーソルの形式が不正です", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.memberlist.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Conditions narrowing down the active member list.
+ * Every condition is optional; conditions that are given must all match.
+ *
+ * @param position exact position to match, or {@code null} for any position
+ * @param location exact location to match, or {@code null} for any location
+ * @param createdAfter only members created strictly after this time, or {@code null} for no lower bound
+ */
+public record MemberFilter(String position, String location, LocalDateTime createdAfter) {
+
+    /**
+     * Filter that matches every active member.
+     */
+    public static final MemberFilter NONE = new MemberFilter(null, null, null);
+
+    public MemberFilter {
+        position = blankToNull(position);
+        location = blankToNull(location);
+    }
+
+    /**
+     * Tells whether no condition is set.
+     *
+     * @return {@code true} if every active member matches
+     */
+    public boolean isEmpty() {
+        return position == null && location == null && createdAfter == null;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+}
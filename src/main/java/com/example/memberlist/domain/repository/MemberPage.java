@@ -0,0 +1,26 @@
+package com.example.memberlist.domain.repository;
+
+import java.util.List;
+
+/**
+ * One page of the active member list.
+ *
+ * @param members members on this page, newest first
+ * @param nextCursor cursor for the following page, or {@code null} if this is the last page
+ * @param <T> representation of a member, either the entity or a projection of selected fields
+ */
+public record MemberPage<T>(List<T> members, MemberCursor nextCursor) {
+
+    public MemberPage {
+        members = List.copyOf(members);
+    }
+
+    /**
+     * Checks if another page follows this one.
+     *
+     * @return true if a next page exists, false otherwise
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.memberlist.domain.repository;
 
 import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Member aggregate.
@@ -18,6 +24,36 @@ public interface MemberRepository {
      */
     Member save(Member member);
 
+    /**
+     * Inserts a new member and flushes it immediately, so that a clash with an active member's
+     * email address is detected by the database's unique constraint instead of a prior lookup.
+     *
+     * @param member the member to insert
+     * @return the inserted member
+     * @throws DuplicateMemberEmailException if an active member already uses the email address
+     */
+    Member insert(Member member);
+
+    /**
+     * Writes the changes of an existing member and flushes them immediately, so that an email
+     * address taken by another active member is detected by the unique constraint.
+     * Only the columns that changed are written.
+     *
+     * @param member the changed member
+     * @return the updated member
+     * @throws DuplicateMemberEmailException if another active member already uses the email address
+     */
+    Member update(Member member);
+
+    /**
+     * Saves several members in one go.
+     * Inserts are sent as JDBC batches when the surrounding transaction is flushed.
+     *
+     * @param members the members to save
+     * @return the saved members
+     */
+    List<Member> saveAll(List<Member> members);
+
     /**
      * Finds a member by ID.
      *
@@ -27,14 +63,82 @@ public interface MemberRepository {
     Optional<Member> findById(Long id);
 
     /**
-     * Finds all members that are not deleted.
+     * Finds all members that are not deleted and match the filter.
      *
+     * @param filter conditions the members must match
      * @return list of active members
      */
-    List<Member> findAll();
+    List<Member> findAll(MemberFilter filter);
+
+    /**
+     * Finds one page of members that are not deleted and match the filter,
+     * ordered by creation time descending.
+     * Uses keyset pagination so that every page costs about the same as the first one.
+     *
+     * @param filter conditions the members must match
+     * @param after cursor of the last member on the previous page, or {@code null} for the first page
+     * @param limit maximum number of members to return
+     * @return list of active members following the cursor
+     */
+    List<Member> findPage(MemberFilter filter, MemberCursor after, int limit);
+
+    /**
+     * Finds the selected fields of all members that are not deleted and match the filter,
+     * ordered by creation time descending.
+     * Only the selected columns are read from the database.
+     *
+     * @param fields fields to select
+     * @param filter conditions the members must match
+     * @return one map per member, keyed by property name
+     */
+    List<Map<String, Object>> findAllFields(Set<MemberField> fields, MemberFilter filter);
+
+    /**
+     * Finds the selected fields of one page of members that are not deleted and match the filter.
+     * Uses the same keyset ordering as {@link #findPage(MemberFilter, MemberCursor, int)}.
+     *
+     * @param fields fields to select
+     * @param filter conditions the members must match
+     * @param after cursor of the last member on the previous page, or {@code null} for the first page
+     * @param limit maximum number of members to return
+     * @return one map per member, keyed by property name
+     */
+    List<Map<String, Object>> findFieldsPage(
+            Set<MemberField> fields, MemberFilter filter, MemberCursor after, int limit);
+
+    /**
+     * Streams all members that are not deleted without holding them all in memory.
+     * Members are detached as they are read, so the stream must be consumed inside
+     * a transaction and closed afterwards.
+     *
+     * @return stream of active members, newest first
+     */
+    Stream<Member> streamAll();
+
+    /**
+     * Finds members that are not deleted and whose reading starts with the given prefix.
+     * Answered from memory once the reading index has been loaded.
+     *
+     * @param kanaPrefix reading prefix in hiragana
+     * @param limit maximum number of members to return
+     * @return matching members ordered by reading, then ID
+     */
+    List<MemberSuggestion> findByKanaPrefix(String kanaPrefix, int limit);
+
+    /**
+     * Searches the name, position and self introduction of members that are not deleted.
+     * A member matches if every word occurs in one of these fields; case, full-width/half-width
+     * forms and katakana/hiragana are not distinguished.
+     *
+     * @param query search words separated by white space, each at least two characters long
+     * @param limit maximum number of members to return
+     * @return matching members, most relevant first
+     */
+    List<MemberSearchHit> search(String query, int limit);
 
     /**
      * Finds a member by email address.
+     * Always answered by the database, so a member registered through another instance is found.
      *
      * @param email the email address
      * @return an Optional containing the member if found, empty otherwise
@@ -43,16 +147,99 @@ public interface MemberRepository {
 
     /**
      * Checks if a member with the given email exists (excluding deleted members).
+     * Addresses known not to be registered are answered without querying the database.
+     * The knowledge comes from an in-memory filter that learns the registrations of other
+     * instances only when it is refreshed, so until then such an address may be reported as
+     * not registered. Use this only where that is harmless, such as checking availability while
+     * the user types; registration itself relies on the unique constraint.
      *
      * @param email the email address
      * @return true if a member with the email exists, false otherwise
      */
     boolean existsByEmail(String email);
 
+    /**
+     * Finds which of the given email addresses are already used by members that are not deleted.
+     * Runs as a single set-based query.
+     *
+     * @param emails the email addresses to check
+     * @return the subset of {@code emails} that is already registered
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Finds up to {@code limit} members created, updated or deleted at or after the given time,
+     * oldest change first, together with the position to continue from on the next call.
+     * Deleted members are included so callers can drop them from their copies, also after
+     * they have been moved to the archive. Only changes before the watermark are returned, and the
+     * watermark, derived from the database clock, never passes a write that has not committed yet,
+     * on any instance, so no change falls between two calls; a change near the watermark may be
+     * returned twice.
+     *
+     * @param since lower bound of the change time (inclusive unless {@code afterId} is given)
+     * @param afterId ID of the last change returned at {@code since}, continuing after it;
+     *        {@code null} to start at {@code since}
+     * @param limit maximum number of changes to return
+     * @return changed members and the position of the next call
+     */
+    MemberChanges findChangesSince(LocalDateTime since, Long afterId, int limit);
+
+    /**
+     * Counts the deleted members that {@link #archiveDeleted(LocalDateTime, int)} would move.
+     *
+     * @param deletedBefore upper bound of the deletion time (exclusive)
+     * @return number of deleted members
+     */
+    long countDeletedBefore(LocalDateTime deletedBefore);
+
+    /**
+     * Moves up to {@code limit} members deleted before the given time from the member table
+     * into the archive, oldest deletion first.
+     * Must run inside a transaction, so that every member is either moved or left in place.
+     *
+     * @param deletedBefore upper bound of the deletion time (exclusive)
+     * @param limit maximum number of members to move
+     * @return number of members moved; less than {@code limit} once none are left
+     */
+    int archiveDeleted(LocalDateTime deletedBefore, int limit);
+
     /**
      * Deletes a member.
      *
      * @param member the member to delete
      */
     void delete(Member member);
+
+    /**
+     * Logically deletes the active members with the given IDs.
+     * Runs as one set-based update per chunk of IDs instead of loading and saving each member;
+     * unknown and already deleted IDs are skipped.
+     *
+     * @param ids IDs of the members to delete
+     * @return number of members deleted
+     */
+    int deleteAllByIds(Collection<Long> ids);
+
+    /**
+     * Sets the position and/or location of the active members with the given IDs, for example
+     * when a department moves. A {@code null} value leaves that field unchanged.
+     * Runs as one set-based update per chunk of IDs; unknown and deleted IDs are skipped.
+     *
+     * @param ids IDs of the members to update
+     * @param position new position, or {@code null} to keep the current one
+     * @param location new location, or {@code null} to keep the current one
+     * @return number of members updated
+     */
+    int updateAllByIds(Collection<Long> ids, String position, String location);
+
+    /**
+     * Returns the version of the member directory.
+     * The version increases every time a save, update or delete commits and never goes back, so two reads
+     * returning the same version saw the same members. It is stored in the database and shared by every
+     * application instance; a read that starts after reading a version sees at least the members of that
+     * version.
+     *
+     * @return current directory version
+     */
+    long getDirectoryVersion();
 }
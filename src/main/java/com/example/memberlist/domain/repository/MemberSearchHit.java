@@ -0,0 +1,13 @@
+package com.example.memberlist.domain.repository;
+
+import com.example.memberlist.domain.model.Member;
+
+/**
+ * A member found by full-text search.
+ *
+ * @param member the matching member
+ * @param score relevance; matches in the name weigh more than in the position, and those more
+ *              than in the self introduction
+ */
+public record MemberSearchHit(Member member, int score) {
+}
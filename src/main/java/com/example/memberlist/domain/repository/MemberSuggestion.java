@@ -0,0 +1,11 @@
+package com.example.memberlist.domain.repository;
+
+/**
+ * A member matched by a reading prefix search, carrying only what a suggestion list shows.
+ *
+ * @param id member ID
+ * @param name name of the member
+ * @param nameKana kana reading of the name (hiragana)
+ */
+public record MemberSuggestion(Long id, String name, String nameKana) {
+}
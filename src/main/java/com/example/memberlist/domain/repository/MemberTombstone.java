@@ -0,0 +1,12 @@
+package com.example.memberlist.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Trace of a deleted member that has been moved to the archive.
+ *
+ * @param id ID of the deleted member
+ * @param deletedAt time of the logical deletion
+ */
+public record MemberTombstone(Long id, LocalDateTime deletedAt) {
+}
@@ -0,0 +1,286 @@
+package com.example.memberlist.infrastructure.cache;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.domain.repository.MemberChanges;
+import com.example.memberlist.domain.repository.MemberCursor;
+import com.example.memberlist.domain.repository.MemberFilter;
+import com.example.memberlist.domain.repository.MemberRepository;
+import com.example.memberlist.domain.repository.MemberSearchHit;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import com.example.memberlist.infrastructure.datasource.PrimaryPin;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through caching decorator around the member store, {@code MemberRepositoryImpl} or the
+ * sharded repository.
+ * Caches the active member list, members by ID, and the ID registered for an email address.
+ * Every write evicts exactly the entries it can have changed. Only positive results are
+ * cached; absent members are cheap to confirm through the email filter and primary key.
+ * The active member list is cached under the directory version it was read at, so a list
+ * written through another instance is never served once the new version has been seen.
+ * <p>
+ * Cached members are shared between callers and must not be modified without saving them.
+ * Entries are read wherever the transaction is routed, a replica included, except for members
+ * written through this instance within the read-your-writes period: a replica may not have
+ * their write yet, and the stale entry would be served to every client, including the one that
+ * has just written. The active member list is read in the transaction that read its version,
+ * so it is stored under the version of the snapshot it comes from.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "member.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingMemberRepository implements MemberRepository {
+
+    static final String ACTIVE_MEMBERS = "activeMembers";
+    static final String MEMBERS_BY_ID = "membersById";
+    static final String MEMBER_IDS_BY_EMAIL = "memberIdsByEmail";
+
+    private final MemberRepository delegate;
+    private final Cache activeMembers;
+    private final Cache membersById;
+    private final Cache memberIdsByEmail;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Boolean> recentlyWritten;
+
+    public CachingMemberRepository(
+            MemberRepository delegate,
+            CacheManager cacheManager,
+            @Value("${member.datasource.read-your-writes:5s}") Duration readYourWrites) {
+        this.delegate = delegate;
+        this.activeMembers = Objects.requireNonNull(cacheManager.getCache(ACTIVE_MEMBERS));
+        this.membersById = Objects.requireNonNull(cacheManager.getCache(MEMBERS_BY_ID));
+        this.memberIdsByEmail = Objects.requireNonNull(cacheManager.getCache(MEMBER_IDS_BY_EMAIL));
+        this.recentlyWritten = Caffeine.newBuilder().expireAfterWrite(readYourWrites).build();
+    }
+
+    @Override
+    public Member save(Member member) {
+        Member saved = delegate.save(member);
+        evict(saved);
+        return saved;
+    }
+
+    @Override
+    public Member insert(Member member) {
+        Member inserted = delegate.insert(member);
+        evict(inserted);
+        return inserted;
+    }
+
+    @Override
+    public Member update(Member member) {
+        try {
+            Member updated = delegate.update(member);
+            evict(updated);
+            return updated;
+        } catch (RuntimeException e) {
+            // The caller may have changed a cached instance before the write failed; drop it now,
+            // since the evictions above would only be applied on commit
+            activeMembers.invalidate();
+            membersById.evictIfPresent(member.getId());
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Member> saveAll(List<Member> members) {
+        List<Member> saved = delegate.saveAll(members);
+        saved.forEach(this::evict);
+        return saved;
+    }
+
+    @Override
+    public Optional<Member> findById(Long id) {
+        Member cached = membersById.get(id, Member.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Member> member = readFresh(id, () -> delegate.findById(id));
+        member.ifPresent(found -> membersById.put(id, found));
+        return member;
+    }
+
+    @Override
+    public List<Member> findAll(MemberFilter filter) {
+        if (!filter.isEmpty()) {
+            // Filtered lists are narrow index lookups; only the full list is worth caching
+            return delegate.findAll(filter);
+        }
+        // Read after the version, so the list holds at least the members of that version.
+        // Loaded under the cache's per-key lock, so concurrent misses run the query once
+        long version = delegate.getDirectoryVersion();
+        return activeMembers.get(version, () -> List.copyOf(delegate.findAll(filter)));
+    }
+
+    @Override
+    public List<Member> findPage(MemberFilter filter, MemberCursor after, int limit) {
+        return delegate.findPage(filter, after, limit);
+    }
+
+    @Override
+    public List<Map<String, Object>> findAllFields(Set<MemberField> fields, MemberFilter filter) {
+        return delegate.findAllFields(fields, filter);
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsPage(
+            Set<MemberField> fields, MemberFilter filter, MemberCursor after, int limit) {
+        return delegate.findFieldsPage(fields, filter, after, limit);
+    }
+
+    @Override
+    public Stream<Member> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<MemberSuggestion> findByKanaPrefix(String kanaPrefix, int limit) {
+        return delegate.findByKanaPrefix(kanaPrefix, limit);
+    }
+
+    @Override
+    public List<MemberSearchHit> search(String query, int limit) {
+        return delegate.search(query, limit);
+    }
+
+    @Override
+    public Optional<Member> findByEmail(String email) {
+        Long id = memberIdsByEmail.get(email, Long.class);
+        if (id != null) {
+            // The address may have moved to another member since; trust the entry only if it still matches
+            Optional<Member> member = findById(id);
+            if (member.isPresent() && !member.get().isDeleted() && email.equals(member.get().getEmail())) {
+                return member;
+            }
+            memberIdsByEmail.evict(email);
+        }
+        Optional<Member> member = readFresh(email, () -> delegate.findByEmail(email));
+        member.ifPresent(found -> {
+            memberIdsByEmail.put(email, found.getId());
+            // Read by address, so a replica may have served a member just written under its ID
+            if (recentlyWritten.getIfPresent(found.getId()) == null) {
+                membersById.put(found.getId(), found);
+            }
+        });
+        return member;
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return delegate.findExistingEmails(emails);
+    }
+
+    @Override
+    public MemberChanges findChangesSince(LocalDateTime since, Long afterId, int limit) {
+        return delegate.findChangesSince(since, afterId, limit);
+    }
+
+    @Override
+    public long countDeletedBefore(LocalDateTime deletedBefore) {
+        return delegate.countDeletedBefore(deletedBefore);
+    }
+
+    @Override
+    public int archiveDeleted(LocalDateTime deletedBefore, int limit) {
+        // Only deleted members move, and the cached active list never contains them
+        return delegate.archiveDeleted(deletedBefore, limit);
+    }
+
+    @Override
+    public void delete(Member member) {
+        delegate.delete(member);
+        evict(member);
+    }
+
+    @Override
+    public int deleteAllByIds(Collection<Long> ids) {
+        int deleted = delegate.deleteAllByIds(ids);
+        evictAll(ids);
+        return deleted;
+    }
+
+    @Override
+    public int updateAllByIds(Collection<Long> ids, String position, String location) {
+        int updated = delegate.updateAllByIds(ids, position, location);
+        evictAll(ids);
+        return updated;
+    }
+
+    @Override
+    public long getDirectoryVersion() {
+        return delegate.getDirectoryVersion();
+    }
+
+    /**
+     * Evicts the members updated in bulk. Their email addresses are not known without loading
+     * them; entries in the email cache are checked against the member on every hit anyway.
+     */
+    private void evictAll(Collection<Long> ids) {
+        activeMembers.clear();
+        List<Long> written = ids.stream().filter(Objects::nonNull).toList();
+        written.forEach(membersById::evict);
+        markWritten(written);
+    }
+
+    private void evict(Member member) {
+        // Lists of older versions are never read again once the write commits; drop them early
+        activeMembers.clear();
+        List<Object> written = new ArrayList<>(2);
+        if (member.getId() != null) {
+            membersById.evict(member.getId());
+            written.add(member.getId());
+        }
+        if (member.getEmail() != null) {
+            memberIdsByEmail.evict(member.getEmail());
+            written.add(member.getEmail());
+        }
+        markWritten(written);
+    }
+
+    /**
+     * Keeps the entries of the given IDs and addresses filled from the primary until the
+     * read-your-writes period has passed after the write commits.
+     */
+    private void markWritten(Collection<?> keys) {
+        keys.forEach(key -> recentlyWritten.put(key, Boolean.TRUE));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    keys.forEach(key -> recentlyWritten.put(key, Boolean.TRUE));
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs a read that fills an entry on the primary if the entry's key was written recently.
+     */
+    private <T> T readFresh(Object key, Supplier<T> read) {
+        return recentlyWritten.getIfPresent(key) != null ? PrimaryPin.call(read) : read.get();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.memberlist.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache configuration for member reads.
+ * Enabled unless {@code member.cache.enabled} is {@code false}; when disabled, no cache manager
+ * is created and the repository is used without the caching decorator.
+ */
+@Configuration
+@ConditionalOnProperty(name = "member.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class MemberCacheConfig {
+
+    /**
+     * Caffeine-backed cache manager holding the member caches.
+     * Wrapped so that puts and evictions issued inside a transaction are applied after it
+     * commits; evicting earlier would let a concurrent reader cache the pre-commit state again.
+     *
+     * @param spec Caffeine specification bounding size and lifetime of the entries
+     * @return the cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${member.cache.spec:maximumSize=10000,expireAfterWrite=60s,recordStats}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                CachingMemberRepository.ACTIVE_MEMBERS,
+                CachingMemberRepository.MEMBERS_BY_ID,
+                CachingMemberRepository.MEMBER_IDS_BY_EMAIL);
+        cacheManager.setCacheSpecification(spec);
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.memberlist.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps the read-only transactions of the current thread on the primary database.
+ * A thread is pinned for a short time after it has written, so that it reads its own writes
+ * even when the replicas lag behind, and for the duration of reads whose result must reflect
+ * every commit, such as the loads of the in-memory indexes and cache fills of members written
+ * within the read-your-writes period.
+ * <p>
+ * The routing is decided when a transaction sends its first statement, so a pin only affects
+ * transactions that have not read anything yet.
+ */
+public final class PrimaryPin {
+
+    private static final ThreadLocal<Long> PINNED_UNTIL = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PINNED_FOR_CALL = new ThreadLocal<>();
+
+    private PrimaryPin() {
+    }
+
+    /**
+     * Pins the current thread until the given time; an existing longer pin is kept.
+     *
+     * @param epochMillis end of the pin in milliseconds since the epoch
+     */
+    public static void pinUntil(long epochMillis) {
+        Long current = PINNED_UNTIL.get();
+        if (current == null || current < epochMillis) {
+            PINNED_UNTIL.set(epochMillis);
+        }
+    }
+
+    /**
+     * Runs the given reads on the primary.
+     *
+     * @param reads reads to run
+     * @param <T> type of the result
+     * @return the result of the reads
+     */
+    public static <T> T call(Supplier<T> reads) {
+        Boolean previous = PINNED_FOR_CALL.get();
+        PINNED_FOR_CALL.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            if (previous == null) {
+                PINNED_FOR_CALL.remove();
+            } else {
+                PINNED_FOR_CALL.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Checks whether read-only transactions of the current thread must use the primary.
+     *
+     * @return true while the thread is pinned
+     */
+    public static boolean isPinned() {
+        if (PINNED_FOR_CALL.get() != null) {
+            return true;
+        }
+        Long until = PINNED_UNTIL.get();
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    /**
+     * Removes the time-based pin of the current thread, for example when a pooled request
+     * thread is returned.
+     */
+    public static void clear() {
+        PINNED_UNTIL.remove();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.memberlist.infrastructure.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Carries the read-your-writes pin across the requests of one client.
+ * A request that may write (any method other than GET, HEAD, OPTIONS and TRACE) sets a cookie
+ * holding the end of the pin; later requests carrying the cookie read from the primary until
+ * then, so a client sees its own changes even on replicas that lag behind.
+ * The pin of the request thread is removed when the request completes.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "member-primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final Duration readYourWrites;
+
+    public ReadYourWritesFilter(Duration readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        long latest = now + readYourWrites.toMillis();
+        Long until = pinnedUntil(request);
+        if (until != null && until > now) {
+            // Never longer than a fresh pin, whatever the client sends
+            PrimaryPin.pinUntil(Math.min(until, latest));
+        }
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            Cookie cookie = new Cookie(COOKIE, String.valueOf(latest));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, readYourWrites.plusMillis(999).toSeconds()));
+            response.addCookie(cookie);
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            PrimaryPin.clear();
+        }
+    }
+
+    private static Long pinnedUntil(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE);
+        if (cookie == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.memberlist.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Data source configuration with read replicas.
+ * Enabled when {@code member.datasource.replica-urls} lists at least one replica; otherwise
+ * Spring Boot's single data source is used. The primary is configured by
+ * {@code spring.datasource.*}, and the replicas share its driver and credentials.
+ */
+@Configuration
+@ConditionalOnProperty(name = "member.datasource.replica-urls")
+public class ReplicaDataSourceConfig {
+
+    /**
+     * Routing data source holding one connection pool for the primary and one per replica.
+     *
+     * @param properties settings of the primary
+     * @param meterRegistry registry for the metrics of every pool ({@code hikaricp.*} tagged with {@code pool})
+     * @param replicaUrls JDBC URLs of the replicas
+     * @param readYourWrites how long a client keeps reading from the primary after a write;
+     *        should exceed the usual replication lag
+     * @return the routing data source
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${member.datasource.replica-urls}") List<String> replicaUrls,
+            @Value("${member.datasource.read-your-writes:5s}") Duration readYourWrites) {
+        // Spring Boot only binds the metrics of the pool it finds behind the data source bean
+        MetricsTrackerFactory metrics = meterRegistry.stream()
+                .findFirst()
+                .map(MicrometerMetricsTrackerFactory::new)
+                .orElse(null);
+        DataSource primary = pool(properties, properties.determineUrl(), ReplicaRoutingDataSource.PRIMARY, false,
+                metrics);
+        List<DataSource> replicas = IntStream.range(0, replicaUrls.size())
+                .mapToObj(i -> pool(properties, replicaUrls.get(i).trim(), ReplicaRoutingDataSource.REPLICA + i, true,
+                        metrics))
+                .toList();
+        return new ReplicaRoutingDataSource(primary, replicas, readYourWrites);
+    }
+
+    /**
+     * Data source used by JPA, JDBC and Flyway. Defers fetching the connection to the first
+     * statement, when the transaction's read-only flag is known.
+     *
+     * @param routing the routing data source
+     * @return the data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Filter keeping clients that have just written on the primary in their next requests.
+     *
+     * @param readYourWrites how long a client keeps reading from the primary after a write
+     * @return the filter
+     */
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${member.datasource.read-your-writes:5s}") Duration readYourWrites) {
+        return new ReadYourWritesFilter(readYourWrites);
+    }
+
+    private static DataSource pool(DataSourceProperties properties, String url, String name, boolean readOnly,
+            MetricsTrackerFactory metrics) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        pool.setPoolName(name);
+        pool.setReadOnly(readOnly);
+        if (metrics != null) {
+            pool.setMetricsTrackerFactory(metrics);
+        }
+        return pool;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.memberlist.infrastructure.metrics;
+
+import com.example.memberlist.infrastructure.repository.MemberKanaIndex;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics for member operations.
+ * Service and repository methods are timed through {@code @Timed}; the histogram buckets of
+ * those timers are configured under {@code management.metrics.distribution} for the
+ * {@code member} prefix.
+ */
+@Configuration
+public class MemberMetricsConfig {
+
+    /**
+     * Name of the gauge reporting the number of active members.
+     */
+    public static final String ACTIVE_MEMBERS_GAUGE = "member.active";
+
+    /**
+     * Records the {@code @Timed} annotations on Spring beans.
+     *
+     * @param meterRegistry registry the timers are registered in
+     * @return the aspect
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Reports the number of active members.
+     * Read from the in-memory kana index, which holds exactly the active members, so a
+     * scrape never queries the database. Reports NaN until the index has been loaded.
+     *
+     * @param memberKanaIndex index of the active members
+     * @return binder registering the gauge
+     */
+    @Bean
+    public MeterBinder activeMembersGauge(MemberKanaIndex memberKanaIndex) {
+        return registry -> Gauge.builder(ACTIVE_MEMBERS_GAUGE,
+                        memberKanaIndex, index -> index.isReady() ? index.size() : Double.NaN)
+                .description("Number of members that are not deleted")
+                .register(registry);
+    }
+}
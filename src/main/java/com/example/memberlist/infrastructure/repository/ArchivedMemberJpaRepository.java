@@ -0,0 +1,35 @@
+package com.example.memberlist.infrastructure.repository;
+
+import com.example.memberlist.domain.model.ArchivedMember;
+import com.example.memberlist.domain.repository.MemberTombstone;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JPA repository interface for the member archive.
+ */
+@Repository
+public interface ArchivedMemberJpaRepository extends JpaRepository<ArchivedMember, Long> {
+
+    /**
+     * Finds archived members deleted after the keyset position {@code (since, afterId)} and before
+     * the given time.
+     * Served by the index on {@code deleted_at, id}.
+     *
+     * @param since lower bound of the deletion time (inclusive)
+     * @param afterId members deleted exactly at {@code since} are returned only if their ID is greater
+     * @param until upper bound of the deletion time (exclusive)
+     * @param limit maximum number of tombstones to return
+     * @return tombstones, oldest deletion first
+     */
+    @Query("SELECT new com.example.memberlist.domain.repository.MemberTombstone(a.id, a.deletedAt) "
+            + "FROM ArchivedMember a WHERE a.deletedAt >= :since AND a.deletedAt < :until"
+            + " AND (a.deletedAt > :since OR a.id > :afterId) ORDER BY a.deletedAt, a.id")
+    List<MemberTombstone> findTombstonesSince(@Param("since") LocalDateTime since, @Param("afterId") long afterId,
+            @Param("until") LocalDateTime until, Limit limit);
+}
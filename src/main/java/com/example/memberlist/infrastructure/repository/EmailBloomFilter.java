@@ -0,0 +1,138 @@
+package com.example.memberlist.infrastructure.repository;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bloom filter over the email addresses of registered members.
+ * A negative answer means the address is definitely not registered, so the database
+ * only has to be asked about addresses the filter reports as possibly present.
+ * <p>
+ * Bits are only ever set: addresses of deleted members stay possible hits and are
+ * resolved by the database. Until {@link #markReady()} is called the filter may be
+ * incomplete and {@link #mightContain(String)} answers {@code true} for everything.
+ * The filter learns the writes made through this process at once and those of other
+ * instances when it is refreshed, so it is only a hint: a negative answer may be wrong
+ * for an address registered elsewhere since the last refresh.
+ */
+@Component
+public class EmailBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private volatile boolean ready;
+
+    /**
+     * Creates a filter sized for the expected number of addresses.
+     *
+     * @param expectedInsertions number of addresses the filter is sized for
+     * @param falsePositiveProbability target probability of a false positive at that size
+     */
+    @Autowired
+    public EmailBloomFilter(
+            @Value("${member.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${member.email-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        if (expectedInsertions < 1 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("Invalid email filter size: " + expectedInsertions
+                    + " insertions at " + falsePositiveProbability);
+        }
+        long optimalBits = (long) Math.ceil(
+                -expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int words = Math.toIntExact((optimalBits + Long.SIZE - 1) / Long.SIZE);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * Records an address as registered.
+     *
+     * @param email the email address
+     */
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            setBit(index);
+        }
+    }
+
+    /**
+     * Tells whether an address may be registered.
+     *
+     * @param email the email address
+     * @return {@code false} if the address is definitely not registered, {@code true} otherwise
+     */
+    public boolean mightContain(String email) {
+        if (!ready || email == null) {
+            return true;
+        }
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Marks the filter as holding every registered address, enabling negative answers.
+     */
+    public void markReady() {
+        this.ready = true;
+    }
+
+    /**
+     * Tells whether the filter has been fully populated.
+     *
+     * @return true once {@link #markReady()} has been called
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    /**
+     * 64-bit FNV-1a over the normalized address, finished with the MurmurHash3 mixer so that
+     * both halves are usable as independent hashes.
+     * Addresses are compared case-insensitively; this can only add false positives.
+     */
+    private static long hash(String email) {
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            hash ^= normalized.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
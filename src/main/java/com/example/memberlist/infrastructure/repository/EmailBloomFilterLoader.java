@@ -0,0 +1,87 @@
+package com.example.memberlist.infrastructure.repository;
+
+import com.example.memberlist.infrastructure.datasource.PrimaryPin;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Populates the {@link EmailBloomFilter} with the addresses of all active members at startup.
+ * Registrations made while loading are added by the repository as usual, so none are missed.
+ * Afterwards the filter is refreshed periodically with the addresses updated since the previous
+ * refresh, which brings in registrations made through other instances.
+ */
+@Component
+@ConditionalOnProperty(name = "member.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class EmailBloomFilterLoader {
+
+    /**
+     * How far each refresh reads back before the previous one, so that a row stamped before
+     * that refresh but committed after it is still picked up.
+     */
+    public static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private static final Logger log = LoggerFactory.getLogger(EmailBloomFilterLoader.class);
+
+    private final MemberJpaRepository memberJpaRepository;
+    private final EmailBloomFilter emailBloomFilter;
+
+    // Start of the last load or refresh; the next refresh reads from there minus REFRESH_OVERLAP
+    private volatile LocalDateTime refreshedAt;
+
+    public EmailBloomFilterLoader(MemberJpaRepository memberJpaRepository, EmailBloomFilter emailBloomFilter) {
+        this.memberJpaRepository = memberJpaRepository;
+        this.emailBloomFilter = emailBloomFilter;
+    }
+
+    /**
+     * Streams every active email address into the filter and enables it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        // An address missing from a lagging replica would be reported as free until the next restart
+        long count = PrimaryPin.call(() -> {
+            long loaded = 0;
+            try (Stream<String> emails = memberJpaRepository.streamActiveEmails()) {
+                for (String email : (Iterable<String>) emails::iterator) {
+                    emailBloomFilter.put(email);
+                    loaded++;
+                }
+            }
+            return loaded;
+        });
+        refreshedAt = startedAt;
+        emailBloomFilter.markReady();
+        log.info("Email filter loaded with {} addresses", count);
+    }
+
+    /**
+     * Adds the addresses of members updated since the previous refresh.
+     * Does nothing until the filter has been loaded.
+     */
+    @Scheduled(fixedDelayString = "${member.email-filter.refresh-interval:PT30S}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        LocalDateTime since = refreshedAt;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<String> emails = PrimaryPin.call(
+                () -> memberJpaRepository.findActiveEmailsUpdatedSince(since.minus(REFRESH_OVERLAP)));
+        emails.forEach(emailBloomFilter::put);
+        refreshedAt = startedAt;
+        log.debug("Email filter refreshed with {} addresses", emails.size());
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.memberlist.infrastructure.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Upper bound of the changes a change feed may return, derived from the database clock.
+ * Update times are stamped by the database no earlier than the start of the writing transaction,
+ * so a write that has not committed when the feed reads the database time is stamped at or after
+ * that time less the longest a transaction may run, whichever instance it runs on. Changes before
+ * the watermark are therefore final, and the feed never skips a write still in flight.
+ */
+@Component
+public class MemberChangeWatermark {
+
+    private final Duration maxTransactionDuration;
+
+    public MemberChangeWatermark(
+            @Value("${member.changes.max-transaction-duration:PT30S}") Duration maxTransactionDuration) {
+        this.maxTransactionDuration = maxTransactionDuration;
+    }
+
+    /**
+     * Returns the watermark for a change feed read at the given time.
+     *
+     * @param databaseTime current time of the database that stamps the changes; with several
+     *         databases, the earliest of their times
+     * @return the time before which no change may still commit
+     */
+    public LocalDateTime at(LocalDateTime databaseTime) {
+        return databaseTime.minus(maxTransactionDuration).truncatedTo(ChronoUnit.MICROS);
+    }
+}
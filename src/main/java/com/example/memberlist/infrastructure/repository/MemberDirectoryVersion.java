@@ -0,0 +1,87 @@
+package com.example.memberlist.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Version of the member directory, kept in the {@code member_directory} table so that every
+ * application instance sees the writes of the others.
+ * The row is incremented in the transaction that writes the members, just before it commits,
+ * so the new version becomes visible together with the members.
+ * <p>
+ * Every writing transaction updates this one row, so concurrent writers queue on its lock.
+ * To keep that queue short, pending entity changes are flushed before the increment: the row is
+ * then locked from the increment until the commit, and writers only wait for each other's commit,
+ * never for their statements. {@code MemberDirectoryVersionTest} measures the time writers spend
+ * in the increment, waiting included.
+ */
+@Component
+@ConditionalOnProperty(name = "member.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class MemberDirectoryVersion {
+
+    private static final String INCREMENT = "UPDATE member_directory SET version = version + 1 WHERE id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public MemberDirectoryVersion(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Reads the current version in the caller's transaction. The row replicates with the members,
+     * so a list read in the same read-only transaction comes from the same database, primary or
+     * replica, as the version that labels it.
+     *
+     * @return current directory version
+     */
+    public long current() {
+        return jdbcTemplate.queryForObject("SELECT version FROM member_directory WHERE id = 1", Long.class);
+    }
+
+    /**
+     * Increments the version when the surrounding transaction commits, once however many writes
+     * it makes, or at once when there is no transaction.
+     */
+    public void incrementOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jdbcTemplate.update(INCREMENT);
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // Unbound while suspended, so that an inner REQUIRES_NEW transaction registers its own increment
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(MemberDirectoryVersion.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(MemberDirectoryVersion.this, Boolean.TRUE);
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // Otherwise the commit would flush the members while this transaction holds the row
+                if (entityManager.isJoinedToTransaction()) {
+                    entityManager.flush();
+                }
+                jdbcTemplate.update(INCREMENT);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(MemberDirectoryVersion.this);
+            }
+        });
+    }
+}
@@ -1,10 +1,21 @@
 package com.example.memberlist.infrastructure.repository;
 
 import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,7 +24,12 @@ import org.springframework.stereotype.Repository;
  * Provides database access using Spring Data JPA.
  */
 @Repository
-public interface MemberJpaRepository extends JpaRepository<Member, Long> {
+public interface MemberJpaRepository extends JpaRepository<Member, Long>, JpaSpecificationExecutor<Member> {
+
+    /**
+     * Number of rows the JDBC driver fetches per round trip while streaming.
+     */
+    String STREAM_FETCH_SIZE = "500";
 
     /**
      * Finds all members that are not deleted.
@@ -23,21 +39,235 @@ public interface MemberJpaRepository extends JpaRepository<Member, Long> {
     @Query("SELECT m FROM Member m WHERE m.isDeleted = false ORDER BY m.createdAt DESC")
     List<Member> findAllActive();
 
+    /**
+     * Streams all members that are not deleted.
+     * Rows are fetched from the database in chunks of {@link #STREAM_FETCH_SIZE}
+     * and loaded read-only; the stream must be consumed and closed inside a transaction.
+     *
+     * @return stream of active members
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM Member m WHERE m.isDeleted = false ORDER BY m.createdAt DESC, m.id DESC")
+    Stream<Member> streamAllActive();
+
+    /**
+     * Streams the email addresses of all members that are not deleted.
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @return stream of active email addresses
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT m.email FROM Member m WHERE m.isDeleted = false")
+    Stream<String> streamActiveEmails();
+
+    /**
+     * Streams the reading of every member that is not deleted.
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @return stream of suggestions for all active members
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.example.memberlist.domain.repository.MemberSuggestion(m.id, m.name, m.nameKana) "
+            + "FROM Member m WHERE m.isDeleted = false")
+    Stream<MemberSuggestion> streamActiveSuggestions();
+
+    /**
+     * Streams the searchable text of every member that is not deleted, in ascending ID order.
+     * Each row holds ID, name, position and self introduction.
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @return stream of rows
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT m.id, m.name, m.position, m.selfIntroduction FROM Member m "
+            + "WHERE m.isDeleted = false ORDER BY m.id")
+    Stream<Object[]> streamActiveTexts();
+
+    /**
+     * Finds the searchable text of the active members with the given IDs, without loading them.
+     *
+     * @param ids member IDs
+     * @return indexed columns of the active members among them
+     */
+    @Query("SELECT new com.example.memberlist.infrastructure.repository.MemberText("
+            + "m.id, m.name, m.position, m.selfIntroduction, m.version) "
+            + "FROM Member m WHERE m.id IN :ids AND m.isDeleted = false")
+    List<MemberText> findActiveTextsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds members that are not deleted and whose reading starts with the given prefix.
+     * Wildcards in the prefix are escaped.
+     *
+     * @param prefix reading prefix
+     * @param limit maximum number of members to return
+     * @return matching members ordered by reading, then ID
+     */
+    List<MemberSuggestion> findByIsDeletedFalseAndNameKanaStartingWithOrderByNameKanaAscIdAsc(
+            String prefix, Limit limit);
+
+    /**
+     * Finds the first page of members that are not deleted.
+     *
+     * @param limit maximum number of members to return
+     * @return list of active members, newest first
+     */
+    @Query("SELECT m FROM Member m WHERE m.isDeleted = false ORDER BY m.createdAt DESC, m.id DESC")
+    List<Member> findActivePage(Limit limit);
+
+    /**
+     * Finds the page of members that are not deleted following the given keyset position.
+     *
+     * @param createdAt creation timestamp of the last member on the previous page
+     * @param id ID of the last member on the previous page
+     * @param limit maximum number of members to return
+     * @return list of active members after the position, newest first
+     */
+    @Query("SELECT m FROM Member m WHERE m.isDeleted = false"
+            + " AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id))"
+            + " ORDER BY m.createdAt DESC, m.id DESC")
+    List<Member> findActivePageAfter(
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
     /**
      * Finds a member by email address (excluding deleted members).
+     * Looks up {@code active_email}, which only active members have, through its unique index.
      *
      * @param email the email address
      * @return an Optional containing the member if found, empty otherwise
      */
-    @Query("SELECT m FROM Member m WHERE m.email = :email AND m.isDeleted = false")
+    @Query("SELECT m FROM Member m WHERE m.activeEmail = :email")
     Optional<Member> findByEmailAndNotDeleted(@Param("email") String email);
 
     /**
      * Checks if a member with the given email exists (excluding deleted members).
+     * Looks up {@code active_email}, which only active members have, through its unique index.
      *
      * @param email the email address
      * @return true if a member with the email exists, false otherwise
      */
-    @Query("SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END FROM Member m WHERE m.email = :email AND m.isDeleted = false")
+    @Query("SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END FROM Member m WHERE m.activeEmail = :email")
     boolean existsByEmailAndNotDeleted(@Param("email") String email);
+
+    /**
+     * Finds the email addresses of members that are not deleted and were updated at or after the given time.
+     * Served by the index on {@code updated_at}, so the cost follows the number of changes.
+     *
+     * @param since lower bound of the update time (inclusive)
+     * @return the addresses, in no particular order
+     */
+    @Query("SELECT m.email FROM Member m WHERE m.updatedAt >= :since AND m.isDeleted = false")
+    List<String> findActiveEmailsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Finds members, deleted or not, updated at or after the given time, for refreshing the
+     * in-memory indexes with changes committed through other instances.
+     * Served by the index on {@code updated_at}, so the cost follows the number of changes.
+     *
+     * @param since lower bound of the update time (inclusive)
+     * @return changed members, in no particular order
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT m FROM Member m WHERE m.updatedAt >= :since")
+    List<Member> findAllUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Finds which of the given email addresses belong to members that are not deleted.
+     * Looks up {@code active_email}, which only active members have, through its unique index.
+     *
+     * @param emails the email addresses to check
+     * @return the registered subset of {@code emails}
+     */
+    @Query("SELECT m.activeEmail FROM Member m WHERE m.activeEmail IN :emails")
+    Set<String> findActiveEmailsIn(@Param("emails") Collection<String> emails);
+
+    /**
+     * Finds members, deleted or not, updated after the keyset position {@code (since, afterId)}
+     * and before the given time.
+     * Served by the index on {@code updated_at, id}, so the cost follows the number of changes returned.
+     *
+     * @param since lower bound of the update time (inclusive)
+     * @param afterId members updated exactly at {@code since} are returned only if their ID is greater
+     * @param until upper bound of the update time (exclusive)
+     * @param limit maximum number of members to return
+     * @return changed members, oldest change first
+     */
+    @Query("SELECT m FROM Member m WHERE m.updatedAt >= :since AND m.updatedAt < :until"
+            + " AND (m.updatedAt > :since OR m.id > :afterId) ORDER BY m.updatedAt, m.id")
+    List<Member> findUpdatedSince(@Param("since") LocalDateTime since, @Param("afterId") long afterId,
+            @Param("until") LocalDateTime until, Limit limit);
+
+    /**
+     * Reads the clock of the database, which stamps the update times of members.
+     * Within a transaction, H2 and PostgreSQL return the time the transaction started.
+     *
+     * @return current time of the database
+     */
+    @Query("SELECT LOCAL DATETIME")
+    LocalDateTime findDatabaseTime();
+
+    /**
+     * Finds members deleted before the given time, oldest deletion first, and locks them.
+     * A deletion is the member's last update, so the index on {@code updated_at} limits the scan.
+     * Rows already locked by another transaction, such as the batch of an archive job running on
+     * another instance, are skipped instead of waited for, so concurrent jobs take disjoint batches.
+     * The query is native since the H2 dialect of Hibernate renders no {@code SKIP LOCKED}.
+     *
+     * @param deletedBefore upper bound of the deletion time (exclusive)
+     * @param limit maximum number of members to return
+     * @return deleted members
+     */
+    @Query(value = "SELECT * FROM members WHERE is_deleted = TRUE AND updated_at < :deletedBefore"
+            + " ORDER BY updated_at, id FETCH FIRST :limit ROWS ONLY FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Member> findDeletedBefore(@Param("deletedBefore") LocalDateTime deletedBefore, @Param("limit") int limit);
+
+    /**
+     * Counts members deleted before the given time.
+     *
+     * @param deletedBefore upper bound of the deletion time (exclusive)
+     * @return number of deleted members
+     */
+    @Query("SELECT COUNT(m) FROM Member m WHERE m.isDeleted = true AND m.updatedAt < :deletedBefore")
+    long countDeletedBefore(@Param("deletedBefore") LocalDateTime deletedBefore);
+
+    /**
+     * Logically deletes the active members with the given IDs in a single UPDATE.
+     * Active members are recognized by {@code active_email}, which is set exactly while a member
+     * is active; with {@code is_deleted} in the condition, H2 scans the active members through
+     * the list index instead of looking up the IDs by primary key.
+     * Pending changes are flushed first and the persistence context is cleared afterwards,
+     * since the statement bypasses the loaded entities. The version is incremented like an
+     * entity update would, so edits based on the previous state fail their optimistic check.
+     *
+     * @param ids IDs of the members to delete
+     * @param updatedAt time to record as the deletion time
+     * @return number of members deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET m.isDeleted = true, m.activeEmail = null, m.updatedAt = :updatedAt,"
+            + " m.version = m.version + 1 WHERE m.id IN :ids AND m.activeEmail IS NOT NULL")
+    int deleteActiveByIdIn(@Param("ids") Collection<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Sets position and/or location of the active members with the given IDs in a single UPDATE;
+     * a {@code null} value keeps the current one.
+     * Active members are recognized by {@code active_email} and the version is incremented for
+     * the same reasons as in {@link #deleteActiveByIdIn(Collection, LocalDateTime)}.
+     * Pending changes are flushed first and the persistence context is cleared afterwards,
+     * since the statement bypasses the loaded entities.
+     *
+     * @param ids IDs of the members to update
+     * @param position new position, or {@code null} to keep it
+     * @param location new location, or {@code null} to keep it
+     * @param updatedAt time to record as the update time
+     * @return number of members updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET m.position = COALESCE(:position, m.position),"
+            + " m.location = COALESCE(:location, m.location), m.updatedAt = :updatedAt,"
+            + " m.version = m.version + 1 WHERE m.id IN :ids AND m.activeEmail IS NOT NULL")
+    int updateActiveByIdIn(@Param("ids") Collection<Long> ids, @Param("position") String position,
+            @Param("location") String location, @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,171 @@
+package com.example.memberlist.infrastructure.repository;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory index of active members ordered by reading, answering prefix searches.
+ * Entries live in a concurrent skip list keyed by reading and ID; a search seeks to the first
+ * candidate and walks at most {@code limit} entries.
+ * <p>
+ * Readers never block. Writers remove and insert single entries, so a change costs O(log n)
+ * whatever the size of the index. The repository applies changes after their transaction
+ * commits, and {@link MemberKanaIndexLoader} periodically applies the changes committed through
+ * other instances. Each entry keeps the version of the member it was built from, and a change
+ * older than that is ignored, so a late refresh never undoes a newer commit. While a member is
+ * renamed, a concurrent search may miss it under both readings.
+ */
+@Component
+public class MemberKanaIndex {
+
+    private static final Comparator<MemberSuggestion> ORDER = Comparator
+            .comparing(MemberSuggestion::nameKana)
+            .thenComparing(MemberSuggestion::id);
+
+    /**
+     * Version of entries whose member version is not known, such as those loaded at startup.
+     * Any change replaces them.
+     */
+    private static final long UNKNOWN_VERSION = -1;
+
+    // Entry -> version of the member it was built from
+    private final ConcurrentNavigableMap<MemberSuggestion, Long> entries = new ConcurrentSkipListMap<>(ORDER);
+    private final Map<Long, MemberSuggestion> entriesById = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    /**
+     * Changes received while the initial load is running; {@code null} when not loading.
+     */
+    private List<Runnable> pendingChanges;
+
+    /**
+     * Finds members whose reading starts with the given prefix.
+     *
+     * @param prefix reading prefix in hiragana
+     * @param limit maximum number of members to return
+     * @return matching members ordered by reading, then ID
+     */
+    public List<MemberSuggestion> findByPrefix(String prefix, int limit) {
+        List<MemberSuggestion> matches = new ArrayList<>(Math.min(limit, 16));
+        MemberSuggestion first = new MemberSuggestion(Long.MIN_VALUE, null, prefix);
+        for (MemberSuggestion entry : entries.tailMap(first).keySet()) {
+            if (matches.size() >= limit || !entry.nameKana().startsWith(prefix)) {
+                break;
+            }
+            matches.add(entry);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of members in the index.
+     * Equals the number of active members once the index is {@link #isReady() ready}.
+     *
+     * @return number of indexed members
+     */
+    public int size() {
+        return entriesById.size();
+    }
+
+    /**
+     * Tells whether the index holds every active member.
+     *
+     * @return true once the initial load has completed
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Applies committed changes: deleted members are removed, others are added or replaced.
+     * A change to a member the index holds in a newer version is ignored.
+     *
+     * @param members members that were saved or deleted
+     */
+    public synchronized void update(Collection<Member> members) {
+        if (pendingChanges != null) {
+            pendingChanges.add(() -> members.forEach(this::apply));
+            return;
+        }
+        members.forEach(this::apply);
+    }
+
+    /**
+     * Removes committed deletions known only by ID, such as those of a bulk delete.
+     *
+     * @param ids IDs of the deleted members
+     */
+    public synchronized void remove(Collection<Long> ids) {
+        if (pendingChanges != null) {
+            pendingChanges.add(() -> ids.forEach(this::remove));
+            return;
+        }
+        ids.forEach(this::remove);
+    }
+
+    /**
+     * Starts the initial load. Changes arriving until {@link #completeLoad(List)} are held back
+     * and applied on top of the loaded entries, so none are lost to the load's snapshot.
+     */
+    public synchronized void beginLoad() {
+        pendingChanges = new ArrayList<>();
+    }
+
+    /**
+     * Installs the loaded entries and enables the index.
+     *
+     * @param loaded all active members at the time of loading
+     */
+    public synchronized void completeLoad(List<MemberSuggestion> loaded) {
+        for (MemberSuggestion entry : loaded) {
+            MemberSuggestion replaced = entriesById.put(entry.id(), entry);
+            if (replaced != null) {
+                entries.remove(replaced);
+            }
+            entries.put(entry, UNKNOWN_VERSION);
+        }
+        if (pendingChanges != null) {
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges = null;
+        }
+        ready = true;
+    }
+
+    private void apply(Member member) {
+        if (member.getId() == null) {
+            // Never persisted, so there is nothing to find it by
+            return;
+        }
+        long version = member.getVersion() != null ? member.getVersion() : UNKNOWN_VERSION;
+        MemberSuggestion current = entriesById.get(member.getId());
+        if (current != null) {
+            if (version != UNKNOWN_VERSION && entries.getOrDefault(current, UNKNOWN_VERSION) > version) {
+                return;
+            }
+            entries.remove(current);
+        }
+        if (member.isDeleted()) {
+            entriesById.remove(member.getId());
+            return;
+        }
+        MemberSuggestion entry = new MemberSuggestion(member.getId(), member.getName(), member.getNameKana());
+        entries.put(entry, version);
+        entriesById.put(member.getId(), entry);
+    }
+
+    private void remove(Long id) {
+        MemberSuggestion removed = entriesById.remove(id);
+        if (removed != null) {
+            entries.remove(removed);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.memberlist.infrastructure.repository;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import com.example.memberlist.infrastructure.datasource.PrimaryPin;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Populates the {@link MemberKanaIndex} with all active members at startup.
+ * Until loading completes, prefix searches are answered by the database.
+ * Afterwards the index is refreshed periodically with the members updated since the watermark
+ * of the previous load or refresh, which brings in the changes committed through other instances.
+ */
+@Component
+@ConditionalOnProperty(name = "member.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class MemberKanaIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberKanaIndexLoader.class);
+
+    private final MemberJpaRepository memberJpaRepository;
+    private final MemberKanaIndex memberKanaIndex;
+    private final MemberChangeWatermark memberChangeWatermark;
+
+    // Watermark of the last load or refresh; every later commit is stamped at or after it
+    private volatile LocalDateTime refreshedUntil;
+
+    public MemberKanaIndexLoader(
+            MemberJpaRepository memberJpaRepository,
+            MemberKanaIndex memberKanaIndex,
+            MemberChangeWatermark memberChangeWatermark) {
+        this.memberJpaRepository = memberJpaRepository;
+        this.memberKanaIndex = memberKanaIndex;
+        this.memberChangeWatermark = memberChangeWatermark;
+    }
+
+    /**
+     * Reads every active member's reading into the index and enables it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        memberKanaIndex.beginLoad();
+        // The index is only kept up to date by later commits, so it must start from every commit so far
+        LoadedSuggestions loaded = PrimaryPin.call(() -> {
+            LocalDateTime watermark = memberChangeWatermark.at(memberJpaRepository.findDatabaseTime());
+            try (Stream<MemberSuggestion> suggestions = memberJpaRepository.streamActiveSuggestions()) {
+                return new LoadedSuggestions(suggestions.toList(), watermark);
+            }
+        });
+        memberKanaIndex.completeLoad(loaded.suggestions());
+        refreshedUntil = loaded.watermark();
+        log.info("Kana index loaded with {} members", loaded.suggestions().size());
+    }
+
+    /**
+     * Applies the members updated since the previous load or refresh, deleted ones included.
+     * Does nothing until the index has been loaded.
+     */
+    @Scheduled(fixedDelayString = "${member.index.refresh-interval:PT30S}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        LocalDateTime since = refreshedUntil;
+        if (since == null) {
+            return;
+        }
+        // A lagging replica may not have every change stamped after the previous watermark yet
+        LoadedChanges changes = PrimaryPin.call(() -> new LoadedChanges(
+                memberJpaRepository.findAllUpdatedSince(since),
+                memberChangeWatermark.at(memberJpaRepository.findDatabaseTime())));
+        memberKanaIndex.update(changes.members());
+        refreshedUntil = changes.watermark();
+        log.debug("Kana index refreshed with {} changed members", changes.members().size());
+    }
+
+    private record LoadedSuggestions(List<MemberSuggestion> suggestions, LocalDateTime watermark) {
+    }
+
+    private record LoadedChanges(List<Member> members, LocalDateTime watermark) {
+    }
+}
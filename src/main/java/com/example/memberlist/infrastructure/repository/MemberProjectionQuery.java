@@ -0,0 +1,80 @@
+package com.example.memberlist.infrastructure.repository;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.domain.repository.MemberCursor;
+import com.example.memberlist.domain.repository.MemberFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads selected columns of active members as tuples.
+ * Only the requested columns are sent by the database and no entities are hydrated,
+ * which keeps large TEXT columns out of list queries that do not need them.
+ */
+@Component
+public class MemberProjectionQuery {
+
+    private final EntityManager entityManager;
+
+    public MemberProjectionQuery(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Finds the selected fields of active members, ordered by creation time descending.
+     *
+     * @param fields fields to select
+     * @param filter conditions the members must match
+     * @param after keyset position to start after, or {@code null} to start at the newest member
+     * @param limit maximum number of rows, or {@code null} for no limit
+     * @return one map per member, keyed by property name in the order of {@code fields}
+     */
+    public List<Map<String, Object>> find(
+            Set<MemberField> fields, MemberFilter filter, MemberCursor after, Integer limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Member> member = query.from(Member.class);
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (MemberField field : fields) {
+            selections.add(member.get(field.getPropertyName()).alias(field.getPropertyName()));
+        }
+        query.multiselect(selections);
+
+        Specification<Member> condition = MemberSpecifications.activeMatching(filter);
+        if (after != null) {
+            condition = condition.and(MemberSpecifications.after(after));
+        }
+        query.where(condition.toPredicate(member, query, cb))
+                .orderBy(cb.desc(member.get("createdAt")), cb.desc(member.get("id")));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (limit != null) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList().stream()
+                .map(tuple -> toMap(tuple, fields))
+                .toList();
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple, Set<MemberField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (MemberField field : fields) {
+            row.put(field.getPropertyName(), tuple.get(field.getPropertyName()));
+        }
+        return row;
+    }
+}
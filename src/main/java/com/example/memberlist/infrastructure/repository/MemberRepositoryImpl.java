@@ -1,27 +1,135 @@
 package com.example.memberlist.infrastructure.repository;
 
+import com.example.memberlist.domain.model.ArchivedMember;
 import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.domain.repository.DuplicateMemberEmailException;
+import com.example.memberlist.domain.repository.MemberChanges;
+import com.example.memberlist.domain.repository.MemberCursor;
+import com.example.memberlist.domain.repository.MemberFilter;
 import com.example.memberlist.domain.repository.MemberRepository;
+import com.example.memberlist.domain.repository.MemberSearchHit;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import com.example.memberlist.infrastructure.datasource.PrimaryPin;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Implementation of MemberRepository using Spring Data JPA.
  * Bridges the domain repository interface with JPA repository.
  */
 @Component
+@ConditionalOnProperty(name = "member.sharding.enabled", havingValue = "false", matchIfMissing = true)
+@Timed(value = MemberRepositoryImpl.TIMER, description = "Latency of member repository calls")
 public class MemberRepositoryImpl implements MemberRepository {
 
+    /**
+     * Name of the timer recorded for every public method, tagged with {@code method}.
+     * Methods returning a stream are timed until the stream is opened, not until it is consumed.
+     */
+    public static final String TIMER = "member.repository";
+
+    /**
+     * Number of IDs bound to one bulk UPDATE, keeping the IN list well below driver limits.
+     */
+    static final int BULK_CHUNK_SIZE = 1_000;
+
     private final MemberJpaRepository memberJpaRepository;
+    private final ArchivedMemberJpaRepository archivedMemberJpaRepository;
+    private final MemberProjectionQuery memberProjectionQuery;
+    private final EntityManager entityManager;
+    private final EmailBloomFilter emailBloomFilter;
+    private final MemberKanaIndex memberKanaIndex;
+    private final MemberTextIndex memberTextIndex;
+    private final MemberDirectoryVersion memberDirectoryVersion;
+    private final MemberChangeWatermark memberChangeWatermark;
 
-    public MemberRepositoryImpl(MemberJpaRepository memberJpaRepository) {
+    public MemberRepositoryImpl(
+            MemberJpaRepository memberJpaRepository,
+            ArchivedMemberJpaRepository archivedMemberJpaRepository,
+            MemberProjectionQuery memberProjectionQuery,
+            EntityManager entityManager,
+            EmailBloomFilter emailBloomFilter,
+            MemberKanaIndex memberKanaIndex,
+            MemberTextIndex memberTextIndex,
+            MemberDirectoryVersion memberDirectoryVersion,
+            MemberChangeWatermark memberChangeWatermark) {
         this.memberJpaRepository = memberJpaRepository;
+        this.archivedMemberJpaRepository = archivedMemberJpaRepository;
+        this.memberProjectionQuery = memberProjectionQuery;
+        this.entityManager = entityManager;
+        this.emailBloomFilter = emailBloomFilter;
+        this.memberKanaIndex = memberKanaIndex;
+        this.memberTextIndex = memberTextIndex;
+        this.memberDirectoryVersion = memberDirectoryVersion;
+        this.memberChangeWatermark = memberChangeWatermark;
     }
 
+    // Addresses are added to the filter before the transaction commits; should it roll back
+    // instead, the filter only gains a false positive, never a false negative.
+
     @Override
     public Member save(Member member) {
-        return memberJpaRepository.save(member);
+        emailBloomFilter.put(member.getEmail());
+        Member saved = memberJpaRepository.save(member);
+        publishAfterCommit(List.of(saved));
+        return saved;
+    }
+
+    @Override
+    public Member insert(Member member) {
+        return saveAndFlush(member);
+    }
+
+    @Override
+    public Member update(Member member) {
+        return saveAndFlush(member);
+    }
+
+    private Member saveAndFlush(Member member) {
+        emailBloomFilter.put(member.getEmail());
+        try {
+            Member saved = memberJpaRepository.saveAndFlush(member);
+            publishAfterCommit(List.of(saved));
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            if (violates(e, Member.ACTIVE_EMAIL_CONSTRAINT)) {
+                throw new DuplicateMemberEmailException("Active member with this email already exists", e);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Member> saveAll(List<Member> members) {
+        members.forEach(member -> emailBloomFilter.put(member.getEmail()));
+        List<Member> saved = memberJpaRepository.saveAll(members);
+        publishAfterCommit(saved);
+        return saved;
     }
 
     @Override
@@ -30,23 +138,251 @@ public class MemberRepositoryImpl implements MemberRepository {
     }
 
     @Override
-    public List<Member> findAll() {
-        return memberJpaRepository.findAllActive();
+    public List<Member> findAll(MemberFilter filter) {
+        if (filter.isEmpty()) {
+            return memberJpaRepository.findAllActive();
+        }
+        return memberJpaRepository.findAll(
+                MemberSpecifications.activeMatching(filter), MemberSpecifications.NEWEST_FIRST);
+    }
+
+    @Override
+    public List<Member> findPage(MemberFilter filter, MemberCursor after, int limit) {
+        if (filter.isEmpty()) {
+            if (after == null) {
+                return memberJpaRepository.findActivePage(Limit.of(limit));
+            }
+            return memberJpaRepository.findActivePageAfter(after.createdAt(), after.id(), Limit.of(limit));
+        }
+        Specification<Member> condition = MemberSpecifications.activeMatching(filter);
+        if (after != null) {
+            condition = condition.and(MemberSpecifications.after(after));
+        }
+        return memberJpaRepository.findBy(condition,
+                query -> query.sortBy(MemberSpecifications.NEWEST_FIRST).limit(limit).all());
+    }
+
+    @Override
+    public List<Map<String, Object>> findAllFields(Set<MemberField> fields, MemberFilter filter) {
+        return memberProjectionQuery.find(fields, filter, null, null);
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsPage(
+            Set<MemberField> fields, MemberFilter filter, MemberCursor after, int limit) {
+        return memberProjectionQuery.find(fields, filter, after, limit);
+    }
+
+    @Override
+    public Stream<Member> streamAll() {
+        // Detach each row once read so the persistence context does not grow with the result
+        return memberJpaRepository.streamAllActive().map(member -> {
+            entityManager.detach(member);
+            return member;
+        });
+    }
+
+    @Override
+    public List<MemberSuggestion> findByKanaPrefix(String kanaPrefix, int limit) {
+        if (memberKanaIndex.isReady()) {
+            return memberKanaIndex.findByPrefix(kanaPrefix, limit);
+        }
+        return memberJpaRepository.findByIsDeletedFalseAndNameKanaStartingWithOrderByNameKanaAscIdAsc(
+                kanaPrefix, Limit.of(limit));
+    }
+
+    @Override
+    public List<MemberSearchHit> search(String query, int limit) {
+        if (!memberTextIndex.isReady()) {
+            return scanForMatches(query, limit);
+        }
+        // The index keeps no text; each candidate is verified and scored against its row, which
+        // also drops members the index has not yet seen deleted
+        List<Long> candidates = memberTextIndex.findCandidates(query);
+        return rank(memberJpaRepository.findAllById(candidates).stream().filter(member -> !member.isDeleted()),
+                query, limit);
+    }
+
+    /**
+     * Scores every active member against the query; used only until the index has been loaded.
+     */
+    private List<MemberSearchHit> scanForMatches(String query, int limit) {
+        try (Stream<Member> members = streamAll()) {
+            return rank(members, query, limit);
+        }
+    }
+
+    private static List<MemberSearchHit> rank(Stream<Member> members, String query, int limit) {
+        return members
+                .map(member -> new MemberSearchHit(member, MemberTextIndex.score(member, query)))
+                .filter(hit -> hit.score() > 0)
+                .sorted(Comparator.comparingInt(MemberSearchHit::score).reversed()
+                        .thenComparing(hit -> hit.member().getId(), Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
     }
 
     @Override
     public Optional<Member> findByEmail(String email) {
-        return memberJpaRepository.findByEmailAndNotDeleted(email);
+        // Not short-circuited on the email filter, which may not know registrations of other instances yet;
+        // active_email is the natural id, so repeated lookups resolve from the second-level cache
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Member.class)
+                .loadOptional(email);
     }
 
     @Override
     public boolean existsByEmail(String email) {
+        if (!emailBloomFilter.mightContain(email)) {
+            return false;
+        }
         return memberJpaRepository.existsByEmailAndNotDeleted(email);
     }
 
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return memberJpaRepository.findActiveEmailsIn(emails);
+    }
+
+    @Override
+    public MemberChanges findChangesSince(LocalDateTime since, Long afterId, int limit) {
+        long after = afterId != null ? afterId : Long.MIN_VALUE;
+        // One more than the limit from each table tells whether changes are left over
+        Limit rows = Limit.of(limit + 1);
+        // Read from the primary: a lagging replica may not have a change stamped before the watermark yet.
+        // Read the live table first: a member archived in between then shows up in both, never in neither
+        return PrimaryPin.call(() -> {
+            // Fix the watermark before querying: anything committed later is stamped at or after it
+            LocalDateTime watermark = memberChangeWatermark.at(memberJpaRepository.findDatabaseTime());
+            List<Member> members = memberJpaRepository.findUpdatedSince(since, after, watermark, rows);
+            return MemberChanges.page(members,
+                    archivedMemberJpaRepository.findTombstonesSince(since, after, watermark, rows), watermark, limit);
+        });
+    }
+
+    @Override
+    public long countDeletedBefore(LocalDateTime deletedBefore) {
+        return memberJpaRepository.countDeletedBefore(deletedBefore);
+    }
+
+    @Override
+    public int archiveDeleted(LocalDateTime deletedBefore, int limit) {
+        List<Member> members = memberJpaRepository.findDeletedBefore(deletedBefore, limit);
+        if (members.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime archivedAt = LocalDateTime.now();
+        // Removing entity by entity sends batched DELETEs and evicts only these rows from the
+        // second-level cache, where a bulk JPQL DELETE would clear the whole region
+        for (Member member : members) {
+            entityManager.persist(new ArchivedMember(member, archivedAt));
+        }
+        memberJpaRepository.deleteAll(members);
+        return members.size();
+    }
+
     @Override
     public void delete(Member member) {
         member.delete();
         memberJpaRepository.save(member);
+        publishAfterCommit(List.of(member));
+    }
+
+    @Override
+    public int deleteAllByIds(Collection<Long> ids) {
+        List<Long> deleted = new ArrayList<>();
+        int count = updateInChunks(ids, (chunk, now) -> memberJpaRepository.deleteActiveByIdIn(chunk, now),
+                deleted::addAll);
+        if (count > 0) {
+            // Deleted members leave the indexes, so their IDs are all the indexes need
+            publishAfterCommit(() -> {
+                memberKanaIndex.remove(deleted);
+                memberTextIndex.remove(deleted);
+            });
+        }
+        return count;
+    }
+
+    @Override
+    public int updateAllByIds(Collection<Long> ids, String position, String location) {
+        List<MemberText> texts = new ArrayList<>();
+        int count = updateInChunks(ids,
+                (chunk, now) -> memberJpaRepository.updateActiveByIdIn(chunk, position, location, now),
+                chunk -> {
+                    // Names are unchanged, so only the text index, which holds the position, is refreshed
+                    if (position != null) {
+                        texts.addAll(memberJpaRepository.findActiveTextsByIdIn(chunk));
+                    }
+                });
+        if (count > 0) {
+            publishAfterCommit(() -> memberTextIndex.updateTexts(texts));
+        }
+        return count;
+    }
+
+    /**
+     * Runs a bulk UPDATE per chunk of distinct IDs, all stamped with the same database time,
+     * as entity writes are, and passes every chunk that changed any row on to {@code changed}.
+     * The statements bypass entity listeners and the loaded entities, so Hibernate evicts the
+     * whole member region of the second-level cache.
+     */
+    private int updateInChunks(Collection<Long> ids, BiFunction<List<Long>, LocalDateTime, Integer> update,
+            Consumer<List<Long>> changed) {
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = memberJpaRepository.findDatabaseTime();
+        int updated = 0;
+        for (int from = 0; from < distinct.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinct.size()));
+            int count = update.apply(chunk, now);
+            if (count > 0) {
+                updated += count;
+                changed.accept(chunk);
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public long getDirectoryVersion() {
+        return memberDirectoryVersion.current();
+    }
+
+    private void publishAfterCommit(List<Member> members) {
+        publishAfterCommit(() -> {
+            memberKanaIndex.update(members);
+            memberTextIndex.update(members);
+        });
+    }
+
+    /**
+     * Bumps the directory version as part of the surrounding transaction and updates the
+     * in-memory indexes once it has committed, so a rolled-back write never shows up in
+     * suggestions or search results.
+     */
+    private void publishAfterCommit(Runnable indexUpdate) {
+        memberDirectoryVersion.incrementOnCommit();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            indexUpdate.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                indexUpdate.run();
+            }
+        });
+    }
+
+    private static boolean violates(DataIntegrityViolationException e, String constraintName) {
+        // Drivers report the name in different cases and often qualified with schema or index details
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
     }
 }
@@ -0,0 +1,69 @@
+package com.example.memberlist.infrastructure.repository;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberCursor;
+import com.example.memberlist.domain.repository.MemberFilter;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Query conditions for active members, shared by entity and projection queries.
+ * Conditions are only added for the filter values that are set, so each combination
+ * is sent as a plain equality/range predicate the composite indexes on
+ * {@code (is_deleted, position | location, created_at, id)} can serve.
+ */
+final class MemberSpecifications {
+
+    /**
+     * Keyset order of the member list, matching the order of {@link MemberCursor}.
+     */
+    static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private MemberSpecifications() {
+    }
+
+    /**
+     * Matches members that are not deleted and satisfy every condition set in the filter.
+     *
+     * @param filter conditions to apply
+     * @return specification of the matching members
+     */
+    static Specification<Member> activeMatching(MemberFilter filter) {
+        return (member, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(4);
+            predicates.add(cb.isFalse(member.get("isDeleted")));
+            if (filter.position() != null) {
+                predicates.add(cb.equal(member.get("position"), filter.position()));
+            }
+            if (filter.location() != null) {
+                predicates.add(cb.equal(member.get("location"), filter.location()));
+            }
+            if (filter.createdAfter() != null) {
+                Path<LocalDateTime> createdAt = member.get("createdAt");
+                predicates.add(cb.greaterThan(createdAt, filter.createdAfter()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Matches members that follow the cursor in {@link #NEWEST_FIRST} order.
+     *
+     * @param after cursor of the last member on the previous page
+     * @return specification of the members on later pages
+     */
+    static Specification<Member> after(MemberCursor after) {
+        return (member, query, cb) -> {
+            Path<LocalDateTime> createdAt = member.get("createdAt");
+            Path<Long> id = member.get("id");
+            return cb.or(
+                    cb.lessThan(createdAt, after.createdAt()),
+                    cb.and(cb.equal(createdAt, after.createdAt()), cb.lessThan(id, after.id())));
+        };
+    }
+}
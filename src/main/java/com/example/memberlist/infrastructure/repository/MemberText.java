@@ -0,0 +1,13 @@
+package com.example.memberlist.infrastructure.repository;
+
+/**
+ * The columns of a member that {@link MemberTextIndex} indexes, read without the rest of the row.
+ *
+ * @param id member ID
+ * @param name name of the member
+ * @param position position of the member
+ * @param selfIntroduction self introduction of the member
+ * @param version version of the member the columns were read from
+ */
+public record MemberText(Long id, String name, String position, String selfIntroduction, Long version) {
+}
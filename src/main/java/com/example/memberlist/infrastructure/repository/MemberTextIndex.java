@@ -0,0 +1,418 @@
+package com.example.memberlist.infrastructure.repository;
+
+import com.example.memberlist.domain.model.Kana;
+import com.example.memberlist.domain.model.Member;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory bigram inverted index over the name, position and self-introduction of active members.
+ * Text is normalized (NFKC, lower case, katakana folded to hiragana) and split into overlapping
+ * two-character terms, which works for Japanese text without a morphological analyzer.
+ * <p>
+ * The index narrows a search down to candidates: the members whose text contains every bigram
+ * of the query. It keeps no text, only the set of terms of each member, so the caller verifies
+ * and ranks the candidates against their stored text with {@link #score(Member, String)}.
+ * Posting lists are delta-encoded and may keep IDs under terms a member no longer has; the
+ * term sets filter those out of the candidates, and the index drops them when it compacts itself.
+ * <p>
+ * Each member's terms keep the version of the member they were built from, and a change older
+ * than that is ignored, so a late refresh by {@link MemberTextIndexLoader} never undoes a newer commit.
+ */
+@Component
+public class MemberTextIndex {
+
+    /**
+     * Minimum length of a search word, the length of one term.
+     */
+    public static final int MIN_WORD_LENGTH = 2;
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int POSITION_WEIGHT = 2;
+    private static final int SELF_INTRODUCTION_WEIGHT = 1;
+
+    /**
+     * Version of members whose version is not known, such as those loaded at startup.
+     * Any change replaces them.
+     */
+    private static final long UNKNOWN_VERSION = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+    private final Map<Long, Terms> terms = new HashMap<>();
+    private long liveEntries;
+    private long staleEntries;
+    private volatile boolean ready;
+
+    /**
+     * Changes received while the initial load is running; {@code null} when not loading.
+     */
+    private List<Runnable> pendingChanges;
+
+    /**
+     * Sorted bigrams of one member, each packed into an int, and the member version they come from.
+     */
+    private record Terms(int[] codes, long version) {
+
+        boolean contains(int code) {
+            return Arrays.binarySearch(codes, code) >= 0;
+        }
+    }
+
+    /**
+     * Normalized searchable text of one member, for scoring.
+     */
+    private record Document(String name, String position, String selfIntroduction) {
+    }
+
+    /**
+     * Finds the members whose text contains every bigram of every word. The matches of the query
+     * are among them, but a candidate may hold the bigrams of a word apart from each other.
+     * Words shorter than {@link #MIN_WORD_LENGTH} after normalization are ignored.
+     *
+     * @param query search words separated by white space
+     * @return candidate member IDs in descending order
+     */
+    public List<Long> findCandidates(String query) {
+        List<String> words = words(query);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        int[] queryCodes = codes(words.toArray(String[]::new));
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(queryCodes.length);
+            for (int code : queryCodes) {
+                PostingList list = postings.get(code);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            long[] candidates = lists.get(0).toArray();
+            for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+                candidates = intersect(candidates, lists.get(i).toArray());
+            }
+            List<Long> found = new ArrayList<>(candidates.length);
+            for (int i = candidates.length - 1; i >= 0; i--) {
+                // Skip IDs left under terms the member no longer has
+                if (containsAll(terms.get(candidates[i]), queryCodes)) {
+                    found.add(candidates[i]);
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores a member against a query: the weighted number of occurrences of the words in its
+     * name, position and self introduction.
+     *
+     * @param member the member to score
+     * @param query search words separated by white space
+     * @return the score, or 0 if some word does not occur
+     */
+    public static int score(Member member, String query) {
+        List<String> words = words(query);
+        return words.isEmpty() ? 0 : score(document(member), words);
+    }
+
+    /**
+     * Tells whether the index holds every active member.
+     *
+     * @return true once the initial load has completed
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Applies committed changes: deleted members are removed, others are indexed anew.
+     * A change to a member the index holds in a newer version is ignored.
+     *
+     * @param members members that were saved or deleted
+     */
+    public void update(Collection<Member> members) {
+        change(() -> members.forEach(this::apply));
+    }
+
+    /**
+     * Applies committed changes read as indexed columns only, such as those of a bulk update.
+     * A change to a member the index holds in a newer version is ignored.
+     *
+     * @param texts indexed columns of members that are still active
+     */
+    public void updateTexts(Collection<MemberText> texts) {
+        change(() -> texts.forEach(this::apply));
+    }
+
+    /**
+     * Removes committed deletions known only by ID, such as those of a bulk delete.
+     *
+     * @param ids IDs of the deleted members
+     */
+    public void remove(Collection<Long> ids) {
+        change(() -> ids.forEach(this::remove));
+    }
+
+    /**
+     * Starts the initial load. Changes arriving until {@link #completeLoad()} are held back
+     * and applied after the loaded members.
+     */
+    public void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes one member during the initial load.
+     * Loading in ascending ID order keeps every posting list update an append.
+     *
+     * @param id member ID
+     * @param name name of the member
+     * @param position position of the member
+     * @param selfIntroduction self introduction of the member
+     */
+    public void load(Long id, String name, String position, String selfIntroduction) {
+        lock.writeLock().lock();
+        try {
+            index(id, new Terms(codes(normalize(name), normalize(position), normalize(selfIntroduction)),
+                    UNKNOWN_VERSION));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies the changes held back during loading and enables the index.
+     */
+    public void completeLoad() {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.forEach(Runnable::run);
+                pendingChanges = null;
+            }
+            compactIfNeeded();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reports the memory used by posting lists, for diagnostics.
+     *
+     * @return number of encoded bytes across all posting lists
+     */
+    public long postingBytes() {
+        lock.readLock().lock();
+        try {
+            return postings.values().stream().mapToLong(PostingList::encodedSize).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a change now, or holds it back until the initial load completes.
+     */
+    private void change(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+                return;
+            }
+            change.run();
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Member member) {
+        if (member.getId() == null) {
+            // Never persisted, so there is nothing to find it by
+            return;
+        }
+        long version = member.getVersion() != null ? member.getVersion() : UNKNOWN_VERSION;
+        if (isNewer(member.getId(), version)) {
+            return;
+        }
+        if (member.isDeleted()) {
+            remove(member.getId());
+            return;
+        }
+        Document document = document(member);
+        index(member.getId(), new Terms(codes(document.name(), document.position(), document.selfIntroduction()),
+                version));
+    }
+
+    private void apply(MemberText text) {
+        long version = text.version() != null ? text.version() : UNKNOWN_VERSION;
+        if (isNewer(text.id(), version)) {
+            return;
+        }
+        index(text.id(), new Terms(codes(normalize(text.name()), normalize(text.position()),
+                normalize(text.selfIntroduction())), version));
+    }
+
+    /**
+     * Tells whether the index holds the member in a newer version than the given one.
+     */
+    private boolean isNewer(Long id, long version) {
+        Terms current = terms.get(id);
+        return current != null && version != UNKNOWN_VERSION && current.version() > version;
+    }
+
+    private void index(Long id, Terms indexed) {
+        Terms replaced = terms.put(id, indexed);
+        if (replaced != null) {
+            for (int code : replaced.codes()) {
+                if (!indexed.contains(code)) {
+                    // The ID stays in this posting list until the next compaction
+                    liveEntries--;
+                    staleEntries++;
+                }
+            }
+        }
+        for (int code : indexed.codes()) {
+            if (replaced == null || !replaced.contains(code)) {
+                postings.computeIfAbsent(code, key -> new PostingList()).add(id);
+                liveEntries++;
+            }
+        }
+    }
+
+    private void remove(Long id) {
+        Terms removed = terms.remove(id);
+        if (removed != null) {
+            // The ID stays in its posting lists until the next compaction
+            liveEntries -= removed.codes().length;
+            staleEntries += removed.codes().length;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (staleEntries <= 1_000 || staleEntries <= liveEntries / 2) {
+            return;
+        }
+        postings.entrySet().removeIf(entry -> {
+            int code = entry.getKey();
+            entry.getValue().retain(id -> {
+                Terms current = terms.get(id);
+                return current != null && current.contains(code);
+            });
+            return entry.getValue().size() == 0;
+        });
+        staleEntries = 0;
+    }
+
+    private static boolean containsAll(Terms indexed, int[] codes) {
+        if (indexed == null) {
+            return false;
+        }
+        for (int code : codes) {
+            if (!indexed.contains(code)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int score(Document document, List<String> words) {
+        int total = 0;
+        for (String word : words) {
+            int score = NAME_WEIGHT * occurrences(document.name(), word)
+                    + POSITION_WEIGHT * occurrences(document.position(), word)
+                    + SELF_INTRODUCTION_WEIGHT * occurrences(document.selfIntroduction(), word);
+            if (score == 0) {
+                return 0;
+            }
+            total += score;
+        }
+        return total;
+    }
+
+    private static int occurrences(String text, String word) {
+        int count = 0;
+        for (int from = text.indexOf(word); from >= 0; from = text.indexOf(word, from + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static Document document(Member member) {
+        return new Document(normalize(member.getName()), normalize(member.getPosition()),
+                normalize(member.getSelfIntroduction()));
+    }
+
+    /**
+     * Collects the distinct bigrams of the texts, each packed into an int, in ascending order.
+     */
+    private static int[] codes(String... texts) {
+        IntStream.Builder codes = IntStream.builder();
+        for (String text : texts) {
+            for (int i = 0; i + MIN_WORD_LENGTH <= text.length(); i++) {
+                char first = text.charAt(i);
+                char second = text.charAt(i + 1);
+                if (!Character.isWhitespace(first) && !Character.isWhitespace(second)) {
+                    codes.add(first << Character.SIZE | second);
+                }
+            }
+        }
+        return codes.build().distinct().sorted().toArray();
+    }
+
+    private static List<String> words(String query) {
+        return Arrays.stream(normalize(query).split("\\s+"))
+                .filter(word -> word.length() >= MIN_WORD_LENGTH)
+                .distinct()
+                .toList();
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Kana.toHiragana(Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT));
+    }
+}
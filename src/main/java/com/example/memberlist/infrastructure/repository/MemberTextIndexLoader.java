@@ -0,0 +1,97 @@
+package com.example.memberlist.infrastructure.repository;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.infrastructure.datasource.PrimaryPin;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Builds the {@link MemberTextIndex} from the database at startup.
+ * Only the indexed columns are read, in ID order, so the build is a single streaming pass
+ * that appends to every posting list. Until it completes, searches scan the table instead.
+ * Afterwards the index is refreshed periodically with the members updated since the watermark
+ * of the previous load or refresh, which brings in the changes committed through other instances.
+ */
+@Component
+@ConditionalOnProperty(name = "member.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class MemberTextIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberTextIndexLoader.class);
+
+    private final MemberJpaRepository memberJpaRepository;
+    private final MemberTextIndex memberTextIndex;
+    private final MemberChangeWatermark memberChangeWatermark;
+
+    // Watermark of the last load or refresh; every later commit is stamped at or after it
+    private volatile LocalDateTime refreshedUntil;
+
+    public MemberTextIndexLoader(
+            MemberJpaRepository memberJpaRepository,
+            MemberTextIndex memberTextIndex,
+            MemberChangeWatermark memberChangeWatermark) {
+        this.memberJpaRepository = memberJpaRepository;
+        this.memberTextIndex = memberTextIndex;
+        this.memberChangeWatermark = memberChangeWatermark;
+    }
+
+    /**
+     * Indexes every active member and enables the index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long startedAt = System.nanoTime();
+        memberTextIndex.beginLoad();
+        // Read from the primary: later changes reach the index only through commits and refreshes after this load
+        LoadedTexts loaded = PrimaryPin.call(() -> {
+            LocalDateTime watermark = memberChangeWatermark.at(memberJpaRepository.findDatabaseTime());
+            long count = 0;
+            try (Stream<Object[]> rows = memberJpaRepository.streamActiveTexts()) {
+                for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                    memberTextIndex.load((Long) row[0], (String) row[1], (String) row[2], (String) row[3]);
+                    count++;
+                }
+            }
+            return new LoadedTexts(count, watermark);
+        });
+        memberTextIndex.completeLoad();
+        refreshedUntil = loaded.watermark();
+        log.info("Text index loaded with {} members ({} posting bytes) in {} ms",
+                loaded.count(), memberTextIndex.postingBytes(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * Applies the members updated since the previous load or refresh, deleted ones included.
+     * Does nothing until the index has been loaded.
+     */
+    @Scheduled(fixedDelayString = "${member.index.refresh-interval:PT30S}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        LocalDateTime since = refreshedUntil;
+        if (since == null) {
+            return;
+        }
+        // A lagging replica may not have every change stamped after the previous watermark yet
+        LoadedChanges changes = PrimaryPin.call(() -> new LoadedChanges(
+                memberJpaRepository.findAllUpdatedSince(since),
+                memberChangeWatermark.at(memberJpaRepository.findDatabaseTime())));
+        memberTextIndex.update(changes.members());
+        refreshedUntil = changes.watermark();
+        log.debug("Text index refreshed with {} changed members", changes.members().size());
+    }
+
+    private record LoadedTexts(long count, LocalDateTime watermark) {
+    }
+
+    private record LoadedChanges(List<Member> members, LocalDateTime watermark) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.memberlist.infrastructure.repository;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * Sorted list of member IDs stored compactly as variable-length encoded gaps.
+ * IDs are mostly added in ascending order, which is a plain append; an ID below the
+ * current maximum re-encodes the list. Not thread-safe.
+ */
+final class PostingList {
+
+    private byte[] bytes = new byte[4];
+    private int length;
+    private int count;
+    private long last;
+
+    /**
+     * Adds an ID, ignoring it if already present.
+     *
+     * @param id positive member ID
+     */
+    void add(long id) {
+        if (id > last) {
+            append(id);
+            return;
+        }
+        long[] ids = toArray();
+        int position = Arrays.binarySearch(ids, id);
+        if (position >= 0) {
+            return;
+        }
+        int insertAt = -position - 1;
+        long[] expanded = new long[ids.length + 1];
+        System.arraycopy(ids, 0, expanded, 0, insertAt);
+        expanded[insertAt] = id;
+        System.arraycopy(ids, insertAt, expanded, insertAt + 1, ids.length - insertAt);
+        reset(expanded);
+    }
+
+    /**
+     * Keeps only the IDs accepted by the filter.
+     *
+     * @param filter predicate on IDs to keep
+     */
+    void retain(LongPredicate filter) {
+        reset(Arrays.stream(toArray()).filter(filter).toArray());
+    }
+
+    /**
+     * Decodes the IDs.
+     *
+     * @return IDs in ascending order
+     */
+    long[] toArray() {
+        long[] ids = new long[count];
+        long value = 0;
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            long gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                gap |= (long) (b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+            value += gap;
+            ids[i] = value;
+        }
+        return ids;
+    }
+
+    /**
+     * Number of IDs in the list.
+     *
+     * @return the number of IDs
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Number of bytes used by the encoded IDs.
+     *
+     * @return the encoded size
+     */
+    int encodedSize() {
+        return length;
+    }
+
+    private void reset(long[] ids) {
+        bytes = new byte[Math.max(4, ids.length * 2)];
+        length = 0;
+        count = 0;
+        last = 0;
+        for (long id : ids) {
+            append(id);
+        }
+    }
+
+    private void append(long id) {
+        long gap = id - last;
+        if (length + 10 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 10));
+        }
+        while ((gap & ~0x7fL) != 0) {
+            bytes[length++] = (byte) ((gap & 0x7f) | 0x80);
+            gap >>>= 7;
+        }
+        bytes[length++] = (byte) gap;
+        last = id;
+        count++;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.memberlist.infrastructure.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Assigns email addresses to shards.
+ * Addresses are normalized first (surrounding white space removed, lower case), so spellings
+ * that differ only in case are stored on the same shard and meet in its unique constraint and
+ * lookups. The shard is chosen by jump consistent hashing of a 64-bit FNV-1a hash of the
+ * normalized address: growing from {@code n} to {@code n + 1} shards moves only the addresses
+ * that now belong to the new shard, about one in {@code n + 1}.
+ */
+public class EmailShardRouter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int shardCount;
+
+    /**
+     * Creates a router over the given number of shards.
+     *
+     * @param shardCount number of shards, at least 1
+     */
+    public EmailShardRouter(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("At least one shard is required: " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Returns the shard holding members with the given email address.
+     *
+     * @param email the email address
+     * @return shard number from 0 to the number of shards minus 1
+     */
+    public int shardOf(String email) {
+        return jumpConsistentHash(hash(normalize(email)), shardCount);
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    static String normalize(String email) {
+        return email.strip().toLowerCase(Locale.ROOT);
+    }
+
+    static long hash(String text) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Jump consistent hash (Lamping and Veach), mapping a key evenly onto {@code buckets} buckets.
+     */
+    static int jumpConsistentHash(long key, int buckets) {
+        long bucket = -1;
+        long next = 0;
+        while (next < buckets) {
+            bucket = next;
+            key = key * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.memberlist.infrastructure.shard;
+
+import com.example.memberlist.infrastructure.repository.EmailBloomFilter;
+import com.example.memberlist.infrastructure.repository.MemberChangeWatermark;
+import com.example.memberlist.infrastructure.repository.MemberKanaIndex;
+import com.example.memberlist.infrastructure.repository.MemberTextIndex;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Member store sharded by email address.
+ * Enabled by {@code member.sharding.enabled}; the members are then stored on the databases
+ * listed in {@code member.sharding.shard-urls} instead of {@code spring.datasource}, which
+ * replaces {@code MemberRepositoryImpl} and the loaders of its in-memory indexes.
+ * The shards share the driver and credentials of {@code spring.datasource.*}, and each one is
+ * migrated by Flyway with the same scripts at startup.
+ */
+@Configuration
+@ConditionalOnProperty(name = "member.sharding.enabled", havingValue = "true")
+public class MemberShardConfig {
+
+    /**
+     * Repository holding one connection pool per shard.
+     *
+     * @param properties settings shared by the shards
+     * @param meterRegistry registry for the metrics of every pool ({@code hikaricp.*} tagged with {@code pool})
+     * @param shardUrls JDBC URLs of the shards; the order fixes the shard numbers and must not change
+     * @param emailBloomFilter filter of registered addresses
+     * @param memberKanaIndex in-memory index of readings
+     * @param memberTextIndex in-memory full-text index
+     * @param memberChangeWatermark bound of the change feed
+     * @return the repository
+     */
+    @Bean
+    public ShardedMemberRepository shardedMemberRepository(
+            DataSourceProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${member.sharding.shard-urls}") List<String> shardUrls,
+            EmailBloomFilter emailBloomFilter,
+            MemberKanaIndex memberKanaIndex,
+            MemberTextIndex memberTextIndex,
+            MemberChangeWatermark memberChangeWatermark) {
+        MetricsTrackerFactory metrics = meterRegistry.stream()
+                .findFirst()
+                .map(MicrometerMetricsTrackerFactory::new)
+                .orElse(null);
+        List<DataSource> shards = IntStream.range(0, shardUrls.size())
+                .mapToObj(i -> pool(properties, shardUrls.get(i).trim(), "shard-" + i, metrics))
+                .toList();
+        for (DataSource shard : shards) {
+            Flyway.configure().dataSource(shard).load().migrate();
+        }
+        return new ShardedMemberRepository(shards, emailBloomFilter, memberKanaIndex, memberTextIndex,
+                memberChangeWatermark);
+    }
+
+    /**
+     * Loader filling the email filter and the in-memory indexes from the shards.
+     *
+     * @param shardedMemberRepository the sharded repository
+     * @param emailBloomFilter filter of registered addresses
+     * @param memberKanaIndex in-memory index of readings
+     * @param memberTextIndex in-memory full-text index
+     * @return the loader
+     */
+    @Bean
+    public ShardedMemberIndexLoader shardedMemberIndexLoader(
+            ShardedMemberRepository shardedMemberRepository,
+            EmailBloomFilter emailBloomFilter,
+            MemberKanaIndex memberKanaIndex,
+            MemberTextIndex memberTextIndex) {
+        return new ShardedMemberIndexLoader(shardedMemberRepository, emailBloomFilter, memberKanaIndex,
+                memberTextIndex);
+    }
+
+    private static DataSource pool(DataSourceProperties properties, String url, String name,
+            MetricsTrackerFactory metrics) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        pool.setPoolName(name);
+        if (metrics != null) {
+            pool.setMetricsTrackerFactory(metrics);
+        }
+        return pool;
+    }
+}
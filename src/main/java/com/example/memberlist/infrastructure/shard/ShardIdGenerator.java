@@ -0,0 +1,92 @@
+package com.example.memberlist.infrastructure.shard;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Hands out member IDs that are unique across all shards.
+ * Each shard numbers its members from its own {@code members_id_seq}, and the shard number is
+ * stored in the lowest {@link #SHARD_BITS} bits of the ID. IDs of different shards therefore
+ * never collide, without coordination between shards or application instances, and the shard
+ * a member was created on can be read back from its ID.
+ * <p>
+ * Sequence values are reserved {@link #BLOCK_SIZE} at a time, the increment of the sequence,
+ * so one round trip serves that many inserts as with Hibernate's pooled generator.
+ * IDs stay below 2<sup>53</sup> up to 2<sup>47</sup> sequence values per shard, so they are
+ * exact as JSON numbers in JavaScript clients.
+ */
+public class ShardIdGenerator {
+
+    /**
+     * Number of low-order ID bits holding the shard number.
+     */
+    public static final int SHARD_BITS = 6;
+
+    /**
+     * Largest number of shards the IDs can address.
+     */
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    /**
+     * Sequence values reserved per round trip; must match {@code INCREMENT BY} of {@code members_id_seq}.
+     */
+    static final int BLOCK_SIZE = 50;
+
+    private final List<Block> blocks;
+
+    /**
+     * Creates a generator drawing from one sequence per shard.
+     *
+     * @param sequences supplier of the next sequence value, by shard number
+     */
+    public ShardIdGenerator(List<LongSupplier> sequences) {
+        if (sequences.isEmpty() || sequences.size() > MAX_SHARDS) {
+            throw new IllegalArgumentException(
+                    "Between 1 and " + MAX_SHARDS + " shards are supported: " + sequences.size());
+        }
+        this.blocks = sequences.stream().map(Block::new).toList();
+    }
+
+    /**
+     * Generates the ID of a member created on the given shard.
+     *
+     * @param shard shard number
+     * @return a new ID
+     */
+    public long nextId(int shard) {
+        return (blocks.get(shard).next() << SHARD_BITS) | shard;
+    }
+
+    /**
+     * Returns the shard a member was created on.
+     *
+     * @param id member ID generated by this class
+     * @return shard number
+     */
+    public static int shardOf(long id) {
+        return (int) (id & (MAX_SHARDS - 1));
+    }
+
+    /**
+     * Sequence values reserved from one shard and not used yet.
+     */
+    private static final class Block {
+
+        private final LongSupplier sequence;
+        private long next;
+        private long end;
+
+        Block(LongSupplier sequence) {
+            this.sequence = sequence;
+        }
+
+        synchronized long next() {
+            if (next == end) {
+                // The sequence advances by the block size, so [value, value + BLOCK_SIZE) is ours alone
+                next = sequence.getAsLong();
+                end = next + BLOCK_SIZE;
+            }
+            return next++;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.memberlist.infrastructure.shard;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import com.example.memberlist.infrastructure.repository.EmailBloomFilter;
+import com.example.memberlist.infrastructure.repository.MemberKanaIndex;
+import com.example.memberlist.infrastructure.repository.MemberKanaIndexLoader;
+import com.example.memberlist.infrastructure.repository.MemberTextIndex;
+import com.example.memberlist.infrastructure.repository.EmailBloomFilterLoader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Fills the email filter, the kana index and the text index from the shards at startup,
+ * in place of the loaders reading the single {@code members} table.
+ * All three are filled in one pass over the active members of every shard, merged in ascending
+ * ID order as the text index expects. Until loading completes, the repository answers from the shards.
+ * Like {@link EmailBloomFilterLoader}, the email filter is then refreshed periodically with the
+ * addresses updated on the shards since the previous refresh, and like {@link MemberKanaIndexLoader},
+ * the kana and text indexes with the members updated since the watermark of the previous load or refresh.
+ */
+public class ShardedMemberIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedMemberIndexLoader.class);
+
+    private final ShardedMemberRepository shardedMemberRepository;
+    private final EmailBloomFilter emailBloomFilter;
+    private final MemberKanaIndex memberKanaIndex;
+    private final MemberTextIndex memberTextIndex;
+
+    // Start of the last load or refresh of the email filter
+    private volatile LocalDateTime refreshedAt;
+
+    // Watermark of the last load or refresh of the kana and text indexes
+    private volatile LocalDateTime indexesRefreshedUntil;
+
+    public ShardedMemberIndexLoader(
+            ShardedMemberRepository shardedMemberRepository,
+            EmailBloomFilter emailBloomFilter,
+            MemberKanaIndex memberKanaIndex,
+            MemberTextIndex memberTextIndex) {
+        this.shardedMemberRepository = shardedMemberRepository;
+        this.emailBloomFilter = emailBloomFilter;
+        this.memberKanaIndex = memberKanaIndex;
+        this.memberTextIndex = memberTextIndex;
+    }
+
+    /**
+     * Reads every active member into the filter and the indexes and enables them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startedAt = System.nanoTime();
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+        LocalDateTime watermark = shardedMemberRepository.changeWatermark();
+        memberKanaIndex.beginLoad();
+        memberTextIndex.beginLoad();
+        List<MemberSuggestion> suggestions = new ArrayList<>();
+        try (Stream<Member> members = shardedMemberRepository.streamAllActiveById()) {
+            for (Member member : (Iterable<Member>) members::iterator) {
+                emailBloomFilter.put(member.getEmail());
+                suggestions.add(new MemberSuggestion(member.getId(), member.getName(), member.getNameKana()));
+                memberTextIndex.load(member.getId(), member.getName(), member.getPosition(),
+                        member.getSelfIntroduction());
+            }
+        }
+        refreshedAt = loadStartedAt;
+        emailBloomFilter.markReady();
+        memberKanaIndex.completeLoad(suggestions);
+        memberTextIndex.completeLoad();
+        indexesRefreshedUntil = watermark;
+        log.info("Email filter, kana index and text index loaded from the shards with {} members in {} ms",
+                suggestions.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * Adds the addresses of members updated on any shard since the previous refresh.
+     * Does nothing until loading has completed.
+     */
+    @Scheduled(fixedDelayString = "${member.email-filter.refresh-interval:PT30S}")
+    public void refreshEmailFilter() {
+        LocalDateTime since = refreshedAt;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<String> emails = shardedMemberRepository.findActiveEmailsUpdatedSince(
+                since.minus(EmailBloomFilterLoader.REFRESH_OVERLAP));
+        emails.forEach(emailBloomFilter::put);
+        refreshedAt = startedAt;
+        log.debug("Email filter refreshed from the shards with {} addresses", emails.size());
+    }
+
+    /**
+     * Applies the members updated on any shard since the previous load or refresh to the kana
+     * and text indexes, deleted ones included. Does nothing until loading has completed.
+     */
+    @Scheduled(fixedDelayString = "${member.index.refresh-interval:PT30S}")
+    public void refreshIndexes() {
+        LocalDateTime since = indexesRefreshedUntil;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime watermark = shardedMemberRepository.changeWatermark();
+        List<Member> members = shardedMemberRepository.findAllUpdatedSince(since);
+        memberKanaIndex.update(members);
+        memberTextIndex.update(members);
+        indexesRefreshedUntil = watermark;
+        log.debug("Kana and text indexes refreshed from the shards with {} changed members", members.size());
+    }
+}
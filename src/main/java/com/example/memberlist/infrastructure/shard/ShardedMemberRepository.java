@@ -0,0 +1,1037 @@
+package com.example.memberlist.infrastructure.shard;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.domain.repository.DuplicateMemberEmailException;
+import com.example.memberlist.domain.repository.MemberChanges;
+import com.example.memberlist.domain.repository.MemberCursor;
+import com.example.memberlist.domain.repository.MemberFilter;
+import com.example.memberlist.domain.repository.MemberRepository;
+import com.example.memberlist.domain.repository.MemberSearchHit;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import com.example.memberlist.domain.repository.MemberTombstone;
+import com.example.memberlist.infrastructure.repository.EmailBloomFilter;
+import com.example.memberlist.infrastructure.repository.MemberChangeWatermark;
+import com.example.memberlist.infrastructure.repository.MemberJpaRepository;
+import com.example.memberlist.infrastructure.repository.MemberKanaIndex;
+import com.example.memberlist.infrastructure.repository.MemberRepositoryImpl;
+import com.example.memberlist.infrastructure.repository.MemberText;
+import com.example.memberlist.infrastructure.repository.MemberTextIndex;
+import io.micrometer.core.annotation.Timed;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.sql.DataSource;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.PostgresSequenceMaxValueIncrementer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Implementation of MemberRepository over several databases (shards), each holding part of the
+ * {@code members} table with the full schema of {@code db/migration}.
+ * <p>
+ * A member is stored on the shard of its email address ({@link EmailShardRouter}), so
+ * registration checks and lookups by email read one shard, and the unique constraint of each
+ * shard keeps active addresses unique overall. A member whose address changes to one of another
+ * shard moves there. IDs are generated per shard ({@link ShardIdGenerator}); a lookup by ID asks
+ * the shard the member was created on first and the others only if it has moved.
+ * <p>
+ * Lists are read from all shards in parallel, at most one page from each, and merged in list
+ * order ({@code createdAt DESC, id DESC} for the member list).
+ * <p>
+ * Unlike {@link MemberRepositoryImpl}, each call commits on the shards before it returns,
+ * whatever the caller's transaction does afterwards. A write involving several shards, including
+ * the bulk deletes and updates, runs in one local transaction per shard and commits them one after
+ * another; only a failure between those commits can leave it partly applied. The in-memory indexes and the email filter are
+ * maintained as by {@link MemberRepositoryImpl} and loaded by {@link ShardedMemberIndexLoader}.
+ * Every shard keeps its own {@code member_directory} version, incremented in the transaction that
+ * writes members to it; the directory version is the sum over the shards.
+ * <p>
+ * Both the version and the indexes therefore follow the shard commits: the version commits with
+ * the rows, and the indexes are updated as soon as the shards have committed. Where
+ * {@link MemberRepositoryImpl} waits for the caller's transaction, this repository does not, since
+ * the rows stay written even if that transaction rolls back.
+ * <p>
+ * Update times are stamped with the clock of the shard a row is written to, read in the writing
+ * transaction, and the change feed bounds its watermark by the earliest of the shard clocks.
+ */
+@Timed(value = MemberRepositoryImpl.TIMER, description = "Latency of member repository calls")
+public class ShardedMemberRepository implements MemberRepository, AutoCloseable {
+
+    /**
+     * Number of IDs bound to one bulk UPDATE, as in {@link MemberRepositoryImpl}.
+     */
+    static final int BULK_CHUNK_SIZE = 1_000;
+
+    private static final String ID_SEQUENCE = "members_id_seq";
+
+    private static final int STREAM_FETCH_SIZE = Integer.parseInt(MemberJpaRepository.STREAM_FETCH_SIZE);
+
+    private static final String COLUMNS = "id, name, name_kana, email, position, location, profile_image_url,"
+            + " self_introduction, created_at, updated_at, is_deleted, version";
+
+    private static final String SELECT = "SELECT " + COLUMNS + " FROM members";
+
+    private static final String NEWEST_FIRST_ORDER = " ORDER BY created_at DESC, id DESC";
+
+    private static final String INSERT = "INSERT INTO members (" + COLUMNS + ", active_email) VALUES"
+            + " (:id, :name, :nameKana, :email, :position, :location, :profileImageUrl, :selfIntroduction,"
+            + " :createdAt, :updatedAt, :deleted, :version, :activeEmail)";
+
+    private static final String UPDATE_SET = "UPDATE members SET active_email = :activeEmail,"
+            + " updated_at = :updatedAt, is_deleted = :deleted, version = :version";
+
+    private static final String DELETE_MOVED = "DELETE FROM members WHERE id = :id AND version = :expectedVersion";
+
+    private static final String BULK_DELETE = "UPDATE members SET is_deleted = TRUE, active_email = NULL,"
+            + " updated_at = LOCALTIMESTAMP, version = version + 1 WHERE id IN (:ids) AND active_email IS NOT NULL";
+
+    private static final String BULK_UPDATE = "UPDATE members SET position = COALESCE(:position, position),"
+            + " location = COALESCE(:location, location), updated_at = LOCALTIMESTAMP, version = version + 1"
+            + " WHERE id IN (:ids) AND active_email IS NOT NULL";
+
+    private static final String ARCHIVE = "INSERT INTO members_archive (id, name, name_kana, email, position,"
+            + " location, profile_image_url, self_introduction, created_at, deleted_at, archived_at)"
+            + " SELECT id, name, name_kana, email, position, location, profile_image_url, self_introduction,"
+            + " created_at, updated_at, :archivedAt FROM members WHERE id IN (:ids) AND is_deleted = TRUE";
+
+    private static final RowMapper<Member> MEMBER = (rs, rowNum) -> Member.restore(
+            rs.getLong("id"),
+            rs.getString("name"),
+            rs.getString("name_kana"),
+            rs.getString("email"),
+            rs.getString("position"),
+            rs.getString("location"),
+            rs.getString("profile_image_url"),
+            rs.getString("self_introduction"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class),
+            rs.getBoolean("is_deleted"),
+            rs.getLong("version"));
+
+    private static final RowMapper<MemberSuggestion> SUGGESTION = (rs, rowNum) ->
+            new MemberSuggestion(rs.getLong("id"), rs.getString("name"), rs.getString("name_kana"));
+
+    private static final RowMapper<MemberText> TEXT = (rs, rowNum) -> new MemberText(rs.getLong("id"),
+            rs.getString("name"), rs.getString("position"), rs.getString("self_introduction"), rs.getLong("version"));
+
+    private static final RowMapper<MemberTombstone> TOMBSTONE = (rs, rowNum) ->
+            new MemberTombstone(rs.getLong("id"), rs.getObject("deleted_at", LocalDateTime.class));
+
+    private static final Comparator<Member> NEWEST_FIRST = Comparator.comparing(Member::getCreatedAt)
+            .thenComparing(Member::getId)
+            .reversed();
+
+    private static final Comparator<Member> OLDEST_CHANGE_FIRST = Comparator.comparing(Member::getUpdatedAt)
+            .thenComparing(Member::getId);
+
+    private static final Comparator<Member> BY_ID = Comparator.comparing(Member::getId);
+
+    private static final Comparator<MemberSuggestion> BY_READING = Comparator.comparing(MemberSuggestion::nameKana)
+            .thenComparing(MemberSuggestion::id);
+
+    private static final Comparator<MemberTombstone> OLDEST_DELETION_FIRST = Comparator
+            .comparing(MemberTombstone::deletedAt)
+            .thenComparing(MemberTombstone::id);
+
+    private static final Comparator<FieldRow> FIELDS_NEWEST_FIRST = Comparator.comparing(FieldRow::createdAt)
+            .thenComparingLong(FieldRow::id)
+            .reversed();
+
+    private static final Comparator<MemberSearchHit> MOST_RELEVANT_FIRST = Comparator
+            .comparingInt(MemberSearchHit::score).reversed()
+            .thenComparing(hit -> hit.member().getId(), Comparator.reverseOrder());
+
+    private final List<Shard> shards;
+    private final EmailShardRouter router;
+    private final ShardIdGenerator idGenerator;
+    private final ExecutorService scatterExecutor;
+    private final EmailBloomFilter emailBloomFilter;
+    private final MemberKanaIndex memberKanaIndex;
+    private final MemberTextIndex memberTextIndex;
+    private final MemberChangeWatermark memberChangeWatermark;
+
+    /**
+     * Creates a repository over migrated shards.
+     * The order of the data sources fixes the shard numbers, which are part of every ID and
+     * decide where each address is stored; it must never change for existing data.
+     *
+     * @param dataSources one data source per shard
+     * @param emailBloomFilter filter of registered addresses
+     * @param memberKanaIndex in-memory index of readings
+     * @param memberTextIndex in-memory full-text index
+     * @param memberChangeWatermark bound of the change feed
+     */
+    public ShardedMemberRepository(
+            List<DataSource> dataSources,
+            EmailBloomFilter emailBloomFilter,
+            MemberKanaIndex memberKanaIndex,
+            MemberTextIndex memberTextIndex,
+            MemberChangeWatermark memberChangeWatermark) {
+        this.shards = IntStream.range(0, dataSources.size())
+                .mapToObj(i -> new Shard(i, dataSources.get(i)))
+                .toList();
+        this.router = new EmailShardRouter(shards.size());
+        this.idGenerator = new ShardIdGenerator(dataSources.stream()
+                .map(ShardedMemberRepository::idSequence)
+                .toList());
+        CustomizableThreadFactory threads = new CustomizableThreadFactory("member-shard-");
+        threads.setDaemon(true);
+        this.scatterExecutor = Executors.newFixedThreadPool(shards.size(), threads);
+        this.emailBloomFilter = emailBloomFilter;
+        this.memberKanaIndex = memberKanaIndex;
+        this.memberTextIndex = memberTextIndex;
+        this.memberChangeWatermark = memberChangeWatermark;
+    }
+
+    // Addresses are added to the filter before they are written; should the write fail,
+    // the filter only gains a false positive, never a false negative.
+
+    @Override
+    public Member save(Member member) {
+        return member.getId() == null ? insert(member) : update(member);
+    }
+
+    @Override
+    public Member insert(Member member) {
+        emailBloomFilter.put(member.getEmail());
+        Shard shard = shardOf(member.getEmail());
+        Long id = idGenerator.nextId(shard.number());
+        Member saved = translatingDuplicates(() -> inTransactions(List.of(shard), () -> {
+            LocalDateTime now = currentTime(shard);
+            Member created = stored(member, id, now, now, 0L);
+            bumped(shard, shard.jdbc().update(INSERT, row(created)));
+            return created;
+        }));
+        publish(List.of(saved));
+        return saved;
+    }
+
+    @Override
+    public Member update(Member member) {
+        emailBloomFilter.put(member.getEmail());
+        Member saved = translatingDuplicates(() -> write(member));
+        publish(List.of(saved));
+        return saved;
+    }
+
+    /**
+     * Writes the state of a member that was read with its current version, on the shard of
+     * its address, and returns the stored state.
+     *
+     * @throws OptimisticLockingFailureException if the member was changed or removed meanwhile
+     */
+    private Member write(Member member) {
+        Long expectedVersion = Objects.requireNonNull(member.getVersion(), "version must not be null");
+        String sql = update(member.getChangedFields());
+        Shard target = shardOf(member.getEmail());
+        Optional<Member> updated = inTransactions(List.of(target), () -> {
+            Member stamped = stored(member, target, expectedVersion);
+            int rows = target.jdbc().update(sql, row(stamped).addValue("expectedVersion", expectedVersion));
+            return bumped(target, rows) > 0 ? Optional.of(stamped) : Optional.empty();
+        });
+        return updated.orElseGet(() -> move(member, expectedVersion, target));
+    }
+
+    /**
+     * Moves a member whose new address belongs to another shard than the old one: the row is
+     * deleted where it is, provided it still has the version it was read with, and inserted
+     * with its new state on the target shard, in one transaction on each of the two shards.
+     */
+    private Member move(Member member, Long expectedVersion, Shard target) {
+        Long id = member.getId();
+        Shard source = locate(id, target).orElseThrow(() -> conflict(id));
+        return inTransactions(List.of(source, target), () -> {
+            Member moved = stored(member, target, expectedVersion);
+            MapSqlParameterSource row = row(moved).addValue("expectedVersion", expectedVersion);
+            if (source.jdbc().update(DELETE_MOVED, row) == 0) {
+                throw conflict(id);
+            }
+            bumped(source, 1);
+            bumped(target, target.jdbc().update(INSERT, row));
+            return moved;
+        });
+    }
+
+    /**
+     * Finds the shard holding a member, other than the given one, asking the shard the member
+     * was created on first.
+     */
+    private Optional<Shard> locate(Long id, Shard except) {
+        MapSqlParameterSource params = new MapSqlParameterSource("id", id);
+        return candidates(id).stream()
+                .filter(shard -> shard != except)
+                .filter(shard -> shard.jdbc().queryForObject(
+                        "SELECT COUNT(*) FROM members WHERE id = :id", params, Long.class) > 0)
+                .findFirst();
+    }
+
+    @Override
+    public List<Member> saveAll(List<Member> members) {
+        members.forEach(member -> emailBloomFilter.put(member.getEmail()));
+        List<Member> saved = translatingDuplicates(() -> writeAll(members));
+        publish(saved);
+        return saved;
+    }
+
+    /**
+     * Writes the existing members one by one and inserts the new ones in one batch per shard.
+     */
+    private List<Member> writeAll(List<Member> members) {
+        List<Member> saved = new ArrayList<>(members);
+        // Positions in the result of the new members, by the shard of their address
+        Map<Shard, List<Integer>> inserts = new TreeMap<>(Comparator.comparingInt(Shard::number));
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            if (member.getId() != null) {
+                saved.set(i, write(member));
+            } else {
+                inserts.computeIfAbsent(shardOf(member.getEmail()), key -> new ArrayList<>()).add(i);
+            }
+        }
+        // One JDBC batch per shard, all committed together or not at all unless a commit itself fails
+        inTransactions(List.copyOf(inserts.keySet()), () -> {
+            inserts.forEach((shard, positions) -> {
+                LocalDateTime now = currentTime(shard);
+                MapSqlParameterSource[] rows = new MapSqlParameterSource[positions.size()];
+                for (int i = 0; i < rows.length; i++) {
+                    int position = positions.get(i);
+                    Member created = stored(members.get(position), idGenerator.nextId(shard.number()), now, now, 0L);
+                    saved.set(position, created);
+                    rows[i] = row(created);
+                }
+                shard.jdbc().batchUpdate(INSERT, rows);
+                bumped(shard, rows.length);
+            });
+            return null;
+        });
+        return saved;
+    }
+
+    @Override
+    public Optional<Member> findById(Long id) {
+        List<Shard> candidates = candidates(id);
+        Optional<Member> found = findById(candidates.get(0), id);
+        if (found.isPresent() || candidates.size() == 1) {
+            return found;
+        }
+        // Moved to the shard of a new address since it was created, or unknown
+        return scatter(candidates.subList(1, candidates.size()), shard -> findById(shard, id)).stream()
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    private static Optional<Member> findById(Shard shard, Long id) {
+        return shard.jdbc().query(SELECT + " WHERE id = :id", Map.of("id", id), MEMBER).stream().findFirst();
+    }
+
+    @Override
+    public List<Member> findAll(MemberFilter filter) {
+        return queryPage(filter, null, null);
+    }
+
+    @Override
+    public List<Member> findPage(MemberFilter filter, MemberCursor after, int limit) {
+        return queryPage(filter, after, limit);
+    }
+
+    private List<Member> queryPage(MemberFilter filter, MemberCursor after, Integer limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = SELECT + activeMatching(filter, after, params) + NEWEST_FIRST_ORDER + limit(limit, params);
+        return merge(scatter(shard -> shard.jdbc().query(sql, params, MEMBER)), NEWEST_FIRST, limit);
+    }
+
+    @Override
+    public List<Map<String, Object>> findAllFields(Set<MemberField> fields, MemberFilter filter) {
+        return queryFieldsPage(fields, filter, null, null);
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsPage(
+            Set<MemberField> fields, MemberFilter filter, MemberCursor after, int limit) {
+        return queryFieldsPage(fields, filter, after, limit);
+    }
+
+    /**
+     * Reads only the selected columns, plus the sort key needed to merge the shards.
+     */
+    private List<Map<String, Object>> queryFieldsPage(
+            Set<MemberField> fields, MemberFilter filter, MemberCursor after, Integer limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String columns = fields.stream().map(ShardedMemberRepository::column).collect(Collectors.joining(", "));
+        String sql = "SELECT id AS sort_id, created_at AS sort_created_at, " + columns + " FROM members"
+                + activeMatching(filter, after, params) + NEWEST_FIRST_ORDER + limit(limit, params);
+        RowMapper<FieldRow> mapper = (rs, rowNum) -> new FieldRow(
+                rs.getObject("sort_created_at", LocalDateTime.class), rs.getLong("sort_id"), fieldValues(rs, fields));
+        return merge(scatter(shard -> shard.jdbc().query(sql, params, mapper)), FIELDS_NEWEST_FIRST, limit).stream()
+                .map(FieldRow::fields)
+                .toList();
+    }
+
+    @Override
+    public Stream<Member> streamAll() {
+        return streamMerged(SELECT + " WHERE is_deleted = FALSE" + NEWEST_FIRST_ORDER, NEWEST_FIRST);
+    }
+
+    /**
+     * Streams all active members in ascending ID order, for loading the in-memory indexes.
+     * The stream holds a connection to every shard and must be closed after use.
+     *
+     * @return stream of active members
+     */
+    public Stream<Member> streamAllActiveById() {
+        return streamMerged(SELECT + " WHERE is_deleted = FALSE ORDER BY id", BY_ID);
+    }
+
+    /**
+     * Finds the email addresses of active members updated at or after the given time on any shard,
+     * for refreshing the email filter with registrations made through other instances.
+     *
+     * @param since lower bound of the update time (inclusive)
+     * @return the addresses, in no particular order
+     */
+    public List<String> findActiveEmailsUpdatedSince(LocalDateTime since) {
+        return scatter(shard -> shard.jdbc().queryForList(
+                "SELECT email FROM members WHERE updated_at >= :since AND is_deleted = FALSE",
+                Map.of("since", since), String.class)).stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    /**
+     * Finds members, deleted or not, updated at or after the given time on any shard,
+     * for refreshing the in-memory indexes with changes committed through other instances.
+     *
+     * @param since lower bound of the update time (inclusive)
+     * @return changed members, in no particular order
+     */
+    public List<Member> findAllUpdatedSince(LocalDateTime since) {
+        return scatter(shard -> shard.jdbc().query(SELECT + " WHERE updated_at >= :since",
+                Map.of("since", since), MEMBER)).stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    /**
+     * Returns the current watermark of the changes: every change committed from now on, on any
+     * shard, is stamped at or after it.
+     *
+     * @return the earliest shard clock, held back by the longest transaction
+     */
+    public LocalDateTime changeWatermark() {
+        return memberChangeWatermark.at(scatter(ShardedMemberRepository::currentTime).stream()
+                .min(Comparator.naturalOrder())
+                .orElseThrow());
+    }
+
+    /**
+     * Opens the query on every shard and merges the rows as they are consumed.
+     */
+    private Stream<Member> streamMerged(String sql, Comparator<Member> order) {
+        List<Stream<Member>> streams = new ArrayList<>(shards.size());
+        try {
+            for (Shard shard : shards) {
+                streams.add(streamShard(shard, sql));
+            }
+            Iterator<Member> merged = SortedMerge.merge(streams.stream().map(Stream::iterator).toList(), order);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED), false)
+                    .onClose(() -> streams.forEach(Stream::close));
+        } catch (RuntimeException e) {
+            streams.forEach(Stream::close);
+            throw e;
+        }
+    }
+
+    /**
+     * Streams the rows of a query on one shard in a read-only transaction of its own, fetched in
+     * chunks of {@link MemberJpaRepository#STREAM_FETCH_SIZE} as the JPA streams are. Autocommit is
+     * off, since drivers such as PostgreSQL otherwise read the whole result at once. The transaction
+     * ends and the connection is returned when the stream is closed.
+     */
+    private static Stream<Member> streamShard(Shard shard, String sql) {
+        Connection connection;
+        try {
+            connection = shard.dataSource().getConnection();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Cannot connect to shard " + shard.number(), e);
+        }
+        try {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            JdbcTemplate reader = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            reader.setFetchSize(STREAM_FETCH_SIZE);
+            return reader.queryForStream(sql, MEMBER).onClose(() -> endReadOnly(connection));
+        } catch (SQLException e) {
+            endReadOnly(connection);
+            throw new DataAccessResourceFailureException("Cannot start a read on shard " + shard.number(), e);
+        } catch (RuntimeException e) {
+            endReadOnly(connection);
+            throw e;
+        }
+    }
+
+    private static void endReadOnly(Connection connection) {
+        try {
+            // Nothing was written; ending the transaction releases its snapshot
+            connection.rollback();
+        } catch (SQLException e) {
+            // Closing the connection ends the transaction as well
+        } finally {
+            JdbcUtils.closeConnection(connection);
+        }
+    }
+
+    @Override
+    public List<MemberSuggestion> findByKanaPrefix(String kanaPrefix, int limit) {
+        if (memberKanaIndex.isReady()) {
+            return memberKanaIndex.findByPrefix(kanaPrefix, limit);
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("prefix", escapeLike(kanaPrefix) + "%");
+        String sql = "SELECT id, name, name_kana FROM members WHERE is_deleted = FALSE"
+                + " AND name_kana LIKE :prefix ESCAPE '\\' ORDER BY name_kana, id" + limit(limit, params);
+        return merge(scatter(shard -> shard.jdbc().query(sql, params, SUGGESTION)), BY_READING, limit);
+    }
+
+    @Override
+    public List<MemberSearchHit> search(String query, int limit) {
+        if (!memberTextIndex.isReady()) {
+            return scanForMatches(query, limit);
+        }
+        // The index keeps no text; each candidate is verified and scored against its row, which
+        // also drops members the index has not yet seen deleted
+        List<Long> candidates = memberTextIndex.findCandidates(query);
+        return rank(findAllById(candidates).values().stream().filter(member -> !member.isDeleted()), query, limit);
+    }
+
+    /**
+     * Scores every active member against the query; used only until the index has been loaded.
+     */
+    private List<MemberSearchHit> scanForMatches(String query, int limit) {
+        try (Stream<Member> members = streamAll()) {
+            return rank(members, query, limit);
+        }
+    }
+
+    private static List<MemberSearchHit> rank(Stream<Member> members, String query, int limit) {
+        return members
+                .map(member -> new MemberSearchHit(member, MemberTextIndex.score(member, query)))
+                .filter(hit -> hit.score() > 0)
+                .sorted(MOST_RELEVANT_FIRST)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public Optional<Member> findByEmail(String email) {
+        return shardOf(email).jdbc()
+                .query(SELECT + " WHERE active_email = :email", Map.of("email", email), MEMBER).stream()
+                .findFirst();
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        if (!emailBloomFilter.mightContain(email)) {
+            return false;
+        }
+        return shardOf(email).jdbc().queryForObject(
+                "SELECT COUNT(*) FROM members WHERE active_email = :email", Map.of("email", email), Long.class) > 0;
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        Map<Shard, List<String>> emailsByShard = emails.stream()
+                .collect(Collectors.groupingBy(this::shardOf, LinkedHashMap::new, Collectors.toList()));
+        Set<String> existing = new HashSet<>();
+        scatter(List.copyOf(emailsByShard.keySet()), shard -> shard.jdbc().queryForList(
+                "SELECT active_email FROM members WHERE active_email IN (:emails)",
+                Map.of("emails", emailsByShard.get(shard)), String.class))
+                .forEach(existing::addAll);
+        return existing;
+    }
+
+    @Override
+    public MemberChanges findChangesSince(LocalDateTime since, Long afterId, int limit) {
+        // Fix the watermark before querying: anything committed later is stamped at or after it on every shard
+        LocalDateTime watermark = changeWatermark();
+        // One more than the limit from each table tells whether changes are left over
+        MapSqlParameterSource params = new MapSqlParameterSource("since", since)
+                .addValue("afterId", afterId != null ? afterId : Long.MIN_VALUE)
+                .addValue("until", watermark);
+        String rows = limit(limit + 1, params);
+        // Per shard, read the live table first: a member archived in between then shows up in both, never in neither
+        List<ShardChanges> changes = scatter(shard -> new ShardChanges(
+                shard.jdbc().query(SELECT + " WHERE updated_at >= :since AND updated_at < :until"
+                        + " AND (updated_at > :since OR id > :afterId) ORDER BY updated_at, id" + rows, params, MEMBER),
+                shard.jdbc().query("SELECT id, deleted_at FROM members_archive"
+                        + " WHERE deleted_at >= :since AND deleted_at < :until"
+                        + " AND (deleted_at > :since OR id > :afterId) ORDER BY deleted_at, id" + rows,
+                        params, TOMBSTONE)));
+        return MemberChanges.page(
+                merge(changes.stream().map(ShardChanges::members).toList(), OLDEST_CHANGE_FIRST, limit + 1),
+                merge(changes.stream().map(ShardChanges::archived).toList(), OLDEST_DELETION_FIRST, limit + 1),
+                watermark, limit);
+    }
+
+    @Override
+    public long countDeletedBefore(LocalDateTime deletedBefore) {
+        return scatter(shard -> shard.jdbc().queryForObject(
+                "SELECT COUNT(*) FROM members WHERE is_deleted = TRUE AND updated_at < :deletedBefore",
+                Map.of("deletedBefore", deletedBefore), Long.class)).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    public int archiveDeleted(LocalDateTime deletedBefore, int limit) {
+        LocalDateTime archivedAt = LocalDateTime.now();
+        int archived = 0;
+        for (Shard shard : shards) {
+            if (archived >= limit) {
+                break;
+            }
+            int remaining = limit - archived;
+            archived += shard.transactions().execute(status -> archive(shard, deletedBefore, remaining, archivedAt));
+        }
+        return archived;
+    }
+
+    /**
+     * Moves deleted members of one shard to its archive table, oldest deletion first.
+     * Rows locked by the job of another instance are skipped, so concurrent jobs move disjoint rows.
+     */
+    private static int archive(Shard shard, LocalDateTime deletedBefore, int limit, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource("deletedBefore", deletedBefore)
+                .addValue("archivedAt", archivedAt);
+        List<Long> ids = shard.jdbc().queryForList("SELECT id FROM members"
+                + " WHERE is_deleted = TRUE AND updated_at < :deletedBefore ORDER BY updated_at, id"
+                + limit(limit, params) + " FOR UPDATE SKIP LOCKED", params, Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        params.addValue("ids", ids);
+        shard.jdbc().update(ARCHIVE, params);
+        return shard.jdbc().update("DELETE FROM members WHERE id IN (:ids) AND is_deleted = TRUE", params);
+    }
+
+    @Override
+    public void delete(Member member) {
+        member.delete();
+        Member deleted = write(member);
+        publish(List.of(deleted));
+    }
+
+    @Override
+    public int deleteAllByIds(Collection<Long> ids) {
+        List<Long> deleted = new ArrayList<>();
+        int count = updateInChunks(ids, BULK_DELETE, new MapSqlParameterSource(), deleted);
+        if (count > 0) {
+            // Deleted members leave the indexes, so their IDs are all the indexes need
+            memberKanaIndex.remove(deleted);
+            memberTextIndex.remove(deleted);
+        }
+        return count;
+    }
+
+    @Override
+    public int updateAllByIds(Collection<Long> ids, String position, String location) {
+        List<Long> updated = new ArrayList<>();
+        int count = updateInChunks(ids, BULK_UPDATE,
+                new MapSqlParameterSource("position", position).addValue("location", location), updated);
+        if (count > 0 && position != null) {
+            // Names are unchanged, so only the text index, which holds the position, is refreshed
+            memberTextIndex.updateTexts(findActiveTexts(updated));
+        }
+        return count;
+    }
+
+    /**
+     * Runs a bulk UPDATE per chunk of distinct IDs on every shard, since members may have moved
+     * away from the shard their ID names, each stamped with the clock of its shard. All chunks run
+     * in one transaction per shard, committed together as by {@link #inTransactions}, so the
+     * operation is applied as a whole, as it is by {@link MemberRepositoryImpl}. The IDs of the
+     * chunks that changed any row are added to {@code changed} for the caller to refresh the
+     * in-memory indexes with once committed.
+     */
+    private int updateInChunks(Collection<Long> ids, String sql, MapSqlParameterSource values, List<Long> changed) {
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.isEmpty()) {
+            return 0;
+        }
+        return inTransactions(shards, () -> {
+            // Run on this thread, which holds the transactions, instead of scattering
+            int[] rowsByShard = new int[shards.size()];
+            for (int from = 0; from < distinct.size(); from += BULK_CHUNK_SIZE) {
+                List<Long> chunk = distinct.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinct.size()));
+                MapSqlParameterSource params = new MapSqlParameterSource(values.getValues())
+                        .addValue("ids", chunk);
+                int chunkCount = 0;
+                for (Shard shard : shards) {
+                    int rows = shard.jdbc().update(sql, params);
+                    rowsByShard[shard.number()] += rows;
+                    chunkCount += rows;
+                }
+                if (chunkCount > 0) {
+                    changed.addAll(chunk);
+                }
+            }
+            shards.forEach(shard -> bumped(shard, rowsByShard[shard.number()]));
+            return IntStream.of(rowsByShard).sum();
+        });
+    }
+
+    /**
+     * Reads the indexed columns of the active members with the given IDs from all shards,
+     * a chunk at a time, without the rest of their rows.
+     */
+    private List<MemberText> findActiveTexts(List<Long> ids) {
+        List<MemberText> texts = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            Map<String, Object> params = Map.of("ids", ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())));
+            scatter(shard -> shard.jdbc().query("SELECT id, name, position, self_introduction, version FROM members"
+                    + " WHERE id IN (:ids) AND is_deleted = FALSE", params, TEXT)).forEach(texts::addAll);
+        }
+        return texts;
+    }
+
+    @Override
+    public long getDirectoryVersion() {
+        // Each shard's version only grows, so their sum changes whenever any of them does
+        return scatter(shard -> shard.jdbc().queryForObject(
+                "SELECT version FROM member_directory WHERE id = 1", Map.of(), Long.class)).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * Stops the scatter threads and closes the connection pools of the shards.
+     */
+    @Override
+    public void close() throws Exception {
+        scatterExecutor.shutdownNow();
+        for (Shard shard : shards) {
+            if (shard.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Shard shardOf(String email) {
+        return shards.get(router.shardOf(email));
+    }
+
+    /**
+     * Returns the shards that may hold a member, the one its ID names first.
+     */
+    private List<Shard> candidates(Long id) {
+        int home = ShardIdGenerator.shardOf(id);
+        if (home >= shards.size()) {
+            return shards;
+        }
+        List<Shard> candidates = new ArrayList<>(shards.size());
+        candidates.add(shards.get(home));
+        shards.stream().filter(shard -> shard.number() != home).forEach(candidates::add);
+        return candidates;
+    }
+
+    /**
+     * Reads members from all shards at once; a member that moved is found on its new shard.
+     */
+    private Map<Long, Member> findAllById(Collection<Long> ids) {
+        Map<Long, Member> members = new HashMap<>();
+        if (ids.isEmpty()) {
+            return members;
+        }
+        scatter(shard -> shard.jdbc().query(SELECT + " WHERE id IN (:ids)", Map.of("ids", ids), MEMBER))
+                .forEach(found -> found.forEach(member -> members.put(member.getId(), member)));
+        return members;
+    }
+
+    private <T> List<T> scatter(Function<Shard, T> query) {
+        return scatter(shards, query);
+    }
+
+    /**
+     * Runs a query on each of the given shards in parallel and returns the results in shard order.
+     */
+    private <T> List<T> scatter(List<Shard> targets, Function<Shard, T> query) {
+        if (targets.size() == 1) {
+            return List.of(query.apply(targets.get(0)));
+        }
+        List<CompletableFuture<T>> futures = targets.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard), scatterExecutor))
+                .toList();
+        List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Merges sorted results of the shards, keeping at most {@code limit} elements.
+     */
+    private static <T> List<T> merge(List<List<T>> results, Comparator<? super T> order, Integer limit) {
+        int max = limit == null ? Integer.MAX_VALUE : limit;
+        Iterator<T> merged = SortedMerge.merge(results.stream().map(List::iterator).toList(), order);
+        List<T> page = new ArrayList<>(Math.min(max, results.stream().mapToInt(List::size).sum()));
+        while (merged.hasNext() && page.size() < max) {
+            page.add(merged.next());
+        }
+        return page;
+    }
+
+    /**
+     * Runs the work inside a local transaction on each of the given shards, nested in the given
+     * order; the transactions commit from the last shard to the first once the work has completed,
+     * and all of them roll back if it fails.
+     */
+    private static <T> T inTransactions(List<Shard> shards, Supplier<T> work) {
+        if (shards.isEmpty()) {
+            return work.get();
+        }
+        return shards.get(0).transactions()
+                .execute(status -> inTransactions(shards.subList(1, shards.size()), work));
+    }
+
+    /**
+     * Runs a write, reporting a clash with the unique constraint on active email addresses of a
+     * shard as a {@link DuplicateMemberEmailException}; other violations are rethrown as they are.
+     */
+    private static <T> T translatingDuplicates(Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DuplicateKeyException e) {
+            // Drivers report the name in different cases and often qualified with schema or index details
+            String message = e.getMostSpecificCause().getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(Member.ACTIVE_EMAIL_CONSTRAINT)) {
+                throw new DuplicateMemberEmailException("Active member with this email already exists", e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Increments the directory version of a shard in the transaction that wrote the given number
+     * of rows to it, if any, and returns that number.
+     */
+    private static int bumped(Shard shard, int rows) {
+        if (rows > 0) {
+            shard.jdbc().update("UPDATE member_directory SET version = version + 1 WHERE id = 1", Map.of());
+        }
+        return rows;
+    }
+
+    /**
+     * Applies written members to the in-memory indexes once the shards have committed the write,
+     * without waiting for the caller's transaction: the rows are visible from now on whatever its
+     * outcome, and the directory version has already moved with them.
+     */
+    private void publish(List<Member> members) {
+        memberKanaIndex.update(members);
+        memberTextIndex.update(members);
+    }
+
+    /**
+     * Returns a member read with the given version as updated now on the given shard.
+     */
+    private static Member stored(Member member, Shard shard, Long expectedVersion) {
+        return stored(member, member.getId(), member.getCreatedAt(), currentTime(shard), expectedVersion + 1);
+    }
+
+    /**
+     * Returns a member as stored with the given identity, timestamps and version.
+     */
+    private static Member stored(Member member, Long id, LocalDateTime createdAt, LocalDateTime updatedAt,
+            Long version) {
+        return Member.restore(id, member.getName(), member.getNameKana(), member.getEmail(), member.getPosition(),
+                member.getLocation(), member.getProfileImageUrl(), member.getSelfIntroduction(), createdAt,
+                updatedAt, member.isDeleted(), version);
+    }
+
+    /**
+     * Builds an UPDATE that writes only the changed fields besides the state columns, as
+     * {@code @DynamicUpdate} does for JPA, so a small edit does not rewrite the large text columns.
+     */
+    private static String update(Set<MemberField> changedFields) {
+        StringBuilder sql = new StringBuilder(UPDATE_SET);
+        for (MemberField field : changedFields) {
+            sql.append(", ").append(column(field)).append(" = :").append(field.getPropertyName());
+        }
+        return sql.append(" WHERE id = :id AND version = :expectedVersion").toString();
+    }
+
+    private static MapSqlParameterSource row(Member member) {
+        return new MapSqlParameterSource("id", member.getId())
+                .addValue("name", member.getName())
+                .addValue("nameKana", member.getNameKana())
+                .addValue("email", member.getEmail())
+                .addValue("activeEmail", member.isDeleted() ? null : member.getEmail())
+                .addValue("position", member.getPosition())
+                .addValue("location", member.getLocation())
+                .addValue("profileImageUrl", member.getProfileImageUrl())
+                .addValue("selfIntroduction", member.getSelfIntroduction())
+                .addValue("createdAt", member.getCreatedAt())
+                .addValue("updatedAt", member.getUpdatedAt())
+                .addValue("deleted", member.isDeleted())
+                .addValue("version", member.getVersion());
+    }
+
+    /**
+     * Builds the conditions of the active member list, as {@code MemberSpecifications} does for JPA.
+     */
+    private static String activeMatching(MemberFilter filter, MemberCursor after, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder(" WHERE is_deleted = FALSE");
+        if (filter.position() != null) {
+            where.append(" AND position = :position");
+            params.addValue("position", filter.position());
+        }
+        if (filter.location() != null) {
+            where.append(" AND location = :location");
+            params.addValue("location", filter.location());
+        }
+        if (filter.createdAfter() != null) {
+            where.append(" AND created_at > :createdAfter");
+            params.addValue("createdAfter", filter.createdAfter());
+        }
+        if (after != null) {
+            where.append(" AND (created_at < :afterCreatedAt OR (created_at = :afterCreatedAt AND id < :afterId))");
+            params.addValue("afterCreatedAt", after.createdAt()).addValue("afterId", after.id());
+        }
+        return where.toString();
+    }
+
+    private static String limit(Integer limit, MapSqlParameterSource params) {
+        if (limit == null) {
+            return "";
+        }
+        params.addValue("limit", limit);
+        return " FETCH FIRST :limit ROWS ONLY";
+    }
+
+    private static String column(MemberField field) {
+        // Column names are the snake case of the field names, e.g. NAME_KANA -> name_kana
+        return field.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, Object> fieldValues(ResultSet rs, Set<MemberField> fields) throws SQLException {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (MemberField field : fields) {
+            Object value = switch (field) {
+                case ID -> rs.getLong(column(field));
+                case CREATED_AT, UPDATED_AT -> rs.getObject(column(field), LocalDateTime.class);
+                default -> rs.getString(column(field));
+            };
+            values.put(field.getPropertyName(), value);
+        }
+        return values;
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Reads the clock of a shard, which stamps the changes written to it. Within a transaction on
+     * the shard, H2 and PostgreSQL return the time the transaction started.
+     */
+    private static LocalDateTime currentTime(Shard shard) {
+        return shard.jdbc().queryForObject("SELECT LOCALTIMESTAMP", Map.of(), LocalDateTime.class);
+    }
+
+    private static OptimisticLockingFailureException conflict(Long id) {
+        return new OptimisticLockingFailureException("Member was updated or deleted by another transaction: " + id);
+    }
+
+    /**
+     * Draws sequence values from the shard's {@code members_id_seq} in its own SQL dialect.
+     */
+    private static LongSupplier idSequence(DataSource dataSource) {
+        String product;
+        try {
+            product = JdbcUtils.commonDatabaseName(
+                    JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Cannot determine the database of a shard", e);
+        }
+        DataFieldMaxValueIncrementer sequence = "PostgreSQL".equals(product)
+                ? new PostgresSequenceMaxValueIncrementer(dataSource, ID_SEQUENCE)
+                : new H2SequenceMaxValueIncrementer(dataSource, ID_SEQUENCE);
+        return sequence::nextLongValue;
+    }
+
+    /**
+     * One shard with its JDBC access and local transactions.
+     */
+    private record Shard(int number, DataSource dataSource, NamedParameterJdbcTemplate jdbc,
+            TransactionTemplate transactions) {
+
+        Shard(int number, DataSource dataSource) {
+            this(number, dataSource, new NamedParameterJdbcTemplate(dataSource),
+                    new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        }
+    }
+
+    /**
+     * Selected fields of a member with the sort key of the member list.
+     */
+    private record FieldRow(LocalDateTime createdAt, long id, Map<String, Object> fields) {
+    }
+
+    /**
+     * Changed and archived members read from one shard.
+     */
+    private record ShardChanges(List<Member> members, List<MemberTombstone> archived) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.memberlist.infrastructure.shard;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * K-way merge of sequences that are each sorted in the same order.
+ * Keeps one head element per sequence in a heap, so producing {@code n} elements from
+ * {@code k} sequences costs {@code O(n log k)} and reads each sequence only as far as the
+ * merged result has been consumed.
+ */
+final class SortedMerge {
+
+    private SortedMerge() {
+    }
+
+    /**
+     * Merges sorted sequences into one sorted sequence.
+     * Elements comparing equal are returned in the order of the sequences.
+     *
+     * @param sources sequences, each sorted by {@code order}
+     * @param order order of the sequences and of the result
+     * @param <T> type of the elements
+     * @return iterator over all elements in order
+     */
+    static <T> Iterator<T> merge(List<? extends Iterator<? extends T>> sources, Comparator<? super T> order) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                Comparator.<Head<T>, T>comparing(head -> head.value, order).thenComparingInt(head -> head.source));
+        for (int i = 0; i < sources.size(); i++) {
+            advance(heads, sources.get(i), i);
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                Head<T> head = heads.poll();
+                if (head == null) {
+                    throw new NoSuchElementException();
+                }
+                advance(heads, sources.get(head.source), head.source);
+                return head.value;
+            }
+        };
+    }
+
+    private static <T> void advance(PriorityQueue<Head<T>> heads, Iterator<? extends T> source, int index) {
+        if (source.hasNext()) {
+            heads.add(new Head<>(source.next(), index));
+        }
+    }
+
+    private record Head<T>(T value, int source) {
+    }
+}
@@ -0,0 +1,410 @@
+package com.example.memberlist.presentation.controller;
+
+import com.example.memberlist.application.dto.MemberImportResult;
+import com.example.memberlist.application.service.MemberImportService;
+import com.example.memberlist.application.service.MemberService;
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.domain.repository.MemberCursor;
+import com.example.memberlist.domain.repository.MemberFilter;
+import com.example.memberlist.presentation.dto.ApiResponse;
+import com.example.memberlist.presentation.dto.MemberBulkDeleteRequest;
+import com.example.memberlist.presentation.dto.MemberBulkResultResponse;
+import com.example.memberlist.presentation.dto.MemberBulkUpdateRequest;
+import com.example.memberlist.presentation.dto.EmailAvailabilityResponse;
+import com.example.memberlist.presentation.dto.MemberChangesResponse;
+import com.example.memberlist.presentation.dto.MemberPageResponse;
+import com.example.memberlist.presentation.dto.MemberResponse;
+import com.example.memberlist.presentation.dto.MemberSearchResultResponse;
+import com.example.memberlist.presentation.dto.MemberSuggestionResponse;
+import com.example.memberlist.presentation.exception.GlobalExceptionHandler;
+import com.example.memberlist.presentation.export.MemberExportFormat;
+import com.example.memberlist.presentation.export.MemberExportWriter;
+import com.example.memberlist.presentation.importer.MemberCsvReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller for member resources.
+ */
+@RestController
+@RequestMapping("/api/members")
+public class MemberController {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int DEFAULT_SUGGESTION_LIMIT = 10;
+    static final int DEFAULT_SEARCH_LIMIT = 20;
+
+    private static final String LIST_SUCCESS_MESSAGE = "メンバー一覧の取得が完了しました";
+    private static final String IMPORT_SUCCESS_MESSAGE = "インポートが完了しました";
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final MemberService memberService;
+    private final MemberImportService memberImportService;
+    private final MemberExportWriter memberExportWriter;
+    private final MemberCsvReader memberCsvReader;
+    private final ObjectMapper objectMapper;
+
+    public MemberController(
+            MemberService memberService,
+            MemberImportService memberImportService,
+            MemberExportWriter memberExportWriter,
+            MemberCsvReader memberCsvReader,
+            ObjectMapper objectMapper) {
+        this.memberService = memberService;
+        this.memberImportService = memberImportService;
+        this.memberExportWriter = memberExportWriter;
+        this.memberCsvReader = memberCsvReader;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Lists active members.
+     * Returns every member when neither {@code cursor} nor {@code limit} is given,
+     * otherwise returns one keyset page together with the cursor for the next one.
+     * When {@code fields} is given, only those fields are read and returned.
+     * The filter conditions are applied by the database in every mode.
+     * Responses carry the directory version as a strong ETag; a request whose {@code If-None-Match}
+     * still matches it is answered with 304 without reading or serializing any member.
+     *
+     * @param position exact position to match (optional)
+     * @param location exact location to match (optional)
+     * @param createdAfter only members registered after this time (optional)
+     * @param cursor opaque cursor returned with the previous page (optional)
+     * @param limit page size (optional)
+     * @param fields comma-separated field names to return (optional)
+     * @param request current request, used for the conditional GET
+     * @return list of members, or one page of members; {@code null} when not modified
+     */
+    @GetMapping
+    public ApiResponse<?> listMembers(
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime createdAfter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest request) {
+        MemberFilter filter = new MemberFilter(position, location, createdAfter);
+        boolean paged = cursor != null || limit != null;
+        MemberCursor after = cursor != null ? MemberCursor.decode(cursor) : null;
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        Set<MemberField> selected = fields != null ? parseFields(fields) : null;
+
+        // The version and the members are read from one snapshot, so the tag matches the data it labels
+        return memberService.readDirectory(
+                        version -> request.checkNotModified(directoryETag(version)),
+                        () -> listMembers(filter, paged, after, pageSize, selected))
+                .orElse(null);
+    }
+
+    /**
+     * Lists the members created, updated or deleted since the previous sync, at most {@code limit}
+     * at a time. Deleted members are returned as tombstones. Pass the returned watermark as
+     * {@code since}, and the returned {@code afterId} if any, on the next call; a change near the
+     * watermark may be returned twice.
+     *
+     * @param since watermark returned by the previous call, or any earlier time for a full sync
+     * @param afterId ID returned with the watermark by the previous call (optional)
+     * @param limit maximum number of changes (optional)
+     * @return changed members, tombstones and the position of the next call
+     */
+    @GetMapping("/changes")
+    public ApiResponse<MemberChangesResponse> listChanges(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit) {
+        int maxChanges = limit != null ? limit : MemberService.MAX_CHANGES;
+        return ApiResponse.success("変更の取得が完了しました",
+                MemberChangesResponse.from(memberService.getChanges(since, afterId, maxChanges)));
+    }
+
+    /**
+     * Returns one active member.
+     * The response carries a strong ETag derived from the member's version, so a client
+     * holding the current representation gets 304 without it being serialized again.
+     *
+     * @param id the member ID
+     * @param request current request, used for the conditional GET
+     * @return the member; {@code null} when not modified
+     */
+    @GetMapping("/{id}")
+    public ApiResponse<MemberResponse> getMember(@PathVariable Long id, WebRequest request) {
+        Member member = memberService.getMember(id);
+        if (request.checkNotModified(memberETag(member))) {
+            return null;
+        }
+        return ApiResponse.success("メンバーの取得が完了しました", MemberResponse.from(member));
+    }
+
+    /**
+     * Changes only the fields present in the request body of one active member.
+     * A field set to {@code null} is cleared; fields left out keep their value.
+     * With an {@code If-Match} header holding the member's ETag, the change is only applied if
+     * the member has not been updated since that representation was read.
+     * The response carries the member's new ETag.
+     *
+     * @param id the member ID
+     * @param body new values keyed by field name
+     * @param ifMatch ETag the change is based on, if any
+     * @return the updated member
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<ApiResponse<MemberResponse>> updateMember(
+            @PathVariable Long id, @RequestBody Map<String, String> body,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Member member = memberService.updateMember(id, parseChanges(body), parseExpectedVersion(id, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(memberETag(member))
+                .body(ApiResponse.success("メンバーの更新が完了しました", MemberResponse.from(member)));
+    }
+
+    /**
+     * Suggests members whose reading starts with the given input.
+     *
+     * @param kana reading prefix in hiragana or katakana
+     * @param limit maximum number of suggestions
+     * @return matching members ordered by reading
+     */
+    @GetMapping("/suggest")
+    public ApiResponse<List<MemberSuggestionResponse>> suggestMembers(
+            @RequestParam String kana,
+            @RequestParam(defaultValue = "" + DEFAULT_SUGGESTION_LIMIT) int limit) {
+        List<MemberSuggestionResponse> suggestions = memberService.suggestMembers(kana, limit).stream()
+                .map(MemberSuggestionResponse::from)
+                .toList();
+        return ApiResponse.success("候補の取得が完了しました", suggestions);
+    }
+
+    /**
+     * Searches members by words in their name, position or self introduction.
+     *
+     * @param query search words separated by white space
+     * @param limit maximum number of results
+     * @return matching members, most relevant first
+     */
+    @GetMapping("/search")
+    public ApiResponse<List<MemberSearchResultResponse>> searchMembers(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "" + DEFAULT_SEARCH_LIMIT) int limit) {
+        List<MemberSearchResultResponse> results = memberService.searchMembers(query, limit).stream()
+                .map(MemberSearchResultResponse::from)
+                .toList();
+        return ApiResponse.success("検索が完了しました", results);
+    }
+
+    /**
+     * Checks whether an email address is still free for registration.
+     * Intended to be called as the user types, so most answers come from memory.
+     *
+     * @param email the email address to check
+     * @return availability of the address
+     */
+    @GetMapping("/email-availability")
+    public ApiResponse<EmailAvailabilityResponse> checkEmailAvailability(@RequestParam String email) {
+        boolean available = memberService.isEmailAvailable(email);
+        return ApiResponse.success("メールアドレスの確認が完了しました", new EmailAvailabilityResponse(email, available));
+    }
+
+    /**
+     * Exports all active members as a file download.
+     * The response is streamed while rows are read from the database.
+     *
+     * @param format output format ({@code ndjson} or {@code csv})
+     * @return streaming response body
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        MemberExportFormat exportFormat = MemberExportFormat.fromParameter(format);
+        StreamingResponseBody body = out -> {
+            try (MemberExportWriter.Session session = memberExportWriter.open(exportFormat, out)) {
+                memberService.exportMembers(session::write);
+            }
+        };
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("members." + exportFormat.getFileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    /**
+     * Imports members from a CSV file.
+     * The file is parsed while it is being received and stored in chunks, so one invalid
+     * record is reported without rolling back the others.
+     *
+     * @param body CSV content with a header row
+     * @return counts of imported and rejected records with the first rejected records
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(path = "/import", consumes = "text/csv")
+    public ApiResponse<MemberImportResult> importMembers(InputStream body) throws IOException {
+        MemberImportResult result = memberImportService.importMembers(memberCsvReader.read(body), progress -> {
+        });
+        return ApiResponse.success(IMPORT_SUCCESS_MESSAGE, result);
+    }
+
+    /**
+     * Imports members from a CSV file, reporting progress while the import runs.
+     * Chosen when the client accepts {@code application/x-ndjson}: one line with the counts so far
+     * is written and flushed after each chunk, and the last line is the response
+     * {@link #importMembers(InputStream)} would have returned, or the error that ended the import.
+     *
+     * @param body CSV content with a header row
+     * @return streaming response body
+     */
+    @PostMapping(path = "/import", consumes = "text/csv", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> importMembersWithProgress(InputStream body) {
+        StreamingResponseBody progressLines = out -> {
+            ApiResponse<?> outcome;
+            try {
+                MemberImportResult result = memberImportService.importMembers(memberCsvReader.read(body),
+                        progress -> writeLine(out, progress));
+                outcome = ApiResponse.success(IMPORT_SUCCESS_MESSAGE, result);
+            } catch (IllegalArgumentException e) {
+                // The status has been sent with the first line; the error can only be reported in the body
+                outcome = ApiResponse.error(GlobalExceptionHandler.VALIDATION_ERROR_MESSAGE, List.of(e.getMessage()));
+            }
+            writeLine(out, outcome);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(progressLines);
+    }
+
+    private ApiResponse<?> listMembers(
+            MemberFilter filter, boolean paged, MemberCursor after, int pageSize, Set<MemberField> selected) {
+        if (selected != null) {
+            Object data = paged
+                    ? MemberPageResponse.of(memberService.listMembers(selected, filter, after, pageSize), Function.identity())
+                    : memberService.listMembers(selected, filter);
+            return ApiResponse.success(LIST_SUCCESS_MESSAGE, data);
+        }
+
+        if (!paged) {
+            List<MemberResponse> members = memberService.listMembers(filter).stream()
+                    .map(MemberResponse::from)
+                    .toList();
+            return ApiResponse.success(LIST_SUCCESS_MESSAGE, members);
+        }
+        return ApiResponse.success(LIST_SUCCESS_MESSAGE,
+                MemberPageResponse.from(memberService.listMembers(filter, after, pageSize)));
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Logically deletes the given members at once, for example everyone leaving at the end of a month.
+     *
+     * @param request IDs of the members to delete
+     * @return number of requested and deleted members
+     */
+    @PostMapping("/bulk-delete")
+    public ApiResponse<MemberBulkResultResponse> deleteMembers(@RequestBody MemberBulkDeleteRequest request) {
+        int deleted = memberService.deleteMembers(request.ids());
+        return ApiResponse.success("メンバーの一括削除が完了しました",
+                new MemberBulkResultResponse(sizeOf(request.ids()), deleted));
+    }
+
+    /**
+     * Sets the position and/or location of the given members at once, for example when a department moves.
+     *
+     * @param request IDs of the members and the new values
+     * @return number of requested and updated members
+     */
+    @PostMapping("/bulk-update")
+    public ApiResponse<MemberBulkResultResponse> updateMembers(@RequestBody MemberBulkUpdateRequest request) {
+        int updated = memberService.updateMembers(request.ids(), request.position(), request.location());
+        return ApiResponse.success("メンバーの一括更新が完了しました",
+                new MemberBulkResultResponse(sizeOf(request.ids()), updated));
+    }
+
+    private static int sizeOf(List<Long> ids) {
+        return ids == null ? 0 : ids.size();
+    }
+
+    private static String directoryETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    private static String memberETag(Member member) {
+        return "\"" + member.getId() + "@" + member.getVersion() + "\"";
+    }
+
+    /**
+     * Extracts the version from an {@code If-Match} header holding a member ETag.
+     *
+     * @return the version, or {@code null} when the header is absent or {@code *}
+     */
+    private static Long parseExpectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefix = "\"" + id + "@";
+        String tag = ifMatch.trim();
+        String version = tag.startsWith(prefix) && tag.endsWith("\"")
+                ? tag.substring(prefix.length(), tag.length() - 1)
+                : "";
+        if (!version.matches("\\d{1,18}")) {
+            throw new IllegalArgumentException("If-Matchヘッダーにはこのメンバーの取得時のETagを指定してください");
+        }
+        return Long.valueOf(version);
+    }
+
+    private static Map<MemberField, String> parseChanges(Map<String, String> body) {
+        Map<MemberField, String> changes = new EnumMap<>(MemberField.class);
+        if (body == null) {
+            return changes;
+        }
+        body.forEach((field, value) -> changes.put(MemberField.fromPropertyName(field), value));
+        return changes;
+    }
+
+    private static Set<MemberField> parseFields(List<String> fields) {
+        Set<MemberField> selected = EnumSet.noneOf(MemberField.class);
+        for (String field : fields) {
+            if (!field.isBlank()) {
+                selected.add(MemberField.fromPropertyName(field.trim()));
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.memberlist.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * Common envelope for API responses.
+ *
+ * @param status processing result ("success" or "error")
+ * @param message description of the result
+ * @param data response payload (success only)
+ * @param errors detailed error messages (error only)
+ * @param <T> type of the payload
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ApiResponse<T>(String status, String message, T data, List<String> errors) {
+
+    private static final String STATUS_SUCCESS = "success";
+    private static final String STATUS_ERROR = "error";
+
+    /**
+     * Creates a success response.
+     *
+     * @param message description of the result
+     * @param data response payload
+     * @param <T> type of the payload
+     * @return success response
+     */
+    public static <T> ApiResponse<T> success(String message, T data) {
+        return new ApiResponse<>(STATUS_SUCCESS, message, data, null);
+    }
+
+    /**
+     * Creates an error response without details.
+     *
+     * @param message description of the error
+     * @return error response
+     */
+    public static ApiResponse<Void> error(String message) {
+        return new ApiResponse<>(STATUS_ERROR, message, null, null);
+    }
+
+    /**
+     * Creates an error response with details.
+     *
+     * @param message description of the error
+     * @param errors detailed error messages
+     * @return error response
+     */
+    public static ApiResponse<Void> error(String message, List<String> errors) {
+        return new ApiResponse<>(STATUS_ERROR, message, null, errors);
+    }
+}
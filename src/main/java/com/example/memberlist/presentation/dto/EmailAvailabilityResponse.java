@@ -0,0 +1,10 @@
+package com.example.memberlist.presentation.dto;
+
+/**
+ * Result of an email address availability check.
+ *
+ * @param email the address that was checked
+ * @param available true if no active member uses the address
+ */
+public record EmailAvailabilityResponse(String email, boolean available) {
+}
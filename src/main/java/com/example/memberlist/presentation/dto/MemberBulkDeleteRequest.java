@@ -0,0 +1,11 @@
+package com.example.memberlist.presentation.dto;
+
+import java.util.List;
+
+/**
+ * Request body of the bulk delete endpoint.
+ *
+ * @param ids IDs of the members to delete
+ */
+public record MemberBulkDeleteRequest(List<Long> ids) {
+}
@@ -0,0 +1,10 @@
+package com.example.memberlist.presentation.dto;
+
+/**
+ * Result of a bulk delete or bulk update.
+ *
+ * @param requested number of IDs in the request
+ * @param affected number of members actually deleted or updated; unknown and deleted IDs are not counted
+ */
+public record MemberBulkResultResponse(int requested, int affected) {
+}
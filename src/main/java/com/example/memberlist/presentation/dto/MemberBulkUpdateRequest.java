@@ -0,0 +1,14 @@
+package com.example.memberlist.presentation.dto;
+
+import java.util.List;
+
+/**
+ * Request body of the bulk update endpoint.
+ * Fields left out are not changed.
+ *
+ * @param ids IDs of the members to update
+ * @param position new position (optional)
+ * @param location new location (optional)
+ */
+public record MemberBulkUpdateRequest(List<Long> ids, String position, String location) {
+}
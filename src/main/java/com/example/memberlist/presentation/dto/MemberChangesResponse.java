@@ -0,0 +1,57 @@
+package com.example.memberlist.presentation.dto;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberChanges;
+import com.example.memberlist.domain.repository.MemberTombstone;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Members changed since the previous sync, returned by the delta sync API.
+ *
+ * @param members members created or updated, with all fields
+ * @param deleted tombstones of members deleted, carrying no personal data
+ * @param watermark value to pass as {@code since} on the next call
+ * @param afterId value to pass as {@code afterId} on the next call, {@code null} when caught up
+ * @param hasMore whether more changes are waiting, so the next call can be made at once
+ */
+public record MemberChangesResponse(
+        List<MemberResponse> members,
+        List<MemberTombstoneResponse> deleted,
+        LocalDateTime watermark,
+        Long afterId,
+        boolean hasMore) {
+
+    /**
+     * Converts changes into their API representation, turning deleted and archived members into tombstones.
+     *
+     * @param changes the changes to convert
+     * @return the API representation
+     */
+    public static MemberChangesResponse from(MemberChanges changes) {
+        List<MemberResponse> members = new ArrayList<>();
+        List<MemberTombstoneResponse> deleted = new ArrayList<>();
+        for (Member member : changes.members()) {
+            if (member.isDeleted()) {
+                deleted.add(new MemberTombstoneResponse(member.getId(), member.getUpdatedAt()));
+            } else {
+                members.add(MemberResponse.from(member));
+            }
+        }
+        for (MemberTombstone tombstone : changes.archived()) {
+            deleted.add(new MemberTombstoneResponse(tombstone.id(), tombstone.deletedAt()));
+        }
+        return new MemberChangesResponse(members, deleted, changes.watermark(), changes.afterId(),
+                changes.hasMore());
+    }
+
+    /**
+     * Marker telling the client to drop a member from its copy.
+     *
+     * @param id ID of the deleted member
+     * @param deletedAt time of the deletion
+     */
+    public record MemberTombstoneResponse(Long id, LocalDateTime deletedAt) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.memberlist.presentation.dto;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberPage;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of members returned by the API.
+ *
+ * @param members members on this page
+ * @param nextCursor opaque cursor for the following page, or {@code null} on the last page
+ * @param <T> representation of a member in the response
+ */
+public record MemberPageResponse<T>(List<T> members, String nextCursor) {
+
+    /**
+     * Converts a page of members into its API representation.
+     *
+     * @param page the page to convert
+     * @return the API representation
+     */
+    public static MemberPageResponse<MemberResponse> from(MemberPage<Member> page) {
+        return of(page, MemberResponse::from);
+    }
+
+    /**
+     * Converts a page into its API representation, mapping each element.
+     *
+     * @param page the page to convert
+     * @param mapper conversion applied to each element
+     * @param <S> element type of the page
+     * @param <T> element type of the response
+     * @return the API representation
+     */
+    public static <S, T> MemberPageResponse<T> of(MemberPage<S> page, Function<S, T> mapper) {
+        return new MemberPageResponse<>(
+                page.members().stream().map(mapper).toList(),
+                page.hasNext() ? page.nextCursor().encode() : null);
+    }
+}
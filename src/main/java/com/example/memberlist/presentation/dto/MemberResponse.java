@@ -0,0 +1,40 @@
+package com.example.memberlist.presentation.dto;
+
+import com.example.memberlist.domain.model.Member;
+import java.time.LocalDateTime;
+
+/**
+ * Member representation returned by the API.
+ */
+public record MemberResponse(
+        Long id,
+        String name,
+        String nameKana,
+        String email,
+        String position,
+        String location,
+        String profileImageUrl,
+        String selfIntroduction,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /**
+     * Converts a domain member into its API representation.
+     *
+     * @param member the member to convert
+     * @return the API representation
+     */
+    public static MemberResponse from(Member member) {
+        return new MemberResponse(
+                member.getId(),
+                member.getName(),
+                member.getNameKana(),
+                member.getEmail(),
+                member.getPosition(),
+                member.getLocation(),
+                member.getProfileImageUrl(),
+                member.getSelfIntroduction(),
+                member.getCreatedAt(),
+                member.getUpdatedAt());
+    }
+}
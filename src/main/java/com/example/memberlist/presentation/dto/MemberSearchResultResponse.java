@@ -0,0 +1,22 @@
+package com.example.memberlist.presentation.dto;
+
+import com.example.memberlist.domain.repository.MemberSearchHit;
+
+/**
+ * Full-text search result returned by the API.
+ *
+ * @param score relevance of the member to the query; higher is better
+ * @param member the matching member
+ */
+public record MemberSearchResultResponse(int score, MemberResponse member) {
+
+    /**
+     * Converts a search hit into its API representation.
+     *
+     * @param hit the hit to convert
+     * @return the API representation
+     */
+    public static MemberSearchResultResponse from(MemberSearchHit hit) {
+        return new MemberSearchResultResponse(hit.score(), MemberResponse.from(hit.member()));
+    }
+}
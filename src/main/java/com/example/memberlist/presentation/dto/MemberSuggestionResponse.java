@@ -0,0 +1,19 @@
+package com.example.memberlist.presentation.dto;
+
+import com.example.memberlist.domain.repository.MemberSuggestion;
+
+/**
+ * Member suggestion returned by the type-ahead search API.
+ */
+public record MemberSuggestionResponse(Long id, String name, String nameKana) {
+
+    /**
+     * Converts a suggestion into its API representation.
+     *
+     * @param suggestion the suggestion to convert
+     * @return the API representation
+     */
+    public static MemberSuggestionResponse from(MemberSuggestion suggestion) {
+        return new MemberSuggestionResponse(suggestion.id(), suggestion.name(), suggestion.nameKana());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.memberlist.presentation.exception;
+
+import com.example.memberlist.application.exception.DuplicateEmailException;
+import com.example.memberlist.application.exception.MemberConflictException;
+import com.example.memberlist.application.exception.MemberNotFoundException;
+import com.example.memberlist.presentation.dto.ApiResponse;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+/**
+ * Translates exceptions thrown by controllers into API error responses.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * Message of every response rejecting invalid input.
+     */
+    public static final String VALIDATION_ERROR_MESSAGE = "バリデーションエラーです";
+
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @ExceptionHandler(DuplicateEmailException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiResponse<Void> handleDuplicateEmail(DuplicateEmailException e) {
+        return ApiResponse.error(VALIDATION_ERROR_MESSAGE, List.of(e.getMessage()));
+    }
+
+    @ExceptionHandler(MemberNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ApiResponse<Void> handleMemberNotFound(MemberNotFoundException e) {
+        return ApiResponse.error(e.getMessage());
+    }
+
+    @ExceptionHandler(MemberConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ApiResponse<Void> handleMemberConflict(MemberConflictException e) {
+        return ApiResponse.error(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiResponse<Void> handleIllegalArgument(IllegalArgumentException e) {
+        return ApiResponse.error(VALIDATION_ERROR_MESSAGE, List.of(e.getMessage()));
+    }
+
+    @ExceptionHandler({
+        MissingServletRequestParameterException.class,
+        MethodArgumentTypeMismatchException.class
+    })
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiResponse<Void> handleInvalidRequestParameter(Exception e) {
+        return ApiResponse.error(VALIDATION_ERROR_MESSAGE, List.of("リクエストパラメータが不正です"));
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiResponse<Void> handleUnreadableBody(HttpMessageNotReadableException e) {
+        return ApiResponse.error(VALIDATION_ERROR_MESSAGE, List.of("リクエスト本文が不正です"));
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiResponse<Void>> handleUnexpected(Exception e) {
+        if (e instanceof ErrorResponse errorResponse) {
+            // Framework exceptions (unknown path, unsupported method, ...) keep their own status
+            return ResponseEntity.status(errorResponse.getStatusCode())
+                    .body(ApiResponse.error(errorResponse.getBody().getTitle()));
+        }
+        log.error("Unexpected error while processing request", e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error("サーバーエラーが発生しました"));
+    }
+}
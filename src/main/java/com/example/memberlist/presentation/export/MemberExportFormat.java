@@ -0,0 +1,48 @@
+package com.example.memberlist.presentation.export;
+
+import java.util.Locale;
+import org.springframework.http.MediaType;
+
+/**
+ * Output formats supported by the member export.
+ */
+public enum MemberExportFormat {
+
+    /** Newline-delimited JSON, one member object per line. */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+
+    /** Comma-separated values with a header row. */
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    MemberExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Resolves a format from a request parameter value.
+     *
+     * @param value format name (case-insensitive)
+     * @return the matching format
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public static MemberExportFormat fromParameter(String value) {
+        for (MemberExportFormat format : values()) {
+            if (format.fileExtension.equals(value.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("サポートされていない出力形式です: " + value);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.memberlist.presentation.export;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.presentation.dto.MemberResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes members to an output stream one at a time using Jackson's streaming generator.
+ * Nothing is buffered beyond the generator's own output buffer, so memory use stays
+ * flat regardless of how many members are exported.
+ */
+@Component
+public class MemberExportWriter {
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static final CsvSchema CSV_SCHEMA = CSV_MAPPER.schemaFor(MemberResponse.class).withoutHeader();
+
+    /**
+     * Header row written up front, so that an export with no members is still a valid CSV file.
+     */
+    private static final byte[] CSV_HEADER =
+            (String.join(",", CSV_SCHEMA.getColumnNames()) + "\n").getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+
+    public MemberExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Opens a session that writes members in the given format.
+     * The session does not close the underlying output stream.
+     *
+     * @param format output format
+     * @param out destination stream
+     * @return an open export session
+     * @throws IOException if the generator cannot be created
+     */
+    public Session open(MemberExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new Session(
+                    objectMapper.getFactory().createGenerator(out),
+                    writerWithoutFlush(objectMapper.writerFor(MemberResponse.class)),
+                    true);
+            case CSV -> {
+                out.write(CSV_HEADER);
+                yield new Session(
+                        CSV_MAPPER.getFactory().createGenerator(out),
+                        writerWithoutFlush(CSV_MAPPER.writerFor(MemberResponse.class).with(CSV_SCHEMA)),
+                        false);
+            }
+        };
+    }
+
+    private static ObjectWriter writerWithoutFlush(ObjectWriter writer) {
+        // Let the generator buffer decide when to flush instead of flushing every row
+        return writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * A single export in progress.
+     */
+    public static final class Session implements Closeable {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter rowWriter;
+        private final boolean lineDelimited;
+
+        private Session(JsonGenerator generator, ObjectWriter rowWriter, boolean lineDelimited) {
+            this.generator = generator;
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.rowWriter = rowWriter;
+            this.lineDelimited = lineDelimited;
+        }
+
+        /**
+         * Writes one member.
+         *
+         * @param member the member to write
+         * @throws UncheckedIOException if writing fails
+         */
+        public void write(Member member) {
+            try {
+                rowWriter.writeValue(generator, MemberResponse.from(member));
+                if (lineDelimited) {
+                    generator.writeRaw('\n');
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.memberlist.presentation.importer;
+
+import com.example.memberlist.application.dto.MemberImportRow;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Parses member import files in CSV format.
+ * The first line is a header naming the columns; column names match the fields of the
+ * member API ({@code name}, {@code nameKana}, {@code email}, ...), so files produced by
+ * the CSV export can be imported as they are. Unknown columns are ignored.
+ */
+@Component
+public class MemberCsvReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "nameKana", "email");
+
+    private static final ObjectReader ROW_READER = new CsvMapper()
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .readerForMapOf(String.class)
+            .with(CsvSchema.emptySchema().withHeader());
+
+    /**
+     * Starts reading records from the given stream.
+     * Records are parsed lazily as the returned iterator advances.
+     *
+     * @param in CSV content encoded in UTF-8
+     * @return iterator over the records
+     * @throws IOException if the stream cannot be read
+     * @throws IllegalArgumentException if the header lacks a required column or a record is malformed
+     */
+    public Iterator<MemberImportRow> read(InputStream in) throws IOException {
+        MappingIterator<Map<String, String>> records = ROW_READER.readValues(in);
+        return new Iterator<>() {
+
+            private boolean headerChecked;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    boolean hasNext = records.hasNext();
+                    if (hasNext && !headerChecked) {
+                        checkHeader((CsvSchema) records.getParser().getSchema());
+                        headerChecked = true;
+                    }
+                    return hasNext;
+                } catch (RuntimeJsonMappingException e) {
+                    throw malformed(records, e);
+                }
+            }
+
+            @Override
+            public MemberImportRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                long lineNumber = records.getParser().currentLocation().getLineNr();
+                try {
+                    return toRow(lineNumber, records.next());
+                } catch (RuntimeJsonMappingException e) {
+                    throw malformed(records, e);
+                }
+            }
+        };
+    }
+
+    private static void checkHeader(CsvSchema schema) {
+        for (String column : REQUIRED_COLUMNS) {
+            if (schema.column(column) == null) {
+                throw new IllegalArgumentException("CSVヘッダーに必須列がありません: " + column);
+            }
+        }
+    }
+
+    private static MemberImportRow toRow(long lineNumber, Map<String, String> record) {
+        return new MemberImportRow(
+                lineNumber,
+                record.get("name"),
+                record.get("nameKana"),
+                record.get("email"),
+                blankToNull(record.get("position")),
+                blankToNull(record.get("location")),
+                blankToNull(record.get("profileImageUrl")),
+                blankToNull(record.get("selfIntroduction")));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static IllegalArgumentException malformed(MappingIterator<?> records, RuntimeException cause) {
+        long lineNumber = records.getParser().currentLocation().getLineNr();
+        return new IllegalArgumentException("CSVの形式が不正です（" + lineNumber + "行目付近）", cause);
+    }
+}
@@ -0,0 +1,52 @@
+-- Member directory schema. See docs/specs/db/database-design.md.
+
+-- Pooled IDs: Hibernate reserves 50 IDs per round trip and sends inserts as JDBC batches
+CREATE SEQUENCE members_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE members (
+    id                BIGINT       NOT NULL,
+    name              VARCHAR(100) NOT NULL,
+    name_kana         VARCHAR(100) NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    -- Copy of email while the member is active, NULL once deleted
+    active_email      VARCHAR(255),
+    position          VARCHAR(100),
+    location          VARCHAR(200),
+    profile_image_url TEXT,
+    self_introduction TEXT,
+    created_at        TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at        TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    is_deleted        BOOLEAN      NOT NULL DEFAULT FALSE,
+    CONSTRAINT pk_members PRIMARY KEY (id),
+    -- Same effect as a unique index on email WHERE is_deleted = FALSE (NULLs never collide),
+    -- also on databases without partial indexes
+    CONSTRAINT uk_members_active_email UNIQUE (active_email)
+);
+
+-- Active member list and keyset paging, also used by the createdAfter filter
+CREATE INDEX idx_members_is_deleted_created_at ON members (is_deleted, created_at DESC, id DESC);
+-- Position and location filters, in list order
+CREATE INDEX idx_members_is_deleted_position_created_at ON members (is_deleted, position, created_at DESC, id DESC);
+CREATE INDEX idx_members_is_deleted_location_created_at ON members (is_deleted, location, created_at DESC, id DESC);
+-- Reading prefix search while the in-memory index is loading, in suggestion order
+CREATE INDEX idx_members_is_deleted_name_kana ON members (is_deleted, name_kana, id);
+-- Delta sync and the archive job
+CREATE INDEX idx_members_updated_at ON members (updated_at, id);
+
+CREATE TABLE members_archive (
+    id                BIGINT       NOT NULL,
+    name              VARCHAR(100) NOT NULL,
+    name_kana         VARCHAR(100) NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    position          VARCHAR(100),
+    location          VARCHAR(200),
+    profile_image_url TEXT,
+    self_introduction TEXT,
+    created_at        TIMESTAMP(6) NOT NULL,
+    deleted_at        TIMESTAMP(6) NOT NULL,
+    archived_at       TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_members_archive PRIMARY KEY (id)
+);
+
+-- Tombstones of archived members for delta sync
+CREATE INDEX idx_members_archive_deleted_at ON members_archive (deleted_at, id);
@@ -0,0 +1,3 @@
+-- Optimistic locking: every update checks and increments the version it read.
+-- See docs/specs/db/database-design.md.
+ALTER TABLE members ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,9 @@
+-- Version of the member directory, shared by every application instance: each transaction
+-- writing members increments it before committing. See docs/specs/db/database-design.md.
+CREATE TABLE member_directory (
+    id      INT    NOT NULL,
+    version BIGINT NOT NULL,
+    CONSTRAINT pk_member_directory PRIMARY KEY (id)
+);
+
+INSERT INTO member_directory (id, version) VALUES (1, 0);
@@ -0,0 +1,110 @@
+package com.example.memberlist.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.memberlist.domain.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for MemberArchiveService.
+ */
+@ExtendWith(MockitoExtension.class)
+class MemberArchiveServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberArchiveService memberArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        memberArchiveService = new MemberArchiveService(memberRepository, transactionManager, meterRegistry,
+                Duration.ofDays(30), BATCH_SIZE, Duration.ZERO);
+    }
+
+    @Test
+    void testArchiveDeletedMembersMovesBatchesUntilNoneAreLeft() {
+        // Given
+        when(memberRepository.countDeletedBefore(any())).thenReturn(5L);
+        List<Double> backlog = new ArrayList<>();
+        when(memberRepository.archiveDeleted(any(), eq(BATCH_SIZE))).thenAnswer(invocation -> {
+            backlog.add(meterRegistry.get(MemberArchiveService.BACKLOG_GAUGE).gauge().value());
+            return backlog.size() < 3 ? 2 : 1;
+        });
+
+        // When
+        long archived = memberArchiveService.archiveDeletedMembers();
+
+        // Then
+        assertEquals(5, archived);
+        assertEquals(List.of(5.0, 3.0, 1.0), backlog);
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(5.0, meterRegistry.get(MemberArchiveService.ARCHIVED_COUNTER).counter().count());
+        assertEquals(3, meterRegistry.get(MemberArchiveService.BATCH_TIMER).timer().count());
+        assertEquals(0.0, meterRegistry.get(MemberArchiveService.BACKLOG_GAUGE).gauge().value());
+    }
+
+    @Test
+    void testArchiveDeletedMembersOnlyMovesMembersDeletedBeforeRetention() {
+        // Given
+        when(memberRepository.archiveDeleted(any(), eq(BATCH_SIZE))).thenReturn(0);
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+
+        // When
+        memberArchiveService.archiveDeletedMembers();
+
+        // Then
+        ArgumentCaptor<LocalDateTime> deletedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(memberRepository).archiveDeleted(deletedBefore.capture(), eq(BATCH_SIZE));
+        assertFalse(deletedBefore.getValue().isBefore(before));
+        assertTrue(deletedBefore.getValue().isBefore(LocalDateTime.now().minusDays(29)));
+    }
+
+    @Test
+    void testArchiveDeletedMembersStopsWhenInterrupted() {
+        // Given
+        when(memberRepository.archiveDeleted(any(), eq(BATCH_SIZE))).thenReturn(BATCH_SIZE);
+        Thread.currentThread().interrupt();
+
+        // When
+        long archived = memberArchiveService.archiveDeletedMembers();
+
+        // Then: the batch already moved is kept and the interrupt is preserved
+        assertEquals(BATCH_SIZE, archived);
+        assertTrue(Thread.interrupted());
+        verify(memberRepository, times(1)).archiveDeleted(any(), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void testConstructorRejectsNonPositiveBatchSize() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new MemberArchiveService(memberRepository,
+                transactionManager, new SimpleMeterRegistry(), Duration.ofDays(30), 0, Duration.ZERO));
+    }
+}
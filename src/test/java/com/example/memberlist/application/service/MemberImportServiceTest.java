@@ -0,0 +1,218 @@
+package com.example.memberlist.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.memberlist.application.dto.MemberImportError;
+import com.example.memberlist.application.dto.MemberImportProgress;
+import com.example.memberlist.application.dto.MemberImportResult;
+import com.example.memberlist.application.dto.MemberImportRow;
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.DuplicateMemberEmailException;
+import com.example.memberlist.domain.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for MemberImportService.
+ */
+@ExtendWith(MockitoExtension.class)
+class MemberImportServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberImportService memberImportService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        memberImportService = new MemberImportService(
+                memberRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                transactionManager,
+                meterRegistry);
+    }
+
+    @Test
+    void testImportMembersInsertsValidRowsInChunks() {
+        // Given
+        int rowCount = MemberImportService.CHUNK_SIZE + 1;
+        List<MemberImportRow> rows = IntStream.rangeClosed(1, rowCount)
+                .mapToObj(i -> row(i + 1, "user" + i + "@example.com"))
+                .toList();
+        when(memberRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        List<MemberImportProgress> progress = new ArrayList<>();
+
+        // When
+        MemberImportResult result = memberImportService.importMembers(rows.iterator(), progress::add);
+
+        // Then
+        assertEquals(rowCount, result.totalRows());
+        assertEquals(rowCount, result.importedRows());
+        assertTrue(result.errors().isEmpty());
+        verify(memberRepository, times(2)).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(List.of(
+                new MemberImportProgress(MemberImportService.CHUNK_SIZE, MemberImportService.CHUNK_SIZE, 0),
+                new MemberImportProgress(rowCount, rowCount, 0)), progress);
+    }
+
+    @Test
+    void testImportMembersReportsInvalidDuplicatedAndRegisteredRows() {
+        // Given
+        List<MemberImportRow> rows = List.of(
+                row(2, "new@example.com"),
+                new MemberImportRow(3, "", "やまだたろう", "invalid", null, null, null, null),
+                row(4, "new@example.com"),
+                row(5, "registered@example.com"));
+        when(memberRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("registered@example.com"));
+
+        // When
+        MemberImportResult result = memberImportService.importMembers(rows.iterator(), progress -> {
+        });
+
+        // Then
+        assertEquals(4, result.totalRows());
+        assertEquals(1, result.importedRows());
+        assertEquals(3, result.failedRows());
+        assertEquals(List.of(3L, 4L, 5L), result.errors().stream().map(MemberImportError::lineNumber).toList());
+        assertEquals("ファイル内でメールアドレスが重複しています", result.errors().get(1).message());
+        assertEquals("メールアドレスが既に登録されています", result.errors().get(2).message());
+        assertEquals(1.0, meterRegistry.get(MemberService.VALIDATION_FAILURE_COUNTER).tag("source", "import")
+                .counter().count());
+        assertEquals(1.0, meterRegistry.get(MemberService.DUPLICATE_EMAIL_COUNTER).tag("source", "import")
+                .counter().count());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Member>> saved = ArgumentCaptor.forClass(List.class);
+        verify(memberRepository).saveAll(saved.capture());
+        assertEquals(List.of("new@example.com"), saved.getValue().stream().map(Member::getEmail).toList());
+    }
+
+    @Test
+    void testImportMembersFallsBackToSingleInsertsWhenChunkFails() {
+        // Given
+        List<MemberImportRow> rows = List.of(row(2, "first@example.com"), row(3, "second@example.com"));
+        when(memberRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(memberRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(memberRepository.save(any(Member.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // When
+        MemberImportResult result = memberImportService.importMembers(rows.iterator(), progress -> {
+        });
+
+        // Then
+        assertEquals(1, result.importedRows());
+        assertEquals(List.of(new MemberImportError(3, "second@example.com", "メールアドレスが既に登録されています")),
+                result.errors());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    void testImportMembersFallsBackToSingleInsertsWhenChunkHitsRegisteredEmail() {
+        // Given: the sharded repository reports the clash as soon as it writes
+        List<MemberImportRow> rows = List.of(row(2, "first@example.com"), row(3, "second@example.com"));
+        when(memberRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(memberRepository.saveAll(anyList())).thenThrow(new DuplicateMemberEmailException("duplicate", null));
+        when(memberRepository.save(any(Member.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new DuplicateMemberEmailException("duplicate", null));
+
+        // When
+        MemberImportResult result = memberImportService.importMembers(rows.iterator(), progress -> {
+        });
+
+        // Then
+        assertEquals(1, result.importedRows());
+        assertEquals(List.of(new MemberImportError(3, "second@example.com", "メールアドレスが既に登録されています")),
+                result.errors());
+    }
+
+    @Test
+    void testImportMembersReportsFirstErrorsAndCountsTheRest() {
+        // Given
+        int rowCount = MemberImportService.MAX_REPORTED_ERRORS + MemberImportService.CHUNK_SIZE;
+        List<MemberImportRow> rows = IntStream.rangeClosed(1, rowCount)
+                .mapToObj(i -> new MemberImportRow(i + 1, "", "やまだたろう", "user" + i + "@example.com",
+                        null, null, null, null))
+                .toList();
+
+        // When
+        MemberImportResult result = memberImportService.importMembers(rows.iterator(), progress -> {
+        });
+
+        // Then
+        assertEquals(rowCount, result.failedRows());
+        assertEquals(MemberImportService.MAX_REPORTED_ERRORS, result.errors().size());
+        assertEquals(2L, result.errors().get(0).lineNumber());
+        assertEquals(MemberImportService.MAX_REPORTED_ERRORS + 1L,
+                result.errors().get(MemberImportService.MAX_REPORTED_ERRORS - 1).lineNumber());
+    }
+
+    @Test
+    void testImportMembersLeavesRepetitionInLaterChunkToRegisteredCheck() {
+        // Given
+        List<MemberImportRow> rows = IntStream.rangeClosed(1, MemberImportService.CHUNK_SIZE + 1)
+                .mapToObj(i -> row(i + 1, i == MemberImportService.CHUNK_SIZE + 1
+                        ? "user1@example.com" : "user" + i + "@example.com"))
+                .toList();
+        when(memberRepository.findExistingEmails(anyCollection()))
+                .thenReturn(Set.of())
+                .thenReturn(Set.of("user1@example.com"));
+
+        // When
+        MemberImportResult result = memberImportService.importMembers(rows.iterator(), progress -> {
+        });
+
+        // Then
+        assertEquals(MemberImportService.CHUNK_SIZE, result.importedRows());
+        assertEquals(List.of(new MemberImportError(MemberImportService.CHUNK_SIZE + 2L, "user1@example.com",
+                "メールアドレスが既に登録されています")), result.errors());
+    }
+
+    @Test
+    void testImportMembersDoesNotTouchRepositoryWhenEveryRowIsInvalid() {
+        // Given
+        List<MemberImportRow> rows = List.of(
+                new MemberImportRow(2, "山田太郎", "ヤマダ", "yamada@example.com", null, null, null, null));
+
+        // When
+        MemberImportResult result = memberImportService.importMembers(rows.iterator(), progress -> {
+        });
+
+        // Then
+        assertEquals(0, result.importedRows());
+        assertEquals(1, result.errors().size());
+        verify(memberRepository, never()).saveAll(anyList());
+    }
+
+    private static MemberImportRow row(long lineNumber, String email) {
+        return new MemberImportRow(lineNumber, "山田太郎", "やまだたろう", email, "エンジニア", "東京", null, null);
+    }
+}
@@ -1,27 +1,56 @@
 package com.example.memberlist.application.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.example.memberlist.application.exception.DuplicateEmailException;
+import com.example.memberlist.application.exception.MemberConflictException;
+import com.example.memberlist.application.exception.MemberNotFoundException;
 import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.domain.repository.DuplicateMemberEmailException;
+import com.example.memberlist.domain.repository.MemberChanges;
+import com.example.memberlist.domain.repository.MemberCursor;
+import com.example.memberlist.domain.repository.MemberFilter;
+import com.example.memberlist.domain.repository.MemberPage;
 import com.example.memberlist.domain.repository.MemberRepository;
+import com.example.memberlist.domain.repository.MemberSearchHit;
+import com.example.memberlist.domain.repository.MemberSuggestion;
 import jakarta.validation.Validation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * Unit tests for MemberService.
@@ -32,14 +61,106 @@ class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private Validator validator;
+    private SimpleMeterRegistry meterRegistry;
     private MemberService memberService;
 
     @BeforeEach
     void setUp() {
         ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
         validator = factory.getValidator();
-        memberService = new MemberService(memberRepository, validator);
+        meterRegistry = new SimpleMeterRegistry();
+        memberService = new MemberService(memberRepository, validator, meterRegistry,
+                transactionManager, 3, Duration.ZERO);
+    }
+
+    @Test
+    void testGetMemberReturnsActiveMember() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        // When
+        Member result = memberService.getMember(1L);
+
+        // Then
+        assertEquals(member, result);
+    }
+
+    @Test
+    void testGetMemberThrowsWhenMemberIsDeleted() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        member.delete();
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        // When & Then
+        assertThrows(MemberNotFoundException.class, () -> memberService.getMember(1L));
+    }
+
+    @Test
+    void testGetMemberThrowsWhenMemberDoesNotExist() {
+        // Given
+        when(memberRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // When & Then
+        MemberNotFoundException exception = assertThrows(MemberNotFoundException.class,
+                () -> memberService.getMember(1L));
+        assertEquals("メンバーが見つかりません: 1", exception.getMessage());
+    }
+
+    @Test
+    void testGetDirectoryVersionComesFromRepository() {
+        // Given
+        when(memberRepository.getDirectoryVersion()).thenReturn(42L);
+
+        // When & Then
+        assertEquals(42L, memberService.getDirectoryVersion());
+    }
+
+    @Test
+    void testReadDirectorySkipsReadWhenVersionIsNotModified() {
+        // Given
+        when(memberRepository.getDirectoryVersion()).thenReturn(42L);
+
+        // When
+        Optional<String> unchanged = memberService.readDirectory(version -> version == 42L, () -> "read");
+        Optional<String> changed = memberService.readDirectory(version -> version == 41L, () -> "read");
+
+        // Then
+        assertTrue(unchanged.isEmpty());
+        assertEquals(Optional.of("read"), changed);
+    }
+
+    @Test
+    void testGetChangesReturnsRepositoryChanges() {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2026, 4, 1, 0, 0);
+        MemberChanges changes = new MemberChanges(
+                List.of(new Member("山田太郎", "やまだたろう", "yamada@example.com")), List.of(), since.plusMinutes(5));
+        when(memberRepository.findChangesSince(since, 4L, 100)).thenReturn(changes);
+
+        // When & Then
+        assertEquals(changes, memberService.getChanges(since, 4L, 100));
+    }
+
+    @Test
+    void testGetChangesRejectsLimitOutOfRange() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> memberService.getChanges(LocalDateTime.now(), null, MemberService.MAX_CHANGES + 1));
+        assertEquals("取得件数は1から1000の範囲で指定してください", exception.getMessage());
+    }
+
+    @Test
+    void testGetChangesRejectsMissingSince() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> memberService.getChanges(null, null, 100));
+        assertEquals("取得開始日時は必須です", exception.getMessage());
     }
 
     @Test
@@ -48,29 +169,186 @@ class MemberServiceTest {
         Member member1 = new Member("山田太郎", "やまだたろう", "yamada@example.com");
         Member member2 = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
         List<Member> expectedMembers = Arrays.asList(member1, member2);
-        when(memberRepository.findAll()).thenReturn(expectedMembers);
+        when(memberRepository.findAll(MemberFilter.NONE)).thenReturn(expectedMembers);
 
         // When
-        List<Member> actualMembers = memberService.listMembers();
+        List<Member> actualMembers = memberService.listMembers(MemberFilter.NONE);
 
         // Then
         assertEquals(expectedMembers, actualMembers);
         assertEquals(2, actualMembers.size());
-        verify(memberRepository).findAll();
+        verify(memberRepository).findAll(MemberFilter.NONE);
     }
 
     @Test
     void testListMembersReturnsEmptyListWhenNoMembers() {
         // Given
-        when(memberRepository.findAll()).thenReturn(List.of());
+        when(memberRepository.findAll(MemberFilter.NONE)).thenReturn(List.of());
 
         // When
-        List<Member> actualMembers = memberService.listMembers();
+        List<Member> actualMembers = memberService.listMembers(MemberFilter.NONE);
 
         // Then
         assertNotNull(actualMembers);
         assertTrue(actualMembers.isEmpty());
-        verify(memberRepository).findAll();
+        verify(memberRepository).findAll(MemberFilter.NONE);
+    }
+
+    @Test
+    void testListMembersPageReturnsNextCursorWhenMoreMembersExist() {
+        // Given
+        Member member1 = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        Member member2 = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        ReflectionTestUtils.setField(member2, "id", 2L);
+        ReflectionTestUtils.setField(member2, "createdAt", LocalDateTime.of(2025, 1, 1, 0, 0));
+        Member member3 = new Member("佐藤次郎", "さとうじろう", "sato@example.com");
+        when(memberRepository.findPage(MemberFilter.NONE, null, 3)).thenReturn(List.of(member1, member2, member3));
+
+        // When
+        MemberPage<Member> page = memberService.listMembers(MemberFilter.NONE, null, 2);
+
+        // Then
+        assertEquals(List.of(member1, member2), page.members());
+        assertTrue(page.hasNext());
+        assertEquals(MemberCursor.of(member2), page.nextCursor());
+    }
+
+    @Test
+    void testListMembersPageReturnsNoCursorOnLastPage() {
+        // Given
+        MemberCursor after = new MemberCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 10L);
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        when(memberRepository.findPage(MemberFilter.NONE, after, 3)).thenReturn(List.of(member));
+
+        // When
+        MemberPage<Member> page = memberService.listMembers(MemberFilter.NONE, after, 2);
+
+        // Then
+        assertEquals(List.of(member), page.members());
+        assertFalse(page.hasNext());
+        verify(memberRepository).findPage(MemberFilter.NONE, after, 3);
+    }
+
+    @Test
+    void testListMembersPageRejectsOutOfRangeLimit() {
+        assertThrows(IllegalArgumentException.class, () -> memberService.listMembers(MemberFilter.NONE, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> memberService.listMembers(MemberFilter.NONE, null, MemberService.MAX_PAGE_SIZE + 1));
+        verify(memberRepository, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void testListMembersWithFieldsReturnsProjectedRows() {
+        // Given
+        EnumSet<MemberField> fields = EnumSet.of(MemberField.NAME, MemberField.POSITION);
+        List<Map<String, Object>> rows = List.of(Map.of("name", "山田太郎", "position", "エンジニア"));
+        when(memberRepository.findAllFields(fields, MemberFilter.NONE)).thenReturn(rows);
+
+        // When
+        List<Map<String, Object>> result = memberService.listMembers(fields, MemberFilter.NONE);
+
+        // Then
+        assertEquals(rows, result);
+    }
+
+    @Test
+    void testListMembersWithFieldsRejectsEmptySelection() {
+        assertThrows(IllegalArgumentException.class,
+                () -> memberService.listMembers(EnumSet.noneOf(MemberField.class), MemberFilter.NONE));
+        verify(memberRepository, never()).findAllFields(any(), any());
+    }
+
+    @Test
+    void testListMembersWithFieldsPageAddsSortKeyAndStripsItFromResult() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        EnumSet<MemberField> selected = EnumSet.of(MemberField.ID, MemberField.NAME, MemberField.CREATED_AT);
+        when(memberRepository.findFieldsPage(selected, MemberFilter.NONE, null, 2)).thenReturn(List.of(
+                row(3L, "山田太郎", createdAt), row(2L, "鈴木花子", createdAt)));
+
+        // When
+        MemberPage<Map<String, Object>> page = memberService.listMembers(EnumSet.of(MemberField.NAME), MemberFilter.NONE, null, 1);
+
+        // Then
+        assertEquals(List.of(Map.of("name", "山田太郎")), page.members());
+        assertEquals(new MemberCursor(createdAt, 3L), page.nextCursor());
+    }
+
+    @Test
+    void testExportMembersPassesEveryMemberAndClosesStream() {
+        // Given
+        Member member1 = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        Member member2 = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        AtomicBoolean closed = new AtomicBoolean();
+        when(memberRepository.streamAll()).thenReturn(Stream.of(member1, member2).onClose(() -> closed.set(true)));
+        List<Member> exported = new ArrayList<>();
+
+        // When
+        memberService.exportMembers(exported::add);
+
+        // Then
+        assertEquals(List.of(member1, member2), exported);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testIsEmailAvailableReturnsFalseForRegisteredAddress() {
+        // Given
+        when(memberRepository.existsByEmail("yamada@example.com")).thenReturn(true);
+
+        // When & Then
+        assertFalse(memberService.isEmailAvailable("yamada@example.com"));
+    }
+
+    @Test
+    void testIsEmailAvailableRejectsBlankAddress() {
+        assertThrows(IllegalArgumentException.class, () -> memberService.isEmailAvailable(" "));
+        verify(memberRepository, never()).existsByEmail(any());
+    }
+
+    @Test
+    void testSuggestMembersConvertsKatakanaToHiragana() {
+        // Given
+        List<MemberSuggestion> suggestions = List.of(new MemberSuggestion(1L, "山田太郎", "やまだたろう"));
+        when(memberRepository.findByKanaPrefix("やまだ", 10)).thenReturn(suggestions);
+
+        // When
+        List<MemberSuggestion> result = memberService.suggestMembers(" ヤマだ ", 10);
+
+        // Then
+        assertEquals(suggestions, result);
+    }
+
+    @Test
+    void testSuggestMembersRejectsBlankInputAndOutOfRangeLimit() {
+        assertThrows(IllegalArgumentException.class, () -> memberService.suggestMembers("", 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> memberService.suggestMembers("やま", MemberService.MAX_SUGGESTIONS + 1));
+        verify(memberRepository, never()).findByKanaPrefix(any(), anyInt());
+    }
+
+    @Test
+    void testSearchMembersDelegatesToRepository() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        when(memberRepository.search("大阪 エンジニア", 20)).thenReturn(List.of(new MemberSearchHit(member, 3)));
+
+        // When
+        List<MemberSearchHit> hits = memberService.searchMembers("大阪 エンジニア", 20);
+
+        // Then
+        assertEquals(1, hits.size());
+    }
+
+    @Test
+    void testSearchMembersRejectsBlankQueryShortWordAndOutOfRangeLimit() {
+        assertThrows(IllegalArgumentException.class, () -> memberService.searchMembers(" ", 20));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> memberService.searchMembers("大阪 東", 20));
+        assertEquals("検索語は2文字以上で入力してください", exception.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> memberService.searchMembers("大阪", MemberService.MAX_SEARCH_RESULTS + 1));
+        verify(memberRepository, never()).search(any(), anyInt());
     }
 
     @Test
@@ -81,8 +359,7 @@ class MemberServiceTest {
         String email = "yamada@example.com";
         Member savedMember = new Member(name, nameKana, email);
 
-        when(memberRepository.existsByEmail(email)).thenReturn(false);
-        when(memberRepository.save(any(Member.class))).thenReturn(savedMember);
+        when(memberRepository.insert(any(Member.class))).thenReturn(savedMember);
 
         // When
         Member result = memberService.createMember(name, nameKana, email, null, null, null, null);
@@ -92,8 +369,7 @@ class MemberServiceTest {
         assertEquals(name, result.getName());
         assertEquals(nameKana, result.getNameKana());
         assertEquals(email, result.getEmail());
-        verify(memberRepository).existsByEmail(email);
-        verify(memberRepository).save(any(Member.class));
+        verify(memberRepository).insert(any(Member.class));
     }
 
     @Test
@@ -110,8 +386,7 @@ class MemberServiceTest {
         Member savedMember = new Member(name, nameKana, email);
         savedMember.updateInfo(name, nameKana, email, position, location, profileImageUrl, selfIntroduction);
 
-        when(memberRepository.existsByEmail(email)).thenReturn(false);
-        when(memberRepository.save(any(Member.class))).thenReturn(savedMember);
+        when(memberRepository.insert(any(Member.class))).thenReturn(savedMember);
 
         // When
         Member result = memberService.createMember(name, nameKana, email, position, location,
@@ -126,8 +401,7 @@ class MemberServiceTest {
         assertEquals(location, result.getLocation());
         assertEquals(profileImageUrl, result.getProfileImageUrl());
         assertEquals(selfIntroduction, result.getSelfIntroduction());
-        verify(memberRepository).existsByEmail(email);
-        verify(memberRepository).save(any(Member.class));
+        verify(memberRepository).insert(any(Member.class));
     }
 
     @Test
@@ -137,189 +411,163 @@ class MemberServiceTest {
         String nameKana = "やまだたろう";
         String email = "yamada@example.com";
 
-        when(memberRepository.existsByEmail(email)).thenReturn(true);
+        when(memberRepository.insert(any(Member.class))).thenThrow(new DuplicateMemberEmailException("duplicate", null));
 
         // When & Then
         DuplicateEmailException exception = assertThrows(DuplicateEmailException.class,
                 () -> memberService.createMember(name, nameKana, email, null, null, null, null));
 
         assertTrue(exception.getMessage().contains(email));
-        verify(memberRepository).existsByEmail(email);
-        verify(memberRepository, never()).save(any(Member.class));
+        verify(memberRepository, never()).existsByEmail(any());
+        assertEquals(1.0, meterRegistry.get(MemberService.DUPLICATE_EMAIL_COUNTER).tag("source", "api")
+                .counter().count());
     }
 
     @Test
     void testCreateMemberValidatesNameIsRequired() {
-        // Given
-        when(memberRepository.existsByEmail("yamada@example.com")).thenReturn(false);
-
         // When & Then
         assertThrows(IllegalArgumentException.class,
                 () -> memberService.createMember(null, "やまだたろう", "yamada@example.com",
                         null, null, null, null));
 
-        verify(memberRepository, never()).save(any(Member.class));
+        verify(memberRepository, never()).insert(any(Member.class));
+        assertEquals(1.0, meterRegistry.get(MemberService.VALIDATION_FAILURE_COUNTER).tag("source", "api")
+                .counter().count());
     }
 
     @Test
     void testCreateMemberValidatesNameIsNotBlank() {
-        // Given
-        when(memberRepository.existsByEmail("yamada@example.com")).thenReturn(false);
-
         // When & Then
         assertThrows(IllegalArgumentException.class,
                 () -> memberService.createMember("", "やまだたろう", "yamada@example.com",
                         null, null, null, null));
 
-        verify(memberRepository, never()).save(any(Member.class));
+        verify(memberRepository, never()).insert(any(Member.class));
     }
 
     @Test
     void testCreateMemberValidatesNameMaxLength() {
         // Given
         String longName = "あ".repeat(101);
-        when(memberRepository.existsByEmail("yamada@example.com")).thenReturn(false);
 
         // When & Then
         assertThrows(IllegalArgumentException.class,
                 () -> memberService.createMember(longName, "やまだたろう", "yamada@example.com",
                         null, null, null, null));
 
-        verify(memberRepository, never()).save(any(Member.class));
+        verify(memberRepository, never()).insert(any(Member.class));
     }
 
     @Test
     void testCreateMemberValidatesNameKanaIsRequired() {
-        // Given
-        when(memberRepository.existsByEmail("yamada@example.com")).thenReturn(false);
-
         // When & Then
         assertThrows(IllegalArgumentException.class,
                 () -> memberService.createMember("山田太郎", null, "yamada@example.com",
                         null, null, null, null));
 
-        verify(memberRepository, never()).save(any(Member.class));
+        verify(memberRepository, never()).insert(any(Member.class));
     }
 
     @Test
     void testCreateMemberValidatesNameKanaIsNotBlank() {
-        // Given
-        when(memberRepository.existsByEmail("yamada@example.com")).thenReturn(false);
-
         // When & Then
         assertThrows(IllegalArgumentException.class,
                 () -> memberService.createMember("山田太郎", "", "yamada@example.com",
                         null, null, null, null));
 
-        verify(memberRepository, never()).save(any(Member.class));
+        verify(memberRepository, never()).insert(any(Member.class));
     }
 
     @Test
     void testCreateMemberValidatesNameKanaIsHiragana() {
-        // Given
-        when(memberRepository.existsByEmail("yamada@example.com")).thenReturn(false);
-
         // When & Then
         assertThrows(IllegalArgumentException.class,
                 () -> memberService.createMember("山田太郎", "ヤマダタロウ", "yamada@example.com",
                         null, null, null, null));
 
-        verify(memberRepository, never()).save(any(Member.class));
+        verify(memberRepository, never()).insert(any(Member.class));
     }
 
     @Test
     void testCreateMemberValidatesNameKanaMaxLength() {
         // Given
         String longNameKana = "あ".repeat(101);
-        when(memberRepository.existsByEmail("yamada@example.com")).thenReturn(false);
 
         // When & Then
         assertThrows(IllegalArgumentException.class,
                 () -> memberService.createMember("山田太郎", longNameKana, "yamada@example.com",
                         null, null, null, null));
 
-        verify(memberRepository, never()).save(any(Member.class));
+        verify(memberRepository, never()).insert(any(Member.class));
     }
 
     @Test
     void testCreateMemberValidatesEmailIsRequired() {
-        // Given
-        when(memberRepository.existsByEmail(any())).thenReturn(false);
-
         // When & Then
         assertThrows(IllegalArgumentException.class,
                 () -> memberService.createMember("山田太郎", "やまだたろう", null,
                         null, null, null, null));
 
-        verify(memberRepository, never()).save(any(Member.class));
+        verify(memberRepository, never()).insert(any(Member.class));
     }
 
     @Test
     void testCreateMemberValidatesEmailIsNotBlank() {
-        // Given
-        when(memberRepository.existsByEmail("")).thenReturn(false);
-
         // When & Then
         assertThrows(IllegalArgumentException.class,
                 () -> memberService.createMember("山田太郎", "やまだたろう", "",
                         null, null, null, null));
 
-        verify(memberRepository, never()).save(any(Member.class));
+        verify(memberRepository, never()).insert(any(Member.class));
     }
 
     @Test
     void testCreateMemberValidatesEmailFormat() {
-        // Given
-        when(memberRepository.existsByEmail("invalid-email")).thenReturn(false);
-
         // When & Then
         assertThrows(IllegalArgumentException.class,
                 () -> memberService.createMember("山田太郎", "やまだたろう", "invalid-email",
                         null, null, null, null));
 
-        verify(memberRepository, never()).save(any(Member.class));
+        verify(memberRepository, never()).insert(any(Member.class));
     }
 
     @Test
     void testCreateMemberValidatesEmailMaxLength() {
         // Given
         String longEmail = "a".repeat(250) + "@example.com";
-        when(memberRepository.existsByEmail(longEmail)).thenReturn(false);
 
         // When & Then
         assertThrows(IllegalArgumentException.class,
                 () -> memberService.createMember("山田太郎", "やまだたろう", longEmail,
                         null, null, null, null));
 
-        verify(memberRepository, never()).save(any(Member.class));
+        verify(memberRepository, never()).insert(any(Member.class));
     }
 
     @Test
     void testCreateMemberValidatesPositionMaxLength() {
         // Given
         String longPosition = "あ".repeat(101);
-        when(memberRepository.existsByEmail("yamada@example.com")).thenReturn(false);
 
         // When & Then
         assertThrows(IllegalArgumentException.class,
                 () -> memberService.createMember("山田太郎", "やまだたろう", "yamada@example.com",
                         longPosition, null, null, null));
 
-        verify(memberRepository, never()).save(any(Member.class));
+        verify(memberRepository, never()).insert(any(Member.class));
     }
 
     @Test
     void testCreateMemberValidatesLocationMaxLength() {
         // Given
         String longLocation = "あ".repeat(201);
-        when(memberRepository.existsByEmail("yamada@example.com")).thenReturn(false);
 
         // When & Then
         assertThrows(IllegalArgumentException.class,
                 () -> memberService.createMember("山田太郎", "やまだたろう", "yamada@example.com",
                         null, longLocation, null, null));
 
-        verify(memberRepository, never()).save(any(Member.class));
+        verify(memberRepository, never()).insert(any(Member.class));
     }
 
     @Test
@@ -328,8 +576,7 @@ class MemberServiceTest {
         String validPosition = "あ".repeat(100);
         Member savedMember = new Member("山田太郎", "やまだたろう", "yamada@example.com");
 
-        when(memberRepository.existsByEmail("yamada@example.com")).thenReturn(false);
-        when(memberRepository.save(any(Member.class))).thenReturn(savedMember);
+        when(memberRepository.insert(any(Member.class))).thenReturn(savedMember);
 
         // When
         Member result = memberService.createMember("山田太郎", "やまだたろう", "yamada@example.com",
@@ -337,7 +584,7 @@ class MemberServiceTest {
 
         // Then
         assertNotNull(result);
-        verify(memberRepository).save(any(Member.class));
+        verify(memberRepository).insert(any(Member.class));
     }
 
     @Test
@@ -346,8 +593,7 @@ class MemberServiceTest {
         String validLocation = "あ".repeat(200);
         Member savedMember = new Member("山田太郎", "やまだたろう", "yamada@example.com");
 
-        when(memberRepository.existsByEmail("yamada@example.com")).thenReturn(false);
-        when(memberRepository.save(any(Member.class))).thenReturn(savedMember);
+        when(memberRepository.insert(any(Member.class))).thenReturn(savedMember);
 
         // When
         Member result = memberService.createMember("山田太郎", "やまだたろう", "yamada@example.com",
@@ -355,6 +601,203 @@ class MemberServiceTest {
 
         // Then
         assertNotNull(result);
-        verify(memberRepository).save(any(Member.class));
+        verify(memberRepository).insert(any(Member.class));
+    }
+
+    private static Map<String, Object> row(Long id, String name, LocalDateTime createdAt) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("name", name);
+        row.put("createdAt", createdAt);
+        return row;
+    }
+
+    @Test
+    void testDeleteMembersDelegatesToBulkDelete() {
+        // Given
+        when(memberRepository.deleteAllByIds(List.of(1L, 2L))).thenReturn(2);
+
+        // When
+        int deleted = memberService.deleteMembers(List.of(1L, 2L));
+
+        // Then
+        assertEquals(2, deleted);
+    }
+
+    @Test
+    void testDeleteMembersRejectsEmptyAndOversizedRequests() {
+        // Given
+        List<Long> tooMany = LongStream.rangeClosed(1, MemberService.MAX_BULK_SIZE + 1).boxed().toList();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> memberService.deleteMembers(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> memberService.deleteMembers(null));
+        assertThrows(IllegalArgumentException.class, () -> memberService.deleteMembers(tooMany));
+        verify(memberRepository, never()).deleteAllByIds(any());
+    }
+
+    @Test
+    void testUpdateMembersDelegatesToBulkUpdate() {
+        // Given
+        when(memberRepository.updateAllByIds(List.of(1L, 2L), null, "大阪府")).thenReturn(2);
+
+        // When
+        int updated = memberService.updateMembers(List.of(1L, 2L), null, "大阪府");
+
+        // Then
+        assertEquals(2, updated);
+    }
+
+    @Test
+    void testUpdateMembersRequiresAtLeastOneField() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> memberService.updateMembers(List.of(1L), null, null));
+        assertEquals("更新する項目を1つ以上指定してください", exception.getMessage());
+        verify(memberRepository, never()).updateAllByIds(any(), any(), any());
+    }
+
+    @Test
+    void testUpdateMembersValidatesLocationMaxLength() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> memberService.updateMembers(List.of(1L), null, "あ".repeat(201)));
+        assertEquals(1.0, meterRegistry.counter(MemberService.VALIDATION_FAILURE_COUNTER, "source", "api").count());
+        verify(memberRepository, never()).updateAllByIds(any(), any(), any());
+    }
+
+    @Test
+    void testUpdateMemberWritesChangedCopyOfMember() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(memberRepository.update(any(Member.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Member result = memberService.updateMember(1L, Map.of(MemberField.POSITION, "マネージャー"));
+
+        // Then
+        assertEquals("マネージャー", result.getPosition());
+        assertNotSame(member, result);
+        assertNull(member.getPosition());
+    }
+
+    @Test
+    void testUpdateMemberRetriesOnNewStateWhenAnotherUpdateWins() {
+        // Given
+        Member stale = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        Member current = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        current.applyChanges(Map.of(MemberField.LOCATION, "大阪府"));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(stale)).thenReturn(Optional.of(current));
+        when(memberRepository.update(any(Member.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Member.class, 1L))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Member result = memberService.updateMember(1L, Map.of(MemberField.POSITION, "マネージャー"));
+
+        // Then
+        assertEquals("マネージャー", result.getPosition());
+        assertEquals("大阪府", result.getLocation());
+        assertEquals(1.0, meterRegistry.counter(MemberService.UPDATE_CONFLICT_COUNTER, "outcome", "retried").count());
+        verify(transactionManager, times(2)).getTransaction(any());
+    }
+
+    @Test
+    void testUpdateMemberGivesUpAfterMaxAttempts() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(memberRepository.update(any(Member.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Member.class, 1L));
+
+        // When & Then
+        assertThrows(MemberConflictException.class,
+                () -> memberService.updateMember(1L, Map.of(MemberField.POSITION, "マネージャー")));
+        verify(memberRepository, times(3)).update(any(Member.class));
+        assertEquals(2.0, meterRegistry.counter(MemberService.UPDATE_CONFLICT_COUNTER, "outcome", "retried").count());
+        assertEquals(1.0, meterRegistry.counter(MemberService.UPDATE_CONFLICT_COUNTER, "outcome", "rejected").count());
+    }
+
+    @Test
+    void testUpdateMemberRejectsStaleExpectedVersionWithoutWriting() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        ReflectionTestUtils.setField(member, "version", 2L);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        // When & Then
+        assertThrows(MemberConflictException.class,
+                () -> memberService.updateMember(1L, Map.of(MemberField.POSITION, "マネージャー"), 1L));
+        verify(memberRepository, never()).update(any(Member.class));
+    }
+
+    @Test
+    void testUpdateMemberWithExpectedVersionIsNotRetried() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        ReflectionTestUtils.setField(member, "version", 1L);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(memberRepository.update(any(Member.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Member.class, 1L));
+
+        // When & Then
+        assertThrows(MemberConflictException.class,
+                () -> memberService.updateMember(1L, Map.of(MemberField.POSITION, "マネージャー"), 1L));
+        verify(memberRepository).update(any(Member.class));
+        assertEquals(0.0, meterRegistry.counter(MemberService.UPDATE_CONFLICT_COUNTER, "outcome", "retried").count());
+    }
+
+    @Test
+    void testUpdateMemberSkipsWriteWhenNothingChanges() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        // When
+        Member result = memberService.updateMember(1L, Map.of(MemberField.NAME, "山田太郎"));
+
+        // Then
+        assertEquals("山田太郎", result.getName());
+        verify(memberRepository, never()).update(any(Member.class));
+    }
+
+    @Test
+    void testUpdateMemberLeavesMemberUntouchedWhenValidationFails() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> memberService.updateMember(1L, Map.of(
+                        MemberField.POSITION, "マネージャー", MemberField.NAME_KANA, "ヤマダ")));
+        assertEquals("読み仮名はひらがなで入力してください", exception.getMessage());
+        assertEquals("やまだたろう", member.getNameKana());
+        assertEquals(null, member.getPosition());
+        verify(memberRepository, never()).update(any(Member.class));
+    }
+
+    @Test
+    void testUpdateMemberRejectsSystemAssignedFieldsWithoutLoading() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> memberService.updateMember(1L, Map.of(MemberField.ID, "2")));
+        assertEquals("変更できない項目です: id", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> memberService.updateMember(1L, Map.of()));
+        verify(memberRepository, never()).findById(any());
+    }
+
+    @Test
+    void testUpdateMemberTranslatesDuplicateEmail() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(memberRepository.update(any(Member.class))).thenThrow(new DuplicateMemberEmailException("duplicate", null));
+
+        // When & Then
+        assertThrows(DuplicateEmailException.class,
+                () -> memberService.updateMember(1L, Map.of(MemberField.EMAIL, "suzuki@example.com")));
+        assertEquals(1.0, meterRegistry.counter(MemberService.DUPLICATE_EMAIL_COUNTER, "source", "api").count());
     }
 }
@@ -0,0 +1,52 @@
+package com.example.memberlist.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for ArchivedMember entity.
+ */
+class ArchivedMemberTest {
+
+    @Test
+    void testConstructorCopiesDeletedMemberAndTakesDeletionTimeFromLastUpdate() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        member.updateInfo("山田太郎", "やまだたろう", "yamada@example.com", "エンジニア", "東京都",
+                "https://example.com/yamada.png", "よろしくお願いします");
+        ReflectionTestUtils.setField(member, "id", 7L);
+        ReflectionTestUtils.setField(member, "createdAt", LocalDateTime.of(2025, 1, 1, 9, 0));
+        ReflectionTestUtils.setField(member, "updatedAt", LocalDateTime.of(2026, 2, 1, 18, 0));
+        member.delete();
+        LocalDateTime archivedAt = LocalDateTime.of(2026, 3, 5, 3, 30);
+
+        // When
+        ArchivedMember archived = new ArchivedMember(member, archivedAt);
+
+        // Then
+        assertEquals(7L, archived.getId());
+        assertEquals("山田太郎", archived.getName());
+        assertEquals("やまだたろう", archived.getNameKana());
+        assertEquals("yamada@example.com", archived.getEmail());
+        assertEquals("エンジニア", archived.getPosition());
+        assertEquals("東京都", archived.getLocation());
+        assertEquals("https://example.com/yamada.png", archived.getProfileImageUrl());
+        assertEquals("よろしくお願いします", archived.getSelfIntroduction());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 9, 0), archived.getCreatedAt());
+        assertEquals(LocalDateTime.of(2026, 2, 1, 18, 0), archived.getDeletedAt());
+        assertEquals(archivedAt, archived.getArchivedAt());
+    }
+
+    @Test
+    void testConstructorRejectsActiveMember() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new ArchivedMember(member, LocalDateTime.now()));
+    }
+}
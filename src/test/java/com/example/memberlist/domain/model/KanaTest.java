@@ -0,0 +1,29 @@
+package com.example.memberlist.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for Kana.
+ */
+class KanaTest {
+
+    @Test
+    void testToHiraganaConvertsKatakana() {
+        assertEquals("やまだたろう", Kana.toHiragana("ヤマダタロウ"));
+        assertEquals("ぁゃっゖ", Kana.toHiragana("ァャッヶ"));
+    }
+
+    @Test
+    void testToHiraganaKeepsOtherCharacters() {
+        assertEquals("やまだ太郎ー", Kana.toHiragana("ヤマだ太郎ー"));
+    }
+
+    @Test
+    void testToHiraganaReturnsSameInstanceWithoutKatakana() {
+        String hiragana = "やまだ";
+        assertSame(hiragana, Kana.toHiragana(hiragana));
+    }
+}
@@ -5,15 +5,20 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * Unit tests for Member entity.
@@ -350,32 +355,18 @@ class MemberTest {
     }
 
     @Test
-    void testCreatedAtAndUpdatedAtAreSetOnPersist() {
+    void testCreatedAtIsSetOnPersist() {
         // Given
         Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
         assertNull(member.getCreatedAt());
-        assertNull(member.getUpdatedAt());
 
         // When
         member.onCreate();
 
         // Then
         assertNotNull(member.getCreatedAt());
-        assertNotNull(member.getUpdatedAt());
-    }
-
-    @Test
-    void testUpdatedAtIsSetOnUpdate() {
-        // Given
-        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
-        member.onCreate();
-        assertNotNull(member.getUpdatedAt());
-
-        // When
-        member.onUpdate();
-
-        // Then
-        assertNotNull(member.getUpdatedAt());
+        // The update time is stamped by the database when the member is written
+        assertNull(member.getUpdatedAt());
     }
 
     @Test
@@ -394,4 +385,108 @@ class MemberTest {
         // Avoid using transient entities in hash-based collections before persistence.
         assertEquals(member1.hashCode(), member2.hashCode());
     }
+
+    @Test
+    void testApplyChangesChangesOnlyGivenFields() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        member.updateInfo("山田太郎", "やまだたろう", "yamada@example.com", "エンジニア", "東京都",
+                "https://example.com/yamada.png", "よろしくお願いします。");
+        Map<MemberField, String> changes = new EnumMap<>(MemberField.class);
+        changes.put(MemberField.POSITION, "マネージャー");
+        changes.put(MemberField.PROFILE_IMAGE_URL, null);
+
+        // When
+        boolean changed = member.applyChanges(changes);
+
+        // Then
+        assertTrue(changed);
+        assertEquals("マネージャー", member.getPosition());
+        assertNull(member.getProfileImageUrl());
+        assertEquals("東京都", member.getLocation());
+        assertEquals("よろしくお願いします。", member.getSelfIntroduction());
+    }
+
+    @Test
+    void testApplyChangesReportsNoChangeForCurrentValues() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+
+        // When
+        boolean changed = member.applyChanges(Map.of(MemberField.NAME, "山田太郎", MemberField.EMAIL, "yamada@example.com"));
+
+        // Then
+        assertFalse(changed);
+    }
+
+    @Test
+    void testCopyKeepsIdentityAndVersionAndIsChangedIndependently() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        ReflectionTestUtils.setField(member, "id", 1L);
+        ReflectionTestUtils.setField(member, "version", 2L);
+
+        // When
+        Member copy = member.copy();
+        copy.applyChanges(Map.of(MemberField.POSITION, "マネージャー"));
+
+        // Then
+        assertEquals(member, copy);
+        assertEquals(2L, copy.getVersion());
+        assertEquals("yamada@example.com", copy.getEmail());
+        assertEquals("マネージャー", copy.getPosition());
+        assertNull(member.getPosition());
+    }
+
+    @Test
+    void testChangedFieldsRecordOnlyNewValuesSinceCopy() {
+        // Given
+        Member member = Member.restore(1L, "山田太郎", "やまだたろう", "yamada@example.com", "部長", null,
+                null, "よろしくお願いします", LocalDateTime.of(2026, 1, 1, 9, 0), LocalDateTime.of(2026, 1, 1, 9, 0),
+                false, 0L);
+        member.applyChanges(Map.of(MemberField.NAME, "山田一郎"));
+
+        // When
+        Member copy = member.copy();
+        copy.applyChanges(Map.of(MemberField.POSITION, "課長", MemberField.SELF_INTRODUCTION, "よろしくお願いします"));
+
+        // Then
+        assertEquals(Set.of(MemberField.NAME), member.getChangedFields());
+        assertEquals(Set.of(MemberField.POSITION), copy.getChangedFields());
+    }
+
+    @Test
+    void testRestoreRecreatesStoredState() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 2, 1, 9, 0);
+
+        // When
+        Member active = Member.restore(1L, "山田太郎", "やまだたろう", "yamada@example.com", "マネージャー", "東京",
+                null, null, createdAt, updatedAt, false, 3L);
+        Member deleted = Member.restore(2L, "佐藤花子", "さとうはなこ", "sato@example.com", null, null,
+                null, null, createdAt, updatedAt, true, 4L);
+
+        // Then
+        assertEquals(1L, active.getId());
+        assertEquals("マネージャー", active.getPosition());
+        assertEquals(createdAt, active.getCreatedAt());
+        assertEquals(updatedAt, active.getUpdatedAt());
+        assertEquals(3L, active.getVersion());
+        assertFalse(active.isDeleted());
+        assertEquals("yamada@example.com", ReflectionTestUtils.getField(active, "activeEmail"));
+        assertTrue(deleted.isDeleted());
+        assertNull(ReflectionTestUtils.getField(deleted, "activeEmail"));
+    }
+
+    @Test
+    void testApplyChangesRejectsSystemAssignedFields() {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> member.applyChanges(Map.of(MemberField.CREATED_AT, "2026-01-01T00:00:00")));
+        assertEquals("変更できない項目です: createdAt", exception.getMessage());
+    }
 }
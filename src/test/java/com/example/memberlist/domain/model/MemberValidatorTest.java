@@ -0,0 +1,180 @@
+package com.example.memberlist.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Differential tests for MemberValidator: every member must produce the same violations
+ * as Bean Validation of the annotations on Member.
+ */
+class MemberValidatorTest {
+
+    private static final List<String> NAMES = Arrays.asList(
+            null, "", " ", "\t\n", "　", "山田太郎", " 山田 ", "a".repeat(100), "a".repeat(101), "😀".repeat(50),
+            "😀".repeat(51));
+
+    private static final List<String> KANAS = Arrays.asList(
+            null, "", " ", "やまだたろう", "ぁ", "ん", "ゔ", "ヤマダ", "やまだ ", "やまだa", "ー", "やまだー",
+            "あ".repeat(100), "あ".repeat(101), "カ".repeat(101));
+
+    private static final List<String> EMAILS = Arrays.asList(
+            null, "", " ", "yamada@example.com", "Yamada.Taro+tag@Example.CO.jp", "a@b", "a@localhost",
+            "first.last@sub-domain.example.com", "o'brien@example.com", "!#$%&'*+/=?^_`{|}~-@example.com",
+            "user@123.123.123.123", "user@[192.168.0.1]", "user@[IPv6:2001:db8::1]", "\"quoted name\"@example.com",
+            "\"a\\\"b\"@example.com", "山田@example.com", "yamada@例え.jp", "yamada@xn--r8jz45g.jp",
+            "yamada@under_score.com", "noatsign", "@example.com", "yamada@", "yamada@@example.com",
+            "a@b@example.com", ".yamada@example.com", "yamada.@example.com", "yama..da@example.com",
+            "yamada@.example.com", "yamada@example.com.", "yamada@example..com", "yamada@-example.com",
+            "yamada@example-.com", "yamada@exa--mple.com", "yama da@example.com", "yamada@exa mple.com",
+            "yamada@example.com ", " yamada@example.com", "yamada@ex(ample).com",
+            "a".repeat(64) + "@example.com", "a".repeat(65) + "@example.com",
+            "yamada@" + "a".repeat(63) + ".com", "yamada@" + "a".repeat(64) + ".com",
+            "a@" + ("b".repeat(63) + ".").repeat(3) + "c".repeat(61),
+            "a@" + ("b".repeat(63) + ".").repeat(3) + "c".repeat(62),
+            "a".repeat(64) + "@" + ("b".repeat(60) + ".").repeat(3) + "c".repeat(10));
+
+    private static final List<String> POSITIONS = Arrays.asList(null, "", "エンジニア", "a".repeat(100), "a".repeat(101));
+
+    private static final List<String> LOCATIONS = Arrays.asList(null, "", "東京都", "a".repeat(200), "a".repeat(201));
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+    private static MemberValidator memberValidator;
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        memberValidator = new MemberValidator(validator);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void testMatchesBeanValidationForEveryNameAndKana() {
+        for (String name : NAMES) {
+            for (String kana : KANAS) {
+                assertSameViolations(member(name, kana, "yamada@example.com", null, null));
+            }
+        }
+    }
+
+    @Test
+    void testMatchesBeanValidationForEveryEmail() {
+        for (String email : EMAILS) {
+            assertSameViolations(member("山田太郎", "やまだたろう", email, null, null));
+        }
+    }
+
+    @Test
+    void testMatchesBeanValidationForOptionalFields() {
+        for (String position : POSITIONS) {
+            for (String location : LOCATIONS) {
+                assertSameViolations(member("山田太郎", "やまだたろう", "yamada@example.com", position, location));
+            }
+        }
+    }
+
+    @Test
+    void testMatchesBeanValidationForRandomEmails() {
+        // Given: short strings over the characters that matter to the email grammar
+        String alphabet = "aZ09.-_+@\"\\ []:()あ!#~";
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder email = new StringBuilder();
+            int length = 1 + random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                email.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertSameViolations(member("山田太郎", "やまだたろう", email.toString(), null, null));
+        }
+    }
+
+    @Test
+    void testReturnsMessagesInFieldOrder() {
+        // When
+        List<String> errors = memberValidator.validate(member("", "ヤマダ", "invalid", null, "a".repeat(201)));
+
+        // Then
+        assertEquals(List.of(
+                MemberValidator.NAME_REQUIRED,
+                MemberValidator.NAME_KANA_NOT_HIRAGANA,
+                MemberValidator.EMAIL_INVALID,
+                MemberValidator.LOCATION_TOO_LONG), errors);
+    }
+
+    @Test
+    void testReturnsSharedEmptyListForValidMember() {
+        assertSame(List.of(), memberValidator.validate(
+                member("山田太郎", "やまだたろう", "yamada@example.com", "エンジニア", "東京都")));
+    }
+
+    @Test
+    void testValidatePositionAndLocationMatchesBeanValidation() {
+        for (String position : POSITIONS) {
+            for (String location : LOCATIONS) {
+                List<String> expected = memberValidator.validate(
+                        member("山田太郎", "やまだたろう", "yamada@example.com", position, location));
+                assertEquals(expected, memberValidator.validatePositionAndLocation(position, location));
+            }
+        }
+    }
+
+    @Test
+    void testValidateChangesChecksMemberAsItWouldBeWithoutChangingIt() {
+        // Given
+        Member member = member("山田太郎", "やまだたろう", "yamada@example.com", "エンジニア", null);
+        Map<MemberField, String> changes = new EnumMap<>(MemberField.class);
+        changes.put(MemberField.NAME, null);
+        changes.put(MemberField.LOCATION, "a".repeat(201));
+
+        // When
+        List<String> errors = memberValidator.validate(member, changes);
+
+        // Then
+        assertEquals(List.of(MemberValidator.NAME_REQUIRED, MemberValidator.LOCATION_TOO_LONG), errors);
+        assertEquals("山田太郎", member.getName());
+        assertSame(List.of(), memberValidator.validate(member, Map.of(MemberField.POSITION, "部長")));
+    }
+
+    private static void assertSameViolations(Member member) {
+        Set<String> expected = validator.validate(member).stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toSet());
+        List<String> actual = memberValidator.validate(member);
+        assertEquals(expected, new HashSet<>(actual), () -> describe(member));
+        assertEquals(actual.size(), new HashSet<>(actual).size(), () -> describe(member));
+    }
+
+    private static String describe(Member member) {
+        return new ArrayList<>(Arrays.asList(member.getName(), member.getNameKana(), member.getEmail(),
+                member.getPosition(), member.getLocation())).toString();
+    }
+
+    private static Member member(String name, String nameKana, String email, String position, String location) {
+        Member member = new Member(name, nameKana, email);
+        member.updateInfo(name, nameKana, email, position, location, null, null);
+        return member;
+    }
+}
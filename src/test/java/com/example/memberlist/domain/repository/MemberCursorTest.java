@@ -0,0 +1,47 @@
+package com.example.memberlist.domain.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MemberCursor.
+ */
+class MemberCursorTest {
+
+    @Test
+    void testEncodeAndDecodeRoundTrip() {
+        // Given
+        MemberCursor cursor = new MemberCursor(LocalDateTime.of(2025, 1, 2, 3, 4, 5, 678_000), 42L);
+
+        // When
+        MemberCursor decoded = MemberCursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void testEncodedTokenIsUrlSafe() {
+        // Given
+        MemberCursor cursor = new MemberCursor(LocalDateTime.of(2025, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+        // When
+        String token = cursor.encode();
+
+        // Then
+        assertFalse(token.contains("+"));
+        assertFalse(token.contains("/"));
+        assertFalse(token.contains("="));
+    }
+
+    @Test
+    void testDecodeRejectsMalformedToken() {
+        assertThrows(IllegalArgumentException.class, () -> MemberCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> MemberCursor.decode("bm8tc2VwYXJhdG9y"));
+        assertThrows(IllegalArgumentException.class, () -> MemberCursor.decode("MjAyNXwxMg"));
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.memberlist.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.domain.repository.DuplicateMemberEmailException;
+import com.example.memberlist.domain.repository.MemberFilter;
+import com.example.memberlist.infrastructure.datasource.PrimaryPin;
+import com.example.memberlist.infrastructure.repository.MemberRepositoryImpl;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for CachingMemberRepository.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingMemberRepositoryTest {
+
+    @Mock
+    private MemberRepositoryImpl delegate;
+
+    private CacheManager cacheManager;
+    private CachingMemberRepository repository;
+    private Member yamada;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new MemberCacheConfig().cacheManager("maximumSize=100,recordStats");
+        repository = new CachingMemberRepository(delegate, cacheManager, Duration.ofSeconds(5));
+        yamada = member(1L, "山田太郎", "やまだたろう", "yamada@example.com");
+    }
+
+    @Test
+    void testFindAllIsServedFromCacheUntilSave() {
+        // Given
+        when(delegate.findAll(MemberFilter.NONE)).thenReturn(List.of(yamada));
+        when(delegate.save(yamada)).thenReturn(yamada);
+
+        // When
+        repository.findAll(MemberFilter.NONE);
+        repository.findAll(MemberFilter.NONE);
+        repository.save(yamada);
+        List<Member> members = repository.findAll(MemberFilter.NONE);
+
+        // Then
+        assertEquals(List.of(yamada), members);
+        verify(delegate, times(2)).findAll(MemberFilter.NONE);
+        CacheStats stats = stats(CachingMemberRepository.ACTIVE_MEMBERS);
+        assertEquals(1, stats.hitCount());
+        assertEquals(2, stats.missCount());
+    }
+
+    @Test
+    void testFindAllReloadsWhenDirectoryVersionMovesWithoutLocalWrite() {
+        // Given: another instance writes between the two reads
+        Member suzuki = member(2L, "鈴木花子", "すずきはなこ", "suzuki@example.com");
+        when(delegate.getDirectoryVersion()).thenReturn(7L, 8L);
+        when(delegate.findAll(MemberFilter.NONE)).thenReturn(List.of(yamada)).thenReturn(List.of(suzuki, yamada));
+
+        // When
+        repository.findAll(MemberFilter.NONE);
+        List<Member> members = repository.findAll(MemberFilter.NONE);
+
+        // Then
+        assertEquals(List.of(suzuki, yamada), members);
+        verify(delegate, times(2)).findAll(MemberFilter.NONE);
+    }
+
+    @Test
+    void testFilteredFindAllBypassesCache() {
+        // Given
+        MemberFilter filter = new MemberFilter("エンジニア", null, null);
+        when(delegate.findAll(filter)).thenReturn(List.of(yamada));
+
+        // When
+        repository.findAll(filter);
+        repository.findAll(filter);
+
+        // Then
+        verify(delegate, times(2)).findAll(filter);
+        assertEquals(0, stats(CachingMemberRepository.ACTIVE_MEMBERS).requestCount());
+    }
+
+    @Test
+    void testSaveEvictsOnlyTheSavedMember() {
+        // Given
+        Member suzuki = member(2L, "鈴木花子", "すずきはなこ", "suzuki@example.com");
+        when(delegate.findById(1L)).thenReturn(Optional.of(yamada));
+        when(delegate.findById(2L)).thenReturn(Optional.of(suzuki));
+        when(delegate.save(yamada)).thenReturn(yamada);
+        repository.findById(1L);
+        repository.findById(2L);
+
+        // When
+        repository.save(yamada);
+        repository.findById(1L);
+        repository.findById(2L);
+
+        // Then
+        verify(delegate, times(2)).findById(1L);
+        verify(delegate, times(1)).findById(2L);
+    }
+
+    @Test
+    void testSavedMemberIsReloadedFromPrimaryWithinReadYourWritesPeriod() {
+        // Given
+        Member suzuki = member(2L, "鈴木花子", "すずきはなこ", "suzuki@example.com");
+        List<Boolean> pinned = new ArrayList<>();
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            pinned.add(PrimaryPin.isPinned());
+            return Optional.of(yamada);
+        });
+        when(delegate.findById(2L)).thenAnswer(invocation -> {
+            pinned.add(PrimaryPin.isPinned());
+            return Optional.of(suzuki);
+        });
+        when(delegate.save(yamada)).thenReturn(yamada);
+
+        // When
+        repository.save(yamada);
+        repository.findById(1L);
+        repository.findById(2L);
+
+        // Then
+        assertEquals(List.of(true, false), pinned);
+    }
+
+    @Test
+    void testFindByIdDoesNotCacheAbsentMember() {
+        // Given
+        when(delegate.findById(9L)).thenReturn(Optional.empty());
+
+        // When
+        repository.findById(9L);
+        Optional<Member> member = repository.findById(9L);
+
+        // Then
+        assertTrue(member.isEmpty());
+        verify(delegate, times(2)).findById(9L);
+    }
+
+    @Test
+    void testFindByEmailIsServedFromCache() {
+        // Given
+        when(delegate.findByEmail("yamada@example.com")).thenReturn(Optional.of(yamada));
+
+        // When
+        repository.findByEmail("yamada@example.com");
+        Optional<Member> member = repository.findByEmail("yamada@example.com");
+
+        // Then
+        assertEquals(Optional.of(yamada), member);
+        verify(delegate, times(1)).findByEmail("yamada@example.com");
+    }
+
+    @Test
+    void testFindByEmailRevalidatesAfterAddressMovedToAnotherMember() {
+        // Given
+        when(delegate.findByEmail("yamada@example.com")).thenReturn(Optional.of(yamada)).thenReturn(Optional.empty());
+        repository.findByEmail("yamada@example.com");
+
+        // When: the cached member changes its address in place, as an update would
+        yamada.updateInfo("山田太郎", "やまだたろう", "taro@example.com", null, null, null, null);
+        Optional<Member> member = repository.findByEmail("yamada@example.com");
+
+        // Then
+        assertTrue(member.isEmpty());
+        verify(delegate, times(2)).findByEmail("yamada@example.com");
+    }
+
+    @Test
+    void testDeleteEvictsMember() {
+        // Given
+        when(delegate.findByEmail("yamada@example.com")).thenReturn(Optional.of(yamada)).thenReturn(Optional.empty());
+        when(delegate.findById(1L)).thenReturn(Optional.of(yamada));
+        repository.findByEmail("yamada@example.com");
+
+        // When
+        repository.delete(yamada);
+        Optional<Member> byEmail = repository.findByEmail("yamada@example.com");
+        repository.findById(1L);
+
+        // Then
+        assertTrue(byEmail.isEmpty());
+        verify(delegate).delete(yamada);
+        verify(delegate).findById(1L);
+    }
+
+    @Test
+    void testDeleteAllByIdsEvictsMembersAndRevalidatesCachedEmails() {
+        // Given
+        Member deleted = member(1L, "山田太郎", "やまだたろう", "yamada@example.com");
+        deleted.delete();
+        when(delegate.findAll(MemberFilter.NONE)).thenReturn(List.of(yamada)).thenReturn(List.of());
+        when(delegate.findByEmail("yamada@example.com")).thenReturn(Optional.of(yamada)).thenReturn(Optional.empty());
+        when(delegate.findById(1L)).thenReturn(Optional.of(deleted));
+        when(delegate.deleteAllByIds(List.of(1L))).thenReturn(1);
+        repository.findAll(MemberFilter.NONE);
+        repository.findByEmail("yamada@example.com");
+
+        // When
+        repository.deleteAllByIds(List.of(1L));
+        List<Member> members = repository.findAll(MemberFilter.NONE);
+        Optional<Member> byEmail = repository.findByEmail("yamada@example.com");
+
+        // Then
+        assertTrue(members.isEmpty());
+        assertTrue(byEmail.isEmpty());
+        verify(delegate).findById(1L);
+    }
+
+    @Test
+    void testUpdateAllByIdsEvictsMembers() {
+        // Given
+        when(delegate.findById(1L)).thenReturn(Optional.of(yamada));
+        when(delegate.updateAllByIds(List.of(1L), "マネージャー", null)).thenReturn(1);
+        repository.findById(1L);
+
+        // When
+        repository.updateAllByIds(List.of(1L), "マネージャー", null);
+        repository.findById(1L);
+
+        // Then
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    void testFailedUpdateDropsChangedCachedMemberImmediately() {
+        // Given
+        when(delegate.findById(1L)).thenReturn(Optional.of(yamada));
+        when(delegate.update(yamada)).thenThrow(new DuplicateMemberEmailException("duplicate", null));
+        Member cached = repository.findById(1L).orElseThrow();
+        cached.applyChanges(Map.of(MemberField.EMAIL, "suzuki@example.com"));
+
+        // When
+        assertThrows(DuplicateMemberEmailException.class, () -> repository.update(cached));
+        repository.findById(1L);
+
+        // Then
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    private CacheStats stats(String cacheName) {
+        TransactionAwareCacheDecorator cache = (TransactionAwareCacheDecorator) cacheManager.getCache(cacheName);
+        return ((CaffeineCache) cache.getTargetCache()).getNativeCache().stats();
+    }
+
+    private static Member member(Long id, String name, String nameKana, String email) {
+        Member member = new Member(name, nameKana, email);
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.memberlist.infrastructure.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for ReadYourWritesFilter.
+ */
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        PrimaryPin.clear();
+    }
+
+    @Test
+    void testWritingRequestSetsCookieHoldingEndOfPin() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/members/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        long before = System.currentTimeMillis();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE);
+        assertNotNull(cookie);
+        assertTrue(Long.parseLong(cookie.getValue()) >= before + 5_000);
+        assertTrue(cookie.isHttpOnly());
+    }
+
+    @Test
+    void testReadingRequestWithCookieReadsFromPrimaryUntilItCompletes() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, String.valueOf(System.currentTimeMillis() + 3_000)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean pinnedDuringRequest = new AtomicBoolean();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> pinnedDuringRequest.set(PrimaryPin.isPinned()));
+
+        // Then
+        assertTrue(pinnedDuringRequest.get());
+        assertFalse(PrimaryPin.isPinned());
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE));
+    }
+
+    @Test
+    void testExpiredOrInvalidCookieIsIgnored() throws Exception {
+        // Given
+        AtomicBoolean pinnedDuringRequest = new AtomicBoolean(true);
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/api/members");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, String.valueOf(System.currentTimeMillis() - 1)));
+        MockHttpServletRequest invalid = new MockHttpServletRequest("GET", "/api/members");
+        invalid.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, "forever"));
+
+        // When & Then
+        filter.doFilter(expired, new MockHttpServletResponse(),
+                (req, res) -> pinnedDuringRequest.set(PrimaryPin.isPinned()));
+        assertFalse(pinnedDuringRequest.get());
+        pinnedDuringRequest.set(true);
+        filter.doFilter(invalid, new MockHttpServletResponse(),
+                (req, res) -> pinnedDuringRequest.set(PrimaryPin.isPinned()));
+        assertFalse(pinnedDuringRequest.get());
+    }
+}
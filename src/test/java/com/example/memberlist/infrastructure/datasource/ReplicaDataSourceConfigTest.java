@@ -0,0 +1,124 @@
+package com.example.memberlist.infrastructure.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.infrastructure.repository.MemberJpaRepository;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs JPA against two H2 databases, a primary and a replica, through the routing data source.
+ * Nothing replicates between them, so which one answered is visible in the results.
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=" + ReplicaDataSourceConfigTest.PRIMARY_URL,
+    "member.datasource.replica-urls=" + ReplicaDataSourceConfigTest.REPLICA_URL,
+    "member.datasource.read-your-writes=5s"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReplicaDataSourceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaDataSourceConfigTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate REPLICA = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeAll
+    static void migrateReplica() {
+        // A real replica receives the schema from the primary
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        readWrite.executeWithoutResult(status -> memberJpaRepository.deleteAll());
+        REPLICA.update("DELETE FROM members");
+        PrimaryPin.clear();
+    }
+
+    @Test
+    void testReadOnlyTransactionsReadFromReplica() {
+        // Given
+        REPLICA.update("INSERT INTO members (id, name, name_kana, email, active_email) "
+                + "VALUES (1, '複製太郎', 'ふくせいたろう', 'replica@example.com', 'replica@example.com')");
+
+        // When
+        long onReplica = readOnly.execute(status -> memberJpaRepository.count());
+        long onPrimary = readWrite.execute(status -> memberJpaRepository.count());
+
+        // Then
+        assertEquals(1, onReplica);
+        assertEquals(0, onPrimary);
+    }
+
+    @Test
+    void testThreadReadsItsOwnWritesFromPrimaryAfterCommit() {
+        // Given
+        readWrite.execute(status -> memberJpaRepository.save(new Member("山田太郎", "やまだたろう", "yamada@example.com")));
+
+        // When
+        long ownRead = readOnly.execute(status -> memberJpaRepository.count());
+        PrimaryPin.clear();
+        long otherClientRead = readOnly.execute(status -> memberJpaRepository.count());
+
+        // Then
+        assertEquals(1, ownRead);
+        assertEquals(0, otherClientRead);
+    }
+
+    @Test
+    void testPinnedReadsUsePrimary() {
+        // Given
+        readWrite.execute(status -> memberJpaRepository.save(new Member("山田太郎", "やまだたろう", "yamada@example.com")));
+        PrimaryPin.clear();
+
+        // When
+        long count = PrimaryPin.call(() -> readOnly.execute(status -> memberJpaRepository.count()));
+
+        // Then
+        assertEquals(1, count);
+    }
+
+    @Test
+    void testApplicationDataSourceIsLazyRoutingProxy() throws Exception {
+        // When & Then
+        assertTrue(dataSource.isWrapperFor(ReplicaRoutingDataSource.class));
+    }
+}
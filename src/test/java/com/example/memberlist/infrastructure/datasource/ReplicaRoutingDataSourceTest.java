@@ -0,0 +1,134 @@
+package com.example.memberlist.infrastructure.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica0;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replica0Connection;
+
+    @Mock
+    private Connection replica1Connection;
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(replica0, replica1), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        PrimaryPin.clear();
+    }
+
+    @Test
+    void testConnectionsOutsideReadOnlyTransactionsUsePrimary() throws Exception {
+        // Given
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When & Then
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void testReadOnlyTransactionsUseReplicasInTurn() throws Exception {
+        // Given
+        when(replica0.getConnection()).thenReturn(replica0Connection);
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When & Then
+        assertSame(replica0Connection, dataSource.getConnection());
+        assertSame(replica1Connection, dataSource.getConnection());
+        assertSame(replica0Connection, dataSource.getConnection());
+    }
+
+    @Test
+    void testReadOnlyTransactionsUsePrimaryWhilePinned() throws Exception {
+        // Given
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica0.getConnection()).thenReturn(replica0Connection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When & Then
+        assertSame(primaryConnection, PrimaryPin.call(() -> connection()));
+        PrimaryPin.pinUntil(System.currentTimeMillis() + 60_000);
+        assertSame(primaryConnection, dataSource.getConnection());
+        PrimaryPin.clear();
+        assertSame(replica0Connection, dataSource.getConnection());
+    }
+
+    @Test
+    void testCommittedReadWriteTransactionPinsThreadToPrimary() throws Exception {
+        // Given
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        TransactionSynchronizationManager.initSynchronization();
+        dataSource.getConnection();
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertTrue(PrimaryPin.isPinned());
+    }
+
+    @Test
+    void testRolledBackReadWriteTransactionDoesNotPinThread() throws Exception {
+        // Given
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        TransactionSynchronizationManager.initSynchronization();
+        dataSource.getConnection();
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertFalse(PrimaryPin.isPinned());
+    }
+
+    private Connection connection() {
+        try {
+            return dataSource.getConnection();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
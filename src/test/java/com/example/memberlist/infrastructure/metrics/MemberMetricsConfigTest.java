@@ -0,0 +1,87 @@
+package com.example.memberlist.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.example.memberlist.application.service.MemberService;
+import com.example.memberlist.domain.repository.MemberFilter;
+import com.example.memberlist.domain.repository.MemberRepository;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import com.example.memberlist.infrastructure.repository.MemberKanaIndex;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for MemberMetricsConfig.
+ */
+@ExtendWith(MockitoExtension.class)
+class MemberMetricsConfigTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberMetricsConfig config;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        config = new MemberMetricsConfig();
+    }
+
+    @Test
+    void testTimedAspectRecordsServiceCallsPerMethodAndException() {
+        // Given
+        AspectJProxyFactory factory = new AspectJProxyFactory(new MemberService(
+                memberRepository, Validation.buildDefaultValidatorFactory().getValidator(), meterRegistry,
+                transactionManager, 3, Duration.ZERO));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(config.timedAspect(meterRegistry));
+        MemberService memberService = factory.getProxy();
+        when(memberRepository.findAll(MemberFilter.NONE)).thenReturn(List.of());
+
+        // When
+        memberService.listMembers(MemberFilter.NONE);
+        assertThrows(IllegalArgumentException.class,
+                () -> memberService.createMember("", "やまだたろう", "yamada@example.com", null, null, null, null));
+
+        // Then
+        Timer listTimer = meterRegistry.get(MemberService.TIMER).tag("method", "listMembers").timer();
+        Timer createTimer = meterRegistry.get(MemberService.TIMER).tag("method", "createMember")
+                .tag("exception", "IllegalArgumentException").timer();
+        assertEquals(1, listTimer.count());
+        assertEquals(1, createTimer.count());
+    }
+
+    @Test
+    void testActiveMembersGaugeReadsLoadedKanaIndex() {
+        // Given
+        MemberKanaIndex index = new MemberKanaIndex();
+        config.activeMembersGauge(index).bindTo(meterRegistry);
+        assertTrue(Double.isNaN(meterRegistry.get(MemberMetricsConfig.ACTIVE_MEMBERS_GAUGE).gauge().value()));
+
+        // When
+        index.beginLoad();
+        index.completeLoad(List.of(
+                new MemberSuggestion(1L, "山田太郎", "やまだたろう"),
+                new MemberSuggestion(2L, "鈴木花子", "すずきはなこ")));
+
+        // Then
+        assertEquals(2.0, meterRegistry.get(MemberMetricsConfig.ACTIVE_MEMBERS_GAUGE).gauge().value());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.memberlist.domain.model.ArchivedMember;
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberChanges;
+import com.example.memberlist.domain.repository.MemberTombstone;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Integration tests for the member archive: moving deleted members and reading their tombstones.
+ */
+@DataJpaTest
+@Import({MemberRepositoryImpl.class, MemberDirectoryVersion.class, MemberChangeWatermark.class,
+    MemberProjectionQuery.class, EmailBloomFilter.class, MemberKanaIndex.class, MemberTextIndex.class})
+class ArchivedMemberJpaRepositoryTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MemberRepositoryImpl memberRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private ArchivedMemberJpaRepository archivedMemberJpaRepository;
+
+    @Test
+    void testArchiveDeletedMovesOldestDeletedMembersUpToLimit() {
+        // Given
+        Member active = save(new Member("山田太郎", "やまだたろう", "yamada@example.com"), CUTOFF.minusDays(90));
+        Member oldest = saveDeleted("鈴木花子", "suzuki@example.com", CUTOFF.minusDays(60));
+        Member older = saveDeleted("佐藤次郎", "sato@example.com", CUTOFF.minusDays(40));
+        Member recent = saveDeleted("田中三郎", "tanaka@example.com", CUTOFF.plusDays(1));
+        entityManager.clear();
+        assertEquals(2, memberRepository.countDeletedBefore(CUTOFF));
+
+        // When
+        int first = memberRepository.archiveDeleted(CUTOFF, 1);
+        int second = memberRepository.archiveDeleted(CUTOFF, 1);
+        int third = memberRepository.archiveDeleted(CUTOFF, 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertEquals(List.of(1, 1, 0), List.of(first, second, third));
+        assertEquals(List.of(oldest.getId(), older.getId()),
+                archivedMemberJpaRepository.findAll().stream().map(ArchivedMember::getId).sorted().toList());
+        assertFalse(memberJpaRepository.existsById(oldest.getId()));
+        assertFalse(memberJpaRepository.existsById(older.getId()));
+        assertTrue(memberJpaRepository.existsById(recent.getId()));
+        assertTrue(memberJpaRepository.existsById(active.getId()));
+        ArchivedMember archived = archivedMemberJpaRepository.findById(oldest.getId()).orElseThrow();
+        assertEquals("suzuki@example.com", archived.getEmail());
+        assertEquals(CUTOFF.minusDays(60), archived.getDeletedAt());
+    }
+
+    @Test
+    void testFindChangesSinceKeepsTombstonesOfArchivedMembers() {
+        // Given
+        Member archived = saveDeleted("鈴木花子", "suzuki@example.com", CUTOFF.minusDays(60));
+        Member deleted = saveDeleted("佐藤次郎", "sato@example.com", CUTOFF.plusDays(1));
+        entityManager.clear();
+        memberRepository.archiveDeleted(CUTOFF, 10);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        MemberChanges changes = memberRepository.findChangesSince(CUTOFF.minusDays(90), null, 10);
+
+        // Then
+        assertEquals(List.of(deleted.getId()), changes.members().stream().map(Member::getId).toList());
+        assertEquals(List.of(new MemberTombstone(archived.getId(), CUTOFF.minusDays(60))), changes.archived());
+        assertTrue(memberRepository.findChangesSince(CUTOFF, null, 10).archived().isEmpty());
+    }
+
+    private Member saveDeleted(String name, String email, LocalDateTime deletedAt) {
+        Member member = new Member(name, "めんば", email);
+        member.delete();
+        return save(member, deletedAt);
+    }
+
+    private Member save(Member member, LocalDateTime updatedAt) {
+        entityManager.persistAndFlush(member);
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Member m SET m.updatedAt = :updatedAt WHERE m.id = :id")
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", member.getId())
+                .executeUpdate();
+        return member;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for EmailBloomFilterLoader.
+ */
+@ExtendWith(MockitoExtension.class)
+class EmailBloomFilterLoaderTest {
+
+    @Mock
+    private MemberJpaRepository memberJpaRepository;
+
+    @Test
+    void testLoadPutsActiveEmailsAndEnablesFilter() {
+        // Given
+        EmailBloomFilter filter = new EmailBloomFilter(100, 0.01);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(memberJpaRepository.streamActiveEmails())
+                .thenReturn(Stream.of("yamada@example.com").onClose(() -> closed.set(true)));
+
+        // When
+        new EmailBloomFilterLoader(memberJpaRepository, filter).load();
+
+        // Then
+        assertTrue(filter.isReady());
+        assertTrue(filter.mightContain("yamada@example.com"));
+        assertFalse(filter.mightContain("suzuki@example.com"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testRefreshAddsAddressesUpdatedSinceLoad() {
+        // Given
+        EmailBloomFilter filter = new EmailBloomFilter(100, 0.01);
+        when(memberJpaRepository.streamActiveEmails()).thenReturn(Stream.of("yamada@example.com"));
+        when(memberJpaRepository.findActiveEmailsUpdatedSince(any(LocalDateTime.class)))
+                .thenReturn(List.of("suzuki@example.com"));
+        EmailBloomFilterLoader loader = new EmailBloomFilterLoader(memberJpaRepository, filter);
+        LocalDateTime beforeLoad = LocalDateTime.now();
+        loader.load();
+
+        // When
+        loader.refresh();
+
+        // Then
+        assertTrue(filter.mightContain("suzuki@example.com"));
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(memberJpaRepository).findActiveEmailsUpdatedSince(since.capture());
+        assertFalse(since.getValue().isBefore(beforeLoad.minus(EmailBloomFilterLoader.REFRESH_OVERLAP)));
+        assertFalse(since.getValue().isAfter(LocalDateTime.now().minus(EmailBloomFilterLoader.REFRESH_OVERLAP)));
+    }
+
+    @Test
+    void testRefreshDoesNothingBeforeLoad() {
+        // Given
+        EmailBloomFilter filter = new EmailBloomFilter(100, 0.01);
+
+        // When
+        new EmailBloomFilterLoader(memberJpaRepository, filter).refresh();
+
+        // Then
+        assertFalse(filter.isReady());
+        verify(memberJpaRepository, never()).findActiveEmailsUpdatedSince(any());
+    }
+}
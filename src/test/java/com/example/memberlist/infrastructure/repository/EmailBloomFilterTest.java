@@ -0,0 +1,69 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for EmailBloomFilter.
+ */
+class EmailBloomFilterTest {
+
+    @Test
+    void testMightContainReportsEveryAddedAddress() {
+        // Given
+        EmailBloomFilter filter = new EmailBloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@example.com"));
+        filter.markReady();
+
+        // When & Then
+        assertTrue(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("user" + i + "@example.com")));
+    }
+
+    @Test
+    void testMightContainKeepsFalsePositivesNearTargetRate() {
+        // Given
+        EmailBloomFilter filter = new EmailBloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@example.com"));
+        filter.markReady();
+
+        // When
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other" + i + "@example.org"))
+                .count();
+
+        // Then
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void testMightContainIgnoresCaseAndSurroundingSpaces() {
+        // Given
+        EmailBloomFilter filter = new EmailBloomFilter(100, 0.01);
+        filter.put("Yamada@Example.com");
+        filter.markReady();
+
+        // When & Then
+        assertTrue(filter.mightContain(" yamada@example.com "));
+    }
+
+    @Test
+    void testMightContainAnswersTrueUntilReady() {
+        // Given
+        EmailBloomFilter filter = new EmailBloomFilter(100, 0.01);
+
+        // When & Then
+        assertTrue(filter.mightContain("yamada@example.com"));
+        filter.markReady();
+        assertFalse(filter.mightContain("yamada@example.com"));
+    }
+
+    @Test
+    void testConstructorRejectsInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new EmailBloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new EmailBloomFilter(100, 1.0));
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberChanges;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Checks that member changes are stamped by the database clock and that the change feed never
+ * moves its watermark past a write still in flight, even one this instance knows nothing about.
+ */
+@DataJpaTest(properties = "member.changes.max-transaction-duration=PT1S")
+@Import({MemberRepositoryImpl.class, MemberDirectoryVersion.class, MemberChangeWatermark.class,
+    MemberProjectionQuery.class, EmailBloomFilter.class, MemberKanaIndex.class, MemberTextIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberChangeWatermarkTest {
+
+    private static final String CURRENT_TIME = "SELECT LOCALTIMESTAMP";
+
+    @Autowired
+    private MemberRepositoryImpl memberRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberJpaRepository.deleteAll();
+    }
+
+    @Test
+    void testWritesAreStampedWithDatabaseTimeOfTheirTransaction() {
+        // When
+        List<LocalDateTime> times = new TransactionTemplate(transactionManager).execute(status -> {
+            LocalDateTime databaseTime = jdbcTemplate.queryForObject(CURRENT_TIME, LocalDateTime.class);
+            Member inserted = memberRepository.insert(new Member("山田太郎", "やまだたろう", "yamada@example.com"));
+            Member updated = memberRepository.insert(new Member("鈴木花子", "すずきはなこ", "suzuki@example.com"));
+            updated.updateInfo(updated.getName(), updated.getNameKana(), updated.getEmail(), "部長",
+                    null, null, null);
+            return List.of(databaseTime, inserted.getUpdatedAt(), memberRepository.update(updated).getUpdatedAt());
+        });
+
+        // Then
+        assertEquals(List.of(times.get(0), times.get(0), times.get(0)), times);
+    }
+
+    @Test
+    void testWatermarkStaysBeforeWritePendingOnAnotherConnection() throws Exception {
+        // Given
+        LocalDateTime since = jdbcTemplate.queryForObject(CURRENT_TIME, LocalDateTime.class).minusMinutes(1);
+        MemberChanges pending;
+        try (Connection elsewhere = dataSource.getConnection()) {
+            // Another instance stamps a member with the database time and has not committed yet
+            elsewhere.setAutoCommit(false);
+            try (PreparedStatement insert = elsewhere.prepareStatement("INSERT INTO members (id, name, name_kana,"
+                    + " email, active_email, created_at, updated_at, is_deleted, version) VALUES"
+                    + " (NEXT VALUE FOR members_id_seq, '佐藤次郎', 'さとうじろう', 'sato@example.com',"
+                    + " 'sato@example.com', LOCALTIMESTAMP, LOCALTIMESTAMP, FALSE, 0)")) {
+                insert.executeUpdate();
+            }
+
+            // When
+            pending = readOnly.execute(status -> memberRepository.findChangesSince(since, null, 10));
+            elsewhere.commit();
+        }
+        Thread.sleep(1_100);
+        MemberChanges next = readOnly.execute(status ->
+                memberRepository.findChangesSince(pending.watermark(), pending.afterId(), 10));
+
+        // Then
+        Member written = memberJpaRepository.findAll().get(0);
+        assertTrue(pending.members().isEmpty());
+        assertFalse(pending.watermark().isAfter(written.getUpdatedAt()));
+        assertEquals(List.of(written.getId()), next.members().stream().map(Member::getId).toList());
+    }
+}
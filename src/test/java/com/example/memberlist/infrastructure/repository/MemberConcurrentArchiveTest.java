@@ -0,0 +1,119 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.memberlist.domain.model.ArchivedMember;
+import com.example.memberlist.domain.model.Member;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the archive job of two instances at once: while one batch is still uncommitted, the
+ * other instance must neither wait for it nor move any of its members a second time.
+ */
+@DataJpaTest
+@Import({MemberRepositoryImpl.class, MemberDirectoryVersion.class, MemberChangeWatermark.class,
+    MemberProjectionQuery.class, EmailBloomFilter.class, MemberKanaIndex.class, MemberTextIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberConcurrentArchiveTest {
+
+    private static final int DELETED_MEMBERS = 5;
+
+    @Autowired
+    private MemberRepositoryImpl memberRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private ArchivedMemberJpaRepository archivedMemberJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private List<Long> deletedIds;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        deletedIds = transaction.execute(status -> {
+            List<Long> ids = IntStream.range(0, DELETED_MEMBERS)
+                    .mapToObj(i -> memberRepository.insert(
+                            new Member("山田太郎", "やまだたろう", "member" + i + "@example.com")).getId())
+                    .toList();
+            memberRepository.deleteAllByIds(ids);
+            return ids;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        archivedMemberJpaRepository.deleteAllInBatch();
+        memberJpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testConcurrentRunsNeitherWaitNorMoveMembersTwice() throws Exception {
+        // Given
+        LocalDateTime deletedBefore = LocalDateTime.now().plusMinutes(1);
+        CountDownLatch batchLocked = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // The first instance has moved its batch but not committed it yet
+            Future<Integer> first = executor.submit(() -> transaction.execute(status -> {
+                int moved = memberRepository.archiveDeleted(deletedBefore, 2);
+                batchLocked.countDown();
+                await(commit);
+                return moved;
+            }));
+            batchLocked.await(10, TimeUnit.SECONDS);
+
+            // When
+            Future<Integer> second = executor.submit(() -> transaction.execute(
+                    status -> memberRepository.archiveDeleted(deletedBefore, DELETED_MEMBERS)));
+            int movedBySecond = second.get(5, TimeUnit.SECONDS);
+            commit.countDown();
+            int movedByFirst = first.get(10, TimeUnit.SECONDS);
+            int movedByNextRun = transaction.execute(
+                    status -> memberRepository.archiveDeleted(deletedBefore, DELETED_MEMBERS));
+
+            // Then
+            // H2 locks every row matching a locking query, not just the rows returned, so the second
+            // run may find all of them locked; PostgreSQL leaves it the rows beyond the first batch
+            assertEquals(2, movedByFirst);
+            assertEquals(DELETED_MEMBERS, movedByFirst + movedBySecond + movedByNextRun);
+            assertEquals(deletedIds,
+                    archivedMemberJpaRepository.findAll().stream().map(ArchivedMember::getId).sorted().toList());
+            assertEquals(0, memberJpaRepository.count());
+        } finally {
+            commit.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
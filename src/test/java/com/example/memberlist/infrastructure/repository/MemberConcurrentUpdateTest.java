@@ -0,0 +1,225 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.memberlist.application.exception.MemberConflictException;
+import com.example.memberlist.application.service.MemberService;
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.infrastructure.cache.CachingMemberRepository;
+import com.example.memberlist.support.SqlStatementCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Edits one member from many threads at once, through the cached repository as the API does.
+ * Every edit must end up as its own version without any row being locked for reading:
+ * conflicts are detected by the versioned UPDATE and either retried or reported.
+ * The edit throughput with one thread and with many is logged for comparison.
+ */
+@DataJpaTest
+@Import({MemberRepositoryImpl.class, MemberDirectoryVersion.class, MemberChangeWatermark.class,
+    MemberProjectionQuery.class, EmailBloomFilter.class, MemberKanaIndex.class, MemberTextIndex.class,
+    SqlStatementCounter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberConcurrentUpdateTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberConcurrentUpdateTest.class);
+
+    private static final int THREADS = 8;
+    private static final int EDITS_PER_THREAD = 10;
+
+    @Autowired
+    private MemberRepositoryImpl memberRepositoryImpl;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CachingMemberRepository memberRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = new CachingMemberRepository(memberRepositoryImpl,
+                new TransactionAwareCacheManagerProxy(new ConcurrentMapCacheManager()), Duration.ofSeconds(5));
+        meterRegistry = new SimpleMeterRegistry();
+        memberId = new TransactionTemplate(transactionManager).execute(status -> {
+            Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+            member.applyChanges(Map.of(MemberField.POSITION, "0"));
+            return memberRepository.insert(member).getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberJpaRepository.deleteAll();
+    }
+
+    @Test
+    void testConditionalEditsFromManyThreadsLoseNoUpdate() throws Exception {
+        // Given
+        MemberService memberService = memberService(3);
+
+        // When
+        // Each edit increments a counter kept in the position, based on the version it read;
+        // an edit that lost the race reads again and tries once more
+        List<String> queries = runConcurrently(THREADS, thread -> {
+            for (int i = 0; i < EDITS_PER_THREAD; i++) {
+                while (true) {
+                    Member member = memberService.getMember(memberId);
+                    String next = String.valueOf(Integer.parseInt(member.getPosition()) + 1);
+                    try {
+                        memberService.updateMember(memberId, Map.of(MemberField.POSITION, next), member.getVersion());
+                        break;
+                    } catch (MemberConflictException e) {
+                        // Someone else incremented first
+                    }
+                }
+            }
+        });
+
+        // Then
+        Member member = memberJpaRepository.findById(memberId).orElseThrow();
+        assertEquals(String.valueOf(THREADS * EDITS_PER_THREAD), member.getPosition());
+        assertEquals(THREADS * EDITS_PER_THREAD, member.getVersion().intValue());
+        assertLockFreeVersionedUpdates(queries);
+    }
+
+    @Test
+    void testUnconditionalEditsFromManyThreadsAreRetriedUntilApplied() throws Exception {
+        // Given
+        MemberService memberService = memberService(20);
+
+        // When
+        List<String> queries = runConcurrently(THREADS, thread -> {
+            for (int i = 0; i < EDITS_PER_THREAD; i++) {
+                memberService.updateMember(memberId, Map.of(MemberField.LOCATION, "拠点" + thread + "-" + i));
+            }
+        });
+
+        // Then
+        // Every value was new, so every edit was written with its own version
+        Member member = memberJpaRepository.findById(memberId).orElseThrow();
+        assertEquals(THREADS * EDITS_PER_THREAD, member.getVersion().intValue());
+        assertEquals(0.0, meterRegistry.counter(MemberService.UPDATE_CONFLICT_COUNTER, "outcome", "rejected").count());
+        assertLockFreeVersionedUpdates(queries);
+    }
+
+    @Test
+    void testEditThroughputWithOneAndManyThreads() throws Exception {
+        // Given
+        MemberService memberService = memberService(20);
+        ThreadEdits edits = thread -> {
+            for (int i = 0; i < EDITS_PER_THREAD; i++) {
+                memberService.updateMember(memberId, Map.of(MemberField.LOCATION, "拠点" + thread + "-" + i));
+            }
+        };
+
+        // When
+        long startedAt = System.nanoTime();
+        runConcurrently(1, edits);
+        double oneThread = editsPerSecond(EDITS_PER_THREAD, System.nanoTime() - startedAt);
+        startedAt = System.nanoTime();
+        runConcurrently(THREADS, edits);
+        double manyThreads = editsPerSecond(THREADS * EDITS_PER_THREAD, System.nanoTime() - startedAt);
+
+        // Then
+        // Edits of one member serialize on its version, and every edit on the directory row
+        log.info("Edits of one member: {} per second with 1 thread, {} per second with {} threads",
+                Math.round(oneThread), Math.round(manyThreads), THREADS);
+        Member member = memberJpaRepository.findById(memberId).orElseThrow();
+        assertEquals((THREADS + 1) * EDITS_PER_THREAD, member.getVersion().intValue());
+    }
+
+    private static double editsPerSecond(int edits, long elapsedNanos) {
+        return edits * 1e9 / elapsedNanos;
+    }
+
+    private MemberService memberService(int maxAttempts) {
+        return new MemberService(memberRepository, Validation.buildDefaultValidatorFactory().getValidator(),
+                meterRegistry, transactionManager, maxAttempts, Duration.ofMillis(5));
+    }
+
+    /**
+     * Runs the edits on the given number of threads at once and returns the SQL they sent.
+     */
+    private List<String> runConcurrently(int threads, ThreadEdits edits) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<String> queries = new ConcurrentLinkedQueue<>();
+        try {
+            List<Future<?>> futures = IntStream.range(0, threads)
+                    .<Future<?>>mapToObj(thread -> executor.submit(() -> {
+                        SqlStatementCounter.reset();
+                        start.await();
+                        edits.run(thread);
+                        queries.addAll(SqlStatementCounter.queries());
+                        return null;
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return List.copyOf(queries);
+    }
+
+    /**
+     * Checks every UPDATE sent: each member update is conditional on the version it read, and the
+     * only other one is the directory increment, once per committed edit. No row is read for update.
+     */
+    private static void assertLockFreeVersionedUpdates(List<String> queries) {
+        List<String> updates = queries.stream()
+                .map(query -> query.toLowerCase(Locale.ROOT))
+                .filter(query -> query.startsWith("update"))
+                .toList();
+        List<String> memberUpdates = updates.stream().filter(update -> update.startsWith("update members ")).toList();
+        List<String> directoryUpdates = updates.stream()
+                .filter(update -> update.startsWith("update member_directory "))
+                .toList();
+        assertEquals(updates.size(), memberUpdates.size() + directoryUpdates.size(), () -> "updates: " + updates);
+        assertTrue(memberUpdates.size() >= THREADS * EDITS_PER_THREAD, "member updates: " + memberUpdates.size());
+        memberUpdates.forEach(update -> assertTrue(update.contains(" and version=?"), update));
+        assertEquals(THREADS * EDITS_PER_THREAD, directoryUpdates.size());
+        queries.forEach(query -> assertFalse(query.toLowerCase(Locale.ROOT).contains("for update"), query));
+    }
+
+    @FunctionalInterface
+    private interface ThreadEdits {
+        void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.support.SqlStatementCounter;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Checks that the directory version stored in the database follows the committed member writes,
+ * and measures how long concurrent writers wait for each other on its row.
+ */
+@DataJpaTest
+@Import({MemberRepositoryImpl.class, MemberDirectoryVersion.class, MemberChangeWatermark.class,
+    MemberProjectionQuery.class, EmailBloomFilter.class, MemberKanaIndex.class, MemberTextIndex.class,
+    SqlStatementCounter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberDirectoryVersionTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberDirectoryVersionTest.class);
+
+    private static final String INCREMENT = "UPDATE member_directory";
+    private static final int WRITERS = 8;
+    private static final int WRITES_PER_WRITER = 25;
+
+    @Autowired
+    private MemberRepositoryImpl memberRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        memberJpaRepository.deleteAll();
+    }
+
+    @Test
+    void testTransactionWritingSeveralMembersIncrementsVersionOnceOnCommit() {
+        // Given
+        long before = memberRepository.getDirectoryVersion();
+
+        // When
+        long during = new TransactionTemplate(transactionManager).execute(status -> {
+            memberRepository.insert(new Member("山田太郎", "やまだたろう", "yamada@example.com"));
+            memberRepository.insert(new Member("田中次郎", "たなかじろう", "tanaka@example.com"));
+            return memberRepository.getDirectoryVersion();
+        });
+
+        // Then
+        assertEquals(before, during);
+        assertEquals(before + 1, memberRepository.getDirectoryVersion());
+    }
+
+    @Test
+    void testRolledBackTransactionKeepsVersion() {
+        // Given
+        long before = memberRepository.getDirectoryVersion();
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            memberRepository.insert(new Member("山田太郎", "やまだたろう", "yamada@example.com"));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertEquals(before, memberRepository.getDirectoryVersion());
+    }
+
+    @Test
+    void testInnerTransactionIncrementsVersionOnItsOwnCommit() {
+        // Given
+        long before = memberRepository.getDirectoryVersion();
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // When
+        long afterInner = new TransactionTemplate(transactionManager).execute(status -> {
+            memberRepository.insert(new Member("山田太郎", "やまだたろう", "yamada@example.com"));
+            requiresNew.executeWithoutResult(inner ->
+                    memberRepository.insert(new Member("田中次郎", "たなかじろう", "tanaka@example.com")));
+            return requiresNew.execute(inner -> memberRepository.getDirectoryVersion());
+        });
+
+        // Then
+        assertEquals(before + 1, afterInner);
+        assertEquals(before + 2, memberRepository.getDirectoryVersion());
+    }
+
+    @Test
+    void testVersionIncrementedByAnotherInstanceIsSeen() {
+        // Given
+        long before = memberRepository.getDirectoryVersion();
+
+        // When
+        jdbcTemplate.update("UPDATE member_directory SET version = version + 1 WHERE id = 1");
+
+        // Then
+        assertEquals(before + 1, memberRepository.getDirectoryVersion());
+    }
+
+    @Test
+    void testConcurrentWritersEachIncrementVersionOnceAndOnlyQueueOnItsRow() throws Exception {
+        // Given
+        long before = memberRepository.getDirectoryVersion();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<long[]>> futures;
+        try {
+            futures = IntStream.range(0, WRITERS)
+                    .mapToObj(writer -> executor.submit(() -> {
+                        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+                        start.await();
+                        SqlStatementCounter.reset();
+                        long startedAt = System.nanoTime();
+                        for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                            String email = "member" + writer + "-" + i + "@example.com";
+                            transaction.executeWithoutResult(status ->
+                                    memberRepository.insert(new Member("会員", "かいいん", email)));
+                        }
+                        long increments = SqlStatementCounter.queries().stream()
+                                .filter(query -> query.startsWith(INCREMENT))
+                                .count();
+                        return new long[] {increments, SqlStatementCounter.elapsedMillis(INCREMENT),
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)};
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<long[]> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        long increments = 0;
+        long incrementMillis = 0;
+        long totalMillis = 0;
+        for (Future<long[]> future : futures) {
+            long[] measured = future.get();
+            increments += measured[0];
+            incrementMillis += measured[1];
+            totalMillis += measured[2];
+        }
+        log.info("{} writers x {} transactions: {} of {} ms spent in the directory increment, lock waits included",
+                WRITERS, WRITES_PER_WRITER, incrementMillis, totalMillis);
+        assertEquals(WRITERS * WRITES_PER_WRITER, increments);
+        assertEquals(before + WRITERS * WRITES_PER_WRITER, memberRepository.getDirectoryVersion());
+    }
+}
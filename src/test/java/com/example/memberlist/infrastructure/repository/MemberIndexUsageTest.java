@@ -0,0 +1,159 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.support.SqlStatementCounter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+/**
+ * Checks with H2's {@code EXPLAIN} that the queries behind the hot paths use the indexes
+ * created by the Flyway migrations.
+ * The SQL explained is the statement Hibernate actually sent, recorded by {@link SqlStatementCounter},
+ * so a change to a query or to the schema that loses its index fails here.
+ */
+@DataJpaTest
+@Import(SqlStatementCounter.class)
+class MemberIndexUsageTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Most rows deleted, as in a directory that has been running for a while
+        IntStream.range(0, 200).forEach(i -> {
+            Member member = new Member("会員" + i, "かいいん", "member" + i + "@example.com");
+            if (i % 4 != 0) {
+                member.delete();
+            }
+            entityManager.persist(member);
+        });
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testFindAllActiveReadsActiveRangeOfListIndex() {
+        // When
+        String plan = explain(() -> memberJpaRepository.findAllActive());
+
+        // Then
+        assertUsesIndex("idx_members_is_deleted_created_at", plan);
+    }
+
+    @Test
+    void testExistsByEmailAndNotDeletedLooksUpActiveEmailIndex() {
+        // When
+        String plan = explain(() -> memberJpaRepository.existsByEmailAndNotDeleted("member0@example.com"),
+                "'member0@example.com'");
+
+        // Then
+        assertUsesIndex("uk_members_active_email", plan);
+    }
+
+    @Test
+    void testFindActiveEmailsInLooksUpActiveEmailIndex() {
+        // When
+        String plan = explain(() -> memberJpaRepository.findActiveEmailsIn(Set.of("member0@example.com")),
+                "'member0@example.com'");
+
+        // Then
+        assertUsesIndex("uk_members_active_email", plan);
+    }
+
+    @Test
+    void testFindActivePageAfterSeeksInListIndex() {
+        // When
+        LocalDateTime now = LocalDateTime.now();
+        String plan = explain(() -> memberJpaRepository.findActivePageAfter(now, 100L, Limit.of(20)),
+                "TIMESTAMP '" + now + "'", "TIMESTAMP '" + now + "'", "100", "20");
+
+        // Then
+        assertUsesIndex("idx_members_is_deleted_created_at", plan);
+    }
+
+    @Test
+    void testFindByKanaPrefixReadsNameKanaIndex() {
+        // When
+        String plan = explain(() -> memberJpaRepository
+                .findByIsDeletedFalseAndNameKanaStartingWithOrderByNameKanaAscIdAsc("かい", Limit.of(10)),
+                "'かい%'", "10");
+
+        // Then
+        assertUsesIndex("idx_members_is_deleted_name_kana", plan);
+    }
+
+    @Test
+    void testFindUpdatedSinceScansUpdatedAtIndex() {
+        // When
+        LocalDateTime since = LocalDateTime.now().minusMinutes(5);
+        LocalDateTime until = since.plusMinutes(5);
+        String plan = explain(() -> memberJpaRepository.findUpdatedSince(since, 0L, until, Limit.of(100)),
+                "TIMESTAMP '" + since + "'", "TIMESTAMP '" + until + "'", "TIMESTAMP '" + since + "'", "0", "100");
+
+        // Then
+        assertUsesIndex("idx_members_updated_at", plan);
+    }
+
+    @Test
+    void testDeleteActiveByIdInLooksUpPrimaryKey() {
+        // When
+        LocalDateTime now = LocalDateTime.now();
+        String plan = explain(() -> memberJpaRepository.deleteActiveByIdIn(List.of(1L, 2L), now),
+                "TIMESTAMP '" + now + "'", "1", "2");
+
+        // Then
+        assertUsesIndex("primary_key", plan);
+    }
+
+    @Test
+    void testUpdateActiveByIdInLooksUpPrimaryKey() {
+        // When
+        LocalDateTime now = LocalDateTime.now();
+        String plan = explain(() -> memberJpaRepository.updateActiveByIdIn(List.of(1L, 2L), "部長", null, now),
+                "'部長'", "NULL", "TIMESTAMP '" + now + "'", "1", "2");
+
+        // Then
+        assertUsesIndex("primary_key", plan);
+    }
+
+    /**
+     * Runs the repository call, then asks H2 for the plan of the SQL it sent, with the given
+     * literals substituted for the parameters in order.
+     */
+    private String explain(Runnable query, String... parameters) {
+        SqlStatementCounter.reset();
+        query.run();
+        List<String> queries = SqlStatementCounter.queries();
+        assertEquals(1, queries.size(), () -> "expected one statement: " + queries);
+        String sql = queries.get(0);
+        for (String parameter : parameters) {
+            sql = sql.replaceFirst("\\?", Matcher.quoteReplacement(parameter));
+        }
+        assertFalse(sql.contains("?"), sql);
+        Object plan = entityManager.getEntityManager().createNativeQuery("EXPLAIN " + sql).getSingleResult();
+        return plan.toString();
+    }
+
+    private static void assertUsesIndex(String index, String plan) {
+        assertTrue(plan.toLowerCase(Locale.ROOT).contains("public." + index), plan);
+    }
+}
@@ -2,17 +2,29 @@ package com.example.memberlist.infrastructure.repository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 /**
  * Integration tests for MemberJpaRepository.
@@ -99,6 +111,62 @@ class MemberJpaRepositoryTest {
         assertEquals(savedMember1.getId(), activeMembers.get(1).getId());
     }
 
+    @Test
+    void testFindActivePagesWalkAllActiveMembersWithoutGapsOrDuplicates() {
+        // Given - Members sharing one creation timestamp must be ordered by ID
+        for (int i = 0; i < 5; i++) {
+            memberJpaRepository.save(new Member("メンバー" + i, "めんばあ", "member" + i + "@example.com"));
+        }
+        Member deleted = new Member("削除済み", "さくじょずみ", "deleted@example.com");
+        deleted.delete();
+        memberJpaRepository.save(deleted);
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Member m SET m.createdAt = :createdAt")
+                .setParameter("createdAt", LocalDateTime.of(2025, 1, 1, 0, 0))
+                .executeUpdate();
+        entityManager.clear();
+
+        // When
+        List<Member> firstPage = memberJpaRepository.findActivePage(Limit.of(2));
+        Member last = firstPage.get(1);
+        List<Member> secondPage = memberJpaRepository.findActivePageAfter(
+                last.getCreatedAt(), last.getId(), Limit.of(2));
+        last = secondPage.get(1);
+        List<Member> thirdPage = memberJpaRepository.findActivePageAfter(
+                last.getCreatedAt(), last.getId(), Limit.of(2));
+
+        // Then
+        assertEquals(2, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertEquals(1, thirdPage.size());
+        assertTrue(firstPage.get(0).getId() > firstPage.get(1).getId());
+        assertTrue(firstPage.get(1).getId() > secondPage.get(0).getId());
+        assertTrue(secondPage.get(1).getId() > thirdPage.get(0).getId());
+        assertFalse(thirdPage.stream().anyMatch(Member::isDeleted));
+    }
+
+    @Test
+    void testStreamAllActiveExcludesDeletedMembers() {
+        // Given
+        Member member1 = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        Member member2 = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        member2.delete();
+        memberJpaRepository.save(member1);
+        memberJpaRepository.save(member2);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<String> emails;
+        try (Stream<Member> members = memberJpaRepository.streamAllActive()) {
+            emails = members.map(Member::getEmail).toList();
+        }
+
+        // Then
+        assertEquals(List.of("yamada@example.com"), emails);
+    }
+
     @Test
     void testFindByEmailAndNotDeleted() {
         // Given
@@ -172,6 +240,65 @@ class MemberJpaRepositoryTest {
         assertFalse(exists);
     }
 
+    @Test
+    void testFindActiveEmailsInReturnsOnlyRegisteredActiveAddresses() {
+        // Given
+        memberJpaRepository.save(testMember);
+        Member deleted = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        deleted.delete();
+        memberJpaRepository.save(deleted);
+        entityManager.flush();
+
+        // When
+        Set<String> emails = memberJpaRepository.findActiveEmailsIn(
+                List.of("yamada@example.com", "suzuki@example.com", "new@example.com"));
+
+        // Then
+        assertEquals(Set.of("yamada@example.com"), emails);
+    }
+
+    @Test
+    void testFindByKanaPrefixReturnsActiveMatchesInReadingOrder() {
+        // Given
+        memberJpaRepository.save(new Member("山本一郎", "やまもといちろう", "yamamoto@example.com"));
+        memberJpaRepository.save(testMember);
+        memberJpaRepository.save(new Member("鈴木花子", "すずきはなこ", "suzuki@example.com"));
+        Member deleted = new Member("山田花子", "やまだはなこ", "hanako@example.com");
+        deleted.delete();
+        memberJpaRepository.save(deleted);
+        entityManager.flush();
+
+        // When
+        List<MemberSuggestion> suggestions = memberJpaRepository
+                .findByIsDeletedFalseAndNameKanaStartingWithOrderByNameKanaAscIdAsc("やま", Limit.of(10));
+
+        // Then
+        assertEquals(List.of("やまだたろう", "やまもといちろう"),
+                suggestions.stream().map(MemberSuggestion::nameKana).toList());
+    }
+
+    @Test
+    void testStreamActiveTextsReturnsIndexedColumnsInIdOrder() {
+        // Given
+        Member second = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        second.updateInfo("鈴木花子", "すずきはなこ", "suzuki@example.com", "デザイナー", null, null, "よろしく");
+        memberJpaRepository.save(testMember);
+        memberJpaRepository.save(second);
+        entityManager.flush();
+
+        // When
+        List<Object[]> rows;
+        try (Stream<Object[]> stream = memberJpaRepository.streamActiveTexts()) {
+            rows = stream.toList();
+        }
+
+        // Then
+        assertEquals(2, rows.size());
+        assertEquals(testMember.getId(), rows.get(0)[0]);
+        assertEquals("デザイナー", rows.get(1)[2]);
+        assertEquals("よろしく", rows.get(1)[3]);
+    }
+
     @Test
     void testUpdateMember() {
         // Given
@@ -219,4 +346,146 @@ class MemberJpaRepositoryTest {
         List<Member> activeMembers = memberJpaRepository.findAllActive();
         assertFalse(activeMembers.stream().anyMatch(m -> m.getId().equals(memberId)));
     }
+
+    @Test
+    void testActiveEmailConstraintRejectsSecondActiveMember() {
+        // Given
+        memberJpaRepository.saveAndFlush(testMember);
+        Member duplicate = new Member("山田次郎", "やまだじろう", "yamada@example.com");
+
+        // When
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> memberJpaRepository.saveAndFlush(duplicate));
+
+        // Then
+        ConstraintViolationException violation = assertInstanceOf(ConstraintViolationException.class,
+                exception.getCause());
+        assertTrue(violation.getConstraintName().toLowerCase(Locale.ROOT)
+                .contains(Member.ACTIVE_EMAIL_CONSTRAINT));
+    }
+
+    @Test
+    void testActiveEmailConstraintAllowsReusingEmailOfDeletedMember() {
+        // Given
+        testMember.delete();
+        memberJpaRepository.saveAndFlush(testMember);
+
+        // When
+        Member reRegistered = memberJpaRepository.saveAndFlush(
+                new Member("山田太郎", "やまだたろう", "yamada@example.com"));
+
+        // Then
+        assertNotNull(reRegistered.getId());
+        assertTrue(memberJpaRepository.existsByEmailAndNotDeleted("yamada@example.com"));
+    }
+
+    @Test
+    void testFindUpdatedSinceReturnsChangedAndDeletedMembersOldestFirst() {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2026, 4, 1, 0, 0);
+        Member unchanged = saveUpdatedAt(testMember, since.minusNanos(1_000));
+        Member deleted = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        deleted.delete();
+        deleted = saveUpdatedAt(deleted, since.plusHours(2));
+        Member updated = saveUpdatedAt(new Member("佐藤次郎", "さとうじろう", "sato@example.com"), since);
+        entityManager.clear();
+
+        // When
+        List<Member> changes = memberJpaRepository.findUpdatedSince(since, Long.MIN_VALUE, since.plusDays(1),
+                Limit.unlimited());
+
+        // Then
+        assertEquals(List.of(updated.getId(), deleted.getId()), changes.stream().map(Member::getId).toList());
+        assertTrue(changes.get(1).isDeleted());
+        assertFalse(changes.stream().anyMatch(m -> m.getId().equals(unchanged.getId())));
+    }
+
+    @Test
+    void testFindAllUpdatedSinceReturnsChangedAndDeletedMembers() {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2026, 4, 1, 0, 0);
+        saveUpdatedAt(testMember, since.minusNanos(1_000));
+        Member deleted = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        deleted.delete();
+        deleted = saveUpdatedAt(deleted, since.plusHours(2));
+        Member updated = saveUpdatedAt(new Member("佐藤次郎", "さとうじろう", "sato@example.com"), since);
+        entityManager.clear();
+
+        // When
+        List<Member> changes = memberJpaRepository.findAllUpdatedSince(since);
+
+        // Then
+        assertEquals(Set.of(updated.getId(), deleted.getId()),
+                changes.stream().map(Member::getId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void testFindUpdatedSinceContinuesAfterKeysetPositionBeforeUpperBound() {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2026, 4, 1, 0, 0);
+        Member first = saveUpdatedAt(testMember, since);
+        Member second = saveUpdatedAt(new Member("鈴木花子", "すずきはなこ", "suzuki@example.com"), since);
+        Member third = saveUpdatedAt(new Member("佐藤次郎", "さとうじろう", "sato@example.com"), since.plusHours(1));
+        saveUpdatedAt(new Member("高橋三郎", "たかはしさぶろう", "takahashi@example.com"), since.plusHours(2));
+        entityManager.clear();
+
+        // When
+        List<Member> changes = memberJpaRepository.findUpdatedSince(since, first.getId(), since.plusHours(2),
+                Limit.of(10));
+
+        // Then
+        assertEquals(List.of(second.getId(), third.getId()), changes.stream().map(Member::getId).toList());
+    }
+
+    @Test
+    void testDeleteActiveByIdInDeletesOnlyActiveMembersAndFreesTheirEmails() {
+        // Given
+        Member active = memberJpaRepository.save(testMember);
+        Member deleted = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        deleted.delete();
+        deleted = memberJpaRepository.save(deleted);
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.of(2026, 4, 1, 9, 0);
+
+        // When
+        int count = memberJpaRepository.deleteActiveByIdIn(List.of(active.getId(), deleted.getId(), -1L), now);
+
+        // Then
+        assertEquals(1, count);
+        Member reloaded = memberJpaRepository.findById(active.getId()).orElseThrow();
+        assertTrue(reloaded.isDeleted());
+        assertEquals(now, reloaded.getUpdatedAt());
+        assertEquals(1L, reloaded.getVersion());
+        assertFalse(memberJpaRepository.existsByEmailAndNotDeleted("yamada@example.com"));
+        assertNotEquals(now, memberJpaRepository.findById(deleted.getId()).orElseThrow().getUpdatedAt());
+    }
+
+    @Test
+    void testUpdateActiveByIdInKeepsFieldsPassedAsNull() {
+        // Given
+        testMember.updateInfo("山田太郎", "やまだたろう", "yamada@example.com", "エンジニア", "東京都", null, null);
+        Member member = memberJpaRepository.saveAndFlush(testMember);
+        LocalDateTime now = LocalDateTime.of(2026, 4, 1, 9, 0);
+
+        // When
+        int count = memberJpaRepository.updateActiveByIdIn(List.of(member.getId()), null, "大阪府", now);
+
+        // Then
+        assertEquals(1, count);
+        Member reloaded = memberJpaRepository.findById(member.getId()).orElseThrow();
+        assertEquals("エンジニア", reloaded.getPosition());
+        assertEquals("大阪府", reloaded.getLocation());
+        assertEquals(now, reloaded.getUpdatedAt());
+        assertEquals(1L, reloaded.getVersion());
+    }
+
+    private Member saveUpdatedAt(Member member, LocalDateTime updatedAt) {
+        entityManager.persistAndFlush(member);
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Member m SET m.updatedAt = :updatedAt WHERE m.id = :id")
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", member.getId())
+                .executeUpdate();
+        return member;
+    }
 }
@@ -0,0 +1,112 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for MemberKanaIndexLoader.
+ */
+@ExtendWith(MockitoExtension.class)
+class MemberKanaIndexLoaderTest {
+
+    private static final MemberChangeWatermark WATERMARK = new MemberChangeWatermark(Duration.ofSeconds(30));
+
+    @Mock
+    private MemberJpaRepository memberJpaRepository;
+
+    @Test
+    void testLoadFillsIndexAndEnablesIt() {
+        // Given
+        MemberKanaIndex index = new MemberKanaIndex();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(memberJpaRepository.findDatabaseTime()).thenReturn(LocalDateTime.now());
+        when(memberJpaRepository.streamActiveSuggestions()).thenReturn(
+                Stream.of(new MemberSuggestion(1L, "山田太郎", "やまだたろう")).onClose(() -> closed.set(true)));
+
+        // When
+        new MemberKanaIndexLoader(memberJpaRepository, index, WATERMARK).load();
+
+        // Then
+        assertTrue(index.isReady());
+        assertEquals(1, index.findByPrefix("やまだ", 10).size());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testRefreshAppliesChangesCommittedSinceLoadWatermark() {
+        // Given
+        MemberKanaIndex index = new MemberKanaIndex();
+        LocalDateTime loadedAt = LocalDateTime.of(2024, 4, 1, 9, 0);
+        LocalDateTime refreshedAt = loadedAt.plusSeconds(30);
+        when(memberJpaRepository.findDatabaseTime()).thenReturn(loadedAt, refreshedAt);
+        when(memberJpaRepository.streamActiveSuggestions()).thenReturn(Stream.of(
+                new MemberSuggestion(1L, "山田太郎", "やまだたろう"),
+                new MemberSuggestion(2L, "山本一郎", "やまもといちろう")));
+        // Another instance deleted member 2 and registered member 3
+        Member deleted = Member.restore(2L, "山本一郎", "やまもといちろう", "yamamoto@example.com", null, null,
+                null, null, loadedAt, refreshedAt, true, 1L);
+        Member added = Member.restore(3L, "山口次郎", "やまぐちじろう", "yamaguchi@example.com", null, null,
+                null, null, refreshedAt, refreshedAt, false, 0L);
+        when(memberJpaRepository.findAllUpdatedSince(WATERMARK.at(loadedAt))).thenReturn(List.of(deleted, added));
+        MemberKanaIndexLoader loader = new MemberKanaIndexLoader(memberJpaRepository, index, WATERMARK);
+        loader.load();
+
+        // When
+        loader.refresh();
+
+        // Then
+        assertEquals(List.of(3L, 1L), index.findByPrefix("やま", 10).stream().map(MemberSuggestion::id).toList());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testRefreshReadsFromPreviousRefreshWatermark() {
+        // Given
+        MemberKanaIndex index = new MemberKanaIndex();
+        LocalDateTime loadedAt = LocalDateTime.of(2024, 4, 1, 9, 0);
+        LocalDateTime refreshedAt = loadedAt.plusSeconds(30);
+        when(memberJpaRepository.findDatabaseTime()).thenReturn(loadedAt, refreshedAt, refreshedAt.plusSeconds(30));
+        when(memberJpaRepository.streamActiveSuggestions()).thenReturn(Stream.empty());
+        when(memberJpaRepository.findAllUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of());
+        MemberKanaIndexLoader loader = new MemberKanaIndexLoader(memberJpaRepository, index, WATERMARK);
+        loader.load();
+        loader.refresh();
+
+        // When
+        loader.refresh();
+
+        // Then
+        verify(memberJpaRepository).findAllUpdatedSince(WATERMARK.at(loadedAt));
+        verify(memberJpaRepository).findAllUpdatedSince(WATERMARK.at(refreshedAt));
+    }
+
+    @Test
+    void testRefreshDoesNothingBeforeLoad() {
+        // Given
+        MemberKanaIndex index = new MemberKanaIndex();
+
+        // When
+        new MemberKanaIndexLoader(memberJpaRepository, index, WATERMARK).refresh();
+
+        // Then
+        assertFalse(index.isReady());
+        verify(memberJpaRepository, never()).findAllUpdatedSince(any());
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for MemberKanaIndex.
+ */
+class MemberKanaIndexTest {
+
+    private MemberKanaIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MemberKanaIndex();
+        index.beginLoad();
+        index.completeLoad(List.of(
+                new MemberSuggestion(3L, "山本一郎", "やまもといちろう"),
+                new MemberSuggestion(1L, "山田太郎", "やまだたろう"),
+                new MemberSuggestion(2L, "鈴木花子", "すずきはなこ"),
+                new MemberSuggestion(4L, "山田太郎", "やまだたろう")));
+    }
+
+    @Test
+    void testFindByPrefixReturnsMatchesInReadingThenIdOrder() {
+        assertEquals(List.of(1L, 4L, 3L), ids(index.findByPrefix("やま", 10)));
+        assertEquals(List.of(2L), ids(index.findByPrefix("すずきはなこ", 10)));
+        assertTrue(index.findByPrefix("た", 10).isEmpty());
+        assertTrue(index.findByPrefix("ん", 10).isEmpty());
+    }
+
+    @Test
+    void testFindByPrefixStopsAtLimit() {
+        assertEquals(List.of(1L, 4L), ids(index.findByPrefix("やま", 2)));
+    }
+
+    @Test
+    void testUpdateAddsReplacesAndRemovesMembers() {
+        // Given
+        Member added = member(5L, "山口次郎", "やまぐちじろう");
+        Member renamed = member(1L, "田中太郎", "たなかたろう");
+        Member deleted = member(3L, "山本一郎", "やまもといちろう");
+        deleted.delete();
+
+        // When
+        index.update(List.of(added, renamed, deleted));
+
+        // Then
+        assertEquals(List.of(5L, 4L), ids(index.findByPrefix("やま", 10)));
+        assertEquals(List.of(1L), ids(index.findByPrefix("たなか", 10)));
+    }
+
+    @Test
+    void testChangesDuringLoadAreAppliedOnTopOfLoadedEntries() {
+        // Given
+        MemberKanaIndex loading = new MemberKanaIndex();
+        loading.beginLoad();
+        Member deletedMeanwhile = member(1L, "山田太郎", "やまだたろう");
+        deletedMeanwhile.delete();
+        loading.update(List.of(member(2L, "山口次郎", "やまぐちじろう"), deletedMeanwhile));
+        assertFalse(loading.isReady());
+
+        // When
+        loading.completeLoad(List.of(new MemberSuggestion(1L, "山田太郎", "やまだたろう")));
+
+        // Then
+        assertTrue(loading.isReady());
+        assertEquals(List.of(2L), ids(loading.findByPrefix("やま", 10)));
+    }
+
+    @Test
+    void testUpdateIgnoresChangeOlderThanIndexedVersion() {
+        // Given
+        Member renamed = member(1L, "田中太郎", "たなかたろう");
+        ReflectionTestUtils.setField(renamed, "version", 2L);
+        index.update(List.of(renamed));
+        Member stale = member(1L, "山田太郎", "やまだたろう");
+        ReflectionTestUtils.setField(stale, "version", 1L);
+
+        // When
+        index.update(List.of(stale));
+
+        // Then
+        assertEquals(List.of(1L), ids(index.findByPrefix("たなか", 10)));
+        assertEquals(List.of(4L, 3L), ids(index.findByPrefix("やま", 10)));
+    }
+
+    @Test
+    void testRemoveDropsMembersByIdAlsoWhileLoading() {
+        // Given
+        MemberKanaIndex loading = new MemberKanaIndex();
+        loading.beginLoad();
+        loading.remove(List.of(1L));
+
+        // When
+        index.remove(List.of(3L, 99L));
+        loading.completeLoad(List.of(new MemberSuggestion(1L, "山田太郎", "やまだたろう"),
+                new MemberSuggestion(4L, "山田花子", "やまだはなこ")));
+
+        // Then
+        assertEquals(List.of(1L, 4L), ids(index.findByPrefix("やま", 10)));
+        assertEquals(List.of(4L), ids(loading.findByPrefix("やま", 10)));
+    }
+
+    @Test
+    void testSizeFollowsAddedAndRemovedMembers() {
+        // Given
+        Member deleted = member(2L, "鈴木花子", "すずきはなこ");
+        deleted.delete();
+
+        // When
+        index.update(List.of(member(5L, "山口次郎", "やまぐちじろう"), member(1L, "田中太郎", "たなかたろう"),
+                deleted));
+
+        // Then
+        assertEquals(4, index.size());
+    }
+
+    private static List<Long> ids(List<MemberSuggestion> suggestions) {
+        return suggestions.stream().map(MemberSuggestion::id).toList();
+    }
+
+    private static Member member(Long id, String name, String nameKana) {
+        Member member = new Member(name, nameKana, id + "@example.com");
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.domain.repository.MemberFilter;
+import com.example.memberlist.infrastructure.datasource.PrimaryPin;
+import com.example.memberlist.infrastructure.datasource.ReplicaDataSourceConfig;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Checks that the member lists and the directory version that labels them are read together
+ * from a replica, and from the primary within the read-your-writes period. Nothing replicates
+ * between the two H2 databases, so the replica never receives the members written in the tests.
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=" + MemberListReplicaTest.PRIMARY_URL,
+    "member.datasource.replica-urls=" + MemberListReplicaTest.REPLICA_URL
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReplicaDataSourceConfig.class, MemberRepositoryImpl.class, MemberDirectoryVersion.class,
+    MemberChangeWatermark.class, MemberProjectionQuery.class, EmailBloomFilter.class, MemberKanaIndex.class,
+    MemberTextIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberListReplicaTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:list-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:list-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MemberRepositoryImpl memberRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+    private Member member;
+
+    @BeforeAll
+    static void migrateReplica() {
+        // A real replica receives the schema from the primary
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        member = new TransactionTemplate(transactionManager).execute(status ->
+                memberRepository.insert(new Member("山田太郎", "やまだたろう", "yamada@example.com")));
+        // Drop the read-your-writes pin of the writing thread; the reads below come from other clients
+        PrimaryPin.clear();
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> memberJpaRepository.deleteAll());
+        PrimaryPin.clear();
+    }
+
+    @Test
+    void testListsAreReadFromReplicaWithItsVersion() {
+        // Given
+        long replicaVersion = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""))
+                .queryForObject("SELECT version FROM member_directory WHERE id = 1", Long.class);
+        MemberFilter all = new MemberFilter(null, null, null);
+        MemberFilter filtered = new MemberFilter(null, null, member.getCreatedAt().minusDays(1));
+        Set<MemberField> fields = EnumSet.of(MemberField.ID);
+
+        // When
+        List<Object> read = readOnly.execute(status -> List.of(
+                memberRepository.getDirectoryVersion(),
+                memberRepository.findAll(all),
+                memberRepository.findPage(filtered, null, 10),
+                memberRepository.findAllFields(fields, filtered),
+                memberRepository.findFieldsPage(fields, all, null, 10)));
+
+        // Then
+        // The replica has not received the insert, and its version says so
+        assertEquals(List.of(replicaVersion, List.of(), List.of(), List.of(), List.of()), read);
+    }
+
+    @Test
+    void testListsAreReadFromPrimaryWithinReadYourWritesPeriod() {
+        // Given
+        long replicaVersion = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""))
+                .queryForObject("SELECT version FROM member_directory WHERE id = 1", Long.class);
+        MemberFilter all = new MemberFilter(null, null, null);
+        PrimaryPin.pinUntil(System.currentTimeMillis() + 60_000);
+
+        // When
+        long version = readOnly.execute(status -> memberRepository.getDirectoryVersion());
+        List<Member> members = readOnly.execute(status -> memberRepository.findAll(all));
+
+        // Then
+        assertEquals(replicaVersion + 1, version);
+        assertEquals(List.of(member.getId()), ids(members));
+    }
+
+    private static List<Long> ids(List<Member> members) {
+        return members.stream().map(Member::getId).toList();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.domain.repository.MemberCursor;
+import com.example.memberlist.domain.repository.MemberFilter;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Integration tests for MemberProjectionQuery.
+ */
+@DataJpaTest
+@Import(MemberProjectionQuery.class)
+class MemberProjectionQueryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MemberProjectionQuery memberProjectionQuery;
+
+    private Member yamada;
+    private Member suzuki;
+
+    @BeforeEach
+    void setUp() {
+        yamada = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        yamada.updateInfo("山田太郎", "やまだたろう", "yamada@example.com", "エンジニア", "東京都",
+                "https://example.com/yamada.jpg", "よろしくお願いします");
+        suzuki = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        Member deleted = new Member("佐藤次郎", "さとうじろう", "sato@example.com");
+        deleted.delete();
+        entityManager.persist(yamada);
+        entityManager.persist(suzuki);
+        entityManager.persist(deleted);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testFindReturnsOnlySelectedFieldsOfActiveMembers() {
+        // When
+        List<Map<String, Object>> rows = memberProjectionQuery.find(
+                EnumSet.of(MemberField.NAME, MemberField.POSITION), MemberFilter.NONE, null, null);
+
+        // Then
+        assertEquals(2, rows.size());
+        assertEquals(List.of("name", "position"), List.copyOf(rows.get(0).keySet()));
+        assertEquals(Map.of("name", "山田太郎", "position", "エンジニア"),
+                rows.stream().filter(row -> "山田太郎".equals(row.get("name"))).findFirst().orElseThrow());
+    }
+
+    @Test
+    void testFindSeeksPastCursorAndAppliesLimit() {
+        // Given
+        List<Map<String, Object>> all = memberProjectionQuery.find(
+                EnumSet.of(MemberField.ID, MemberField.CREATED_AT), MemberFilter.NONE, null, null);
+        Map<String, Object> first = all.get(0);
+        MemberCursor cursor = new MemberCursor(
+                (LocalDateTime) first.get("createdAt"), (Long) first.get("id"));
+
+        // When
+        List<Map<String, Object>> rows = memberProjectionQuery.find(
+                EnumSet.of(MemberField.ID), MemberFilter.NONE, cursor, 1);
+
+        // Then
+        assertEquals(1, rows.size());
+        assertEquals(all.get(1).get("id"), rows.get(0).get("id"));
+    }
+
+    @Test
+    void testFindAppliesFilter() {
+        // When
+        List<Map<String, Object>> rows = memberProjectionQuery.find(
+                EnumSet.of(MemberField.NAME), new MemberFilter("エンジニア", "東京都", null), null, null);
+
+        // Then
+        assertEquals(List.of(Map.of("name", "山田太郎")), rows);
+    }
+}
@@ -3,22 +3,57 @@ package com.example.memberlist.infrastructure.repository;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.domain.repository.DuplicateMemberEmailException;
+import com.example.memberlist.domain.repository.MemberChanges;
+import com.example.memberlist.domain.repository.MemberCursor;
+import com.example.memberlist.domain.repository.MemberFilter;
+import com.example.memberlist.domain.repository.MemberSearchHit;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import com.example.memberlist.domain.repository.MemberTombstone;
+import jakarta.persistence.EntityManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.SimpleNaturalIdLoadAccess;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 /**
  * Unit tests for MemberRepositoryImpl.
@@ -29,6 +64,30 @@ class MemberRepositoryImplTest {
     @Mock
     private MemberJpaRepository memberJpaRepository;
 
+    @Mock
+    private ArchivedMemberJpaRepository archivedMemberJpaRepository;
+
+    @Mock
+    private MemberProjectionQuery memberProjectionQuery;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private EmailBloomFilter emailBloomFilter = new EmailBloomFilter(100, 0.01);
+
+    @Spy
+    private MemberKanaIndex memberKanaIndex = new MemberKanaIndex();
+
+    @Spy
+    private MemberTextIndex memberTextIndex = new MemberTextIndex();
+
+    @Mock
+    private MemberDirectoryVersion memberDirectoryVersion;
+
+    @Spy
+    private MemberChangeWatermark memberChangeWatermark = new MemberChangeWatermark(Duration.ofSeconds(30));
+
     @InjectMocks
     private MemberRepositoryImpl memberRepository;
 
@@ -53,6 +112,69 @@ class MemberRepositoryImplTest {
         verify(memberJpaRepository, times(1)).save(testMember);
     }
 
+    @Test
+    void testInsertFlushesImmediately() {
+        // Given
+        when(memberJpaRepository.saveAndFlush(testMember)).thenReturn(testMember);
+
+        // When
+        Member insertedMember = memberRepository.insert(testMember);
+
+        // Then
+        assertEquals(testMember, insertedMember);
+    }
+
+    @Test
+    void testInsertTranslatesActiveEmailViolationToDuplicateEmail() {
+        // Given
+        ConstraintViolationException violation = new ConstraintViolationException("duplicate",
+                new SQLException("duplicate", "23505"), "PUBLIC.UK_MEMBERS_ACTIVE_EMAIL_INDEX_D");
+        when(memberJpaRepository.saveAndFlush(testMember))
+                .thenThrow(new DataIntegrityViolationException("duplicate", violation));
+
+        // When & Then
+        assertThrows(DuplicateMemberEmailException.class, () -> memberRepository.insert(testMember));
+    }
+
+    @Test
+    void testUpdateTranslatesActiveEmailViolationToDuplicateEmail() {
+        // Given
+        ConstraintViolationException violation = new ConstraintViolationException("duplicate",
+                new SQLException("duplicate", "23505"), "PUBLIC.UK_MEMBERS_ACTIVE_EMAIL_INDEX_D");
+        when(memberJpaRepository.saveAndFlush(testMember))
+                .thenThrow(new DataIntegrityViolationException("duplicate", violation));
+
+        // When & Then
+        assertThrows(DuplicateMemberEmailException.class, () -> memberRepository.update(testMember));
+    }
+
+    @Test
+    void testInsertRethrowsOtherIntegrityViolations() {
+        // Given
+        ConstraintViolationException violation = new ConstraintViolationException("not null",
+                new SQLException("not null", "23502"), "NAME");
+        DataIntegrityViolationException notNull = new DataIntegrityViolationException("not null", violation);
+        when(memberJpaRepository.saveAndFlush(testMember)).thenThrow(notNull);
+
+        // When & Then
+        assertSame(notNull, assertThrows(DataIntegrityViolationException.class,
+                () -> memberRepository.insert(testMember)));
+    }
+
+    @Test
+    void testSaveAll() {
+        // Given
+        List<Member> members = List.of(testMember);
+        when(memberJpaRepository.saveAll(members)).thenReturn(members);
+
+        // When
+        List<Member> savedMembers = memberRepository.saveAll(members);
+
+        // Then
+        assertEquals(members, savedMembers);
+        verify(memberJpaRepository).saveAll(members);
+    }
+
     @Test
     void testFindById() {
         // Given
@@ -91,7 +213,7 @@ class MemberRepositoryImplTest {
         when(memberJpaRepository.findAllActive()).thenReturn(members);
 
         // When
-        List<Member> foundMembers = memberRepository.findAll();
+        List<Member> foundMembers = memberRepository.findAll(MemberFilter.NONE);
 
         // Then
         assertNotNull(foundMembers);
@@ -99,11 +221,102 @@ class MemberRepositoryImplTest {
         verify(memberJpaRepository, times(1)).findAllActive();
     }
 
+    @Test
+    void testFindAllWithFilterQueriesBySpecification() {
+        // Given
+        MemberFilter filter = new MemberFilter("エンジニア", null, null);
+        when(memberJpaRepository.findAll(any(Specification.class), eq(MemberSpecifications.NEWEST_FIRST)))
+                .thenReturn(List.of(testMember));
+
+        // When
+        List<Member> foundMembers = memberRepository.findAll(filter);
+
+        // Then
+        assertEquals(List.of(testMember), foundMembers);
+        verify(memberJpaRepository, never()).findAllActive();
+    }
+
+    @Test
+    void testFindPageWithoutCursorQueriesFirstPage() {
+        // Given
+        when(memberJpaRepository.findActivePage(Limit.of(10))).thenReturn(List.of(testMember));
+
+        // When
+        List<Member> foundMembers = memberRepository.findPage(MemberFilter.NONE, null, 10);
+
+        // Then
+        assertEquals(1, foundMembers.size());
+        verify(memberJpaRepository, times(1)).findActivePage(Limit.of(10));
+    }
+
+    @Test
+    void testFindPageWithCursorSeeksPastPosition() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        MemberCursor cursor = new MemberCursor(createdAt, 5L);
+        when(memberJpaRepository.findActivePageAfter(createdAt, 5L, Limit.of(10))).thenReturn(List.of());
+
+        // When
+        List<Member> foundMembers = memberRepository.findPage(MemberFilter.NONE, cursor, 10);
+
+        // Then
+        assertTrue(foundMembers.isEmpty());
+        verify(memberJpaRepository, times(1)).findActivePageAfter(createdAt, 5L, Limit.of(10));
+    }
+
+    @Test
+    void testFindAllFieldsDelegatesToProjectionQuery() {
+        // Given
+        Set<MemberField> fields = EnumSet.of(MemberField.ID, MemberField.NAME);
+        List<Map<String, Object>> rows = List.of(Map.of("id", 1L, "name", "山田太郎"));
+        when(memberProjectionQuery.find(fields, MemberFilter.NONE, null, null)).thenReturn(rows);
+
+        // When
+        List<Map<String, Object>> result = memberRepository.findAllFields(fields, MemberFilter.NONE);
+
+        // Then
+        assertEquals(rows, result);
+    }
+
+    @Test
+    void testFindFieldsPageDelegatesToProjectionQuery() {
+        // Given
+        Set<MemberField> fields = EnumSet.of(MemberField.ID);
+        MemberCursor cursor = new MemberCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 5L);
+        when(memberProjectionQuery.find(fields, MemberFilter.NONE, cursor, 10)).thenReturn(List.of());
+
+        // When
+        List<Map<String, Object>> result = memberRepository.findFieldsPage(fields, MemberFilter.NONE, cursor, 10);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(memberProjectionQuery, times(1)).find(fields, MemberFilter.NONE, cursor, 10);
+    }
+
+    @Test
+    void testStreamAllDetachesEachMember() {
+        // Given
+        Member member1 = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        Member member2 = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        when(memberJpaRepository.streamAllActive()).thenReturn(Stream.of(member1, member2));
+
+        // When
+        List<Member> streamed;
+        try (Stream<Member> members = memberRepository.streamAll()) {
+            streamed = members.toList();
+        }
+
+        // Then
+        assertEquals(List.of(member1, member2), streamed);
+        verify(entityManager, times(2)).detach(any(Member.class));
+    }
+
     @Test
     void testFindByEmail() {
         // Given
         String email = "yamada@example.com";
-        when(memberJpaRepository.findByEmailAndNotDeleted(email)).thenReturn(Optional.of(testMember));
+        SimpleNaturalIdLoadAccess<Member> naturalIdLoadAccess = stubNaturalIdLoadAccess();
+        when(naturalIdLoadAccess.loadOptional(email)).thenReturn(Optional.of(testMember));
 
         // When
         Optional<Member> foundMember = memberRepository.findByEmail(email);
@@ -111,21 +324,311 @@ class MemberRepositoryImplTest {
         // Then
         assertTrue(foundMember.isPresent());
         assertEquals("山田太郎", foundMember.get().getName());
-        verify(memberJpaRepository, times(1)).findByEmailAndNotDeleted(email);
+        verify(naturalIdLoadAccess, times(1)).loadOptional(email);
     }
 
     @Test
     void testFindByEmailNotFound() {
         // Given
         String email = "nonexistent@example.com";
-        when(memberJpaRepository.findByEmailAndNotDeleted(email)).thenReturn(Optional.empty());
+        SimpleNaturalIdLoadAccess<Member> naturalIdLoadAccess = stubNaturalIdLoadAccess();
+        when(naturalIdLoadAccess.loadOptional(email)).thenReturn(Optional.empty());
 
         // When
         Optional<Member> foundMember = memberRepository.findByEmail(email);
 
         // Then
         assertFalse(foundMember.isPresent());
-        verify(memberJpaRepository, times(1)).findByEmailAndNotDeleted(email);
+        verify(naturalIdLoadAccess, times(1)).loadOptional(email);
+    }
+
+    @Test
+    void testExistsByEmailSkipsDatabaseForAddressMissingFromFilter() {
+        // Given
+        emailBloomFilter.markReady();
+
+        // When
+        boolean exists = memberRepository.existsByEmail("yamada@example.com");
+
+        // Then
+        assertFalse(exists);
+        verify(memberJpaRepository, never()).existsByEmailAndNotDeleted(any());
+    }
+
+    @Test
+    void testExistsByEmailQueriesDatabaseForSavedAddress() {
+        // Given
+        emailBloomFilter.markReady();
+        when(memberJpaRepository.save(testMember)).thenReturn(testMember);
+        when(memberJpaRepository.existsByEmailAndNotDeleted("yamada@example.com")).thenReturn(true);
+        memberRepository.save(testMember);
+
+        // When
+        boolean exists = memberRepository.existsByEmail("yamada@example.com");
+
+        // Then
+        assertTrue(exists);
+    }
+
+    @Test
+    void testFindByEmailQueriesDatabaseForAddressMissingFromFilter() {
+        // Given
+        emailBloomFilter.markReady();
+        SimpleNaturalIdLoadAccess<Member> naturalIdLoadAccess = stubNaturalIdLoadAccess();
+        when(naturalIdLoadAccess.loadOptional("yamada@example.com")).thenReturn(Optional.of(testMember));
+
+        // When
+        Optional<Member> foundMember = memberRepository.findByEmail("yamada@example.com");
+
+        // Then
+        assertTrue(foundMember.isPresent());
+    }
+
+    @Test
+    void testFindByKanaPrefixQueriesDatabaseUntilIndexIsLoaded() {
+        // Given
+        List<MemberSuggestion> suggestions = List.of(new MemberSuggestion(1L, "山田太郎", "やまだたろう"));
+        when(memberJpaRepository.findByIsDeletedFalseAndNameKanaStartingWithOrderByNameKanaAscIdAsc(
+                "やま", Limit.of(10))).thenReturn(suggestions);
+
+        // When
+        List<MemberSuggestion> result = memberRepository.findByKanaPrefix("やま", 10);
+
+        // Then
+        assertEquals(suggestions, result);
+    }
+
+    @Test
+    void testFindByKanaPrefixUsesIndexOnceLoaded() {
+        // Given
+        memberKanaIndex.beginLoad();
+        memberKanaIndex.completeLoad(List.of(new MemberSuggestion(1L, "山田太郎", "やまだたろう")));
+
+        // When
+        List<MemberSuggestion> result = memberRepository.findByKanaPrefix("やま", 10);
+
+        // Then
+        assertEquals(1, result.size());
+        verify(memberJpaRepository, never()).findByIsDeletedFalseAndNameKanaStartingWithOrderByNameKanaAscIdAsc(
+                any(), any());
+    }
+
+    @Test
+    void testSaveUpdatesKanaIndexOutsideTransaction() {
+        // Given
+        ReflectionTestUtils.setField(testMember, "id", 1L);
+        memberKanaIndex.beginLoad();
+        memberKanaIndex.completeLoad(List.of());
+        when(memberJpaRepository.save(testMember)).thenReturn(testMember);
+
+        // When
+        memberRepository.save(testMember);
+
+        // Then
+        assertEquals(List.of(new MemberSuggestion(1L, "山田太郎", "やまだたろう")),
+                memberKanaIndex.findByPrefix("やまだ", 10));
+    }
+
+    @Test
+    void testDeleteUpdatesKanaIndexOnlyAfterCommit() {
+        // Given
+        ReflectionTestUtils.setField(testMember, "id", 1L);
+        memberKanaIndex.beginLoad();
+        memberKanaIndex.completeLoad(List.of(new MemberSuggestion(1L, "山田太郎", "やまだたろう")));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            memberRepository.delete(testMember);
+
+            // Then
+            assertEquals(1, memberKanaIndex.findByPrefix("やまだ", 10).size());
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+            assertTrue(memberKanaIndex.findByPrefix("やまだ", 10).isEmpty());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testSaveIncrementsDirectoryVersionWithTransaction() {
+        // Given
+        when(memberJpaRepository.save(any(Member.class))).thenReturn(testMember);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            memberRepository.save(testMember);
+
+            // Then
+            verify(memberDirectoryVersion).incrementOnCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testRolledBackDeleteKeepsKanaIndex() {
+        // Given
+        ReflectionTestUtils.setField(testMember, "id", 1L);
+        memberKanaIndex.beginLoad();
+        memberKanaIndex.completeLoad(List.of(new MemberSuggestion(1L, "山田太郎", "やまだたろう")));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            memberRepository.delete(testMember);
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // Then
+            assertEquals(1, memberKanaIndex.findByPrefix("やまだ", 10).size());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testSaveAllOutsideTransactionIncrementsDirectoryVersionOnce() {
+        // Given
+        when(memberJpaRepository.saveAll(List.of(testMember))).thenReturn(List.of(testMember));
+
+        // When
+        memberRepository.saveAll(List.of(testMember));
+
+        // Then
+        verify(memberDirectoryVersion, times(1)).incrementOnCommit();
+    }
+
+    @Test
+    void testGetDirectoryVersionIsReadFromDatabase() {
+        // Given
+        when(memberDirectoryVersion.current()).thenReturn(42L);
+
+        // When & Then
+        assertEquals(42L, memberRepository.getDirectoryVersion());
+    }
+
+    @Test
+    void testFindChangesSinceReturnsChangedMembersBeforeDatabaseTimeLessMaxTransactionDuration() {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2026, 4, 1, 0, 0);
+        LocalDateTime watermark = LocalDateTime.of(2026, 4, 2, 11, 59, 30);
+        when(memberJpaRepository.findDatabaseTime()).thenReturn(LocalDateTime.of(2026, 4, 2, 12, 0));
+        when(memberJpaRepository.findUpdatedSince(since, Long.MIN_VALUE, watermark, Limit.of(11)))
+                .thenReturn(List.of(testMember));
+
+        // When
+        MemberChanges changes = memberRepository.findChangesSince(since, null, 10);
+
+        // Then
+        assertEquals(List.of(testMember), changes.members());
+        assertEquals(watermark, changes.watermark());
+        assertFalse(changes.hasMore());
+    }
+
+    @Test
+    void testFindChangesSinceContinuesFromLastChangeWhenLimitIsReached() {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2026, 4, 1, 0, 0);
+        Member first = Member.restore(1L, "山田太郎", "やまだたろう", "yamada@example.com", null, null, null, null,
+                since, since, false, 0L);
+        Member second = Member.restore(2L, "鈴木花子", "すずきはなこ", "suzuki@example.com", null, null, null, null,
+                since, since.plusMinutes(2), false, 0L);
+        when(memberJpaRepository.findDatabaseTime()).thenReturn(since.plusHours(1));
+        when(memberJpaRepository.findUpdatedSince(eq(since), eq(5L), any(), eq(Limit.of(3))))
+                .thenReturn(List.of(first, second));
+        when(archivedMemberJpaRepository.findTombstonesSince(eq(since), eq(5L), any(), eq(Limit.of(3))))
+                .thenReturn(List.of(new MemberTombstone(3L, since.plusMinutes(1))));
+
+        // When
+        MemberChanges changes = memberRepository.findChangesSince(since, 5L, 2);
+
+        // Then
+        assertEquals(List.of(first), changes.members());
+        assertEquals(List.of(new MemberTombstone(3L, since.plusMinutes(1))), changes.archived());
+        assertEquals(since.plusMinutes(1), changes.watermark());
+        assertEquals(3L, changes.afterId());
+        assertTrue(changes.hasMore());
+    }
+
+    @Test
+    void testSearchLoadsIndexedMatchesInRankOrder() {
+        // Given
+        Member engineer = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        engineer.updateInfo("鈴木花子", "すずきはなこ", "suzuki@example.com", "エンジニア", null, null, null);
+        ReflectionTestUtils.setField(engineer, "id", 2L);
+        Member namesake = new Member("エンジニア太郎", "えんじにあたろう", "taro@example.com");
+        ReflectionTestUtils.setField(namesake, "id", 3L);
+        memberTextIndex.beginLoad();
+        memberTextIndex.load(2L, engineer.getName(), engineer.getPosition(), null);
+        memberTextIndex.load(3L, namesake.getName(), null, null);
+        memberTextIndex.completeLoad();
+        when(memberJpaRepository.findAllById(List.of(3L, 2L))).thenReturn(List.of(engineer, namesake));
+
+        // When
+        List<MemberSearchHit> hits = memberRepository.search("エンジニア", 10);
+
+        // Then
+        assertEquals(List.of(namesake, engineer), hits.stream().map(MemberSearchHit::member).toList());
+        assertEquals(List.of(3, 2), hits.stream().map(MemberSearchHit::score).toList());
+    }
+
+    @Test
+    void testSearchDropsCandidatesWithoutWholeWordAndDeletedOnes() {
+        // Given
+        Member apart = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        apart.updateInfo("鈴木花子", "すずきはなこ", "suzuki@example.com", "エンジ", null, null, "ニアです");
+        ReflectionTestUtils.setField(apart, "id", 2L);
+        Member deleted = new Member("エンジニア太郎", "えんじにあたろう", "taro@example.com");
+        ReflectionTestUtils.setField(deleted, "id", 3L);
+        memberTextIndex.beginLoad();
+        memberTextIndex.load(2L, apart.getName(), "エンジン", "ジニアです");
+        memberTextIndex.load(3L, deleted.getName(), null, null);
+        memberTextIndex.completeLoad();
+        // Deleted through another instance, and changed so that the word is no longer whole
+        deleted.delete();
+        when(memberJpaRepository.findAllById(List.of(3L, 2L))).thenReturn(List.of(apart, deleted));
+
+        // When
+        List<MemberSearchHit> hits = memberRepository.search("エンジニア", 10);
+
+        // Then
+        assertTrue(hits.isEmpty());
+    }
+
+    @Test
+    void testSearchScansTableUntilIndexIsLoaded() {
+        // Given
+        testMember.updateInfo("山田太郎", "やまだたろう", "yamada@example.com", "エンジニア", null, null, null);
+        when(memberJpaRepository.streamAllActive()).thenReturn(Stream.of(testMember));
+
+        // When
+        List<MemberSearchHit> hits = memberRepository.search("エンジニア", 10);
+
+        // Then
+        assertEquals(1, hits.size());
+        verify(memberJpaRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void testFindExistingEmails() {
+        // Given
+        List<String> emails = List.of("yamada@example.com", "new@example.com");
+        when(memberJpaRepository.findActiveEmailsIn(emails)).thenReturn(Set.of("yamada@example.com"));
+
+        // When
+        Set<String> existing = memberRepository.findExistingEmails(emails);
+
+        // Then
+        assertEquals(Set.of("yamada@example.com"), existing);
+    }
+
+    @Test
+    void testFindExistingEmailsSkipsQueryForEmptyInput() {
+        // When
+        Set<String> existing = memberRepository.findExistingEmails(List.of());
+
+        // Then
+        assertTrue(existing.isEmpty());
+        verify(memberJpaRepository, never()).findActiveEmailsIn(any());
     }
 
     @Test
@@ -168,4 +671,127 @@ class MemberRepositoryImplTest {
         assertTrue(testMember.isDeleted());
         verify(memberJpaRepository, times(1)).save(testMember);
     }
+
+    @Test
+    void testDeleteAllByIdsUpdatesDistinctIdsInChunks() {
+        // Given
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, 2_500).boxed().toList());
+        ids.add(1L);
+        ids.add(null);
+        LocalDateTime databaseTime = LocalDateTime.of(2026, 4, 2, 12, 0);
+        when(memberJpaRepository.findDatabaseTime()).thenReturn(databaseTime);
+        when(memberJpaRepository.deleteActiveByIdIn(any(), any())).thenReturn(1_000, 1_000, 500);
+
+        // When
+        int deleted = memberRepository.deleteAllByIds(ids);
+
+        // Then
+        assertEquals(2_500, deleted);
+        ArgumentCaptor<List<Long>> chunks = ArgumentCaptor.captor();
+        ArgumentCaptor<LocalDateTime> updatedAt = ArgumentCaptor.captor();
+        verify(memberJpaRepository, times(3)).deleteActiveByIdIn(chunks.capture(), updatedAt.capture());
+        assertEquals(List.of(1_000, 1_000, 500), chunks.getAllValues().stream().map(List::size).toList());
+        assertEquals(Set.of(databaseTime), Set.copyOf(updatedAt.getAllValues()));
+    }
+
+    @Test
+    void testDeleteAllByIdsSkipsDatabaseForEmptyIds() {
+        // When
+        int deleted = memberRepository.deleteAllByIds(List.of());
+
+        // Then
+        assertEquals(0, deleted);
+        verify(memberDirectoryVersion, never()).incrementOnCommit();
+        verify(memberJpaRepository, never()).deleteActiveByIdIn(any(), any());
+    }
+
+    @Test
+    void testDeleteAllByIdsRemovesIdsFromIndexesOnlyAfterCommitWithoutReadingMembers() {
+        // Given
+        memberKanaIndex.beginLoad();
+        memberKanaIndex.completeLoad(List.of(new MemberSuggestion(1L, "山田太郎", "やまだたろう")));
+        memberTextIndex.beginLoad();
+        memberTextIndex.load(1L, "山田太郎", "エンジニア", null);
+        memberTextIndex.completeLoad();
+        when(memberJpaRepository.deleteActiveByIdIn(eq(List.of(1L)), any())).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            memberRepository.deleteAllByIds(List.of(1L));
+
+            // Then
+            assertEquals(1, memberKanaIndex.findByPrefix("やまだ", 10).size());
+            assertEquals(List.of(1L), memberTextIndex.findCandidates("エンジニア"));
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+            assertTrue(memberKanaIndex.findByPrefix("やまだ", 10).isEmpty());
+            assertTrue(memberTextIndex.findCandidates("エンジニア").isEmpty());
+            verify(memberDirectoryVersion).incrementOnCommit();
+            verify(memberJpaRepository, never()).findAllById(any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testUpdateAllByIdsReindexesPositionsFromIndexedColumnsOnly() {
+        // Given
+        memberTextIndex.beginLoad();
+        memberTextIndex.load(1L, "山田太郎", "エンジニア", null);
+        memberTextIndex.completeLoad();
+        when(memberJpaRepository.updateActiveByIdIn(eq(List.of(1L)), eq("マネージャー"), eq(null), any()))
+                .thenReturn(1);
+        when(memberJpaRepository.findActiveTextsByIdIn(List.of(1L)))
+                .thenReturn(List.of(new MemberText(1L, "山田太郎", "マネージャー", null, 1L)));
+
+        // When
+        int updated = memberRepository.updateAllByIds(List.of(1L), "マネージャー", null);
+
+        // Then
+        assertEquals(1, updated);
+        assertTrue(memberTextIndex.findCandidates("エンジニア").isEmpty());
+        assertEquals(List.of(1L), memberTextIndex.findCandidates("マネージャー"));
+        verify(memberJpaRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void testUpdateAllByIdsReadsNothingBackWhenOnlyLocationChanges() {
+        // Given
+        when(memberJpaRepository.updateActiveByIdIn(eq(List.of(1L)), eq(null), eq("大阪府"), any())).thenReturn(1);
+
+        // When
+        int updated = memberRepository.updateAllByIds(List.of(1L), null, "大阪府");
+
+        // Then
+        assertEquals(1, updated);
+        verify(memberDirectoryVersion).incrementOnCommit();
+        verify(memberJpaRepository, never()).findActiveTextsByIdIn(any());
+        verify(memberJpaRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void testUpdateAllByIdsDoesNotReloadWhenNothingChanged() {
+        // Given
+        when(memberJpaRepository.updateActiveByIdIn(eq(List.of(1L, 2L)), eq("マネージャー"), eq(null), any()))
+                .thenReturn(0);
+
+        // When
+        int updated = memberRepository.updateAllByIds(List.of(1L, 2L), "マネージャー", null);
+
+        // Then
+        assertEquals(0, updated);
+        verify(memberDirectoryVersion, never()).incrementOnCommit();
+        verify(memberJpaRepository, never()).findActiveTextsByIdIn(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private SimpleNaturalIdLoadAccess<Member> stubNaturalIdLoadAccess() {
+        // Session is itself an EntityManager, so it is kept out of the injected mocks
+        Session session = mock(Session.class);
+        SimpleNaturalIdLoadAccess<Member> naturalIdLoadAccess = mock(SimpleNaturalIdLoadAccess.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.bySimpleNaturalId(Member.class)).thenReturn(naturalIdLoadAccess);
+        return naturalIdLoadAccess;
+    }
 }
@@ -0,0 +1,145 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.memberlist.domain.model.Member;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Verifies that member lookups are served by the Hibernate second-level cache,
+ * counting the SQL statements prepared for each lookup.
+ * Each step runs in its own transaction, as separate requests would.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({MemberRepositoryImpl.class, MemberDirectoryVersion.class, MemberChangeWatermark.class,
+    MemberProjectionQuery.class, EmailBloomFilter.class, MemberKanaIndex.class, MemberTextIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberSecondLevelCacheTest {
+
+    @Autowired
+    private MemberRepositoryImpl memberRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        memberId = inTransaction(() -> memberRepository.insert(
+                new Member("山田太郎", "やまだたろう", "yamada@example.com")).getId());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        inTransaction(() -> {
+            memberJpaRepository.deleteAll();
+            return null;
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void testFindByIdHitsCacheAfterFirstLoad() {
+        // Given
+        inTransaction(() -> memberRepository.findById(memberId));
+
+        // When
+        long statements = countStatements(() -> memberRepository.findById(memberId));
+
+        // Then
+        assertEquals(0, statements);
+    }
+
+    @Test
+    void testFindByEmailResolvesNaturalIdFromCacheAfterFirstLoad() {
+        // Given
+        long firstStatements = countStatements(() -> memberRepository.findByEmail("yamada@example.com"));
+
+        // When
+        long statements = countStatements(() -> {
+            Optional<Member> member = memberRepository.findByEmail("yamada@example.com");
+            assertEquals(memberId, member.orElseThrow().getId());
+            return member;
+        });
+
+        // Then
+        assertTrue(firstStatements > 0);
+        assertEquals(0, statements);
+    }
+
+    @Test
+    void testSoftDeleteEvictsNaturalIdButKeepsEntityCached() {
+        // Given
+        inTransaction(() -> memberRepository.findByEmail("yamada@example.com"));
+
+        // When
+        inTransaction(() -> {
+            memberRepository.delete(memberRepository.findById(memberId).orElseThrow());
+            return null;
+        });
+
+        // Then
+        Optional<Member> byEmail = inTransaction(() -> memberRepository.findByEmail("yamada@example.com"));
+        assertTrue(byEmail.isEmpty());
+        long statements = countStatements(() -> {
+            assertTrue(memberRepository.findById(memberId).orElseThrow().isDeleted());
+            return null;
+        });
+        assertEquals(0, statements);
+    }
+
+    @Test
+    void testReRegisteredEmailResolvesToNewMember() {
+        // Given
+        inTransaction(() -> memberRepository.findByEmail("yamada@example.com"));
+        inTransaction(() -> {
+            memberRepository.delete(memberRepository.findById(memberId).orElseThrow());
+            return null;
+        });
+
+        // When
+        Long newId = inTransaction(() -> memberRepository.insert(
+                new Member("山田太郎", "やまだたろう", "yamada@example.com")).getId());
+
+        // Then
+        Optional<Member> byEmail = inTransaction(() -> memberRepository.findByEmail("yamada@example.com"));
+        assertEquals(newId, byEmail.orElseThrow().getId());
+    }
+
+    private long countStatements(Supplier<?> work) {
+        statistics.clear();
+        inTransaction(work);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
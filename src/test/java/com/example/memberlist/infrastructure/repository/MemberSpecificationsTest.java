@@ -0,0 +1,97 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberCursor;
+import com.example.memberlist.domain.repository.MemberFilter;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Integration tests for MemberSpecifications.
+ */
+@DataJpaTest
+class MemberSpecificationsTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @BeforeEach
+    void setUp() {
+        persist("山田太郎", "エンジニア", "東京都", 1, false);
+        persist("鈴木花子", "エンジニア", "大阪府", 2, false);
+        persist("佐藤次郎", "デザイナー", "東京都", 3, false);
+        persist("高橋三郎", "エンジニア", "東京都", 4, true);
+        persist("田中四郎", "エンジニア", "東京都", 5, false);
+        entityManager.clear();
+    }
+
+    @Test
+    void testEmptyFilterMatchesEveryActiveMember() {
+        assertEquals(List.of("田中四郎", "佐藤次郎", "鈴木花子", "山田太郎"), names(MemberFilter.NONE));
+    }
+
+    @Test
+    void testFilterCombinesConditions() {
+        assertEquals(List.of("田中四郎", "鈴木花子", "山田太郎"), names(new MemberFilter("エンジニア", null, null)));
+        assertEquals(List.of("田中四郎", "山田太郎"), names(new MemberFilter("エンジニア", "東京都", null)));
+        assertEquals(List.of("田中四郎", "佐藤次郎"), names(new MemberFilter(null, null, BASE.plusDays(2))));
+    }
+
+    @Test
+    void testFilterIgnoresBlankValues() {
+        assertEquals(names(MemberFilter.NONE), names(new MemberFilter(" ", "", null)));
+    }
+
+    @Test
+    void testAfterSeeksPastCursorWithinFilter() {
+        // Given
+        Member first = memberJpaRepository.findBy(
+                MemberSpecifications.activeMatching(new MemberFilter(null, "東京都", null)),
+                query -> query.sortBy(MemberSpecifications.NEWEST_FIRST).first()).orElseThrow();
+        Specification<Member> rest = MemberSpecifications.activeMatching(new MemberFilter(null, "東京都", null))
+                .and(MemberSpecifications.after(MemberCursor.of(first)));
+
+        // When
+        List<Member> page = memberJpaRepository.findBy(rest,
+                query -> query.sortBy(MemberSpecifications.NEWEST_FIRST).limit(1).all());
+
+        // Then
+        assertEquals("田中四郎", first.getName());
+        assertEquals(List.of("佐藤次郎"), page.stream().map(Member::getName).toList());
+    }
+
+    private List<String> names(MemberFilter filter) {
+        return memberJpaRepository.findAll(
+                MemberSpecifications.activeMatching(filter), MemberSpecifications.NEWEST_FIRST).stream()
+                .map(Member::getName)
+                .toList();
+    }
+
+    private void persist(String name, String position, String location, int day, boolean deleted) {
+        Member member = new Member(name, "かいいん", name + "@example.com");
+        member.updateInfo(name, "かいいん", name + "@example.com", position, location, null, null);
+        if (deleted) {
+            member.delete();
+        }
+        entityManager.persistAndFlush(member);
+        // Pin the creation time so the keyset order is deterministic
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Member m SET m.createdAt = :createdAt WHERE m.id = :id")
+                .setParameter("createdAt", BASE.plusDays(day))
+                .setParameter("id", member.getId())
+                .executeUpdate();
+    }
+}
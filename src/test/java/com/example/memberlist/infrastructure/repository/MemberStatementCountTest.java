@@ -0,0 +1,237 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.memberlist.application.service.MemberService;
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.domain.repository.MemberFilter;
+import com.example.memberlist.support.SqlStatementCounter;
+import com.example.memberlist.support.SqlStatementCounter.SqlStatements;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Guards the number and type of SQL statements issued by the hot paths.
+ * A change that adds a round trip (an N+1 select, a reload before an update, a lost batch)
+ * fails here even when the behavior stays correct.
+ * <p>
+ * Every operation runs in its own transaction that commits, as it does behind the service, so the
+ * statements sent when the transaction commits, such as the directory version increment, are counted too.
+ */
+@DataJpaTest
+@Import({MemberRepositoryImpl.class, MemberDirectoryVersion.class, MemberChangeWatermark.class,
+    MemberProjectionQuery.class, EmailBloomFilter.class, MemberKanaIndex.class, MemberTextIndex.class,
+    SqlStatementCounter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberStatementCountTest {
+
+    private static final String DATABASE_TIME = "select localtimestamp";
+    private static final String DIRECTORY_INCREMENT = "update member_directory";
+
+    @Autowired
+    private MemberRepositoryImpl memberRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private EmailBloomFilter emailBloomFilter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MemberService memberService;
+    private TransactionTemplate transaction;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        memberService = new MemberService(memberRepository, Validation.buildDefaultValidatorFactory().getValidator(),
+                new SimpleMeterRegistry(), transactionManager, 3, Duration.ZERO);
+        transaction = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        transaction.executeWithoutResult(status ->
+                memberRepository.insert(new Member("準備", "じゅんび", "warmup@example.com")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberJpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testCreateMemberIsOneInsertAndTheDirectoryIncrement() {
+        // When
+        SqlStatementCounter.reset();
+        transaction.executeWithoutResult(status -> memberService.createMember(
+                "山田太郎", "やまだたろう", "yamada@example.com", "エンジニア", null, null, null));
+
+        // Then: no existence check; the unique constraint rejects duplicates
+        assertEquals(List.of(DATABASE_TIME, "insert members", DIRECTORY_INCREMENT), SqlStatementCounter.statements());
+    }
+
+    @Test
+    void testSaveAllSendsOneBatchPerFiftyRows() {
+        // Given
+        List<Member> members = IntStream.range(0, 120)
+                .mapToObj(i -> new Member("会員" + i, "かいいん", "member" + i + "@example.com"))
+                .toList();
+
+        // When
+        SqlStatementCounter.reset();
+        transaction.executeWithoutResult(status -> memberRepository.saveAll(members));
+
+        // Then: three batches of at most 50 rows, and one sequence fetch per block of 50 IDs at most
+        SqlStatements statements = SqlStatementCounter.current();
+        assertEquals(List.of(DATABASE_TIME, "insert members", "insert members", "insert members", DIRECTORY_INCREMENT),
+                SqlStatementCounter.statements());
+        assertTrue(statements.sequence() <= 3, () -> "sequence fetches: " + statements.sequence());
+    }
+
+    @Test
+    void testDeleteLoadedMemberIsOneUpdateWithoutReload() {
+        // When
+        transaction.executeWithoutResult(status -> {
+            Member member = memberRepository.findByEmail("warmup@example.com").orElseThrow();
+            SqlStatementCounter.reset();
+            memberRepository.delete(member);
+        });
+
+        // Then
+        assertEquals(List.of(DATABASE_TIME, "update members", DIRECTORY_INCREMENT), SqlStatementCounter.statements());
+    }
+
+    @Test
+    void testUpdateMemberWritesOnlyChangedColumns() {
+        // Given
+        Member member = transaction.execute(status -> memberService.createMember("山田太郎", "やまだたろう",
+                "yamada@example.com", "エンジニア", "東京都", "https://example.com/yamada.png",
+                "長い自己紹介です。".repeat(100)));
+
+        // When
+        SqlStatementCounter.reset();
+        memberService.updateMember(member.getId(), Map.of(MemberField.POSITION, "マネージャー"));
+
+        // Then: the member is read from the second-level cache, filled when it was created
+        assertEquals(List.of(DATABASE_TIME, "update members", DIRECTORY_INCREMENT), SqlStatementCounter.statements());
+        String update = SqlStatementCounter.queries().stream()
+                .filter(query -> query.toLowerCase(Locale.ROOT).startsWith("update members"))
+                .findFirst().orElseThrow().toLowerCase(Locale.ROOT);
+        assertTrue(update.contains("position=?"), update);
+        assertFalse(update.contains("self_introduction"), update);
+        assertFalse(update.contains("profile_image_url"), update);
+        assertFalse(update.contains("email"), update);
+    }
+
+    @Test
+    void testDeleteAllByIdsIsOneUpdatePerChunk() {
+        // Given
+        List<Long> ids = transaction.execute(status -> memberRepository.saveAll(IntStream.range(0, 1_500)
+                .mapToObj(i -> new Member("会員" + i, "かいいん", "member" + i + "@example.com"))
+                .toList())).stream().map(Member::getId).toList();
+
+        // When
+        SqlStatementCounter.reset();
+        int deleted = transaction.execute(status -> memberRepository.deleteAllByIds(ids));
+
+        // Then: the database time, then one UPDATE per chunk; the indexes drop the IDs without reading them
+        assertEquals(1_500, deleted);
+        assertEquals(List.of(DATABASE_TIME, "update members", "update members", DIRECTORY_INCREMENT),
+                SqlStatementCounter.statements());
+    }
+
+    @Test
+    void testUpdateAllByIdsReadsBackOnlyIndexedColumnsPerChunk() {
+        // Given
+        List<Long> ids = transaction.execute(status -> memberRepository.saveAll(IntStream.range(0, 1_500)
+                .mapToObj(i -> new Member("会員" + i, "かいいん", "member" + i + "@example.com"))
+                .toList())).stream().map(Member::getId).toList();
+
+        // When
+        SqlStatementCounter.reset();
+        int updated = transaction.execute(status -> memberRepository.updateAllByIds(ids, "マネージャー", "大阪府"));
+
+        // Then: the database time, then two chunks, each one UPDATE plus one SELECT of the text index columns
+        assertEquals(1_500, updated);
+        List<String> chunk = List.of("update members", "select members");
+        assertEquals(Stream.of(List.of(DATABASE_TIME), chunk, chunk, List.of(DIRECTORY_INCREMENT))
+                .flatMap(List::stream).toList(), SqlStatementCounter.statements());
+        String select = SqlStatementCounter.queries().stream()
+                .filter(query -> query.toLowerCase(Locale.ROOT).startsWith("select"))
+                .filter(query -> query.toLowerCase(Locale.ROOT).contains("members"))
+                .findFirst().orElseThrow().toLowerCase(Locale.ROOT);
+        assertTrue(select.contains("self_introduction"), select);
+        assertFalse(select.contains("email"), select);
+        assertFalse(select.contains("location"), select);
+    }
+
+    @Test
+    void testFindAllIsOneSelectWithoutPerMemberQueries() {
+        // Given
+        transaction.executeWithoutResult(status -> IntStream.range(0, 10).forEach(i ->
+                memberRepository.insert(new Member("会員" + i, "かいいん", "member" + i + "@example.com"))));
+
+        // When
+        SqlStatementCounter.reset();
+        List<Member> members = readOnly.execute(status -> {
+            List<Member> found = memberRepository.findAll(MemberFilter.NONE);
+            found.forEach(Member::getSelfIntroduction);
+            return found;
+        });
+
+        // Then
+        assertEquals(11, members.size());
+        assertEquals(List.of("select members"), SqlStatementCounter.statements());
+    }
+
+    @Test
+    void testFindPageIsOneSelect() {
+        // When
+        SqlStatementCounter.reset();
+        readOnly.executeWithoutResult(status -> {
+            memberRepository.findPage(new MemberFilter("エンジニア", null, null), null, 20);
+            memberRepository.findPage(MemberFilter.NONE, null, 20);
+        });
+
+        // Then
+        assertEquals(List.of("select members", "select members"), SqlStatementCounter.statements());
+    }
+
+    @Test
+    void testExistsByEmailQueriesOnlyAddressesTheFilterMayContain() {
+        // Given
+        emailBloomFilter.markReady();
+
+        // When
+        SqlStatementCounter.reset();
+        readOnly.executeWithoutResult(status -> memberRepository.existsByEmail("nobody@example.com"));
+        SqlStatements unknown = SqlStatementCounter.current();
+        SqlStatementCounter.reset();
+        readOnly.executeWithoutResult(status -> memberRepository.existsByEmail("warmup@example.com"));
+        SqlStatements registered = SqlStatementCounter.current();
+
+        // Then
+        assertEquals(SqlStatements.none(), unknown);
+        assertEquals(SqlStatements.selects(1), registered);
+    }
+}
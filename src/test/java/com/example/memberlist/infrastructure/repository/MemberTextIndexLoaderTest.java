@@ -0,0 +1,93 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.memberlist.domain.model.Member;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for MemberTextIndexLoader.
+ */
+@ExtendWith(MockitoExtension.class)
+class MemberTextIndexLoaderTest {
+
+    private static final MemberChangeWatermark WATERMARK = new MemberChangeWatermark(Duration.ofSeconds(30));
+
+    @Mock
+    private MemberJpaRepository memberJpaRepository;
+
+    @Test
+    void testLoadIndexesEveryRowAndEnablesIndex() {
+        // Given
+        MemberTextIndex index = new MemberTextIndex();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(memberJpaRepository.findDatabaseTime()).thenReturn(LocalDateTime.now());
+        when(memberJpaRepository.streamActiveTexts()).thenReturn(Stream.<Object[]>of(
+                new Object[] {1L, "山田太郎", "エンジニア", "大阪在住です"},
+                new Object[] {2L, "鈴木花子", null, null}).onClose(() -> closed.set(true)));
+
+        // When
+        new MemberTextIndexLoader(memberJpaRepository, index, WATERMARK).load();
+
+        // Then
+        assertTrue(index.isReady());
+        assertEquals(List.of(1L), index.findCandidates("大阪"));
+        assertEquals(List.of(2L), index.findCandidates("鈴木"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testRefreshAppliesChangesCommittedSinceLoadWatermark() {
+        // Given
+        MemberTextIndex index = new MemberTextIndex();
+        LocalDateTime loadedAt = LocalDateTime.of(2024, 4, 1, 9, 0);
+        LocalDateTime refreshedAt = loadedAt.plusSeconds(30);
+        when(memberJpaRepository.findDatabaseTime()).thenReturn(loadedAt, refreshedAt);
+        when(memberJpaRepository.streamActiveTexts()).thenReturn(Stream.<Object[]>of(
+                new Object[] {1L, "山田太郎", "エンジニア", null},
+                new Object[] {2L, "鈴木花子", "デザイナー", null}));
+        // Another instance changed the position of member 1 and deleted member 2
+        Member changed = Member.restore(1L, "山田太郎", "やまだたろう", "yamada@example.com", "マネージャー", null,
+                null, null, loadedAt, refreshedAt, false, 1L);
+        Member deleted = Member.restore(2L, "鈴木花子", "すずきはなこ", "suzuki@example.com", "デザイナー", null,
+                null, null, loadedAt, refreshedAt, true, 1L);
+        when(memberJpaRepository.findAllUpdatedSince(WATERMARK.at(loadedAt))).thenReturn(List.of(changed, deleted));
+        MemberTextIndexLoader loader = new MemberTextIndexLoader(memberJpaRepository, index, WATERMARK);
+        loader.load();
+
+        // When
+        loader.refresh();
+
+        // Then
+        assertEquals(List.of(1L), index.findCandidates("マネージャー"));
+        assertTrue(index.findCandidates("エンジニア").isEmpty());
+        assertTrue(index.findCandidates("デザイナー").isEmpty());
+    }
+
+    @Test
+    void testRefreshDoesNothingBeforeLoad() {
+        // Given
+        MemberTextIndex index = new MemberTextIndex();
+
+        // When
+        new MemberTextIndexLoader(memberJpaRepository, index, WATERMARK).refresh();
+
+        // Then
+        assertFalse(index.isReady());
+        verify(memberJpaRepository, never()).findAllUpdatedSince(any());
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.memberlist.domain.model.Member;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for MemberTextIndex.
+ */
+class MemberTextIndexTest {
+
+    private MemberTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MemberTextIndex();
+        index.beginLoad();
+        index.load(1L, "山田太郎", "エンジニア", "大阪でKubernetesを運用しています");
+        index.load(2L, "鈴木花子", "デザイナー", "東京在住のデザイナーです。デザインが好きです");
+        index.load(3L, "大阪次郎", "営業", null);
+        index.completeLoad();
+    }
+
+    @Test
+    void testFindCandidatesFindsJapaneseAndLatinWords() {
+        assertEquals(List.of(1L), index.findCandidates("kubernetes"));
+        assertEquals(List.of(2L), index.findCandidates("デザイナー"));
+        assertEquals(List.of(1L), index.findCandidates("運用"));
+    }
+
+    @Test
+    void testFindCandidatesReturnsNewestMembersFirst() {
+        assertEquals(List.of(3L, 1L), index.findCandidates("大阪"));
+    }
+
+    @Test
+    void testFindCandidatesRequiresEveryBigramOfEveryWord() {
+        assertEquals(List.of(1L), index.findCandidates("大阪 運用"));
+        assertTrue(index.findCandidates("大阪 デザイン").isEmpty());
+    }
+
+    @Test
+    void testFindCandidatesIgnoresCaseWidthAndKanaForm() {
+        assertEquals(List.of(1L), index.findCandidates("ＫＵＢＥＲ"));
+        assertEquals(List.of(2L), index.findCandidates("でざいなー"));
+    }
+
+    @Test
+    void testFindCandidatesIgnoresWordsShorterThanOneTerm() {
+        assertTrue(index.findCandidates("大").isEmpty());
+    }
+
+    @Test
+    void testScoreRejectsCandidateHoldingBigramsApart() {
+        // Every bigram occurs in member 2 but not as one word
+        assertEquals(List.of(2L), index.findCandidates("好きデザイナ"));
+        assertEquals(0, MemberTextIndex.score(
+                member(2L, "鈴木花子", "デザイナー", "東京在住のデザイナーです。デザインが好きです"), "好きデザイナ"));
+    }
+
+    @Test
+    void testScoreRanksNameAbovePositionAboveSelfIntroduction() {
+        assertEquals(3, MemberTextIndex.score(member(3L, "大阪次郎", "営業", null), "大阪"));
+        assertEquals(2, MemberTextIndex.score(member(4L, "佐藤三郎", "大阪支店長", null), "大阪"));
+        assertEquals(1, MemberTextIndex.score(member(1L, "山田太郎", "エンジニア", "大阪で働いています"), "大阪"));
+    }
+
+    @Test
+    void testScoreCountsEveryOccurrenceAndRequiresEveryWord() {
+        Member member = member(2L, "鈴木花子", "デザイナー", "東京在住のデザイナーです。デザインが好きです");
+        // "デザイナー" in the position (2) and once in the self introduction (1)
+        assertEquals(3, MemberTextIndex.score(member, "デザイナー"));
+        assertEquals(0, MemberTextIndex.score(member, "デザイナー 大阪"));
+    }
+
+    @Test
+    void testUpdateReindexesChangedMembersAndDropsDeletedOnes() {
+        // Given
+        Member changed = member(1L, "山田太郎", "マネージャー", "福岡でチームを率いています");
+        Member deleted = member(2L, "鈴木花子", "デザイナー", null);
+        deleted.delete();
+        Member added = member(4L, "佐藤三郎", "デザイナー", null);
+
+        // When
+        index.update(List.of(changed, deleted, added));
+
+        // Then
+        assertTrue(index.findCandidates("kubernetes").isEmpty());
+        assertEquals(List.of(1L), index.findCandidates("福岡"));
+        assertEquals(List.of(4L), index.findCandidates("デザイナー"));
+    }
+
+    @Test
+    void testUpdateIgnoresChangeOlderThanIndexedVersion() {
+        // Given
+        Member changed = member(1L, "山田太郎", "マネージャー", null);
+        ReflectionTestUtils.setField(changed, "version", 2L);
+        index.update(List.of(changed));
+        Member stale = member(1L, "山田太郎", "エンジニア", null);
+        ReflectionTestUtils.setField(stale, "version", 1L);
+
+        // When
+        index.update(List.of(stale));
+
+        // Then
+        assertEquals(List.of(1L), index.findCandidates("マネージャー"));
+        assertTrue(index.findCandidates("エンジニア").isEmpty());
+    }
+
+    @Test
+    void testUpdateTextsReindexesIndexedColumnsAndIgnoresOlderVersions() {
+        // Given
+        index.updateTexts(List.of(new MemberText(1L, "山田太郎", "マネージャー", null, 2L)));
+
+        // When
+        index.updateTexts(List.of(new MemberText(1L, "山田太郎", "エンジニア", null, 1L),
+                new MemberText(3L, "大阪次郎", "エンジニア", null, 1L)));
+
+        // Then
+        assertEquals(List.of(1L), index.findCandidates("マネージャー"));
+        assertEquals(List.of(3L), index.findCandidates("エンジニア"));
+    }
+
+    @Test
+    void testRemoveDropsMembersById() {
+        // When
+        index.remove(List.of(1L, 99L));
+
+        // Then
+        assertTrue(index.findCandidates("kubernetes").isEmpty());
+        assertEquals(List.of(3L), index.findCandidates("大阪"));
+    }
+
+    @Test
+    void testUpdateCompactsPostingsAfterManyRemovals() {
+        // Given
+        List<Member> members = IntStream.rangeClosed(10, 1_000)
+                .mapToObj(id -> member((long) id, "会員" + id, "エンジニア", "自己紹介文をここに書きます"))
+                .toList();
+        index.update(members);
+        long before = index.postingBytes();
+        members.forEach(Member::delete);
+
+        // When
+        index.update(members);
+
+        // Then
+        assertTrue(index.postingBytes() < before / 10, before + " -> " + index.postingBytes());
+        assertEquals(List.of(1L), index.findCandidates("エンジニア"));
+    }
+
+    @Test
+    void testUpdateCompactsPostingsUnderTermsOfPreviousText() {
+        // Given
+        List<Member> members = IntStream.rangeClosed(10, 1_000)
+                .mapToObj(id -> member((long) id, "会員" + id, "エンジニア", "自己紹介文をここに書きます"))
+                .toList();
+        index.update(members);
+        long before = index.postingBytes();
+
+        // When
+        index.update(members.stream().map(member -> member(member.getId(), member.getName(), null, null)).toList());
+
+        // Then
+        assertTrue(index.postingBytes() < before / 2, before + " -> " + index.postingBytes());
+        assertEquals(List.of(1L), index.findCandidates("エンジニア"));
+    }
+
+    @Test
+    void testChangesDuringLoadAreAppliedAfterLoadedMembers() {
+        // Given
+        MemberTextIndex loading = new MemberTextIndex();
+        loading.beginLoad();
+        loading.update(List.of(member(1L, "山田太郎", "マネージャー", null)));
+        loading.load(1L, "山田太郎", "エンジニア", null);
+        assertFalse(loading.isReady());
+
+        // When
+        loading.completeLoad();
+
+        // Then
+        assertTrue(loading.isReady());
+        assertTrue(loading.findCandidates("エンジニア").isEmpty());
+        assertEquals(List.of(1L), loading.findCandidates("マネージャー"));
+    }
+
+    private static Member member(Long id, String name, String position, String selfIntroduction) {
+        Member member = new Member(name, "かいいん", id + "@example.com");
+        member.updateInfo(name, "かいいん", id + "@example.com", position, null, null, selfIntroduction);
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+}
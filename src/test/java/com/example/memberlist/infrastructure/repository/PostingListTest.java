@@ -0,0 +1,61 @@
+package com.example.memberlist.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for PostingList.
+ */
+class PostingListTest {
+
+    @Test
+    void testAddKeepsIdsSortedAndUnique() {
+        // Given
+        PostingList list = new PostingList();
+
+        // When
+        list.add(5);
+        list.add(300);
+        list.add(1);
+        list.add(300);
+        list.add(70_000_000_000L);
+        list.add(42);
+
+        // Then
+        assertArrayEquals(new long[] {1, 5, 42, 300, 70_000_000_000L}, list.toArray());
+        assertEquals(5, list.size());
+    }
+
+    @Test
+    void testAscendingIdsAreStoredAsSmallGaps() {
+        // Given
+        PostingList list = new PostingList();
+
+        // When
+        for (long id = 1_000_000; id < 1_001_000; id++) {
+            list.add(id);
+        }
+
+        // Then: one byte per gap after the first ID
+        assertTrue(list.encodedSize() < 1_010, "encoded size: " + list.encodedSize());
+        assertEquals(1_000, list.size());
+    }
+
+    @Test
+    void testRetainDropsRejectedIds() {
+        // Given
+        PostingList list = new PostingList();
+        for (long id = 1; id <= 10; id++) {
+            list.add(id);
+        }
+
+        // When
+        list.retain(id -> id % 2 == 0);
+
+        // Then
+        assertArrayEquals(new long[] {2, 4, 6, 8, 10}, list.toArray());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.memberlist.infrastructure.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for EmailShardRouter.
+ */
+class EmailShardRouterTest {
+
+    private static final int ADDRESSES = 10_000;
+
+    @Test
+    void testAddressesDifferingOnlyInCaseAndSpacesShareAShard() {
+        // Given
+        EmailShardRouter router = new EmailShardRouter(8);
+
+        // When & Then
+        IntStream.range(0, 100).forEach(i -> assertEquals(
+                router.shardOf("member" + i + "@example.com"),
+                router.shardOf("  Member" + i + "@EXAMPLE.com ")));
+    }
+
+    @Test
+    void testAddressesAreSpreadEvenlyOverShards() {
+        // Given
+        EmailShardRouter router = new EmailShardRouter(4);
+        int[] counts = new int[4];
+
+        // When
+        IntStream.range(0, ADDRESSES).forEach(i -> counts[router.shardOf("member" + i + "@example.com")]++);
+
+        // Then
+        for (int count : counts) {
+            assertTrue(Math.abs(count - ADDRESSES / 4) < ADDRESSES / 40, "count: " + count);
+        }
+    }
+
+    @Test
+    void testAddingAShardOnlyMovesAddressesToTheNewShard() {
+        // Given
+        EmailShardRouter four = new EmailShardRouter(4);
+        EmailShardRouter five = new EmailShardRouter(5);
+
+        // When
+        long moved = IntStream.range(0, ADDRESSES)
+                .mapToObj(i -> "member" + i + "@example.com")
+                .filter(email -> four.shardOf(email) != five.shardOf(email))
+                .peek(email -> assertEquals(4, five.shardOf(email)))
+                .count();
+
+        // Then
+        // About one in five addresses belongs to the new shard
+        assertTrue(Math.abs(moved - ADDRESSES / 5) < ADDRESSES / 50, "moved: " + moved);
+    }
+
+    @Test
+    void testAtLeastOneShardIsRequired() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new EmailShardRouter(0));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.memberlist.infrastructure.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberFilter;
+import com.example.memberlist.domain.repository.MemberRepository;
+import com.example.memberlist.infrastructure.repository.EmailBloomFilter;
+import com.example.memberlist.infrastructure.repository.MemberChangeWatermark;
+import com.example.memberlist.infrastructure.repository.MemberKanaIndex;
+import com.example.memberlist.infrastructure.repository.MemberTextIndex;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Starts the sharded member store on two H2 databases configured through {@code member.sharding.*}
+ * and checks where the members end up.
+ */
+@DataJpaTest(properties = {
+    "member.sharding.enabled=true",
+    "member.sharding.shard-urls=" + MemberShardConfigTest.SHARD_0_URL + "," + MemberShardConfigTest.SHARD_1_URL
+})
+@Import({MemberShardConfig.class, EmailBloomFilter.class, MemberKanaIndex.class, MemberTextIndex.class,
+    MemberChangeWatermark.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberShardConfigTest {
+
+    static final String SHARD_0_URL = "jdbc:h2:mem:config-shard-0;DB_CLOSE_DELAY=-1";
+    static final String SHARD_1_URL = "jdbc:h2:mem:config-shard-1;DB_CLOSE_DELAY=-1";
+
+    private static final List<JdbcTemplate> SHARDS = List.of(
+            new JdbcTemplate(new DriverManagerDataSource(SHARD_0_URL, "sa", "")),
+            new JdbcTemplate(new DriverManagerDataSource(SHARD_1_URL, "sa", "")));
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void tearDown() {
+        SHARDS.forEach(shard -> shard.update("DELETE FROM members"));
+    }
+
+    @Test
+    void testMemberRepositoryIsShardedOverConfiguredDatabases() {
+        // Given
+        EmailShardRouter router = new EmailShardRouter(SHARDS.size());
+
+        // When
+        List<Member> members = List.of(
+                memberRepository.insert(new Member("山田太郎", "やまだたろう", "yamada@example.com")),
+                memberRepository.insert(new Member("田中次郎", "たなかじろう", "tanaka@example.com")),
+                memberRepository.insert(new Member("佐藤花子", "さとうはなこ", "sato@example.com")));
+
+        // Then
+        assertInstanceOf(ShardedMemberRepository.class, memberRepository);
+        for (Member member : members) {
+            assertEquals(1, SHARDS.get(router.shardOf(member.getEmail())).queryForObject(
+                    "SELECT COUNT(*) FROM members WHERE id = ?", Integer.class, member.getId()));
+        }
+        assertEquals(3, memberRepository.findAll(MemberFilter.NONE).size());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.memberlist.infrastructure.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ShardIdGenerator.
+ */
+class ShardIdGeneratorTest {
+
+    @Test
+    void testIdsAreUniqueAcrossShardsAndNameTheirShard() {
+        // Given
+        // All sequences start at the same value, as on freshly migrated shards
+        ShardIdGenerator generator = new ShardIdGenerator(List.of(sequence(), sequence(), sequence()));
+        Set<Long> ids = new HashSet<>();
+
+        // When & Then
+        for (int i = 0; i < 200; i++) {
+            for (int shard = 0; shard < 3; shard++) {
+                long id = generator.nextId(shard);
+                assertTrue(ids.add(id), "duplicate: " + id);
+                assertEquals(shard, ShardIdGenerator.shardOf(id));
+            }
+        }
+    }
+
+    @Test
+    void testSequenceIsReadOncePerBlock() {
+        // Given
+        AtomicLong reads = new AtomicLong();
+        LongSupplier sequence = sequence();
+        ShardIdGenerator generator = new ShardIdGenerator(List.of(() -> {
+            reads.incrementAndGet();
+            return sequence.getAsLong();
+        }));
+
+        // When
+        for (int i = 0; i < ShardIdGenerator.BLOCK_SIZE * 2 + 1; i++) {
+            generator.nextId(0);
+        }
+
+        // Then
+        assertEquals(3, reads.get());
+    }
+
+    @Test
+    void testIdsStayExactInJavaScript() {
+        // Given
+        long largestSequenceValue = 1L << 47;
+        ShardIdGenerator generator = new ShardIdGenerator(
+                Collections.nCopies(ShardIdGenerator.MAX_SHARDS, () -> largestSequenceValue - ShardIdGenerator.BLOCK_SIZE));
+
+        // When & Then
+        long id = generator.nextId(ShardIdGenerator.MAX_SHARDS - 1);
+        assertTrue(id < 1L << 53, "id: " + id);
+    }
+
+    @Test
+    void testShardCountIsLimitedByIdBits() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> new ShardIdGenerator(Collections.nCopies(ShardIdGenerator.MAX_SHARDS + 1, sequence())));
+        assertThrows(IllegalArgumentException.class, () -> new ShardIdGenerator(List.of()));
+    }
+
+    /**
+     * Sequence like {@code members_id_seq}: starts at 1 and advances by the block size.
+     */
+    private static LongSupplier sequence() {
+        AtomicLong next = new AtomicLong(1);
+        return () -> next.getAndAdd(ShardIdGenerator.BLOCK_SIZE);
+    }
+}
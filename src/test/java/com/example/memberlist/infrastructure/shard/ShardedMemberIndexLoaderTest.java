@@ -0,0 +1,106 @@
+package com.example.memberlist.infrastructure.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import com.example.memberlist.infrastructure.repository.EmailBloomFilter;
+import com.example.memberlist.infrastructure.repository.MemberKanaIndex;
+import com.example.memberlist.infrastructure.repository.MemberTextIndex;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for ShardedMemberIndexLoader.
+ */
+@ExtendWith(MockitoExtension.class)
+class ShardedMemberIndexLoaderTest {
+
+    @Mock
+    private ShardedMemberRepository shardedMemberRepository;
+
+    @Test
+    void testLoadFillsFilterAndIndexesInOnePassAndEnablesThem() {
+        // Given
+        EmailBloomFilter filter = new EmailBloomFilter(1_000, 0.01);
+        MemberKanaIndex kanaIndex = new MemberKanaIndex();
+        MemberTextIndex textIndex = new MemberTextIndex();
+        AtomicBoolean closed = new AtomicBoolean();
+        LocalDateTime now = LocalDateTime.now();
+        when(shardedMemberRepository.streamAllActiveById()).thenReturn(Stream.of(
+                Member.restore(65L, "山田太郎", "やまだたろう", "yamada@example.com", "部長", null, null, null,
+                        now, now, false, 0L),
+                Member.restore(130L, "田中次郎", "たなかじろう", "tanaka@example.com", null, null, null, null,
+                        now, now, false, 0L))
+                .onClose(() -> closed.set(true)));
+
+        // When
+        new ShardedMemberIndexLoader(shardedMemberRepository, filter, kanaIndex, textIndex).load();
+
+        // Then
+        assertTrue(filter.isReady());
+        assertTrue(filter.mightContain("tanaka@example.com"));
+        assertTrue(kanaIndex.isReady());
+        assertEquals(1, kanaIndex.findByPrefix("やまだ", 10).size());
+        assertTrue(textIndex.isReady());
+        assertEquals(List.of(130L), textIndex.findCandidates("田中"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testRefreshEmailFilterAddsAddressesUpdatedOnShards() {
+        // Given
+        EmailBloomFilter filter = new EmailBloomFilter(1_000, 0.01);
+        when(shardedMemberRepository.streamAllActiveById()).thenReturn(Stream.empty());
+        when(shardedMemberRepository.findActiveEmailsUpdatedSince(any(LocalDateTime.class)))
+                .thenReturn(List.of("suzuki@example.com"));
+        ShardedMemberIndexLoader loader = new ShardedMemberIndexLoader(shardedMemberRepository, filter,
+                new MemberKanaIndex(), new MemberTextIndex());
+        loader.load();
+
+        // When
+        loader.refreshEmailFilter();
+
+        // Then
+        assertTrue(filter.mightContain("suzuki@example.com"));
+    }
+
+    @Test
+    void testRefreshIndexesAppliesChangesOnShardsSinceLoadWatermark() {
+        // Given
+        MemberKanaIndex kanaIndex = new MemberKanaIndex();
+        MemberTextIndex textIndex = new MemberTextIndex();
+        LocalDateTime loadWatermark = LocalDateTime.of(2024, 4, 1, 9, 0);
+        LocalDateTime now = loadWatermark.plusMinutes(1);
+        when(shardedMemberRepository.changeWatermark()).thenReturn(loadWatermark, now);
+        when(shardedMemberRepository.streamAllActiveById()).thenReturn(Stream.of(
+                Member.restore(65L, "山田太郎", "やまだたろう", "yamada@example.com", null, null, null, null,
+                        loadWatermark, loadWatermark, false, 0L)));
+        when(shardedMemberRepository.findAllUpdatedSince(loadWatermark)).thenReturn(List.of(
+                Member.restore(65L, "山田太郎", "やまだたろう", "yamada@example.com", null, null, null, null,
+                        loadWatermark, now, true, 1L),
+                Member.restore(130L, "山口次郎", "やまぐちじろう", "yamaguchi@example.com", null, null, null, null,
+                        now, now, false, 0L)));
+        ShardedMemberIndexLoader loader = new ShardedMemberIndexLoader(shardedMemberRepository,
+                new EmailBloomFilter(1_000, 0.01), kanaIndex, textIndex);
+        loader.load();
+
+        // When
+        loader.refreshIndexes();
+
+        // Then
+        assertEquals(List.of(130L), kanaIndex.findByPrefix("やま", 10).stream().map(MemberSuggestion::id).toList());
+        assertEquals(1, kanaIndex.size());
+        assertTrue(textIndex.findCandidates("山田").isEmpty());
+        assertEquals(List.of(130L), textIndex.findCandidates("山口"));
+    }
+}
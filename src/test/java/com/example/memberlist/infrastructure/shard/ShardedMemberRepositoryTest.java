@@ -0,0 +1,641 @@
+package com.example.memberlist.infrastructure.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.domain.repository.DuplicateMemberEmailException;
+import com.example.memberlist.domain.repository.MemberChanges;
+import com.example.memberlist.domain.repository.MemberCursor;
+import com.example.memberlist.domain.repository.MemberFilter;
+import com.example.memberlist.domain.repository.MemberSearchHit;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import com.example.memberlist.domain.repository.MemberTombstone;
+import com.example.memberlist.infrastructure.repository.EmailBloomFilter;
+import com.example.memberlist.infrastructure.repository.MemberChangeWatermark;
+import com.example.memberlist.infrastructure.repository.MemberKanaIndex;
+import com.example.memberlist.infrastructure.repository.MemberTextIndex;
+import com.example.memberlist.support.H2Shards;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the sharded repository against three in-memory H2 databases standing in for the shards.
+ * Rows are counted on each database directly, so where a member is stored is visible.
+ */
+class ShardedMemberRepositoryTest {
+
+    private static final int SHARDS = 3;
+
+    private static final Comparator<Member> NEWEST_FIRST = Comparator.comparing(Member::getCreatedAt)
+            .thenComparing(Member::getId)
+            .reversed();
+
+    // The tests write from one thread, so the change feed need not wait for other transactions
+    private static final MemberChangeWatermark NO_CONCURRENT_WRITES = new MemberChangeWatermark(Duration.ZERO);
+
+    private final EmailShardRouter router = new EmailShardRouter(SHARDS);
+
+    private List<DataSource> shards;
+    private EmailBloomFilter emailBloomFilter;
+    private MemberKanaIndex memberKanaIndex;
+    private ShardedMemberRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        shards = H2Shards.create(SHARDS);
+        emailBloomFilter = new EmailBloomFilter(1_000, 0.01);
+        memberKanaIndex = new MemberKanaIndex();
+        repository = new ShardedMemberRepository(shards, emailBloomFilter, memberKanaIndex, new MemberTextIndex(),
+                NO_CONCURRENT_WRITES);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        repository.close();
+        H2Shards.drop(shards);
+    }
+
+    @Test
+    void testInsertStoresMemberOnShardOfItsEmailWithIdNamingTheShard() {
+        // When
+        List<Member> members = IntStream.range(0, 30)
+                .mapToObj(i -> repository.insert(member("member" + i + "@example.com")))
+                .toList();
+
+        // Then
+        for (Member member : members) {
+            int shard = router.shardOf(member.getEmail());
+            assertEquals(shard, ShardIdGenerator.shardOf(member.getId()));
+            assertEquals(1, count(shard, "SELECT COUNT(*) FROM members WHERE id = ?", member.getId()));
+            assertEquals(0L, member.getVersion());
+        }
+        assertEquals(30, members.stream().map(Member::getId).distinct().count());
+        IntStream.range(0, SHARDS).forEach(shard -> assertTrue(
+                count(shard, "SELECT COUNT(*) FROM members") > 0, "shard " + shard + " is empty"));
+    }
+
+    @Test
+    void testEmailLookupsAskOnlyTheShardOfTheAddress() {
+        // Given
+        String email = emailOnShard(0, "yamada");
+        repository.insert(member(email));
+        // Planted on a shard the address does not belong to
+        String misplaced = emailOnShard(0, "sato");
+        new JdbcTemplate(shards.get(1)).update("INSERT INTO members (id, name, name_kana, email, active_email)"
+                + " VALUES (1, '佐藤花子', 'さとうはなこ', ?, ?)", misplaced, misplaced);
+
+        // When & Then
+        assertTrue(repository.existsByEmail(email));
+        assertEquals(email, repository.findByEmail(email).orElseThrow().getEmail());
+        assertFalse(repository.existsByEmail(misplaced));
+        assertTrue(repository.findByEmail(misplaced).isEmpty());
+    }
+
+    @Test
+    void testFindByEmailFindsMemberRegisteredByAnotherInstanceBeforeFilterRefresh() {
+        // Given
+        emailBloomFilter.markReady();
+        String email = emailOnShard(0, "yamada");
+        LocalDateTime since = LocalDateTime.now().minusSeconds(1);
+        // Registered through another instance, so this process's filter has not seen it
+        new JdbcTemplate(shards.get(0)).update("INSERT INTO members (id, name, name_kana, email, active_email,"
+                + " created_at, updated_at) VALUES (1, '山田太郎', 'やまだたろう', ?, ?, ?, ?)",
+                email, email, LocalDateTime.now(), LocalDateTime.now());
+
+        // When & Then
+        assertEquals(email, repository.findByEmail(email).orElseThrow().getEmail());
+        assertEquals(List.of(email), repository.findActiveEmailsUpdatedSince(since));
+    }
+
+    @Test
+    void testFindAllUpdatedSinceIncludesDeletedMembersOfEveryShard() {
+        // Given
+        Member kept = repository.insert(member(emailOnShard(0, "yamada")));
+        Member deleted = repository.insert(member(emailOnShard(1, "suzuki")));
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        repository.delete(repository.findById(deleted.getId()).orElseThrow());
+
+        // When
+        List<Member> members = repository.findAllUpdatedSince(since);
+
+        // Then
+        assertEquals(Set.of(kept.getId(), deleted.getId()),
+                members.stream().map(Member::getId).collect(Collectors.toSet()));
+        assertTrue(members.stream().anyMatch(Member::isDeleted));
+    }
+
+    @Test
+    void testDuplicateActiveEmailIsRejected() {
+        // Given
+        repository.insert(member("yamada@example.com"));
+
+        // When & Then
+        assertThrows(DuplicateMemberEmailException.class, () -> repository.insert(member("yamada@example.com")));
+    }
+
+    @Test
+    void testFindAllMergesShardsNewestFirst() {
+        // Given
+        List<Member> inserted = insertMembers(20);
+
+        // When
+        List<Member> members = repository.findAll(MemberFilter.NONE);
+
+        // Then
+        assertEquals(inserted.stream().sorted(NEWEST_FIRST).map(Member::getId).toList(), ids(members));
+    }
+
+    @Test
+    void testFindPageWalksEveryMemberOnceAcrossShards() {
+        // Given
+        insertMembers(23);
+        List<Long> all = ids(repository.findAll(MemberFilter.NONE));
+
+        // When
+        List<Long> paged = new ArrayList<>();
+        MemberCursor cursor = null;
+        do {
+            List<Member> page = repository.findPage(MemberFilter.NONE, cursor, 5);
+            paged.addAll(ids(page));
+            cursor = page.size() < 5 ? null : MemberCursor.of(page.get(page.size() - 1));
+        } while (cursor != null);
+
+        // Then
+        assertEquals(all, paged);
+    }
+
+    @Test
+    void testFindAllAppliesFilterOnEveryShard() {
+        // Given
+        List<Member> inserted = insertMembers(20);
+
+        // When
+        List<Member> members = repository.findAll(new MemberFilter("部長", null, null));
+
+        // Then
+        assertEquals(inserted.stream()
+                .filter(member -> "部長".equals(member.getPosition()))
+                .sorted(NEWEST_FIRST)
+                .map(Member::getId)
+                .toList(), ids(members));
+    }
+
+    @Test
+    void testFindFieldsPageReturnsSelectedFieldsInListOrder() {
+        // Given
+        insertMembers(10);
+        List<Member> expected = repository.findPage(MemberFilter.NONE, null, 4);
+
+        // When
+        List<Map<String, Object>> rows = repository.findFieldsPage(
+                EnumSet.of(MemberField.NAME, MemberField.CREATED_AT), MemberFilter.NONE, null, 4);
+
+        // Then
+        assertEquals(4, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(Set.of("name", "createdAt"), rows.get(i).keySet());
+            assertEquals(expected.get(i).getName(), rows.get(i).get("name"));
+            assertEquals(expected.get(i).getCreatedAt(), rows.get(i).get("createdAt"));
+        }
+    }
+
+    @Test
+    void testStreamAllMergesShardsNewestFirst() {
+        // Given
+        List<Member> inserted = insertMembers(15);
+
+        // When
+        List<Long> streamed;
+        try (Stream<Member> members = repository.streamAll()) {
+            streamed = ids(members.toList());
+        }
+
+        // Then
+        assertEquals(inserted.stream().sorted(NEWEST_FIRST).map(Member::getId).toList(), streamed);
+    }
+
+    @Test
+    void testStreamReadsEachShardInOwnTransactionUntilClosed() throws Exception {
+        // Given
+        insertMembers(6);
+        List<Connection> opened = new ArrayList<>();
+        List<DataSource> recording = shards.stream()
+                .<DataSource>map(shard -> new DelegatingDataSource(shard) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        Connection connection = super.getConnection();
+                        opened.add(connection);
+                        return connection;
+                    }
+                })
+                .toList();
+        ShardedMemberRepository reader = new ShardedMemberRepository(recording, emailBloomFilter,
+                new MemberKanaIndex(), new MemberTextIndex(), NO_CONCURRENT_WRITES);
+        opened.clear();
+
+        // When
+        try (Stream<Member> members = reader.streamAll()) {
+            members.findFirst();
+
+            // Then
+            assertEquals(SHARDS, opened.size());
+            // H2 ignores the read-only hint, so only the open transaction is visible here
+            for (Connection connection : opened) {
+                assertFalse(connection.getAutoCommit());
+            }
+        }
+        for (Connection connection : opened) {
+            assertTrue(connection.isClosed());
+        }
+        reader.close();
+    }
+
+    @Test
+    void testUpdateBasedOnStaleVersionFails() {
+        // Given
+        Member member = repository.insert(member("yamada@example.com"));
+        Member first = member.copy();
+        first.applyChanges(Map.of(MemberField.POSITION, "部長"));
+        repository.update(first);
+        Member stale = member.copy();
+        stale.applyChanges(Map.of(MemberField.POSITION, "課長"));
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class, () -> repository.update(stale));
+        Member stored = repository.findById(member.getId()).orElseThrow();
+        assertEquals("部長", stored.getPosition());
+        assertEquals(1L, stored.getVersion());
+    }
+
+    @Test
+    void testUpdateWritesOnlyChangedColumns() {
+        // Given
+        String email = emailOnShard(1, "yamada");
+        Member member = repository.insert(member(email));
+        // Written around the repository without a new version, so only an UPDATE that skips it keeps it
+        new JdbcTemplate(shards.get(1)).update("UPDATE members SET self_introduction = 'よろしくお願いします'");
+        Member changed = member.copy();
+        changed.applyChanges(Map.of(MemberField.POSITION, "部長"));
+
+        // When
+        repository.update(changed);
+
+        // Then
+        Member stored = repository.findById(member.getId()).orElseThrow();
+        assertEquals("部長", stored.getPosition());
+        assertEquals("よろしくお願いします", stored.getSelfIntroduction());
+        assertEquals(1L, stored.getVersion());
+    }
+
+    @Test
+    void testEmailChangeMovesMemberToShardOfNewAddress() {
+        // Given
+        Member member = repository.insert(member(emailOnShard(0, "yamada")));
+        Member changed = member.copy();
+        String newEmail = emailOnShard(2, "taro");
+        changed.applyChanges(Map.of(MemberField.EMAIL, newEmail));
+
+        // When
+        Member saved = repository.update(changed);
+
+        // Then
+        assertEquals(1L, saved.getVersion());
+        assertEquals(0, count(0, "SELECT COUNT(*) FROM members"));
+        assertEquals(1, count(2, "SELECT COUNT(*) FROM members WHERE id = ?", member.getId()));
+        assertEquals(newEmail, repository.findById(member.getId()).orElseThrow().getEmail());
+        assertEquals(member.getId(), repository.findByEmail(newEmail).orElseThrow().getId());
+        assertEquals(member.getCreatedAt(), repository.findByEmail(newEmail).orElseThrow().getCreatedAt());
+    }
+
+    @Test
+    void testMoveBasedOnStaleVersionFailsAndLeavesMemberInPlace() {
+        // Given
+        Member member = repository.insert(member(emailOnShard(0, "yamada")));
+        Member first = member.copy();
+        first.applyChanges(Map.of(MemberField.POSITION, "部長"));
+        repository.update(first);
+        Member stale = member.copy();
+        stale.applyChanges(Map.of(MemberField.EMAIL, emailOnShard(1, "taro")));
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class, () -> repository.update(stale));
+        assertEquals(1, count(0, "SELECT COUNT(*) FROM members"));
+        assertEquals(0, count(1, "SELECT COUNT(*) FROM members"));
+    }
+
+    @Test
+    void testMoveToAddressInUseOnTargetShardIsRejectedAndRolledBack() {
+        // Given
+        String taken = emailOnShard(1, "taro");
+        repository.insert(member(taken));
+        Member member = repository.insert(member(emailOnShard(0, "yamada")));
+        Member changed = member.copy();
+        changed.applyChanges(Map.of(MemberField.EMAIL, taken));
+
+        // When & Then
+        assertThrows(DuplicateMemberEmailException.class, () -> repository.update(changed));
+        // The delete on the source shard was rolled back with the failed insert
+        assertEquals(1, count(0, "SELECT COUNT(*) FROM members WHERE id = ?", member.getId()));
+    }
+
+    @Test
+    void testSaveAllSpreadsMembersAndRollsBackEveryShardOnFailure() {
+        // Given
+        String taken = emailOnShard(1, "taro");
+        repository.insert(member(taken));
+
+        // When
+        List<Member> saved = repository.saveAll(List.of(
+                member(emailOnShard(0, "a")), member(emailOnShard(1, "b")), member(emailOnShard(2, "c"))));
+
+        // Then
+        assertEquals(3, saved.stream().map(Member::getId).distinct().count());
+        IntStream.range(0, SHARDS).forEach(shard -> assertEquals(
+                shard == 1 ? 2 : 1, count(shard, "SELECT COUNT(*) FROM members")));
+        assertThrows(DuplicateMemberEmailException.class, () -> repository.saveAll(List.of(
+                member(emailOnShard(0, "d")), member(taken))));
+        assertEquals(1, count(0, "SELECT COUNT(*) FROM members"));
+    }
+
+    @Test
+    void testBulkUpdateRollsBackEveryShardOnFailure() {
+        // Given
+        List<Long> ids = IntStream.range(0, SHARDS)
+                .mapToObj(shard -> repository.insert(member(emailOnShard(shard, "member" + shard))).getId())
+                .toList();
+        long before = repository.getDirectoryVersion();
+        // Rejected only by the last shard, after the others have been updated
+        new JdbcTemplate(shards.get(SHARDS - 1)).update(
+                "ALTER TABLE members ADD CONSTRAINT ck_members_position CHECK (position <> '退職')");
+
+        // When
+        assertThrows(DataIntegrityViolationException.class, () -> repository.updateAllByIds(ids, "退職", null));
+
+        // Then
+        IntStream.range(0, SHARDS).forEach(shard -> assertEquals(
+                0, count(shard, "SELECT COUNT(*) FROM members WHERE position IS NOT NULL")));
+        assertEquals(before, repository.getDirectoryVersion());
+    }
+
+    @Test
+    void testBulkOperationsReachMembersThatMoved() {
+        // Given
+        Member moved = repository.insert(member(emailOnShard(0, "yamada")));
+        Member changed = moved.copy();
+        changed.applyChanges(Map.of(MemberField.EMAIL, emailOnShard(1, "taro")));
+        repository.update(changed);
+        Member other = repository.insert(member(emailOnShard(2, "sato")));
+
+        // When
+        int updated = repository.updateAllByIds(List.of(moved.getId(), other.getId()), "部長", null);
+        int deleted = repository.deleteAllByIds(List.of(moved.getId(), other.getId(), 999L));
+
+        // Then
+        assertEquals(2, updated);
+        assertEquals(2, deleted);
+        Member stored = repository.findById(moved.getId()).orElseThrow();
+        assertEquals("部長", stored.getPosition());
+        assertTrue(stored.isDeleted());
+        assertEquals(3L, stored.getVersion());
+        assertTrue(repository.findAll(MemberFilter.NONE).isEmpty());
+    }
+
+    @Test
+    void testDeletedMembersAreArchivedAndReportedAsChanges() {
+        // Given
+        LocalDateTime since = LocalDateTime.now().minusSeconds(1);
+        List<Member> members = insertMembers(6);
+        members.forEach(member -> repository.delete(member.copy()));
+        Member kept = repository.insert(member("kept@example.com"));
+
+        // When
+        long deletedBefore = repository.countDeletedBefore(LocalDateTime.now().plusSeconds(1));
+        int firstBatch = repository.archiveDeleted(LocalDateTime.now().plusSeconds(1), 4);
+        int secondBatch = repository.archiveDeleted(LocalDateTime.now().plusSeconds(1), 4);
+        MemberChanges changes = repository.findChangesSince(since, null, 100);
+
+        // Then
+        assertEquals(6, deletedBefore);
+        assertEquals(4, firstBatch);
+        assertEquals(2, secondBatch);
+        assertEquals(List.of(kept.getId()), ids(changes.members()));
+        assertEquals(members.stream().map(Member::getId).collect(Collectors.toSet()),
+                changes.archived().stream().map(MemberTombstone::id).collect(Collectors.toSet()));
+        List<LocalDateTime> deletedAt = changes.archived().stream().map(MemberTombstone::deletedAt).toList();
+        assertEquals(deletedAt.stream().sorted().toList(), deletedAt);
+    }
+
+    @Test
+    void testArchiveSkipsMembersLockedByJobOfAnotherInstance() throws Exception {
+        // Given
+        List<Member> members = insertMembers(6);
+        members.forEach(member -> repository.delete(member.copy()));
+        long lockedCount = count(0, "SELECT COUNT(*) FROM members");
+        LocalDateTime deletedBefore = LocalDateTime.now().plusSeconds(1);
+
+        int moved;
+        try (Connection otherJob = shards.get(0).getConnection()) {
+            // Another instance is moving the deleted members of the first shard
+            otherJob.setAutoCommit(false);
+            otherJob.createStatement().executeQuery("SELECT id FROM members FOR UPDATE").close();
+
+            // When
+            moved = repository.archiveDeleted(deletedBefore, 10);
+            otherJob.rollback();
+        }
+        int rest = repository.archiveDeleted(deletedBefore, 10);
+
+        // Then
+        assertTrue(lockedCount > 0);
+        assertEquals(List.of(6 - (int) lockedCount, (int) lockedCount), List.of(moved, rest));
+        assertEquals(6, IntStream.range(0, SHARDS)
+                .mapToLong(shard -> count(shard, "SELECT COUNT(*) FROM members_archive"))
+                .sum());
+    }
+
+    @Test
+    void testChangesAreReadInLimitedPartsAcrossShards() throws Exception {
+        // Given
+        LocalDateTime since = LocalDateTime.now().minusSeconds(1);
+        List<Member> members = insertMembers(7);
+        Thread.sleep(1);
+
+        // When
+        List<Long> seen = new ArrayList<>();
+        MemberChanges changes = repository.findChangesSince(since, null, 3);
+        int calls = 1;
+        seen.addAll(ids(changes.members()));
+        while (changes.hasMore()) {
+            changes = repository.findChangesSince(changes.watermark(), changes.afterId(), 3);
+            seen.addAll(ids(changes.members()));
+            calls++;
+        }
+
+        // Then
+        assertEquals(3, calls);
+        assertEquals(ids(members), seen);
+    }
+
+    @Test
+    void testReadingAndTextSearchAnsweredByShardsUntilIndexesAreLoaded() {
+        // Given
+        repository.insert(member("高橋三郎", "たかはしさぶろう", "takahashi@example.com"));
+        repository.insert(member("田中次郎", "たなかじろう", "tanaka@example.com"));
+        repository.insert(member("山田太郎", "やまだたろう", "yamada@example.com"));
+
+        // When
+        List<MemberSuggestion> suggestions = repository.findByKanaPrefix("た", 10);
+        List<MemberSearchHit> hits = repository.search("田中", 10);
+
+        // Then
+        assertEquals(List.of("たかはしさぶろう", "たなかじろう"),
+                suggestions.stream().map(MemberSuggestion::nameKana).toList());
+        assertEquals(List.of("tanaka@example.com"), hits.stream().map(hit -> hit.member().getEmail()).toList());
+    }
+
+    @Test
+    void testFindExistingEmailsAsksTheShardOfEachAddress() {
+        // Given
+        insertMembers(6);
+
+        // When
+        Set<String> existing = repository.findExistingEmails(List.of(
+                "member0@example.com", "member5@example.com", "unknown@example.com"));
+
+        // Then
+        assertEquals(Set.of("member0@example.com", "member5@example.com"), existing);
+    }
+
+    @Test
+    void testUnknownIdIsNotFound() {
+        // Given
+        insertMembers(3);
+
+        // When & Then
+        assertTrue(repository.findById(12_345L).isEmpty());
+        assertNull(repository.findById(Long.MAX_VALUE).orElse(null));
+    }
+
+    @Test
+    void testDirectoryVersionAdvancesWithEveryWrite() {
+        // Given
+        long before = repository.getDirectoryVersion();
+
+        // When
+        Member member = repository.insert(member("yamada@example.com"));
+        repository.delete(member.copy());
+
+        // Then
+        assertNotEquals(before, repository.getDirectoryVersion());
+        assertEquals(before + 2, repository.getDirectoryVersion());
+    }
+
+    @Test
+    void testVersionAndIndexesFollowShardCommitsWhenCallerRollsBack() {
+        // Given
+        memberKanaIndex.beginLoad();
+        memberKanaIndex.completeLoad(List.of());
+        long before = repository.getDirectoryVersion();
+        // The caller's transaction runs on the main database, not on any shard
+        TransactionTemplate caller = new TransactionTemplate(
+                new DataSourceTransactionManager(new DriverManagerDataSource("jdbc:h2:mem:caller", "sa", "")));
+
+        // When
+        Member inserted = caller.execute(status -> {
+            Member member = repository.insert(member("yamada@example.com"));
+            status.setRollbackOnly();
+            return member;
+        });
+
+        // Then
+        assertEquals(inserted.getId(), repository.findById(inserted.getId()).orElseThrow().getId());
+        assertEquals(before + 1, repository.getDirectoryVersion());
+        assertEquals(List.of(inserted.getId()),
+                memberKanaIndex.findByPrefix("やまだ", 10).stream().map(MemberSuggestion::id).toList());
+    }
+
+    @Test
+    void testDirectoryVersionSeesWritesOfOtherInstancesAndIgnoresFailedWrites() {
+        // Given
+        Member member = repository.insert(member("yamada@example.com"));
+        Member stale = member.copy();
+        repository.update(member.copy());
+        long before = repository.getDirectoryVersion();
+
+        // When
+        assertThrows(OptimisticLockingFailureException.class, () -> repository.update(stale));
+        long afterConflict = repository.getDirectoryVersion();
+        // Written through another instance
+        new JdbcTemplate(shards.get(2)).update("UPDATE member_directory SET version = version + 1");
+
+        // Then
+        assertEquals(before, afterConflict);
+        assertEquals(before + 1, repository.getDirectoryVersion());
+    }
+
+    private List<Member> insertMembers(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    Member member = member("member" + i + "@example.com");
+                    member.applyChanges(Map.of(MemberField.POSITION, i % 2 == 0 ? "部長" : "課長"));
+                    return repository.insert(member);
+                })
+                .toList();
+    }
+
+    /**
+     * Returns an address starting with the prefix that belongs to the given shard.
+     */
+    private String emailOnShard(int shard, String prefix) {
+        return IntStream.iterate(0, i -> i + 1)
+                .mapToObj(i -> prefix + i + "@example.com")
+                .filter(email -> router.shardOf(email) == shard)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private long count(int shard, String sql, Object... args) {
+        return new JdbcTemplate(shards.get(shard)).queryForObject(sql, Long.class, args);
+    }
+
+    private static List<Long> ids(List<Member> members) {
+        return members.stream().map(Member::getId).toList();
+    }
+
+    private static Member member(String email) {
+        return member("山田太郎", "やまだたろう", email);
+    }
+
+    private static Member member(String name, String nameKana, String email) {
+        return new Member(name, nameKana, email);
+    }
+}
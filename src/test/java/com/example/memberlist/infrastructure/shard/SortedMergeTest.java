@@ -0,0 +1,75 @@
+package com.example.memberlist.infrastructure.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SortedMerge.
+ */
+class SortedMergeTest {
+
+    @Test
+    void testMergesSortedSequencesIntoOneSortedSequence() {
+        // Given
+        List<Iterator<Integer>> sources = List.of(
+                List.of(9, 5, 1).iterator(),
+                List.<Integer>of().iterator(),
+                List.of(8, 7, 6, 2).iterator(),
+                List.of(4, 3).iterator());
+
+        // When
+        List<Integer> merged = new ArrayList<>();
+        SortedMerge.merge(sources, Comparator.<Integer>reverseOrder()).forEachRemaining(merged::add);
+
+        // Then
+        assertEquals(List.of(9, 8, 7, 6, 5, 4, 3, 2, 1), merged);
+    }
+
+    @Test
+    void testReadsSourcesOnlyAsFarAsConsumed() {
+        // Given
+        AtomicInteger read = new AtomicInteger();
+        Iterator<Integer> counted = new Iterator<>() {
+            private final Iterator<Integer> values = List.of(1, 2, 3, 4, 5).iterator();
+
+            @Override
+            public boolean hasNext() {
+                return values.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                read.incrementAndGet();
+                return values.next();
+            }
+        };
+        Iterator<Integer> merged = SortedMerge.merge(List.of(counted, List.of(10).iterator()), Comparator.naturalOrder());
+
+        // When
+        merged.next();
+        merged.next();
+
+        // Then
+        // The two consumed elements and the next head
+        assertEquals(3, read.get());
+    }
+
+    @Test
+    void testEmptyMergeHasNoElements() {
+        // When
+        Iterator<String> merged = SortedMerge.merge(List.of(), Comparator.naturalOrder());
+
+        // Then
+        assertFalse(merged.hasNext());
+        assertThrows(NoSuchElementException.class, merged::next);
+    }
+}
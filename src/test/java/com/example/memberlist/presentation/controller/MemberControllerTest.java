@@ -0,0 +1,664 @@
+package com.example.memberlist.presentation.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.memberlist.application.dto.MemberImportError;
+import com.example.memberlist.application.dto.MemberImportProgress;
+import com.example.memberlist.application.dto.MemberImportResult;
+import com.example.memberlist.application.dto.MemberImportRow;
+import com.example.memberlist.application.exception.MemberConflictException;
+import com.example.memberlist.application.exception.MemberNotFoundException;
+import com.example.memberlist.application.service.MemberImportService;
+import com.example.memberlist.application.service.MemberService;
+import com.example.memberlist.domain.model.Member;
+import com.example.memberlist.domain.model.MemberField;
+import com.example.memberlist.domain.repository.MemberChanges;
+import com.example.memberlist.domain.repository.MemberCursor;
+import com.example.memberlist.domain.repository.MemberFilter;
+import com.example.memberlist.domain.repository.MemberPage;
+import com.example.memberlist.domain.repository.MemberSearchHit;
+import com.example.memberlist.domain.repository.MemberSuggestion;
+import com.example.memberlist.domain.repository.MemberTombstone;
+import com.example.memberlist.presentation.export.MemberExportWriter;
+import com.example.memberlist.presentation.importer.MemberCsvReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Web layer tests for MemberController.
+ */
+@WebMvcTest(MemberController.class)
+@Import({MemberExportWriter.class, MemberCsvReader.class})
+class MemberControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MemberService memberService;
+
+    @MockBean
+    private MemberImportService memberImportService;
+
+    @BeforeEach
+    void setUp() {
+        // The service reads the version and then the list in one transaction
+        when(memberService.readDirectory(any(), any())).thenAnswer(invocation -> {
+            LongPredicate notModified = invocation.getArgument(0);
+            Supplier<?> read = invocation.getArgument(1);
+            return notModified.test(memberService.getDirectoryVersion())
+                    ? Optional.empty() : Optional.of(read.get());
+        });
+    }
+
+    @Test
+    void testListMembersReturnsAllMembersWithoutPagingParameters() throws Exception {
+        // Given
+        Member member1 = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        Member member2 = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        when(memberService.listMembers(MemberFilter.NONE)).thenReturn(List.of(member1, member2));
+
+        // When & Then
+        mockMvc.perform(get("/api/members"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.message").value("メンバー一覧の取得が完了しました"))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].nameKana").value("やまだたろう"))
+                .andExpect(jsonPath("$.errors").doesNotExist());
+        verify(memberService, never()).listMembers(any(), any(), anyInt());
+    }
+
+    @Test
+    void testListMembersReturnsFirstPageWithNextCursor() throws Exception {
+        // Given
+        MemberCursor next = new MemberCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 10L);
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        when(memberService.listMembers(eq(MemberFilter.NONE), isNull(), eq(1))).thenReturn(new MemberPage<>(List.of(member), next));
+
+        // When & Then
+        mockMvc.perform(get("/api/members").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.members.length()").value(1))
+                .andExpect(jsonPath("$.data.nextCursor").value(next.encode()));
+    }
+
+    @Test
+    void testListMembersDecodesCursorAndUsesDefaultLimit() throws Exception {
+        // Given
+        MemberCursor cursor = new MemberCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 10L);
+        when(memberService.listMembers(MemberFilter.NONE, cursor, MemberController.DEFAULT_PAGE_SIZE))
+                .thenReturn(new MemberPage<>(List.of(), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/members").param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.members.length()").value(0))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testListMembersPassesFilterToService() throws Exception {
+        // Given
+        MemberFilter filter = new MemberFilter("エンジニア", "東京都", LocalDateTime.of(2025, 1, 1, 0, 0));
+        when(memberService.listMembers(filter)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/members")
+                        .param("position", "エンジニア")
+                        .param("location", "東京都")
+                        .param("createdAfter", "2025-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    void testListMembersWithFieldsReturnsProjectedRows() throws Exception {
+        // Given
+        when(memberService.listMembers(EnumSet.of(MemberField.ID, MemberField.NAME_KANA), MemberFilter.NONE))
+                .thenReturn(List.of(Map.of("id", 1L, "nameKana", "やまだたろう")));
+
+        // When & Then
+        mockMvc.perform(get("/api/members").param("fields", "nameKana,id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(1))
+                .andExpect(jsonPath("$.data[0].nameKana").value("やまだたろう"))
+                .andExpect(jsonPath("$.data[0].email").doesNotExist());
+    }
+
+    @Test
+    void testListMembersWithFieldsAndLimitReturnsProjectedPage() throws Exception {
+        // Given
+        MemberCursor next = new MemberCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 10L);
+        when(memberService.listMembers(EnumSet.of(MemberField.NAME), MemberFilter.NONE, null, 1))
+                .thenReturn(new MemberPage<>(List.of(Map.of("name", "山田太郎")), next));
+
+        // When & Then
+        mockMvc.perform(get("/api/members").param("fields", "name").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.members[0].name").value("山田太郎"))
+                .andExpect(jsonPath("$.data.nextCursor").value(next.encode()));
+    }
+
+    @Test
+    void testListMembersRejectsUnknownField() throws Exception {
+        mockMvc.perform(get("/api/members").param("fields", "name,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value("指定できない項目です: password"));
+    }
+
+    @Test
+    void testListMembersRejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/members").param("cursor", "broken!"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("error"))
+                .andExpect(jsonPath("$.errors[0]").value("カーソルの形式が不正です"));
+    }
+
+    @Test
+    void testListMembersRejectsNonNumericLimit() throws Exception {
+        mockMvc.perform(get("/api/members").param("limit", "ten"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
+    @Test
+    void testListMembersReturnsServerErrorOnUnexpectedException() throws Exception {
+        // Given
+        when(memberService.listMembers(MemberFilter.NONE)).thenThrow(new IllegalStateException("boom"));
+
+        // When & Then
+        mockMvc.perform(get("/api/members"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.status").value("error"))
+                .andExpect(jsonPath("$.message").value("サーバーエラーが発生しました"));
+    }
+
+    @Test
+    void testListMembersTagsResponseWithDirectoryVersion() throws Exception {
+        // Given
+        when(memberService.getDirectoryVersion()).thenReturn(7L);
+        when(memberService.listMembers(MemberFilter.NONE)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/members"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7\""));
+    }
+
+    @Test
+    void testListMembersReturnsNotModifiedWithoutReadingMembersWhenVersionMatches() throws Exception {
+        // Given
+        when(memberService.getDirectoryVersion()).thenReturn(7L);
+
+        // When & Then
+        mockMvc.perform(get("/api/members").param("limit", "20").header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7\""))
+                .andExpect(content().string(""));
+        verify(memberService, never()).listMembers(any(MemberFilter.class), any(), anyInt());
+    }
+
+    @Test
+    void testListMembersReturnsMembersWhenVersionChanged() throws Exception {
+        // Given
+        when(memberService.getDirectoryVersion()).thenReturn(8L);
+        when(memberService.listMembers(MemberFilter.NONE)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/members").header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"8\""));
+    }
+
+    @Test
+    void testListChangesReturnsTombstonesForDeletedAndArchivedMembers() throws Exception {
+        // Given
+        Member updated = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        ReflectionTestUtils.setField(updated, "id", 1L);
+        Member deleted = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        ReflectionTestUtils.setField(deleted, "id", 2L);
+        ReflectionTestUtils.setField(deleted, "updatedAt", LocalDateTime.of(2026, 4, 1, 10, 0));
+        deleted.delete();
+        LocalDateTime since = LocalDateTime.of(2026, 4, 1, 9, 0);
+        when(memberService.getChanges(since, null, MemberService.MAX_CHANGES)).thenReturn(
+                new MemberChanges(List.of(updated, deleted),
+                        List.of(new MemberTombstone(3L, LocalDateTime.of(2026, 3, 1, 8, 0))),
+                        LocalDateTime.of(2026, 4, 1, 10, 5)));
+
+        // When & Then
+        mockMvc.perform(get("/api/members/changes").param("since", "2026-04-01T09:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("変更の取得が完了しました"))
+                .andExpect(jsonPath("$.data.members.length()").value(1))
+                .andExpect(jsonPath("$.data.members[0].email").value("yamada@example.com"))
+                .andExpect(jsonPath("$.data.deleted.length()").value(2))
+                .andExpect(jsonPath("$.data.deleted[0].id").value(2))
+                .andExpect(jsonPath("$.data.deleted[0].deletedAt").value("2026-04-01T10:00:00"))
+                .andExpect(jsonPath("$.data.deleted[0].email").doesNotExist())
+                .andExpect(jsonPath("$.data.deleted[1].id").value(3))
+                .andExpect(jsonPath("$.data.deleted[1].deletedAt").value("2026-03-01T08:00:00"))
+                .andExpect(jsonPath("$.data.watermark").value("2026-04-01T10:05:00"))
+                .andExpect(jsonPath("$.data.afterId").doesNotExist())
+                .andExpect(jsonPath("$.data.hasMore").value(false));
+    }
+
+    @Test
+    void testListChangesPassesContinuationAndReturnsNextOne() throws Exception {
+        // Given
+        Member updated = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        ReflectionTestUtils.setField(updated, "id", 8L);
+        LocalDateTime since = LocalDateTime.of(2026, 4, 1, 9, 0);
+        when(memberService.getChanges(since, 7L, 1)).thenReturn(
+                new MemberChanges(List.of(updated), List.of(), LocalDateTime.of(2026, 4, 1, 9, 30), 8L));
+
+        // When & Then
+        mockMvc.perform(get("/api/members/changes")
+                        .param("since", "2026-04-01T09:00:00")
+                        .param("afterId", "7")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.members[0].id").value(8))
+                .andExpect(jsonPath("$.data.watermark").value("2026-04-01T09:30:00"))
+                .andExpect(jsonPath("$.data.afterId").value(8))
+                .andExpect(jsonPath("$.data.hasMore").value(true));
+    }
+
+    @Test
+    void testListChangesRequiresSince() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/members/changes"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value("リクエストパラメータが不正です"));
+    }
+
+    @Test
+    void testGetMemberReturnsMemberWithETag() throws Exception {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        ReflectionTestUtils.setField(member, "id", 1L);
+        ReflectionTestUtils.setField(member, "version", 3L);
+        when(memberService.getMember(1L)).thenReturn(member);
+
+        // When & Then
+        mockMvc.perform(get("/api/members/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1@3\""))
+                .andExpect(jsonPath("$.message").value("メンバーの取得が完了しました"))
+                .andExpect(jsonPath("$.data.email").value("yamada@example.com"));
+    }
+
+    @Test
+    void testGetMemberReturnsNotModifiedWhenMemberUnchanged() throws Exception {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        ReflectionTestUtils.setField(member, "id", 1L);
+        ReflectionTestUtils.setField(member, "version", 3L);
+        when(memberService.getMember(1L)).thenReturn(member);
+
+        // When & Then
+        mockMvc.perform(get("/api/members/1").header(HttpHeaders.IF_NONE_MATCH, "\"1@3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testGetMemberReturnsNotFoundForUnknownMember() throws Exception {
+        // Given
+        when(memberService.getMember(99L)).thenThrow(new MemberNotFoundException(99L));
+
+        // When & Then
+        mockMvc.perform(get("/api/members/99"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value("error"))
+                .andExpect(jsonPath("$.message").value("メンバーが見つかりません: 99"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExportMembersStreamsNdjson() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<Member> consumer = invocation.getArgument(0);
+            consumer.accept(new Member("山田太郎", "やまだたろう", "yamada@example.com"));
+            consumer.accept(new Member("鈴木花子", "すずきはなこ", "suzuki@example.com"));
+            return null;
+        }).when(memberService).exportMembers(any(Consumer.class));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/members/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"members.ndjson\""));
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+    }
+
+    @Test
+    void testExportMembersStreamsCsv() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/api/members/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(content().string("id,name,nameKana,email,position,location,profileImageUrl,"
+                        + "selfIntroduction,createdAt,updatedAt\n"));
+    }
+
+    @Test
+    void testSuggestMembersReturnsMatches() throws Exception {
+        // Given
+        when(memberService.suggestMembers("やま", 10))
+                .thenReturn(List.of(new MemberSuggestion(1L, "山田太郎", "やまだたろう")));
+
+        // When & Then
+        mockMvc.perform(get("/api/members/suggest").param("kana", "やま"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("候補の取得が完了しました"))
+                .andExpect(jsonPath("$.data[0].id").value(1))
+                .andExpect(jsonPath("$.data[0].nameKana").value("やまだたろう"))
+                .andExpect(jsonPath("$.data[0].email").doesNotExist());
+    }
+
+    @Test
+    void testSearchMembersReturnsRankedResults() throws Exception {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        when(memberService.searchMembers("大阪", 20)).thenReturn(List.of(new MemberSearchHit(member, 3)));
+
+        // When & Then
+        mockMvc.perform(get("/api/members/search").param("q", "大阪"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("検索が完了しました"))
+                .andExpect(jsonPath("$.data[0].score").value(3))
+                .andExpect(jsonPath("$.data[0].member.email").value("yamada@example.com"));
+    }
+
+    @Test
+    void testCheckEmailAvailabilityReturnsResult() throws Exception {
+        // Given
+        when(memberService.isEmailAvailable("yamada@example.com")).thenReturn(true);
+
+        // When & Then
+        mockMvc.perform(get("/api/members/email-availability").param("email", "yamada@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.email").value("yamada@example.com"))
+                .andExpect(jsonPath("$.data.available").value(true));
+    }
+
+    @Test
+    void testExportMembersRejectsUnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/members/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value("サポートされていない出力形式です: xml"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportMembersParsesCsvAndReturnsSummary() throws Exception {
+        // Given
+        when(memberImportService.importMembers(any(Iterator.class), any(Consumer.class))).thenAnswer(invocation -> {
+            Iterator<MemberImportRow> rows = invocation.getArgument(0);
+            List<MemberImportRow> received = new ArrayList<>();
+            rows.forEachRemaining(received::add);
+            assertEquals("yamada@example.com", received.get(0).email());
+            return new MemberImportResult(received.size(), 1, 1,
+                    List.of(new MemberImportError(3, "invalid", "メールアドレスの形式が正しくありません")));
+        });
+        String csv = """
+                name,nameKana,email
+                山田太郎,やまだたろう,yamada@example.com
+                鈴木花子,すずきはなこ,invalid
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/api/members/import")
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("インポートが完了しました"))
+                .andExpect(jsonPath("$.data.totalRows").value(2))
+                .andExpect(jsonPath("$.data.importedRows").value(1))
+                .andExpect(jsonPath("$.data.failedRows").value(1))
+                .andExpect(jsonPath("$.data.errors[0].lineNumber").value(3));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportMembersStreamsProgressWhenNdjsonIsAccepted() throws Exception {
+        // Given
+        when(memberImportService.importMembers(any(Iterator.class), any(Consumer.class))).thenAnswer(invocation -> {
+            Consumer<MemberImportProgress> listener = invocation.getArgument(1);
+            listener.accept(new MemberImportProgress(500, 499, 1));
+            listener.accept(new MemberImportProgress(700, 698, 2));
+            return new MemberImportResult(700, 698, 2, List.of());
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/members/import")
+                        .contentType("text/csv")
+                        .accept("application/x-ndjson")
+                        .content("name,nameKana,email\n".getBytes(StandardCharsets.UTF_8)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"));
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("{\"processedRows\":500,\"importedRows\":499,\"failedRows\":1}", lines[0]);
+        assertTrue(lines[2].contains("\"message\":\"インポートが完了しました\""), lines[2]);
+        assertTrue(lines[2].contains("\"failedRows\":2"), lines[2]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportMembersReportsInvalidCsvInLastProgressLine() throws Exception {
+        // Given
+        when(memberImportService.importMembers(any(Iterator.class), any(Consumer.class))).thenAnswer(invocation -> {
+            Iterator<MemberImportRow> rows = invocation.getArgument(0);
+            rows.hasNext();
+            return new MemberImportResult(0, 0, 0, List.of());
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/members/import")
+                        .contentType("text/csv")
+                        .accept("application/x-ndjson")
+                        .content("name,email\n山田太郎,yamada@example.com\n".getBytes(StandardCharsets.UTF_8)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        assertEquals("{\"status\":\"error\",\"message\":\"バリデーションエラーです\","
+                + "\"errors\":[\"CSVヘッダーに必須列がありません: nameKana\"]}\n",
+                result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportMembersRejectsCsvWithoutRequiredColumn() throws Exception {
+        // Given
+        when(memberImportService.importMembers(any(Iterator.class), any(Consumer.class))).thenAnswer(invocation -> {
+            Iterator<MemberImportRow> rows = invocation.getArgument(0);
+            rows.hasNext();
+            return new MemberImportResult(0, 0, 0, List.of());
+        });
+
+        // When & Then
+        mockMvc.perform(post("/api/members/import")
+                        .contentType("text/csv")
+                        .content("name,email\n山田太郎,yamada@example.com\n".getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value("CSVヘッダーに必須列がありません: nameKana"));
+    }
+
+    @Test
+    void testDeleteMembersReturnsRequestedAndDeletedCounts() throws Exception {
+        // Given
+        when(memberService.deleteMembers(List.of(1L, 2L, 3L))).thenReturn(2);
+
+        // When & Then
+        mockMvc.perform(post("/api/members/bulk-delete")
+                        .contentType("application/json")
+                        .content("{\"ids\":[1,2,3]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("メンバーの一括削除が完了しました"))
+                .andExpect(jsonPath("$.data.requested").value(3))
+                .andExpect(jsonPath("$.data.affected").value(2));
+    }
+
+    @Test
+    void testUpdateMembersPassesOnlyGivenFields() throws Exception {
+        // Given
+        when(memberService.updateMembers(List.of(1L, 2L), null, "大阪府")).thenReturn(2);
+
+        // When & Then
+        mockMvc.perform(post("/api/members/bulk-update")
+                        .contentType("application/json")
+                        .content("{\"ids\":[1,2],\"location\":\"大阪府\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("メンバーの一括更新が完了しました"))
+                .andExpect(jsonPath("$.data.requested").value(2))
+                .andExpect(jsonPath("$.data.affected").value(2));
+    }
+
+    @Test
+    void testUpdateMembersRejectsMalformedBody() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/members/bulk-update")
+                        .contentType("application/json")
+                        .content("{\"ids\":[\"a\"]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value("リクエスト本文が不正です"));
+        verify(memberService, never()).updateMembers(any(), any(), any());
+    }
+
+    @Test
+    void testUpdateMemberPassesOnlyGivenFieldsAndReturnsNewETag() throws Exception {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        ReflectionTestUtils.setField(member, "id", 1L);
+        ReflectionTestUtils.setField(member, "version", 4L);
+        Map<MemberField, String> changes = new EnumMap<>(MemberField.class);
+        changes.put(MemberField.POSITION, "マネージャー");
+        changes.put(MemberField.SELF_INTRODUCTION, null);
+        when(memberService.updateMember(1L, changes, null)).thenReturn(member);
+
+        // When & Then
+        mockMvc.perform(patch("/api/members/1")
+                        .contentType("application/json")
+                        .content("{\"position\":\"マネージャー\",\"selfIntroduction\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1@4\""))
+                .andExpect(jsonPath("$.message").value("メンバーの更新が完了しました"))
+                .andExpect(jsonPath("$.data.id").value(1));
+    }
+
+    @Test
+    void testUpdateMemberRejectsUnknownField() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/members/1")
+                        .contentType("application/json")
+                        .content("{\"nickname\":\"たろう\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value("指定できない項目です: nickname"));
+        verify(memberService, never()).updateMember(any(), any(), any());
+    }
+
+    @Test
+    void testUpdateMemberPassesVersionFromIfMatch() throws Exception {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        ReflectionTestUtils.setField(member, "id", 1L);
+        ReflectionTestUtils.setField(member, "version", 4L);
+        when(memberService.updateMember(1L, Map.of(MemberField.POSITION, "マネージャー"), 3L)).thenReturn(member);
+
+        // When & Then
+        mockMvc.perform(patch("/api/members/1")
+                        .header(HttpHeaders.IF_MATCH, "\"1@3\"")
+                        .contentType("application/json")
+                        .content("{\"position\":\"マネージャー\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1@4\""));
+    }
+
+    @Test
+    void testUpdateMemberReturnsConflictWhenMemberChangedMeanwhile() throws Exception {
+        // Given
+        when(memberService.updateMember(1L, Map.of(MemberField.POSITION, "マネージャー"), 3L))
+                .thenThrow(new MemberConflictException(1L));
+
+        // When & Then
+        mockMvc.perform(patch("/api/members/1")
+                        .header(HttpHeaders.IF_MATCH, "\"1@3\"")
+                        .contentType("application/json")
+                        .content("{\"position\":\"マネージャー\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value("error"))
+                .andExpect(jsonPath("$.message")
+                        .value("メンバーが他の操作で更新されています。最新の内容を取得してやり直してください: 1"));
+    }
+
+    @Test
+    void testUpdateMemberRejectsIfMatchOfAnotherMember() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/members/1")
+                        .header(HttpHeaders.IF_MATCH, "\"2@3\"")
+                        .contentType("application/json")
+                        .content("{\"position\":\"マネージャー\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value("If-Matchヘッダーにはこのメンバーの取得時のETagを指定してください"));
+        verify(memberService, never()).updateMember(any(), any(), any());
+    }
+}
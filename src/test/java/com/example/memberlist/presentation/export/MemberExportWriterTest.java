@@ -0,0 +1,92 @@
+package com.example.memberlist.presentation.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.memberlist.domain.model.Member;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Unit tests for MemberExportWriter.
+ */
+class MemberExportWriterTest {
+
+    private ObjectMapper objectMapper;
+    private MemberExportWriter memberExportWriter;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        memberExportWriter = new MemberExportWriter(objectMapper);
+    }
+
+    @Test
+    void testWritesOneJsonObjectPerLine() throws Exception {
+        // Given
+        Member member1 = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        Member member2 = new Member("鈴木花子", "すずきはなこ", "suzuki@example.com");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (MemberExportWriter.Session session = memberExportWriter.open(MemberExportFormat.NDJSON, out)) {
+            session.write(member1);
+            session.write(member2);
+        }
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("山田太郎", first.get("name").asText());
+        assertEquals("suzuki@example.com", objectMapper.readTree(lines[1]).get("email").asText());
+    }
+
+    @Test
+    void testWritesCsvWithHeaderRow() throws Exception {
+        // Given
+        Member member = new Member("山田太郎", "やまだたろう", "yamada@example.com");
+        member.updateInfo("山田太郎", "やまだたろう", "yamada@example.com", "エンジニア", "東京都, 大阪府",
+                null, "よろしく\nお願いします");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (MemberExportWriter.Session session = memberExportWriter.open(MemberExportFormat.CSV, out)) {
+            session.write(member);
+        }
+
+        // Then
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("id,name,nameKana,email,position,location,profileImageUrl,"
+                + "selfIntroduction,createdAt,updatedAt\n"), csv);
+        assertTrue(csv.contains(",山田太郎,やまだたろう,yamada@example.com,エンジニア,\"東京都, 大阪府\",,"
+                + "\"よろしく\nお願いします\","), csv);
+    }
+
+    @Test
+    void testDoesNotCloseUnderlyingStream() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                throw new AssertionError("underlying stream must stay open");
+            }
+        };
+
+        // When & Then
+        memberExportWriter.open(MemberExportFormat.NDJSON, out).close();
+    }
+
+    @Test
+    void testRejectsUnsupportedFormat() {
+        assertEquals(MemberExportFormat.CSV, MemberExportFormat.fromParameter("CSV"));
+        assertThrows(IllegalArgumentException.class, () -> MemberExportFormat.fromParameter("xml"));
+    }
+}
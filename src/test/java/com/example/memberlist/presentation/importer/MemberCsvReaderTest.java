@@ -0,0 +1,93 @@
+package com.example.memberlist.presentation.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.memberlist.application.dto.MemberImportRow;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MemberCsvReader.
+ */
+class MemberCsvReaderTest {
+
+    private final MemberCsvReader reader = new MemberCsvReader();
+
+    @Test
+    void testReadMapsColumnsByHeaderName() throws IOException {
+        // Given
+        String csv = """
+                email,nameKana,name,position,location,unknown
+                yamada@example.com,やまだたろう,山田太郎,エンジニア,,x
+                suzuki@example.com,すずきはなこ,鈴木花子,,大阪,y
+                """;
+
+        // When
+        List<MemberImportRow> rows = readAll(csv);
+
+        // Then
+        assertEquals(2, rows.size());
+        MemberImportRow first = rows.get(0);
+        assertEquals("山田太郎", first.name());
+        assertEquals("やまだたろう", first.nameKana());
+        assertEquals("yamada@example.com", first.email());
+        assertEquals("エンジニア", first.position());
+        assertNull(first.location());
+        assertNull(first.profileImageUrl());
+        assertEquals("大阪", rows.get(1).location());
+    }
+
+    @Test
+    void testReadReportsLineNumbersCountingHeader() throws IOException {
+        // Given
+        String csv = """
+                name,nameKana,email
+                山田太郎,やまだたろう,yamada@example.com
+                鈴木花子,すずきはなこ,suzuki@example.com
+                """;
+
+        // When
+        List<MemberImportRow> rows = readAll(csv);
+
+        // Then
+        assertEquals(List.of(2L, 3L), rows.stream().map(MemberImportRow::lineNumber).toList());
+    }
+
+    @Test
+    void testReadRejectsHeaderWithoutRequiredColumn() throws IOException {
+        // Given
+        Iterator<MemberImportRow> rows = reader.read(stream("name,email\n山田太郎,yamada@example.com\n"));
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, rows::hasNext);
+        assertEquals("CSVヘッダーに必須列がありません: nameKana", exception.getMessage());
+    }
+
+    @Test
+    void testReadReturnsNothingForHeaderOnly() throws IOException {
+        // When
+        Iterator<MemberImportRow> rows = reader.read(stream("name,nameKana,email\n"));
+
+        // Then
+        assertFalse(rows.hasNext());
+    }
+
+    private List<MemberImportRow> readAll(String csv) throws IOException {
+        List<MemberImportRow> rows = new ArrayList<>();
+        reader.read(stream(csv)).forEachRemaining(rows::add);
+        return rows;
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
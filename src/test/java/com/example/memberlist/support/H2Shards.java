@@ -0,0 +1,45 @@
+package com.example.memberlist.support;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * In-memory H2 databases standing in for the shards of a sharded member store.
+ * Every call creates new, empty databases migrated with the application's Flyway scripts;
+ * {@link #drop(List)} removes them again.
+ */
+public final class H2Shards {
+
+    private H2Shards() {
+    }
+
+    /**
+     * Creates migrated, empty shards.
+     *
+     * @param count number of shards
+     * @return one data source per shard
+     */
+    public static List<DataSource> create(int count) {
+        String prefix = "shard-" + UUID.randomUUID();
+        List<DataSource> shards = IntStream.range(0, count)
+                .<DataSource>mapToObj(i -> new DriverManagerDataSource(
+                        "jdbc:h2:mem:" + prefix + "-" + i + ";DB_CLOSE_DELAY=-1", "sa", ""))
+                .toList();
+        shards.forEach(shard -> Flyway.configure().dataSource(shard).load().migrate());
+        return shards;
+    }
+
+    /**
+     * Drops the shards and frees their memory.
+     *
+     * @param shards data sources returned by {@link #create(int)}
+     */
+    public static void drop(List<DataSource> shards) {
+        shards.forEach(shard -> new JdbcTemplate(shard).execute("SHUTDOWN"));
+    }
+}
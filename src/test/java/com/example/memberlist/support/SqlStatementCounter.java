@@ -0,0 +1,212 @@
+package com.example.memberlist.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Counts and records the SQL statements sent to the database, by type.
+ * Import this configuration into a Spring test to wrap the data source with datasource-proxy,
+ * then call {@link #reset()} before and {@link #current()} after the operation under test.
+ * Counts are kept per thread. A JDBC batch counts as one statement, since it is one round trip.
+ * Sequence fetches are counted on their own: how often they happen depends on how much of the
+ * pooled ID block earlier tests used, not on the operation under test.
+ */
+@TestConfiguration
+public class SqlStatementCounter {
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[6]);
+    private static final ThreadLocal<List<String>> QUERIES = ThreadLocal.withInitial(ArrayList::new);
+    private static final ThreadLocal<List<Long>> ELAPSED_MILLIS = ThreadLocal.withInitial(ArrayList::new);
+
+    // Table of a statement: the first one after FROM, INTO or UPDATE
+    private static final Pattern STATEMENT_TABLE = Pattern.compile("\\b(?:from|into|update)\\s+(\\w+)");
+
+    private static final int SELECT = 0;
+    private static final int INSERT = 1;
+    private static final int UPDATE = 2;
+    private static final int DELETE = 3;
+    private static final int SEQUENCE = 4;
+    private static final int OTHER = 5;
+
+    /**
+     * Wraps the application data source so that every executed statement is counted.
+     *
+     * @return post processor wrapping {@link DataSource} beans
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new CountingListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Starts counting from zero on the current thread.
+     */
+    public static void reset() {
+        COUNTS.remove();
+        QUERIES.remove();
+        ELAPSED_MILLIS.remove();
+    }
+
+    /**
+     * Returns the statements executed on the current thread since the last {@link #reset()}.
+     *
+     * @return statement counts by type
+     */
+    public static SqlStatements current() {
+        long[] counts = COUNTS.get();
+        return new SqlStatements(counts[SELECT], counts[INSERT], counts[UPDATE], counts[DELETE], counts[SEQUENCE],
+                counts[OTHER]);
+    }
+
+    /**
+     * Returns the SQL of the statements executed on the current thread since the last {@link #reset()},
+     * with {@code ?} placeholders for parameters, for example to run {@code EXPLAIN} on them.
+     *
+     * @return statements in execution order
+     */
+    public static List<String> queries() {
+        return List.copyOf(QUERIES.get());
+    }
+
+    /**
+     * Returns the statements executed on the current thread since the last {@link #reset()}, each
+     * reduced to its verb and table, such as {@code "update members"} or {@code "select members"},
+     * for asserting the whole sequence of round trips. Sequence fetches are left out.
+     *
+     * @return statement summaries in execution order
+     */
+    public static List<String> statements() {
+        return QUERIES.get().stream()
+                .filter(query -> typeOf(query) != SEQUENCE)
+                .map(SqlStatementCounter::summarize)
+                .toList();
+    }
+
+    /**
+     * Returns the time the database took to execute the statements on the current thread since the
+     * last {@link #reset()} whose SQL starts with the given text, waiting for locks included.
+     *
+     * @param sqlPrefix start of the SQL, compared ignoring case
+     * @return total execution time in milliseconds
+     */
+    public static long elapsedMillis(String sqlPrefix) {
+        List<String> queries = QUERIES.get();
+        List<Long> elapsed = ELAPSED_MILLIS.get();
+        long total = 0;
+        for (int i = 0; i < queries.size(); i++) {
+            if (queries.get(i).stripLeading().regionMatches(true, 0, sqlPrefix, 0, sqlPrefix.length())) {
+                total += elapsed.get(i);
+            }
+        }
+        return total;
+    }
+
+    private static String summarize(String sql) {
+        String normalized = sql.strip().toLowerCase(Locale.ROOT);
+        Matcher matcher = STATEMENT_TABLE.matcher(normalized);
+        if (!matcher.find()) {
+            return normalized;
+        }
+        return normalized.split("\\s+", 2)[0] + " " + matcher.group(1);
+    }
+
+    private static int typeOf(String sql) {
+        String normalized = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (normalized.contains("next value for") || normalized.contains("nextval(")) {
+            return SEQUENCE;
+        }
+        if (normalized.startsWith("select") || normalized.startsWith("with")) {
+            return SELECT;
+        }
+        if (normalized.startsWith("insert")) {
+            return INSERT;
+        }
+        if (normalized.startsWith("update")) {
+            return UPDATE;
+        }
+        if (normalized.startsWith("delete")) {
+            return DELETE;
+        }
+        return OTHER;
+    }
+
+    private static class CountingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            long[] counts = COUNTS.get();
+            // A batch is timed as a whole; its time goes to the first statement
+            long elapsed = execInfo.getElapsedTime();
+            for (QueryInfo queryInfo : queryInfoList) {
+                counts[typeOf(queryInfo.getQuery())]++;
+                QUERIES.get().add(queryInfo.getQuery());
+                ELAPSED_MILLIS.get().add(elapsed);
+                elapsed = 0;
+            }
+        }
+    }
+
+    /**
+     * Number of statements by type.
+     *
+     * @param select SELECT statements, excluding sequence fetches
+     * @param insert INSERT statements
+     * @param update UPDATE statements
+     * @param delete DELETE statements
+     * @param sequence sequence fetches for new IDs
+     * @param other any other statement
+     */
+    public record SqlStatements(long select, long insert, long update, long delete, long sequence, long other) {
+
+        public static SqlStatements none() {
+            return new SqlStatements(0, 0, 0, 0, 0, 0);
+        }
+
+        public static SqlStatements selects(long count) {
+            return new SqlStatements(count, 0, 0, 0, 0, 0);
+        }
+
+        public static SqlStatements inserts(long count) {
+            return new SqlStatements(0, count, 0, 0, 0, 0);
+        }
+
+        public static SqlStatements updates(long count) {
+            return new SqlStatements(0, 0, count, 0, 0, 0);
+        }
+
+        /**
+         * Returns these counts with sequence fetches dropped, for assertions on inserting paths.
+         *
+         * @return counts without sequence fetches
+         */
+        public SqlStatements withoutSequence() {
+            return new SqlStatements(select, insert, update, delete, 0, other);
+        }
+    }
+}